@@ -231,6 +231,7 @@ public class NiFiProperties extends ApplicationProperties {
     public static final String CLUSTER_PROTOCOL_HEARTBEAT_INTERVAL = "nifi.cluster.protocol.heartbeat.interval";
     public static final String CLUSTER_PROTOCOL_HEARTBEAT_MISSABLE_MAX = "nifi.cluster.protocol.heartbeat.missable.max";
     public static final String CLUSTER_PROTOCOL_IS_SECURE = "nifi.cluster.protocol.is.secure";
+    public static final String CLUSTER_PROTOCOL_COMPRESSION_ENABLED = "nifi.cluster.protocol.compression.enabled";
     public static final String CLUSTER_LEADER_ELECTION_IMPLEMENTATION = "nifi.cluster.leader.election.implementation";
 
     // cluster node properties
@@ -398,6 +399,7 @@ public class NiFiProperties extends ApplicationProperties {
     // cluster common defaults
     public static final String DEFAULT_CLUSTER_PROTOCOL_HEARTBEAT_INTERVAL = "5 sec";
     public static final int DEFAULT_CLUSTER_PROTOCOL_HEARTBEAT_MISSABLE_MAX = 8;
+    public static final boolean DEFAULT_CLUSTER_PROTOCOL_COMPRESSION_ENABLED = false;
     public static final String DEFAULT_CLUSTER_NODE_READ_TIMEOUT = "5 sec";
     public static final String DEFAULT_CLUSTER_NODE_CONNECTION_TIMEOUT = "5 sec";
     public static final int DEFAULT_CLUSTER_NODE_MAX_CONCURRENT_REQUESTS = 100;
@@ -859,6 +861,10 @@ public class NiFiProperties extends ApplicationProperties {
         return getClusterProtocolHeartbeatInterval();
     }
 
+    public boolean isClusterProtocolCompressionEnabled() {
+        return Boolean.parseBoolean(getProperty(CLUSTER_PROTOCOL_COMPRESSION_ENABLED, String.valueOf(DEFAULT_CLUSTER_PROTOCOL_COMPRESSION_ENABLED)));
+    }
+
     public String getClusterNodeReadTimeout() {
         return getProperty(CLUSTER_NODE_READ_TIMEOUT, DEFAULT_CLUSTER_NODE_READ_TIMEOUT);
     }
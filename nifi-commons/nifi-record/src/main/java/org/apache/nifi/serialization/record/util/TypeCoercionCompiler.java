@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.serialization.record.util;
+
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.field.FieldConverter;
+import org.apache.nifi.serialization.record.field.FieldConverterRegistry;
+import org.apache.nifi.serialization.record.field.StandardFieldConverterRegistry;
+import org.apache.nifi.serialization.record.type.ArrayDataType;
+import org.apache.nifi.serialization.record.type.ChoiceDataType;
+import org.apache.nifi.serialization.record.type.EnumDataType;
+import org.apache.nifi.serialization.record.type.RecordDataType;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.function.Function;
+
+/**
+ * Compiler for Value Coercers that produce the same results as
+ * {@link DataTypeUtils#convertType(Object, DataType, Optional, Optional, Optional, String, Charset)}
+ * while resolving field converters, format patterns, and Choice sub-types once for each Data Type instead of once for each value.
+ * Compiled Value Coercers are cached using Data Type equality, so that equivalent Data Types created for each Record share one
+ * Coercer, and the cache retains the most recently used Coercers up to a fixed maximum. Instances are not thread-safe.
+ */
+public class TypeCoercionCompiler {
+    private static final ValueCoercer NULL_COERCER = (value, fieldName) -> null;
+
+    static final int MAXIMUM_CACHED_COERCERS = 256;
+
+    private final Optional<String> dateFormat;
+
+    private final Optional<String> timeFormat;
+
+    private final Optional<String> timestampFormat;
+
+    private final Charset charset;
+
+    private final Map<DataType, ValueCoercer> coercers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<DataType, ValueCoercer> eldest) {
+            return size() > MAXIMUM_CACHED_COERCERS;
+        }
+    };
+
+    private TypeCoercionCompiler defaultFormatCompiler;
+
+    /**
+     * Type Coercion Compiler using default formats and UTF-8
+     */
+    public TypeCoercionCompiler() {
+        this(Optional.of(RecordFieldType.DATE.getDefaultFormat()), Optional.of(RecordFieldType.TIME.getDefaultFormat()),
+                Optional.of(RecordFieldType.TIMESTAMP.getDefaultFormat()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Type Coercion Compiler using UTF-8
+     *
+     * @param dateFormat Date format pattern optional for parsing
+     * @param timeFormat Time format pattern optional for parsing
+     * @param timestampFormat Timestamp format pattern optional for parsing
+     */
+    public TypeCoercionCompiler(final Optional<String> dateFormat, final Optional<String> timeFormat, final Optional<String> timestampFormat) {
+        this(dateFormat, timeFormat, timestampFormat, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Type Coercion Compiler
+     *
+     * @param dateFormat Date format pattern optional for parsing
+     * @param timeFormat Time format pattern optional for parsing
+     * @param timestampFormat Timestamp format pattern optional for parsing
+     * @param charset Character set for conversion of bytes to strings
+     */
+    public TypeCoercionCompiler(final Optional<String> dateFormat, final Optional<String> timeFormat, final Optional<String> timestampFormat, final Charset charset) {
+        this.dateFormat = dateFormat;
+        this.timeFormat = timeFormat;
+        this.timestampFormat = timestampFormat;
+        this.charset = charset;
+    }
+
+    /**
+     * Get Value Coercer for Data Type, compiling and caching the Coercer on first request
+     *
+     * @param dataType Data Type of coerced values
+     * @return Value Coercer
+     */
+    public ValueCoercer getCoercer(final DataType dataType) {
+        ValueCoercer coercer = coercers.get(dataType);
+        if (coercer == null) {
+            coercer = compile(dataType);
+            coercers.put(dataType, coercer);
+        }
+        return coercer;
+    }
+
+    private ValueCoercer compile(final DataType dataType) {
+        final FieldConverterRegistry registry = StandardFieldConverterRegistry.getRegistry();
+
+        final ValueCoercer coercer;
+        switch (dataType.getFieldType()) {
+            case BIGINT:
+                coercer = DataTypeUtils::toBigInt;
+                break;
+            case BOOLEAN:
+                coercer = DataTypeUtils::toBoolean;
+                break;
+            case BYTE:
+                coercer = DataTypeUtils::toByte;
+                break;
+            case CHAR:
+                coercer = DataTypeUtils::toCharacter;
+                break;
+            case DATE:
+                final FieldConverter<Object, LocalDate> localDateConverter = registry.getFieldConverter(LocalDate.class);
+                coercer = (value, fieldName) -> {
+                    final LocalDate localDate = localDateConverter.convertField(value, dateFormat, fieldName);
+                    return localDate == null ? null : Date.valueOf(localDate);
+                };
+                break;
+            case DECIMAL:
+                coercer = DataTypeUtils::toBigDecimal;
+                break;
+            case DOUBLE:
+                coercer = DataTypeUtils::toDouble;
+                break;
+            case FLOAT:
+                coercer = DataTypeUtils::toFloat;
+                break;
+            case INT:
+                coercer = DataTypeUtils::toInteger;
+                break;
+            case LONG:
+                coercer = DataTypeUtils::toLong;
+                break;
+            case SHORT:
+                coercer = DataTypeUtils::toShort;
+                break;
+            case ENUM:
+                final EnumDataType enumDataType = (EnumDataType) dataType;
+                coercer = (value, fieldName) -> DataTypeUtils.toEnum(value, enumDataType, fieldName);
+                break;
+            case STRING:
+                final FieldConverter<Object, String> stringConverter = registry.getFieldConverter(String.class);
+                coercer = (value, fieldName) -> stringConverter.convertField(value, Optional.empty(), fieldName);
+                break;
+            case TIME:
+                final FieldConverter<Object, Time> timeConverter = registry.getFieldConverter(Time.class);
+                coercer = (value, fieldName) -> timeConverter.convertField(value, timeFormat, fieldName);
+                break;
+            case TIMESTAMP:
+                final FieldConverter<Object, Timestamp> timestampConverter = registry.getFieldConverter(Timestamp.class);
+                coercer = (value, fieldName) -> timestampConverter.convertField(value, timestampFormat, fieldName);
+                break;
+            case UUID:
+                coercer = (value, fieldName) -> DataTypeUtils.toUUID(value);
+                break;
+            case ARRAY:
+                final DataType elementType = ((ArrayDataType) dataType).getElementType();
+                coercer = (value, fieldName) -> DataTypeUtils.toArray(value, fieldName, elementType, charset);
+                break;
+            case MAP:
+                coercer = DataTypeUtils::toMap;
+                break;
+            case RECORD:
+                final RecordDataType recordDataType = (RecordDataType) dataType;
+                coercer = (value, fieldName) -> DataTypeUtils.toRecord(value, recordDataType.getChildSchema(), fieldName, charset);
+                break;
+            case CHOICE:
+                coercer = new ChoiceCoercer((ChoiceDataType) dataType, getDefaultFormatCompiler());
+                break;
+            default:
+                return NULL_COERCER;
+        }
+
+        return (value, fieldName) -> value == null ? null : coercer.coerce(value, fieldName);
+    }
+
+    private TypeCoercionCompiler getDefaultFormatCompiler() {
+        // Choice sub-types are converted using default formats, following DataTypeUtils.convertType()
+        if (defaultFormatCompiler == null) {
+            defaultFormatCompiler = new TypeCoercionCompiler(Optional.of(RecordFieldType.DATE.getDefaultFormat()), Optional.of(RecordFieldType.TIME.getDefaultFormat()),
+                    Optional.of(RecordFieldType.TIMESTAMP.getDefaultFormat()), charset);
+        }
+        return defaultFormatCompiler;
+    }
+
+    /**
+     * Coercer for Choice Data Types with nested Choices flattened and sub-type Coercers compiled once
+     */
+    private static class ChoiceCoercer implements ValueCoercer {
+        private final ChoiceDataType choiceDataType;
+
+        private final DataType[] simpleSubTypes;
+
+        private final Map<DataType, ValueCoercer> subTypeCoercers = new IdentityHashMap<>();
+
+        private ChoiceCoercer(final ChoiceDataType choiceDataType, final TypeCoercionCompiler subTypeCompiler) {
+            this.choiceDataType = choiceDataType;
+
+            final List<DataType> flattened = new ArrayList<>();
+            final Queue<DataType> possibleSubTypes = new ArrayDeque<>(choiceDataType.getPossibleSubTypes());
+            DataType subType;
+            while ((subType = possibleSubTypes.poll()) != null) {
+                if (subType instanceof ChoiceDataType) {
+                    possibleSubTypes.addAll(((ChoiceDataType) subType).getPossibleSubTypes());
+                } else {
+                    flattened.add(subType);
+                    subTypeCoercers.computeIfAbsent(subType, subTypeCompiler::getCoercer);
+                }
+            }
+            this.simpleSubTypes = flattened.toArray(new DataType[0]);
+        }
+
+        @Override
+        public Object coerce(final Object value, final String fieldName) {
+            final DataType chosenDataType = chooseDataType(value);
+            if (chosenDataType == null) {
+                throw new IllegalTypeConversionException("Cannot convert value [" + value + "] of type " + value.getClass()
+                        + " for field " + fieldName + " to any of the following available Sub-Types for a Choice: " + choiceDataType.getPossibleSubTypes());
+            }
+
+            return subTypeCoercers.get(chosenDataType).coerce(value, fieldName);
+        }
+
+        private DataType chooseDataType(final Object value) {
+            DataType firstCompatible = null;
+            List<DataType> compatibleSubTypes = null;
+            for (final DataType subType : simpleSubTypes) {
+                if (DataTypeUtils.isCompatibleDataType(value, subType)) {
+                    if (firstCompatible == null) {
+                        firstCompatible = subType;
+                    } else {
+                        if (compatibleSubTypes == null) {
+                            compatibleSubTypes = new ArrayList<>();
+                            compatibleSubTypes.add(firstCompatible);
+                        }
+                        compatibleSubTypes.add(subType);
+                    }
+                }
+            }
+
+            if (compatibleSubTypes == null) {
+                return firstCompatible;
+            }
+
+            return DataTypeUtils.findMostSuitableType(value, compatibleSubTypes, Function.identity()).orElse(firstCompatible);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.serialization.record.util;
+
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestTypeCoercionCompiler {
+    private static final String FIELD_NAME = "field";
+
+    private static final Optional<String> DATE_FORMAT = Optional.of("MM/dd/yyyy");
+
+    private static final Optional<String> TIME_FORMAT = Optional.of("HH-mm-ss");
+
+    private static final Optional<String> TIMESTAMP_FORMAT = Optional.of("MM/dd/yyyy HH:mm:ss");
+
+    private final TypeCoercionCompiler compiler = new TypeCoercionCompiler(DATE_FORMAT, TIME_FORMAT, TIMESTAMP_FORMAT);
+
+    @Test
+    public void testCoerceMatchesConvertType() {
+        assertCoercionEquals("12", RecordFieldType.INT.getDataType());
+        assertCoercionEquals("12", RecordFieldType.LONG.getDataType());
+        assertCoercionEquals(12, RecordFieldType.STRING.getDataType());
+        assertCoercionEquals("1.5", RecordFieldType.DOUBLE.getDataType());
+        assertCoercionEquals("1.25", RecordFieldType.DECIMAL.getDecimalDataType(10, 2));
+        assertCoercionEquals("true", RecordFieldType.BOOLEAN.getDataType());
+        assertCoercionEquals("01/02/2024", RecordFieldType.DATE.getDataType());
+        assertCoercionEquals("10-20-30", RecordFieldType.TIME.getDataType());
+        assertCoercionEquals("01/02/2024 10:20:30", RecordFieldType.TIMESTAMP.getDataType());
+        assertCoercionEquals("b", RecordFieldType.ENUM.getEnumDataType(List.of("a", "b")));
+        assertCoercionEquals(null, RecordFieldType.INT.getDataType());
+    }
+
+    @Test
+    public void testCoerceArray() {
+        final DataType arrayDataType = RecordFieldType.ARRAY.getArrayDataType(RecordFieldType.INT.getDataType());
+        final Object expected = DataTypeUtils.convertType(List.of(1, 2), arrayDataType, DATE_FORMAT, TIME_FORMAT, TIMESTAMP_FORMAT, FIELD_NAME);
+        final Object coerced = compiler.getCoercer(arrayDataType).coerce(List.of(1, 2), FIELD_NAME);
+        assertArrayEquals((Object[]) expected, (Object[]) coerced);
+    }
+
+    @Test
+    public void testCoerceChoice() {
+        final DataType nestedChoice = RecordFieldType.CHOICE.getChoiceDataType(RecordFieldType.LONG.getDataType(), RecordFieldType.DOUBLE.getDataType());
+        final DataType choiceDataType = RecordFieldType.CHOICE.getChoiceDataType(RecordFieldType.BOOLEAN.getDataType(), nestedChoice);
+
+        assertCoercionEquals("12", choiceDataType);
+        assertCoercionEquals("1.5", choiceDataType);
+        assertCoercionEquals("true", choiceDataType);
+        assertCoercionEquals(12, choiceDataType);
+
+        final ValueCoercer coercer = compiler.getCoercer(choiceDataType);
+        assertThrows(IllegalTypeConversionException.class, () -> coercer.coerce("text", FIELD_NAME));
+    }
+
+    @Test
+    public void testGetCoercerCached() {
+        final DataType dataType = RecordFieldType.INT.getDataType();
+        assertSame(compiler.getCoercer(dataType), compiler.getCoercer(dataType));
+        assertNull(compiler.getCoercer(dataType).coerce(null, FIELD_NAME));
+    }
+
+    @Test
+    public void testGetCoercerCachedEqualDataTypes() {
+        final DataType firstDataType = RecordFieldType.ARRAY.getArrayDataType(RecordFieldType.INT.getDataType());
+        final DataType secondDataType = RecordFieldType.ARRAY.getArrayDataType(RecordFieldType.INT.getDataType());
+        assertSame(compiler.getCoercer(firstDataType), compiler.getCoercer(secondDataType));
+    }
+
+    @Test
+    public void testGetCoercerCacheBounded() {
+        final DataType firstDataType = RecordFieldType.ENUM.getEnumDataType(List.of("first"));
+        final ValueCoercer firstCoercer = compiler.getCoercer(firstDataType);
+
+        for (int i = 0; i < TypeCoercionCompiler.MAXIMUM_CACHED_COERCERS; i++) {
+            compiler.getCoercer(RecordFieldType.ENUM.getEnumDataType(List.of(Integer.toString(i))));
+        }
+
+        assertNotSame(firstCoercer, compiler.getCoercer(firstDataType));
+    }
+
+    private void assertCoercionEquals(final Object value, final DataType dataType) {
+        final Object expected = DataTypeUtils.convertType(value, dataType, DATE_FORMAT, TIME_FORMAT, TIMESTAMP_FORMAT, FIELD_NAME);
+        final Object coerced = compiler.getCoercer(dataType).coerce(value, FIELD_NAME);
+        assertEquals(expected, coerced);
+    }
+}
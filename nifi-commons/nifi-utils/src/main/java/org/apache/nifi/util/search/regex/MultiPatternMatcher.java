@@ -0,0 +1,494 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.util.search.regex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the candidate patterns of a set of regular expressions that may match a given text by scanning the text only once.
+ * <p>
+ * A required literal is extracted from each pattern, and all literals are combined into a single case-folded Aho-Corasick automaton.
+ * A pattern is a candidate for a text only when its literal occurs in the text, so candidates are a superset of the patterns that
+ * can match through either {@link java.util.regex.Matcher#find()} or {@link java.util.regex.Matcher#matches()}. Patterns from which
+ * no literal can be extracted, such as those with top-level alternation, are always candidates.
+ * <p>
+ * Instances are immutable and thread safe.
+ *
+ * @param <T> type of the keys identifying patterns
+ */
+public class MultiPatternMatcher<T> {
+
+    private static final int ALPHABET_SIZE = 128;
+
+    private static final int NO_STATE = -1;
+
+    private final Map<T, Pattern> patterns;
+
+    private final List<T> filteredKeys;
+
+    private final Set<T> unfilteredKeys;
+
+    private final int[] transitions;
+
+    private final int[][] outputs;
+
+    /**
+     * Constructs a matcher for the given patterns
+     *
+     * @param patterns patterns to be matched, keyed by the identifier returned from {@link #getCandidates(CharSequence)}
+     */
+    public MultiPatternMatcher(final Map<T, Pattern> patterns) {
+        Objects.requireNonNull(patterns, "Patterns required");
+        this.patterns = Collections.unmodifiableMap(new LinkedHashMap<>(patterns));
+
+        final List<T> keys = new ArrayList<>();
+        final List<String> literals = new ArrayList<>();
+        final Set<T> unfiltered = new LinkedHashSet<>();
+        for (final Map.Entry<T, Pattern> entry : this.patterns.entrySet()) {
+            final String literal = getRequiredLiteral(entry.getValue());
+            if (literal == null) {
+                unfiltered.add(entry.getKey());
+            } else {
+                keys.add(entry.getKey());
+                literals.add(literal);
+            }
+        }
+        this.filteredKeys = keys;
+        this.unfilteredKeys = Collections.unmodifiableSet(unfiltered);
+
+        final Automaton automaton = new Automaton(literals);
+        this.transitions = automaton.transitions;
+        this.outputs = automaton.outputs;
+    }
+
+    /**
+     * @return patterns of this matcher in iteration order of the map provided on construction
+     */
+    public Map<T, Pattern> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Returns the keys of the patterns that may match the given text. Patterns not included cannot match the text.
+     *
+     * @param text the text to be evaluated
+     * @return keys of candidate patterns
+     */
+    public Set<T> getCandidates(final CharSequence text) {
+        if (filteredKeys.isEmpty()) {
+            return unfilteredKeys;
+        }
+
+        final BitSet matched = new BitSet(filteredKeys.size());
+        int matchedCount = 0;
+        int state = 0;
+        final int length = text.length();
+        for (int i = 0; i < length && matchedCount < filteredKeys.size(); i++) {
+            final char folded = fold(text.charAt(i));
+            if (folded >= ALPHABET_SIZE) {
+                state = 0;
+                continue;
+            }
+
+            state = transitions[state * ALPHABET_SIZE + folded];
+            for (final int index : outputs[state]) {
+                if (!matched.get(index)) {
+                    matched.set(index);
+                    matchedCount++;
+                }
+            }
+        }
+
+        if (matchedCount == 0) {
+            return unfilteredKeys;
+        }
+
+        final Set<T> candidates = new LinkedHashSet<>(unfilteredKeys);
+        for (int index = matched.nextSetBit(0); index >= 0; index = matched.nextSetBit(index + 1)) {
+            candidates.add(filteredKeys.get(index));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the longest run of ASCII characters that must occur in any text matched by the given pattern, folded to lower case.
+     *
+     * @param pattern the pattern from which to extract a literal
+     * @return required literal or null when a literal could not be determined
+     */
+    static String getRequiredLiteral(final Pattern pattern) {
+        final int flags = pattern.flags();
+        if ((flags & (Pattern.COMMENTS | Pattern.CANON_EQ)) != 0) {
+            return null;
+        }
+
+        final String regex = pattern.pattern();
+        if ((flags & Pattern.LITERAL) != 0) {
+            return new LiteralCollector().addAll(regex).getLongest();
+        }
+
+        final LiteralCollector collector = new LiteralCollector();
+        final int length = regex.length();
+        int i = 0;
+        while (i < length) {
+            final char c = regex.charAt(i);
+            final int atomEnd;
+            char literal = 0;
+            switch (c) {
+                case '|':
+                    // Alternation at the top level means that no single literal is required
+                    return null;
+                case '(':
+                    atomEnd = skipGroup(regex, i);
+                    break;
+                case '[':
+                    atomEnd = skipCharacterClass(regex, i);
+                    break;
+                case '\\':
+                    if (i + 1 >= length) {
+                        return null;
+                    }
+                    final char escaped = regex.charAt(i + 1);
+                    if (escaped < ALPHABET_SIZE && !Character.isLetterOrDigit(escaped)) {
+                        literal = escaped;
+                        atomEnd = i + 2;
+                    } else {
+                        atomEnd = skipEscape(regex, i);
+                    }
+                    break;
+                case '.':
+                case '^':
+                case '$':
+                    atomEnd = i + 1;
+                    break;
+                default:
+                    literal = c;
+                    atomEnd = i + 1;
+                    break;
+            }
+
+            if (atomEnd == NO_STATE) {
+                return null;
+            }
+
+            final char quantifier = atomEnd < length ? regex.charAt(atomEnd) : 0;
+            final boolean literalAtom = literal != 0 && literal < ALPHABET_SIZE;
+            if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                // Optional or counted atoms are not required in the literal
+                collector.end();
+            } else if (literalAtom) {
+                collector.add(literal);
+                if (quantifier == '+') {
+                    collector.end();
+                }
+            } else {
+                collector.end();
+            }
+
+            i = skipQuantifier(regex, atomEnd);
+            if (i == NO_STATE) {
+                return null;
+            }
+        }
+
+        return collector.getLongest();
+    }
+
+    private static char fold(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int skipQuantifier(final String regex, final int start) {
+        if (start >= regex.length()) {
+            return start;
+        }
+
+        int i = start;
+        final char c = regex.charAt(i);
+        if (c == '?' || c == '*' || c == '+') {
+            i++;
+        } else if (c == '{') {
+            final int end = regex.indexOf('}', i);
+            if (end < 0) {
+                return NO_STATE;
+            }
+            i = end + 1;
+        } else {
+            return start;
+        }
+
+        // Reluctant and possessive modifiers
+        if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipGroup(final String regex, final int start) {
+        if (regex.startsWith("(?", start)) {
+            // Embedded flags enabling comments change the meaning of the remaining pattern
+            int i = start + 2;
+            while (i < regex.length() && (Character.isLetter(regex.charAt(i)) || regex.charAt(i) == '-')) {
+                if (regex.charAt(i) == 'x') {
+                    return NO_STATE;
+                }
+                i++;
+            }
+        }
+
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i = skipEscape(regex, i);
+                if (i == NO_STATE) {
+                    return NO_STATE;
+                }
+                continue;
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                if (i == NO_STATE) {
+                    return NO_STATE;
+                }
+                continue;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return NO_STATE;
+    }
+
+    private static int skipCharacterClass(final String regex, final int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i = skipEscape(regex, i);
+                if (i == NO_STATE) {
+                    return NO_STATE;
+                }
+                continue;
+            } else if (c == '[') {
+                depth++;
+                i++;
+                // A closing bracket at the start of a class is a literal
+                if (i < regex.length() && regex.charAt(i) == '^') {
+                    i++;
+                }
+                if (i < regex.length() && regex.charAt(i) == ']') {
+                    i++;
+                }
+                continue;
+            } else if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return NO_STATE;
+    }
+
+    private static int skipEscape(final String regex, final int start) {
+        final int length = regex.length();
+        if (start + 1 >= length) {
+            return NO_STATE;
+        }
+
+        final char escaped = regex.charAt(start + 1);
+        int i = start + 2;
+        switch (escaped) {
+            case 'Q':
+                // Quoted sequences are not evaluated
+                return NO_STATE;
+            case 'p':
+            case 'P':
+            case 'N':
+            case 'x':
+            case 'b':
+                if (i < length && regex.charAt(i) == '{') {
+                    final int end = regex.indexOf('}', i);
+                    return end < 0 ? NO_STATE : end + 1;
+                }
+                if (escaped == 'x') {
+                    return Math.min(i + 2, length);
+                }
+                if (escaped == 'p' || escaped == 'P') {
+                    return Math.min(i + 1, length);
+                }
+                return i;
+            case 'k':
+                if (i < length && regex.charAt(i) == '<') {
+                    final int end = regex.indexOf('>', i);
+                    return end < 0 ? NO_STATE : end + 1;
+                }
+                return i;
+            case 'u':
+                return Math.min(i + 4, length);
+            case 'c':
+                return Math.min(i + 1, length);
+            case '0':
+                int octalDigits = 0;
+                while (i < length && octalDigits < 3 && regex.charAt(i) >= '0' && regex.charAt(i) <= '7') {
+                    i++;
+                    octalDigits++;
+                }
+                return i;
+            default:
+                if (escaped >= '1' && escaped <= '9') {
+                    // Back references consume following digits when enough groups are defined
+                    while (i < length && Character.isDigit(regex.charAt(i))) {
+                        i++;
+                    }
+                }
+                return i;
+        }
+    }
+
+    private static class LiteralCollector {
+        private final StringBuilder current = new StringBuilder();
+        private String longest;
+
+        private LiteralCollector addAll(final String characters) {
+            for (int i = 0; i < characters.length(); i++) {
+                final char c = characters.charAt(i);
+                if (c < ALPHABET_SIZE) {
+                    add(c);
+                } else {
+                    end();
+                }
+            }
+            return this;
+        }
+
+        private void add(final char c) {
+            current.append(fold(c));
+        }
+
+        private void end() {
+            if (!current.isEmpty() && (longest == null || current.length() > longest.length())) {
+                longest = current.toString();
+            }
+            current.setLength(0);
+        }
+
+        private String getLongest() {
+            end();
+            return longest;
+        }
+    }
+
+    /**
+     * Deterministic Aho-Corasick automaton over folded ASCII characters with transitions for every state and character
+     */
+    private static class Automaton {
+        private final int[] transitions;
+        private final int[][] outputs;
+
+        private Automaton(final List<String> literals) {
+            final List<int[]> gotoStates = new ArrayList<>();
+            final List<List<Integer>> stateOutputs = new ArrayList<>();
+            gotoStates.add(newState());
+            stateOutputs.add(new ArrayList<>());
+
+            for (int index = 0; index < literals.size(); index++) {
+                final String literal = literals.get(index);
+                int state = 0;
+                for (int i = 0; i < literal.length(); i++) {
+                    final char c = literal.charAt(i);
+                    int next = gotoStates.get(state)[c];
+                    if (next == NO_STATE) {
+                        next = gotoStates.size();
+                        gotoStates.add(newState());
+                        stateOutputs.add(new ArrayList<>());
+                        gotoStates.get(state)[c] = next;
+                    }
+                    state = next;
+                }
+                stateOutputs.get(state).add(index);
+            }
+
+            final int stateCount = gotoStates.size();
+            final int[] failures = new int[stateCount];
+            transitions = new int[stateCount * ALPHABET_SIZE];
+
+            // Breadth first traversal completes transitions using failure links and merges outputs of failure states
+            final Queue<Integer> queue = new ArrayDeque<>();
+            final int[] rootStates = gotoStates.get(0);
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                final int next = rootStates[c];
+                if (next == NO_STATE) {
+                    transitions[c] = 0;
+                } else {
+                    transitions[c] = next;
+                    failures[next] = 0;
+                    queue.add(next);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                final int state = queue.remove();
+                stateOutputs.get(state).addAll(stateOutputs.get(failures[state]));
+
+                final int[] states = gotoStates.get(state);
+                for (int c = 0; c < ALPHABET_SIZE; c++) {
+                    final int next = states[c];
+                    final int failureTransition = transitions[failures[state] * ALPHABET_SIZE + c];
+                    if (next == NO_STATE) {
+                        transitions[state * ALPHABET_SIZE + c] = failureTransition;
+                    } else {
+                        transitions[state * ALPHABET_SIZE + c] = next;
+                        failures[next] = failureTransition;
+                        queue.add(next);
+                    }
+                }
+            }
+
+            outputs = new int[stateCount][];
+            for (int state = 0; state < stateCount; state++) {
+                outputs[state] = stateOutputs.get(state).stream().mapToInt(Integer::intValue).distinct().toArray();
+            }
+        }
+
+        private static int[] newState() {
+            final int[] states = new int[ALPHABET_SIZE];
+            Arrays.fill(states, NO_STATE);
+            return states;
+        }
+    }
+}
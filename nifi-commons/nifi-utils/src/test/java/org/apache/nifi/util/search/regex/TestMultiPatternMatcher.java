@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.util.search.regex;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestMultiPatternMatcher {
+
+    @Test
+    public void testGetRequiredLiteral() {
+        assertEquals("error", getRequiredLiteral(".*ERROR.*"));
+        assertEquals(" connection refused", getRequiredLiteral("^\\d+ Connection refused(: .*)?$"));
+        assertEquals(" user=", getRequiredLiteral("[a-z]+ user=\\w+"));
+        assertEquals("ab", getRequiredLiteral("abc?d"));
+        assertEquals("abc", getRequiredLiteral("abc+d"));
+        assertEquals("a.b", getRequiredLiteral("a\\.b\\x41\\x42"));
+        assertEquals("-", getRequiredLiteral("\\u0041-\\p{Lu}"));
+        assertEquals("a+b", getRequiredLiteral("a+b", Pattern.LITERAL));
+
+        assertNull(getRequiredLiteral("error|warn"));
+        assertNull(getRequiredLiteral(".*"));
+        assertNull(getRequiredLiteral("\\Qerror\\E"));
+        assertNull(getRequiredLiteral("(?x) e r r o r"));
+        assertNull(getRequiredLiteral("error", Pattern.COMMENTS));
+    }
+
+    @Test
+    public void testGetCandidates() {
+        final Map<String, Pattern> patterns = new LinkedHashMap<>();
+        patterns.put("error", Pattern.compile(".*ERROR.*"));
+        patterns.put("warn", Pattern.compile("WARN(ING)?"));
+        patterns.put("either", Pattern.compile("INFO|DEBUG"));
+        patterns.put("case", Pattern.compile("timeout", Pattern.CASE_INSENSITIVE));
+        patterns.put("suffix", Pattern.compile("rror"));
+
+        final MultiPatternMatcher<String> matcher = new MultiPatternMatcher<>(patterns);
+
+        assertEquals(Set.of("error", "either", "suffix"), matcher.getCandidates("2024-01-01 ERROR failed"));
+        assertEquals(Set.of("warn", "either", "case"), matcher.getCandidates("WARN Read TimeOut"));
+        assertEquals(Set.of("either"), matcher.getCandidates("INFO started"));
+        assertEquals(Set.of("either"), matcher.getCandidates(""));
+    }
+
+    @Test
+    public void testCandidatesIncludeMatches() {
+        final List<String> regexes = List.of("abc", "bcd", "c", "abcd+e", "x(y|z)w", "[0-9]+ms", "(?i)straße", "\\bword\\b", "a{2}b", "kelvin");
+        final List<String> texts = List.of("abcde", "abcdde", "xzw", "12ms", "STRASSE", "a word", "aab", "ab", "Kelvin", "");
+
+        final Map<String, Pattern> patterns = new LinkedHashMap<>();
+        for (final String regex : regexes) {
+            patterns.put(regex, Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+        }
+        final MultiPatternMatcher<String> matcher = new MultiPatternMatcher<>(patterns);
+
+        for (final String text : texts) {
+            final Set<String> candidates = matcher.getCandidates(text);
+            for (final Map.Entry<String, Pattern> entry : patterns.entrySet()) {
+                if (entry.getValue().matcher(text).find()) {
+                    assertTrue(candidates.contains(entry.getKey()), "Pattern [%s] matched [%s] but was not a candidate".formatted(entry.getKey(), text));
+                }
+            }
+        }
+        assertFalse(matcher.getCandidates("xyz").contains("abc"));
+    }
+
+    private String getRequiredLiteral(final String regex) {
+        return getRequiredLiteral(regex, 0);
+    }
+
+    private String getRequiredLiteral(final String regex, final int flags) {
+        return MultiPatternMatcher.getRequiredLiteral(Pattern.compile(regex, flags));
+    }
+}
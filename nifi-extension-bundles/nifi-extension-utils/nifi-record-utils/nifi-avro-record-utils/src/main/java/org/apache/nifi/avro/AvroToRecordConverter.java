@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.Schema.Type;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.apache.nifi.serialization.record.DataType;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.apache.nifi.serialization.record.util.DataTypeUtils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converter from Avro Generic Records to Record values with field mappings and value conversions resolved once for an Avro Schema.
+ * The conversion produces the same values as {@link AvroTypeUtil#convertAvroRecordToMap(GenericRecord, RecordSchema, Charset)}
+ * and delegates to that method for Generic Records with a different Avro Schema.
+ */
+public class AvroToRecordConverter {
+    private final Schema avroSchema;
+
+    private final RecordSchema recordSchema;
+
+    private final Charset charset;
+
+    private final FieldMapping[] fieldMappings;
+
+    /**
+     * Avro to Record Converter using UTF-8 for conversion of bytes to strings
+     *
+     * @param avroSchema Avro Schema of Generic Records to be converted
+     * @param recordSchema Record Schema for converted values
+     */
+    public AvroToRecordConverter(final Schema avroSchema, final RecordSchema recordSchema) {
+        this(avroSchema, recordSchema, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Avro to Record Converter
+     *
+     * @param avroSchema Avro Schema of Generic Records to be converted
+     * @param recordSchema Record Schema for converted values
+     * @param charset Character set for conversion of bytes to strings
+     */
+    public AvroToRecordConverter(final Schema avroSchema, final RecordSchema recordSchema, final Charset charset) {
+        this.avroSchema = avroSchema;
+        this.recordSchema = recordSchema;
+        this.charset = charset;
+
+        final Map<Schema, RecordNormalizer> recordNormalizers = new IdentityHashMap<>();
+        final List<RecordField> recordFields = recordSchema.getFields();
+        fieldMappings = new FieldMapping[recordFields.size()];
+        for (int i = 0; i < fieldMappings.length; i++) {
+            final RecordField recordField = recordFields.get(i);
+            final String fieldName = recordField.getFieldName();
+            final Field avroField = getMatchingField(recordField);
+            final ValueNormalizer normalizer = avroField == null ? null : createNormalizer(avroField.schema(), fieldName, recordNormalizers);
+            fieldMappings[i] = new FieldMapping(fieldName, avroField == null ? -1 : avroField.pos(), normalizer, recordField.getDataType());
+        }
+    }
+
+    /**
+     * Convert Avro Generic Record to map of Record values
+     *
+     * @param avroRecord Avro Generic Record to be converted
+     * @return Map of Record field names to converted values
+     */
+    public Map<String, Object> convert(final GenericRecord avroRecord) {
+        if (avroRecord.getSchema() != avroSchema) {
+            return AvroTypeUtil.convertAvroRecordToMap(avroRecord, recordSchema, charset);
+        }
+
+        final Map<String, Object> values = new HashMap<>(fieldMappings.length);
+        for (final FieldMapping fieldMapping : fieldMappings) {
+            final String fieldName = fieldMapping.fieldName();
+            if (fieldMapping.position() < 0) {
+                values.put(fieldName, null);
+                continue;
+            }
+
+            final Object value = avroRecord.get(fieldMapping.position());
+            final Object rawValue = fieldMapping.normalizer().normalize(value);
+            final Object coercedValue = DataTypeUtils.convertType(rawValue, fieldMapping.dataType(), fieldName, charset);
+            values.put(fieldName, coercedValue);
+        }
+        return values;
+    }
+
+    private Field getMatchingField(final RecordField recordField) {
+        final Field field = avroSchema.getField(recordField.getFieldName());
+        if (field != null) {
+            return field;
+        }
+
+        for (final String alias : recordField.getAliases()) {
+            final Field aliasField = avroSchema.getField(alias);
+            if (aliasField != null) {
+                return aliasField;
+            }
+        }
+
+        return null;
+    }
+
+    private static ValueNormalizer createNormalizer(final Schema schema, final String fieldName, final Map<Schema, RecordNormalizer> recordNormalizers) {
+        switch (schema.getType()) {
+            case INT:
+            case LONG:
+                if (schema.getLogicalType() == null) {
+                    return value -> value;
+                }
+                break;
+            case BOOLEAN:
+            case FLOAT:
+            case DOUBLE:
+                return value -> value;
+            case STRING:
+            case ENUM:
+                return value -> value == null ? null : value.toString();
+            case NULL:
+                return value -> null;
+            case UNION:
+                final List<Schema> types = schema.getTypes();
+                if (types.size() == 2) {
+                    if (types.get(0).getType() == Type.NULL) {
+                        return createNormalizer(types.get(1), fieldName, recordNormalizers);
+                    }
+                    if (types.get(1).getType() == Type.NULL) {
+                        return createNormalizer(types.get(0), fieldName, recordNormalizers);
+                    }
+                }
+                break;
+            case RECORD:
+                final RecordNormalizer existing = recordNormalizers.get(schema);
+                if (existing != null) {
+                    return existing;
+                }
+
+                final RecordNormalizer recordNormalizer = new RecordNormalizer(schema, fieldName);
+                recordNormalizers.put(schema, recordNormalizer);
+                recordNormalizer.initialize(recordNormalizers);
+                return recordNormalizer;
+            case ARRAY:
+                final ValueNormalizer elementNormalizer = createNormalizer(schema.getElementType(), fieldName, recordNormalizers);
+                return value -> {
+                    if (value == null) {
+                        return null;
+                    }
+
+                    final List<?> list = (List<?>) value;
+                    final Object[] values = new Object[list.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = elementNormalizer.normalize(list.get(i));
+                    }
+                    return values;
+                };
+            case MAP:
+                final ValueNormalizer valueNormalizer = createNormalizer(schema.getValueType(), fieldName, recordNormalizers);
+                return value -> {
+                    if (value == null) {
+                        return null;
+                    }
+
+                    final Map<?, ?> avroMap = (Map<?, ?>) value;
+                    final Map<String, Object> map = new HashMap<>(avroMap.size());
+                    for (final Map.Entry<?, ?> entry : avroMap.entrySet()) {
+                        Object entryValue = entry.getValue();
+                        if (entryValue instanceof Utf8 || entryValue instanceof CharSequence) {
+                            entryValue = entryValue.toString();
+                        }
+                        map.put(entry.getKey().toString(), valueNormalizer.normalize(entryValue));
+                    }
+                    return map;
+                };
+            default:
+                break;
+        }
+
+        return value -> AvroTypeUtil.normalizeValue(value, schema, fieldName);
+    }
+
+    private record FieldMapping(String fieldName, int position, ValueNormalizer normalizer, DataType dataType) {
+    }
+
+    private interface ValueNormalizer {
+        Object normalize(Object value);
+    }
+
+    /**
+     * Normalizer for nested Avro Records with child Record Schema created once instead of for each value
+     */
+    private static class RecordNormalizer implements ValueNormalizer {
+        private final Schema schema;
+
+        private final String fieldName;
+
+        private String[] fieldNames;
+
+        private ValueNormalizer[] fieldNormalizers;
+
+        private RecordSchema childSchema;
+
+        private RecordNormalizer(final Schema schema, final String fieldName) {
+            this.schema = schema;
+            this.fieldName = fieldName;
+        }
+
+        private void initialize(final Map<Schema, RecordNormalizer> recordNormalizers) {
+            final List<Field> fields = schema.getFields();
+            fieldNames = new String[fields.size()];
+            fieldNormalizers = new ValueNormalizer[fields.size()];
+            for (int i = 0; i < fieldNames.length; i++) {
+                final Field field = fields.get(i);
+                fieldNames[i] = field.name();
+                fieldNormalizers[i] = createNormalizer(field.schema(), fieldName + "/" + field.name(), recordNormalizers);
+            }
+            childSchema = AvroTypeUtil.createSchema(schema, false);
+        }
+
+        @Override
+        public Object normalize(final Object value) {
+            if (value == null) {
+                return null;
+            }
+
+            final GenericRecord record = (GenericRecord) value;
+            if (record.getSchema() != schema) {
+                return AvroTypeUtil.normalizeValue(value, record.getSchema(), fieldName);
+            }
+
+            final Map<String, Object> values = new HashMap<>(fieldNames.length);
+            for (int i = 0; i < fieldNames.length; i++) {
+                values.put(fieldNames[i], fieldNormalizers[i].normalize(record.get(i)));
+            }
+            return new MapRecord(childSchema, values);
+        }
+    }
+}
@@ -701,7 +701,7 @@ public class AvroTypeUtil {
     }
 
     @SuppressWarnings("unchecked")
-    private static Object convertToAvroObject(final Object rawValue, final Schema fieldSchema, final String fieldName, final Charset charset) {
+    static Object convertToAvroObject(final Object rawValue, final Schema fieldSchema, final String fieldName, final Charset charset) {
         if (rawValue == null) {
             return null;
         }
@@ -1060,7 +1060,7 @@ public class AvroTypeUtil {
      * Convert an Avro object to a normal Java objects for further processing.
      * The counter-part method which convert a raw value to an Avro object is {@link #convertToAvroObject(Object, Schema, String, Charset)}
      */
-    private static Object normalizeValue(final Object value, final Schema avroSchema, final String fieldName) {
+    static Object normalizeValue(final Object value, final Schema avroSchema, final String fieldName) {
         if (value == null) {
             return null;
         }
@@ -1123,7 +1123,7 @@ public class AvroTypeUtil {
                 if (logicalType != null && LOGICAL_TYPE_DECIMAL.equals(logicalType.getName())) {
                     return new Conversions.DecimalConversion().fromBytes(bb, avroSchema, logicalType);
                 }
-                return AvroTypeUtil.convertByteArray(bb.array());
+                return AvroTypeUtil.convertByteArray(getRemainingBytes(bb));
             case FIXED:
                 final GenericFixed fixed = (GenericFixed) value;
                 final LogicalType fixedLogicalType = avroSchema.getLogicalType();
@@ -1177,6 +1177,17 @@ public class AvroTypeUtil {
         return value;
     }
 
+    private static byte[] getRemainingBytes(final ByteBuffer buffer) {
+        // Buffers reused when reading Avro datums can have a backing array larger than the current value
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.limit() == buffer.array().length) {
+            return buffer.array();
+        }
+
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
     private static int getLogicalTimeMillis(final Object value, final String format, final String fieldName) {
         final FieldConverter<Object, LocalTime> fieldConverter = StandardFieldConverterRegistry.getRegistry().getFieldConverter(LocalTime.class);
         final LocalTime localTime = fieldConverter.convertField(value, Optional.ofNullable(format), fieldName);
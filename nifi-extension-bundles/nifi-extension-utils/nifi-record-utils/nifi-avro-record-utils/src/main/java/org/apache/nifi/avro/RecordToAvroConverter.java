@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.avro;
+
+import org.apache.avro.JsonProperties;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordSchema;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converter from Records to Avro Generic Records with field mappings and default values resolved once for each Record Schema.
+ * The conversion produces the same values as {@link AvroTypeUtil#createAvroRecord(Record, Schema, Charset)} but returns the same
+ * Generic Record instance for each invocation, requiring callers to serialize the Generic Record before converting the next Record.
+ * Instances are not thread-safe.
+ */
+public class RecordToAvroConverter {
+    private static final Field UNMAPPED_FIELD = new Field("unmapped", Schema.create(Schema.Type.NULL));
+
+    private final Schema avroSchema;
+
+    private final Charset charset;
+
+    private final GenericData.Record avroRecord;
+
+    private final List<DefaultValue> defaultValues = new ArrayList<>();
+
+    private final Map<String, Field> fieldMappings = new HashMap<>();
+
+    private RecordSchema mappedRecordSchema;
+
+    /**
+     * Record to Avro Converter using UTF-8 for conversion of strings to bytes
+     *
+     * @param avroSchema Avro Schema for Generic Records
+     */
+    public RecordToAvroConverter(final Schema avroSchema) {
+        this(avroSchema, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Record to Avro Converter
+     *
+     * @param avroSchema Avro Schema for Generic Records
+     * @param charset Character set for conversion of strings to bytes
+     */
+    public RecordToAvroConverter(final Schema avroSchema, final Charset charset) {
+        this.avroSchema = avroSchema;
+        this.charset = charset;
+        this.avroRecord = new GenericData.Record(avroSchema);
+
+        for (final Field field : avroSchema.getFields()) {
+            final Object defaultValue = field.defaultVal();
+            if (defaultValue == null || defaultValue == JsonProperties.NULL_VALUE) {
+                continue;
+            }
+
+            final Object normalized = AvroTypeUtil.convertToAvroObject(defaultValue, field.schema());
+            // Mutable default values such as buffers and collections must be converted for each Record
+            final boolean immutable = normalized instanceof Number || normalized instanceof Boolean || normalized instanceof CharSequence
+                    || normalized instanceof GenericData.EnumSymbol;
+            defaultValues.add(new DefaultValue(field, immutable ? normalized : null));
+        }
+    }
+
+    /**
+     * Convert Record to Avro Generic Record
+     *
+     * @param record Record to be converted
+     * @return Avro Generic Record reused for each invocation
+     */
+    public GenericRecord convert(final Record record) {
+        final RecordSchema recordSchema = record.getSchema();
+        if (recordSchema != mappedRecordSchema) {
+            fieldMappings.clear();
+            mappedRecordSchema = recordSchema;
+        }
+
+        final int fieldCount = avroSchema.getFields().size();
+        for (int i = 0; i < fieldCount; i++) {
+            avroRecord.put(i, null);
+        }
+
+        final Map<String, Object> recordValues = record.toMap();
+        for (final Map.Entry<String, Object> entry : recordValues.entrySet()) {
+            final Object rawValue = entry.getValue();
+            if (rawValue == null) {
+                continue;
+            }
+
+            final Field field = fieldMappings.computeIfAbsent(entry.getKey(), this::getMappedField);
+            if (field == UNMAPPED_FIELD) {
+                continue;
+            }
+
+            final Object converted = AvroTypeUtil.convertToAvroObject(rawValue, field.schema(), field.name(), charset);
+            avroRecord.put(field.pos(), converted);
+        }
+
+        for (final DefaultValue defaultValue : defaultValues) {
+            final Field field = defaultValue.field();
+            if (avroRecord.get(field.pos()) == null) {
+                final Object normalized = defaultValue.normalized() == null
+                        ? AvroTypeUtil.convertToAvroObject(field.defaultVal(), field.schema())
+                        : defaultValue.normalized();
+                avroRecord.put(field.pos(), normalized);
+            }
+        }
+
+        return avroRecord;
+    }
+
+    private Field getMappedField(final String rawFieldName) {
+        final Optional<RecordField> recordField = mappedRecordSchema.getField(rawFieldName);
+        if (recordField.isEmpty()) {
+            return UNMAPPED_FIELD;
+        }
+
+        final Field avroField = avroSchema.getField(rawFieldName);
+        if (avroField != null) {
+            return avroField;
+        }
+
+        final Field lookupField = AvroTypeUtil.lookupField(avroSchema, recordField.get()).getRight();
+        return lookupField == null ? UNMAPPED_FIELD : lookupField;
+    }
+
+    private record DefaultValue(Field field, Object normalized) {
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.avro;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.util.Utf8;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class TestAvroToRecordConverter {
+
+    private static final Schema ADDRESS_SCHEMA = SchemaBuilder.record("address").fields()
+            .requiredString("street")
+            .optionalInt("zip")
+            .endRecord();
+
+    private static final Schema SCHEMA = SchemaBuilder.record("person").fields()
+            .requiredString("name")
+            .optionalLong("id")
+            .name("created").type(LogicalTypes.timestampMillis().addToSchema(Schema.create(Schema.Type.LONG))).noDefault()
+            .requiredBytes("data")
+            .name("tags").type().array().items().stringType().noDefault()
+            .name("attributes").type().map().values().stringType().noDefault()
+            .name("address").type().optional().type(ADDRESS_SCHEMA)
+            .endRecord();
+
+    @Test
+    public void testConvertMatchesAvroTypeUtil() {
+        final RecordSchema recordSchema = AvroTypeUtil.createSchema(SCHEMA);
+        final AvroToRecordConverter converter = new AvroToRecordConverter(SCHEMA, recordSchema);
+
+        final GenericRecord avroRecord = createRecord("first", new byte[]{1, 2, 3});
+        final Map<String, Object> expected = AvroTypeUtil.convertAvroRecordToMap(avroRecord, recordSchema);
+        final Map<String, Object> converted = converter.convert(avroRecord);
+
+        assertEquals(expected.keySet(), converted.keySet());
+        assertEquals(expected.get("name"), converted.get("name"));
+        assertEquals(expected.get("id"), converted.get("id"));
+        assertEquals(expected.get("created"), converted.get("created"));
+        assertArrayEquals((Object[]) expected.get("data"), (Object[]) converted.get("data"));
+        assertArrayEquals((Object[]) expected.get("tags"), (Object[]) converted.get("tags"));
+        assertEquals(expected.get("attributes"), converted.get("attributes"));
+
+        final Record address = assertInstanceOf(MapRecord.class, converted.get("address"));
+        assertEquals(((Record) expected.get("address")).toMap(), address.toMap());
+        assertEquals(((Record) expected.get("address")).getSchema(), address.getSchema());
+    }
+
+    @Test
+    public void testConvertReusedRecords() throws IOException {
+        final RecordSchema recordSchema = AvroTypeUtil.createSchema(SCHEMA);
+        final AvroToRecordConverter converter = new AvroToRecordConverter(SCHEMA, recordSchema);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+        final GenericDatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>(SCHEMA);
+        datumWriter.write(createRecord("first", new byte[]{1, 2, 3, 4}), encoder);
+        datumWriter.write(createRecord("second", new byte[]{5}), encoder);
+        encoder.flush();
+
+        final BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(outputStream.toByteArray(), null);
+        final GenericDatumReader<GenericRecord> datumReader = new GenericDatumReader<>(SCHEMA);
+        final List<Map<String, Object>> converted = new ArrayList<>();
+        GenericRecord reusableRecord = null;
+        while (!decoder.isEnd()) {
+            reusableRecord = datumReader.read(reusableRecord, decoder);
+            converted.add(converter.convert(reusableRecord));
+        }
+
+        assertEquals(2, converted.size());
+        assertEquals("first", converted.get(0).get("name"));
+        assertArrayEquals(new Object[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4}, (Object[]) converted.get(0).get("data"));
+        assertEquals("second", converted.get(1).get("name"));
+        assertArrayEquals(new Object[]{(byte) 5}, (Object[]) converted.get(1).get("data"));
+    }
+
+    private GenericRecord createRecord(final String name, final byte[] data) {
+        final GenericRecord address = new GenericData.Record(ADDRESS_SCHEMA);
+        address.put("street", new Utf8("Main"));
+        address.put("zip", 12345);
+
+        final GenericRecord avroRecord = new GenericData.Record(SCHEMA);
+        avroRecord.put("name", new Utf8(name));
+        avroRecord.put("id", 1L);
+        avroRecord.put("created", 1700000000000L);
+        avroRecord.put("data", ByteBuffer.wrap(data));
+        avroRecord.put("tags", List.of(new Utf8("one"), new Utf8("two")));
+        avroRecord.put("attributes", Map.of(new Utf8("key"), new Utf8("value")));
+        avroRecord.put("address", address);
+        return avroRecord;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.MapRecord;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TestRecordToAvroConverter {
+
+    private static final Schema SCHEMA = SchemaBuilder.record("person").fields()
+            .requiredString("name")
+            .name("favoriteNumber").aliases("favNum").type().optional().intType()
+            .name("country").type().stringType().stringDefault("US")
+            .name("score").type().doubleType().doubleDefault(1.5)
+            .endRecord();
+
+    @Test
+    public void testConvertMatchesAvroTypeUtil() {
+        final RecordSchema recordSchema = new SimpleRecordSchema(List.of(
+                new RecordField("name", RecordFieldType.STRING.getDataType()),
+                new RecordField("favNum", RecordFieldType.STRING.getDataType()),
+                new RecordField("ignored", RecordFieldType.STRING.getDataType())
+        ));
+        final RecordToAvroConverter converter = new RecordToAvroConverter(SCHEMA);
+
+        final Record first = createRecord(recordSchema, "first", "7");
+        final GenericRecord expected = AvroTypeUtil.createAvroRecord(first, SCHEMA);
+        final GenericRecord converted = converter.convert(first);
+        assertEquals(expected, converted);
+        assertEquals(7, converted.get("favoriteNumber"));
+        assertEquals("US", converted.get("country").toString());
+        assertEquals(1.5, converted.get("score"));
+
+        final Record second = createRecord(recordSchema, "second", null);
+        final GenericRecord secondConverted = converter.convert(second);
+        assertSame(converted, secondConverted);
+        assertEquals(AvroTypeUtil.createAvroRecord(second, SCHEMA), secondConverted);
+        assertNull(secondConverted.get("favoriteNumber"));
+    }
+
+    private Record createRecord(final RecordSchema recordSchema, final String name, final String favoriteNumber) {
+        final Map<String, Object> values = new HashMap<>();
+        values.put("name", name);
+        values.put("favNum", favoriteNumber);
+        values.put("ignored", "ignored");
+        return new MapRecord(recordSchema, values);
+    }
+}
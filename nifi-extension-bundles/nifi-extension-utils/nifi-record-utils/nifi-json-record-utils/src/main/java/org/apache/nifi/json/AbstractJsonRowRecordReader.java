@@ -42,6 +42,7 @@ import org.apache.nifi.serialization.record.type.ChoiceDataType;
 import org.apache.nifi.serialization.record.type.MapDataType;
 import org.apache.nifi.serialization.record.type.RecordDataType;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
+import org.apache.nifi.serialization.record.util.TypeCoercionCompiler;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -83,6 +84,7 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
     private final String dateFormat;
     private final String timeFormat;
     private final String timestampFormat;
+    private final TypeCoercionCompiler typeCoercionCompiler;
 
     private boolean firstObjectConsumed = false;
     private JsonParser jsonParser;
@@ -97,6 +99,7 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
         this.dateFormat = dateFormat;
         this.timeFormat = timeFormat;
         this.timestampFormat = timestampFormat;
+        this.typeCoercionCompiler = new TypeCoercionCompiler(getDateFormat(), getTimeFormat(), getTimestampFormat());
     }
 
     /**
@@ -180,6 +183,10 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
         return Optional.ofNullable(timestampFormat);
     }
 
+    protected TypeCoercionCompiler getTypeCoercionCompiler() {
+        return typeCoercionCompiler;
+    }
+
 
     @Override
     public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
@@ -236,7 +243,7 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
                 case TIME:
                 case TIMESTAMP:
                     try {
-                        return DataTypeUtils.convertType(textValue, dataType, Optional.ofNullable(dateFormat), Optional.ofNullable(timeFormat), Optional.ofNullable(timestampFormat), fieldName);
+                        return typeCoercionCompiler.getCoercer(dataType).coerce(textValue, fieldName);
                     } catch (final Exception e) {
                         return textValue;
                     }
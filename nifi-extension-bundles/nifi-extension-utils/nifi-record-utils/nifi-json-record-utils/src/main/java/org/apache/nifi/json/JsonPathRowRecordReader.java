@@ -19,6 +19,7 @@ package org.apache.nifi.json;
 
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
@@ -35,7 +36,6 @@ import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.serialization.record.type.ArrayDataType;
 import org.apache.nifi.serialization.record.type.RecordDataType;
-import org.apache.nifi.serialization.record.util.DataTypeUtils;
 import org.apache.nifi.serialization.record.util.IllegalTypeConversionException;
 
 import java.io.IOException;
@@ -48,12 +48,14 @@ import java.util.Map;
 import java.util.Optional;
 
 public class JsonPathRowRecordReader extends AbstractJsonRowRecordReader {
-    private static final Configuration STRICT_PROVIDER_CONFIGURATION = Configuration.builder().jsonProvider(new JacksonJsonProvider()).build();
+    private static final ObjectMapper STRICT_OBJECT_MAPPER = new ObjectMapper();
+    private static final Configuration STRICT_PROVIDER_CONFIGURATION = Configuration.builder().jsonProvider(new JacksonJsonProvider(STRICT_OBJECT_MAPPER)).build();
 
     private final ComponentLog logger;
     private final LinkedHashMap<String, JsonPath> jsonPaths;
     private final InputStream in;
     private final RecordSchema schema;
+    private final StreamingJsonPathEvaluator<String> streamingEvaluator;
 
     public JsonPathRowRecordReader(final LinkedHashMap<String, JsonPath> jsonPaths, final RecordSchema schema, final InputStream in, final ComponentLog logger,
                                    final String dateFormat, final String timeFormat, final String timestampFormat)
@@ -72,6 +74,8 @@ public class JsonPathRowRecordReader extends AbstractJsonRowRecordReader {
         this.jsonPaths = jsonPaths;
         this.in = in;
         this.logger = logger;
+        this.streamingEvaluator = jsonPaths.values().stream().allMatch(StreamingJsonPathEvaluator::isSupported)
+                ? new StreamingJsonPathEvaluator<>(jsonPaths, STRICT_OBJECT_MAPPER) : null;
     }
 
     @Override
@@ -90,7 +94,9 @@ public class JsonPathRowRecordReader extends AbstractJsonRowRecordReader {
             return null;
         }
 
-        final DocumentContext ctx = JsonPath.using(STRICT_PROVIDER_CONFIGURATION).parse(jsonNode.toString());
+        // Simple paths are resolved directly against the parsed tree, avoiding serializing and parsing each record again for JsonPath
+        final Map<String, Object> evaluatedValues = streamingEvaluator == null ? null : streamingEvaluator.evaluate(jsonNode);
+        final DocumentContext ctx = streamingEvaluator == null ? JsonPath.using(STRICT_PROVIDER_CONFIGURATION).parse(jsonNode.toString()) : null;
         final Map<String, Object> values = new HashMap<>(schema.getFieldCount());
 
         for (final Map.Entry<String, JsonPath> entry : jsonPaths.entrySet()) {
@@ -105,7 +111,7 @@ public class JsonPathRowRecordReader extends AbstractJsonRowRecordReader {
 
             Object value;
             try {
-                value = ctx.read(jsonPath);
+                value = ctx == null ? readEvaluatedValue(evaluatedValues, fieldName, jsonPath) : ctx.read(jsonPath);
             } catch (final PathNotFoundException pnfe) {
                 logger.debug("Evaluated JSONPath Expression {} but the path was not found; will use a null value", entry.getValue());
                 value = null;
@@ -127,6 +133,12 @@ public class JsonPathRowRecordReader extends AbstractJsonRowRecordReader {
         return new MapRecord(schema, values);
     }
 
+    private Object readEvaluatedValue(final Map<String, Object> evaluatedValues, final String fieldName, final JsonPath jsonPath) {
+        if (!evaluatedValues.containsKey(fieldName)) {
+            throw new PathNotFoundException("No results for path: " + jsonPath.getPath());
+        }
+        return evaluatedValues.get(fieldName);
+    }
 
     @SuppressWarnings("unchecked")
     protected Object convert(final Object value, final DataType dataType, final String fieldName) {
@@ -196,7 +208,7 @@ public class JsonPathRowRecordReader extends AbstractJsonRowRecordReader {
                 case UUID:
                 case TIMESTAMP:
                     try {
-                        return DataTypeUtils.convertType(value, dataType, getDateFormat(), getTimeFormat(), getTimestampFormat(), fieldName);
+                        return getTypeCoercionCompiler().getCoercer(dataType).coerce(value, fieldName);
                     } catch (final Exception e) {
                         return value;
                     }
@@ -249,7 +261,7 @@ public class JsonPathRowRecordReader extends AbstractJsonRowRecordReader {
 
             return new MapRecord(childSchema, coercedValues);
         } else {
-            return DataTypeUtils.convertType(value, dataType, getDateFormat(), getTimeFormat(), getTimestampFormat(), fieldName);
+            return getTypeCoercionCompiler().getCoercer(dataType).coerce(value, fieldName);
         }
     }
 
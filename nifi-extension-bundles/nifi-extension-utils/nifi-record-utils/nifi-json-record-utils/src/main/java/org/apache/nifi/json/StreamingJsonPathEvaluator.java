@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates a set of JsonPath expressions against a JSON document in a single pass of the Jackson token stream, without building a tree for the
+ * whole document. All paths are compiled into one tree of path segments, so each value is read at most once and the branches of the document that
+ * no path selects are skipped.
+ * <p>
+ * Only definite paths made up of object field names and non-negative array indexes are supported, such as <code>$.store.book[0].title</code>,
+ * which is the subset of JsonPath where the streaming evaluation returns the same values as JsonPath with the Jackson JSON provider. Callers should
+ * check {@link #isSupported(JsonPath)} and fall back to JsonPath for other expressions.
+ * </p>
+ *
+ * @param <K> the type of the keys identifying each JsonPath expression
+ */
+public class StreamingJsonPathEvaluator<K> {
+
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("\\['([^']*)'\\]|\\[(\\d{1,9})\\]");
+
+    private final ObjectMapper objectMapper;
+    private final PathSegment<K> root = new PathSegment<>();
+
+    /**
+     * @param jsonPaths the JsonPath expressions to evaluate, each of which must be supported
+     * @param objectMapper the Object Mapper used to create parsers and to read selected values into Maps, Lists and scalar values
+     * @throws IllegalArgumentException if any JsonPath expression is not supported
+     */
+    public StreamingJsonPathEvaluator(final Map<K, JsonPath> jsonPaths, final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+
+        for (final Map.Entry<K, JsonPath> entry : jsonPaths.entrySet()) {
+            final List<Object> segments = getSegments(entry.getValue());
+            if (segments == null) {
+                throw new IllegalArgumentException("JsonPath " + entry.getValue().getPath() + " is not supported for streaming evaluation");
+            }
+
+            PathSegment<K> pathSegment = root;
+            pathSegment.descendantKeys.add(entry.getKey());
+            for (final Object segment : segments) {
+                pathSegment = segment instanceof String fieldName
+                        ? pathSegment.fields.computeIfAbsent(fieldName, name -> new PathSegment<>())
+                        : pathSegment.indexes.computeIfAbsent((Integer) segment, index -> new PathSegment<>());
+                pathSegment.descendantKeys.add(entry.getKey());
+            }
+            pathSegment.keys.add(entry.getKey());
+        }
+    }
+
+    /**
+     * Tells whether the given JsonPath expression can be evaluated by this class
+     *
+     * @param jsonPath the JsonPath expression
+     * @return true if the expression is a definite path of object field names and array indexes
+     */
+    public static boolean isSupported(final JsonPath jsonPath) {
+        return getSegments(jsonPath) != null;
+    }
+
+    /**
+     * Reads the first JSON value from the given stream and evaluates every JsonPath expression against it. As with JsonPath parsing, any content
+     * after the first value is not read, and an empty document or a document consisting of a null value is rejected.
+     *
+     * @param in the stream containing the JSON document
+     * @return the value selected by each expression that matched, keyed by expression; expressions that did not match are absent
+     * @throws IOException if the document could not be read or was not valid JSON
+     */
+    public Map<K, Object> evaluate(final InputStream in) throws IOException {
+        try (final JsonParser parser = objectMapper.createParser(in)) {
+            final JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                throw new JsonParseException(parser, "No JSON value found to evaluate");
+            }
+
+            final Map<K, Object> results = new LinkedHashMap<>();
+            evaluate(parser, root, results);
+            return results;
+        }
+    }
+
+    /**
+     * Evaluates every JsonPath expression against a JSON tree that has already been read
+     *
+     * @param jsonNode the root of the JSON tree
+     * @return the value selected by each expression that matched, keyed by expression; expressions that did not match are absent
+     */
+    public Map<K, Object> evaluate(final JsonNode jsonNode) {
+        final Map<K, Object> results = new LinkedHashMap<>();
+        evaluate(jsonNode, root, results);
+        return results;
+    }
+
+    private void evaluate(final JsonParser parser, final PathSegment<K> pathSegment, final Map<K, Object> results) throws IOException {
+        if (!pathSegment.keys.isEmpty()) {
+            // The value is selected by a path, so read it once and resolve any longer paths from the value that was read
+            final Object value = objectMapper.readValue(parser, Object.class);
+            evaluate(value, pathSegment, results);
+            return;
+        }
+
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && !pathSegment.fields.isEmpty()) {
+            JsonToken fieldToken;
+            while ((fieldToken = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                final PathSegment<K> fieldSegment = pathSegment.fields.get(parser.currentName());
+                parser.nextToken();
+                if (fieldSegment == null) {
+                    parser.skipChildren();
+                } else {
+                    // The last occurrence of a duplicated field replaces any values selected from earlier occurrences
+                    fieldSegment.descendantKeys.forEach(results::remove);
+                    evaluate(parser, fieldSegment, results);
+                }
+            }
+            if (fieldToken != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of content within JSON Object");
+            }
+        } else if (token == JsonToken.START_ARRAY && !pathSegment.indexes.isEmpty()) {
+            int index = 0;
+            JsonToken elementToken;
+            while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (elementToken == null) {
+                    throw new JsonParseException(parser, "Unexpected end of content within JSON Array");
+                }
+
+                final PathSegment<K> indexSegment = pathSegment.indexes.get(index++);
+                if (indexSegment == null) {
+                    parser.skipChildren();
+                } else {
+                    evaluate(parser, indexSegment, results);
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private void evaluate(final Object value, final PathSegment<K> pathSegment, final Map<K, Object> results) {
+        for (final K key : pathSegment.keys) {
+            results.put(key, value);
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            for (final Map.Entry<String, PathSegment<K>> field : pathSegment.fields.entrySet()) {
+                if (map.containsKey(field.getKey())) {
+                    evaluate(map.get(field.getKey()), field.getValue(), results);
+                }
+            }
+        } else if (value instanceof List<?> list) {
+            for (final Map.Entry<Integer, PathSegment<K>> index : pathSegment.indexes.entrySet()) {
+                if (index.getKey() < list.size()) {
+                    evaluate(list.get(index.getKey()), index.getValue(), results);
+                }
+            }
+        }
+    }
+
+    private void evaluate(final JsonNode jsonNode, final PathSegment<K> pathSegment, final Map<K, Object> results) {
+        if (!pathSegment.keys.isEmpty()) {
+            final Object value;
+            try {
+                value = objectMapper.treeToValue(jsonNode, Object.class);
+            } catch (final JsonProcessingException e) {
+                throw new UncheckedIOException("Failed to read JSON value", e);
+            }
+            for (final K key : pathSegment.keys) {
+                results.put(key, value);
+            }
+        }
+
+        if (jsonNode.isObject()) {
+            for (final Map.Entry<String, PathSegment<K>> field : pathSegment.fields.entrySet()) {
+                final JsonNode fieldNode = jsonNode.get(field.getKey());
+                if (fieldNode != null) {
+                    evaluate(fieldNode, field.getValue(), results);
+                }
+            }
+        } else if (jsonNode.isArray()) {
+            for (final Map.Entry<Integer, PathSegment<K>> index : pathSegment.indexes.entrySet()) {
+                final JsonNode elementNode = jsonNode.get(index.getKey());
+                if (elementNode != null) {
+                    evaluate(elementNode, index.getValue(), results);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the field names and array indexes of the given path in order, or <code>null</code> if the path contains any other kind of segment
+     */
+    private static List<Object> getSegments(final JsonPath jsonPath) {
+        if (!jsonPath.isDefinite()) {
+            return null;
+        }
+
+        // Definite paths are normalized to the bracket notation, such as $['store']['book'][0]
+        final String path = jsonPath.getPath();
+        if (!path.startsWith("$")) {
+            return null;
+        }
+
+        final List<Object> segments = new ArrayList<>();
+        final Matcher matcher = SEGMENT_PATTERN.matcher(path);
+        int position = 1;
+        while (position < path.length()) {
+            matcher.region(position, path.length());
+            if (!matcher.lookingAt()) {
+                return null;
+            }
+            segments.add(matcher.group(1) == null ? Integer.valueOf(matcher.group(2)) : matcher.group(1));
+            position = matcher.end();
+        }
+        return segments;
+    }
+
+    private static class PathSegment<K> {
+        private final Map<String, PathSegment<K>> fields = new HashMap<>();
+        private final Map<Integer, PathSegment<K>> indexes = new HashMap<>();
+        private final List<K> keys = new ArrayList<>();
+        private final List<K> descendantKeys = new ArrayList<>();
+    }
+}
@@ -42,6 +42,7 @@ import org.apache.nifi.serialization.record.type.ChoiceDataType;
 import org.apache.nifi.serialization.record.type.MapDataType;
 import org.apache.nifi.serialization.record.type.RecordDataType;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
+import org.apache.nifi.serialization.record.util.TypeCoercionCompiler;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -64,6 +65,7 @@ public class WriteJsonResult extends AbstractRecordSetWriter implements RecordSe
     private final String dateFormat;
     private final String timeFormat;
     private final String timestampFormat;
+    private final TypeCoercionCompiler typeCoercionCompiler;
     private final String mimeType;
     private final boolean prettyPrint;
     private final boolean allowScientificNotation;
@@ -91,6 +93,7 @@ public class WriteJsonResult extends AbstractRecordSetWriter implements RecordSe
         this.dateFormat = dateFormat;
         this.timeFormat = timeFormat;
         this.timestampFormat = timestampFormat;
+        this.typeCoercionCompiler = new TypeCoercionCompiler(Optional.ofNullable(dateFormat), Optional.ofNullable(timeFormat), Optional.ofNullable(timestampFormat));
 
         final JsonFactory factory = new JsonFactory();
         factory.setCodec(objectMapper);
@@ -346,9 +349,7 @@ public class WriteJsonResult extends AbstractRecordSetWriter implements RecordSe
             return;
         }
 
-        final Object coercedValue = DataTypeUtils.convertType(
-                value, chosenDataType, Optional.ofNullable(dateFormat), Optional.ofNullable(timeFormat), Optional.ofNullable(timestampFormat), fieldName
-        );
+        final Object coercedValue = typeCoercionCompiler.getCoercer(chosenDataType).coerce(value, fieldName);
         if (coercedValue == null) {
             generator.writeNull();
             return;
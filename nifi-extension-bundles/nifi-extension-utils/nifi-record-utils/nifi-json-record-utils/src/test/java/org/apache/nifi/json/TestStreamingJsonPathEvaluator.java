@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestStreamingJsonPathEvaluator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Configuration CONFIGURATION = Configuration.builder().jsonProvider(new JacksonJsonProvider(OBJECT_MAPPER)).build();
+
+    private static final String JSON = """
+            {"id": 1, "long": 12345678901, "big": 12345678901234567890, "ratio": 0.25, "flag": false, "nullField": null,
+             "text": "line\\nbreak", "skipped": {"nested": [1, {"deep": [2, 3]}]},
+             "duplicate": {"value": "first", "kept": "first"}, "duplicate": {"other": "last"},
+             "record": {"name": "test", "tags": ["a", "b"], "child": {"count": 2}},
+             "items": [{"name": "x"}, null, [true, false]]}
+            """;
+
+    private static final Map<String, String> PATHS = Map.ofEntries(
+            Map.entry("root", "$"),
+            Map.entry("id", "$.id"),
+            Map.entry("long", "$.long"),
+            Map.entry("big", "$.big"),
+            Map.entry("ratio", "$.ratio"),
+            Map.entry("flag", "$.flag"),
+            Map.entry("nullField", "$.nullField"),
+            Map.entry("belowNull", "$.nullField.value"),
+            Map.entry("text", "$.text"),
+            Map.entry("duplicateFirst", "$.duplicate.value"),
+            Map.entry("duplicateKept", "$.duplicate.kept"),
+            Map.entry("duplicateLast", "$.duplicate.other"),
+            Map.entry("duplicate", "$.duplicate"),
+            Map.entry("record", "$.record"),
+            Map.entry("recordName", "$['record']['name']"),
+            Map.entry("recordTag", "$.record.tags[1]"),
+            Map.entry("recordTagMissing", "$.record.tags[2]"),
+            Map.entry("recordChild", "$.record.child.count"),
+            Map.entry("itemName", "$.items[0].name"),
+            Map.entry("itemNull", "$.items[1]"),
+            Map.entry("itemNested", "$.items[2][1]"),
+            Map.entry("indexOnObject", "$.record[0]"),
+            Map.entry("fieldOnArray", "$.items.name"),
+            Map.entry("fieldOnScalar", "$.id.value"),
+            Map.entry("indexOnScalar", "$.text[0]"),
+            Map.entry("missing", "$.missing.value")
+    );
+
+    @Test
+    void testEvaluateStreamMatchesJsonPath() throws IOException {
+        final StreamingJsonPathEvaluator<String> evaluator = new StreamingJsonPathEvaluator<>(compile(PATHS), OBJECT_MAPPER);
+
+        final Map<String, Object> results = evaluator.evaluate(toStream(JSON));
+
+        assertMatchesJsonPath(results);
+    }
+
+    @Test
+    void testEvaluateJsonNodeMatchesJsonPath() throws IOException {
+        final StreamingJsonPathEvaluator<String> evaluator = new StreamingJsonPathEvaluator<>(compile(PATHS), OBJECT_MAPPER);
+        final JsonNode jsonNode = OBJECT_MAPPER.readTree(JSON);
+
+        final Map<String, Object> results = evaluator.evaluate(jsonNode);
+
+        assertMatchesJsonPath(results);
+    }
+
+    @Test
+    void testDuplicateFields() throws IOException {
+        final StreamingJsonPathEvaluator<String> evaluator = new StreamingJsonPathEvaluator<>(compile(PATHS), OBJECT_MAPPER);
+
+        final Map<String, Object> results = evaluator.evaluate(toStream(JSON));
+
+        // The last occurrence of a field replaces all values selected from earlier occurrences
+        assertEquals("last", results.get("duplicateLast"));
+        assertFalse(results.containsKey("duplicateFirst"));
+        assertFalse(results.containsKey("duplicateKept"));
+        assertEquals(Map.of("other", "last"), results.get("duplicate"));
+    }
+
+    @Test
+    void testTypeMismatches() throws IOException {
+        final StreamingJsonPathEvaluator<String> evaluator = new StreamingJsonPathEvaluator<>(compile(PATHS), OBJECT_MAPPER);
+
+        for (final Map<String, Object> results : List.of(evaluator.evaluate(toStream(JSON)), evaluator.evaluate(OBJECT_MAPPER.readTree(JSON)))) {
+            assertFalse(results.containsKey("indexOnObject"));
+            assertFalse(results.containsKey("fieldOnArray"));
+            assertFalse(results.containsKey("fieldOnScalar"));
+            assertFalse(results.containsKey("indexOnScalar"));
+            assertFalse(results.containsKey("belowNull"));
+            assertTrue(results.containsKey("nullField"));
+            assertNull(results.get("nullField"));
+        }
+    }
+
+    @Test
+    void testValueTypes() throws IOException {
+        final StreamingJsonPathEvaluator<String> evaluator = new StreamingJsonPathEvaluator<>(compile(PATHS), OBJECT_MAPPER);
+
+        for (final Map<String, Object> results : List.of(evaluator.evaluate(toStream(JSON)), evaluator.evaluate(OBJECT_MAPPER.readTree(JSON)))) {
+            assertEquals(1, results.get("id"));
+            assertEquals(12345678901L, results.get("long"));
+            assertEquals(new BigInteger("12345678901234567890"), results.get("big"));
+            assertEquals(0.25, results.get("ratio"));
+            assertEquals(false, results.get("flag"));
+            assertEquals("line\nbreak", results.get("text"));
+            assertEquals(List.of("a", "b"), ((Map<?, ?>) results.get("record")).get("tags"));
+        }
+    }
+
+    @Test
+    void testEvaluateStreamInvalid() {
+        final StreamingJsonPathEvaluator<String> evaluator = new StreamingJsonPathEvaluator<>(compile(Map.of("name", "$.record.name")), OBJECT_MAPPER);
+
+        assertThrows(IOException.class, () -> evaluator.evaluate(toStream("")));
+        assertThrows(IOException.class, () -> evaluator.evaluate(toStream("null")));
+        assertThrows(IOException.class, () -> evaluator.evaluate(toStream("{\"record\": {\"tags\": [")));
+        assertThrows(IOException.class, () -> evaluator.evaluate(toStream("{\"record\": {\"name\": ")));
+    }
+
+    @Test
+    void testUnsupportedPath() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingJsonPathEvaluator<>(compile(Map.of("all", "$.items[*]")), OBJECT_MAPPER));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$..name")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$.items[-1]")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$.items.length()")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$['id','text']")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$['it\\'s']")));
+        assertTrue(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$.record['child'].tags[0]")));
+    }
+
+    private void assertMatchesJsonPath(final Map<String, Object> results) {
+        final DocumentContext documentContext = JsonPath.using(CONFIGURATION).parse(JSON);
+        for (final Map.Entry<String, String> path : PATHS.entrySet()) {
+            final String key = path.getKey();
+            try {
+                final Object expected = documentContext.read(path.getValue());
+                assertTrue(results.containsKey(key), key);
+                assertEquals(expected, results.get(key), key);
+            } catch (final PathNotFoundException e) {
+                assertFalse(results.containsKey(key), key);
+            }
+        }
+    }
+
+    private Map<String, JsonPath> compile(final Map<String, String> paths) {
+        final Map<String, JsonPath> jsonPaths = new LinkedHashMap<>();
+        paths.forEach((key, path) -> jsonPaths.put(key, JsonPath.compile(path)));
+        return jsonPaths;
+    }
+
+    private ByteArrayInputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
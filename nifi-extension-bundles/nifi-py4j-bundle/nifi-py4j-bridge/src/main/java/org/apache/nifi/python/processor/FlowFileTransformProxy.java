@@ -26,6 +26,8 @@ import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
 import py4j.Py4JNetworkException;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -47,41 +49,63 @@ public class FlowFileTransformProxy extends PythonProcessorProxy<FlowFileTransfo
 
         FlowFile transformed = session.clone(original);
 
-        final FlowFileTransformResult result;
-        try (final StandardInputFlowFile inputFlowFile = new StandardInputFlowFile(session, original)) {
-            result = getTransform().transformFlowFile(inputFlowFile);
-        } catch (final Py4JNetworkException e) {
-            throw new ProcessException("Failed to communicate with Python Process", e);
-        } catch (final Exception e) {
-            getLogger().error("Failed to transform {}", original, e);
-            session.remove(transformed);
-            session.transfer(original, REL_FAILURE);
-            return;
-        }
-
+        final StandardInputFlowFile inputFlowFile = new StandardInputFlowFile(session, original);
+        FlowFileTransformResult result = null;
+        Relationship relationship;
         try {
-            final String relationshipName = result.getRelationship();
-            final Relationship relationship = new Relationship.Builder().name(relationshipName).build();
-            if (REL_FAILURE.getName().equals(relationshipName)) {
-                session.remove(transformed);
-                session.transfer(original, REL_FAILURE);
-                return;
+            try {
+                result = getTransform().transformFlowFile(inputFlowFile);
+            } catch (final Py4JNetworkException e) {
+                throw new ProcessException("Failed to communicate with Python Process", e);
+            } catch (final Exception e) {
+                getLogger().error("Failed to transform {}", original, e);
             }
 
-            final Map<String, String> attributes = result.getAttributes();
-            if (attributes != null) {
-                transformed = session.putAllAttributes(transformed, attributes);
-            }
+            if (result == null || REL_FAILURE.getName().equals(result.getRelationship())) {
+                relationship = REL_FAILURE;
+            } else {
+                relationship = new Relationship.Builder().name(result.getRelationship()).build();
 
-            final byte[] contents = result.getContents();
-            if (contents != null) {
-                transformed = session.write(transformed, out -> out.write(contents));
-            }
+                final Map<String, String> attributes = result.getAttributes();
+                if (attributes != null) {
+                    transformed = session.putAllAttributes(transformed, attributes);
+                }
 
-            session.transfer(transformed, relationship);
-            session.transfer(original, REL_ORIGINAL);
+                // Content provided in a file is streamed into the Content Repository instead of being copied through the gateway
+                final String contentsFile = result.getContentsFile();
+                if (contentsFile != null) {
+                    transformed = session.importFrom(Path.of(contentsFile), true, transformed);
+                } else {
+                    final byte[] contents = result.getContents();
+                    if (contents != null) {
+                        transformed = session.write(transformed, out -> out.write(contents));
+                    }
+                }
+            }
         } finally {
-            result.free();
+            if (result != null) {
+                result.free();
+            }
+
+            // Temporary files and any open Reader must be closed before the original FlowFile is transferred
+            closeInputFlowFile(inputFlowFile);
+        }
+
+        if (relationship == REL_FAILURE) {
+            session.remove(transformed);
+            session.transfer(original, REL_FAILURE);
+            return;
+        }
+
+        session.transfer(transformed, relationship);
+        session.transfer(original, REL_ORIGINAL);
+    }
+
+    private void closeInputFlowFile(final StandardInputFlowFile inputFlowFile) {
+        try {
+            inputFlowFile.close();
+        } catch (final IOException e) {
+            getLogger().warn("Failed to close {} and remove temporary files", inputFlowFile, e);
         }
     }
 
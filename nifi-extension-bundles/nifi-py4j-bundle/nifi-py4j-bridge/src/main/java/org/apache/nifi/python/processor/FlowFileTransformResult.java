@@ -26,5 +26,10 @@ public interface FlowFileTransformResult extends PythonObjectProxy {
 
     byte[] getContents();
 
+    /**
+     * @return the path of a file containing the content of the result, which takes precedence over {@link #getContents()}, or <code>null</code> if the content is not provided in a file
+     */
+    String getContentsFile();
+
     Map<String, String> getAttributes();
 }
@@ -38,6 +38,26 @@ public interface InputFlowFile {
      */
     BufferedReader getContentsAsReader() throws IOException;
 
+    /**
+     * Writes the FlowFile's content to a temporary file and returns the path of the file. This allows the content to be memory-mapped
+     * by the Python process instead of being copied into a byte array and sent through the gateway, and is not limited to 2 GB.
+     * The file is written only once, regardless of how many times this method is called, and is deleted once the transform completes.
+     * The entire content is copied, without any limit on its size, to the directory given by the {@code java.io.tmpdir} system property of
+     * the NiFi JVM, so that directory must have enough space available for the largest FlowFile processed; the location can be changed
+     * by setting {@code java.io.tmpdir} in bootstrap.conf.
+     * @return the path of a file containing the FlowFile's content
+     * @throws IOException if unable to create the file or access the FlowFile's content
+     */
+    String getContentsAsFile() throws IOException;
+
+    /**
+     * Creates an empty temporary file, in the directory given by the {@code java.io.tmpdir} system property, to which the Python process
+     * may write the content of a transform result. The file is deleted once the transform completes.
+     * @return the path of an empty file for writing the content of a transform result
+     * @throws IOException if unable to create the file
+     */
+    String createOutputFile() throws IOException;
+
     /**
      * @return the size, in bytes, of the FlowFile's content
      */
@@ -25,4 +25,19 @@ public interface RecordTransform extends PythonProcessor {
 
     List<RecordTransformResult> transformRecord(String jsonContent, RecordSchema schema, AttributeMap attributeMap);
 
+    /**
+     * Transforms a batch of Records exchanged through files instead of through individual method invocations. The input file contains
+     * a JSON array of Records. The output file is overwritten with two lines for each result: a JSON object containing the
+     * <code>relationship</code>, <code>partition</code>, and <code>schema</code> index of the result, followed by the JSON of the resulting Record
+     * or <code>null</code> if there is no resulting Record.
+     *
+     * @param inputFile the path of the file containing the JSON array of Records to transform
+     * @param inputLength the number of bytes of the input file that contain the JSON array
+     * @param outputFile the path of the file to which the results are to be written
+     * @param schema the schema of the Records to transform
+     * @param attributeMap the attributes of the FlowFile containing the Records
+     * @return the distinct schemas returned by the transform, referenced by index from the results, where an index of -1 indicates that the schema is to be inferred
+     */
+    List<RecordSchema> transformRecordBatch(String inputFile, long inputLength, String outputFile, RecordSchema schema, AttributeMap attributeMap);
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.python.processor;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pair of temporary files used for exchanging batches of Records with a Python RecordTransform. Batches are written to the input file,
+ * which the Python process memory-maps for reading, and results written by the Python process are memory-mapped for reading from the output file.
+ * This avoids encoding each batch as a String and avoids a separate round trip through the Python Bridge for each result.
+ */
+class RecordTransformBatchExchange implements Closeable {
+    private static final String FILE_PREFIX = "nifi-record-transform-";
+
+    private static final byte[] NULL_LITERAL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path inputPath;
+    private final Path outputPath;
+    private final FileChannel inputChannel;
+    private final OutputStream inputStream;
+
+    RecordTransformBatchExchange() throws IOException {
+        inputPath = Files.createTempFile(FILE_PREFIX, ".in.json");
+        outputPath = Files.createTempFile(FILE_PREFIX, ".out.jsonl");
+        inputChannel = FileChannel.open(inputPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        inputStream = Channels.newOutputStream(inputChannel);
+    }
+
+    /**
+     * @return an OutputStream for writing the current batch to the input file. The stream must not be closed.
+     */
+    OutputStream getInputStream() {
+        return inputStream;
+    }
+
+    String getInputFile() {
+        return inputPath.toString();
+    }
+
+    long getInputLength() throws IOException {
+        return inputChannel.position();
+    }
+
+    String getOutputFile() {
+        return outputPath.toString();
+    }
+
+    /**
+     * Discards the current batch so that the next batch can be written to the input file
+     *
+     * @throws IOException if unable to truncate the input file
+     */
+    void resetInput() throws IOException {
+        inputChannel.truncate(0L);
+        inputChannel.position(0L);
+    }
+
+    /**
+     * Reads the results written to the output file by the Python RecordTransform. The JSON of each resulting Record is returned as a
+     * read-only buffer memory-mapped to the output file, such that the Record can be parsed without first copying it.
+     *
+     * @return the results in the order in which they were written
+     * @throws IOException if unable to map the output file or if the output file is not formatted correctly
+     */
+    List<BatchResult> readResults() throws IOException {
+        final ByteBuffer output;
+        try (final FileChannel outputChannel = FileChannel.open(outputPath, StandardOpenOption.READ)) {
+            output = outputChannel.map(FileChannel.MapMode.READ_ONLY, 0L, outputChannel.size());
+        }
+
+        final List<BatchResult> results = new ArrayList<>();
+        while (output.hasRemaining()) {
+            final ByteBuffer metadataLine = nextLine(output);
+            if (!output.hasRemaining()) {
+                throw new IOException("Output file does not contain a Record for the result at line " + (results.size() * 2 + 1));
+            }
+            final ByteBuffer recordLine = nextLine(output);
+
+            final BatchResultMetadata metadata;
+            try (final InputStream in = new ByteBufferBackedInputStream(metadataLine)) {
+                metadata = OBJECT_MAPPER.readValue(in, BatchResultMetadata.class);
+            }
+
+            final ByteBuffer recordJson = isNullLiteral(recordLine) ? null : recordLine;
+            results.add(new BatchResult(metadata.relationship(), metadata.partition(), metadata.schema(), recordJson));
+        }
+
+        return results;
+    }
+
+    private static ByteBuffer nextLine(final ByteBuffer buffer) {
+        final int start = buffer.position();
+        final int limit = buffer.limit();
+        int end = start;
+        while (end < limit && buffer.get(end) != '\n') {
+            end++;
+        }
+
+        buffer.position(Math.min(end + 1, limit));
+        return buffer.slice(start, end - start);
+    }
+
+    private static boolean isNullLiteral(final ByteBuffer json) {
+        if (json.remaining() != NULL_LITERAL.length) {
+            return false;
+        }
+
+        for (int i = 0; i < NULL_LITERAL.length; i++) {
+            if (json.get(json.position() + i) != NULL_LITERAL[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            inputChannel.close();
+        } finally {
+            Files.deleteIfExists(inputPath);
+            Files.deleteIfExists(outputPath);
+        }
+    }
+
+    /**
+     * A single result of a batch transformation
+     *
+     * @param relationship the name of the Relationship to which the Record should be transferred
+     * @param partition the partition of the Record, or <code>null</code> if the Record is not partitioned
+     * @param schema the index of the schema returned with the Record, or <code>-1</code> if no schema was returned
+     * @param recordJson the JSON of the Record, or <code>null</code> if the RecordTransform did not return a Record
+     */
+    record BatchResult(String relationship, Map<String, Object> partition, int schema, ByteBuffer recordJson) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record BatchResultMetadata(String relationship, Map<String, Object> partition, int schema) {
+    }
+}
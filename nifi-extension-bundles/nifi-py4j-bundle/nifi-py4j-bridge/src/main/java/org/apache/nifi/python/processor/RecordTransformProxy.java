@@ -17,6 +17,7 @@
 
 package org.apache.nifi.python.processor;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import org.apache.nifi.NullSuppression;
 import org.apache.nifi.annotation.behavior.InputRequirement;
 import org.apache.nifi.annotation.behavior.InputRequirement.Requirement;
@@ -27,10 +28,12 @@ import org.apache.nifi.json.JsonSchemaInference;
 import org.apache.nifi.json.JsonTreeRowRecordReader;
 import org.apache.nifi.json.OutputGrouping;
 import org.apache.nifi.json.WriteJsonResult;
+import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
+import org.apache.nifi.python.processor.RecordTransformBatchExchange.BatchResult;
 import org.apache.nifi.schema.access.NopSchemaAccessWriter;
 import org.apache.nifi.schema.access.SchemaNotFoundException;
 import org.apache.nifi.schema.inference.TimeValueInference;
@@ -43,12 +46,10 @@ import org.apache.nifi.serialization.WriteResult;
 import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.serialization.record.RecordSchema;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -75,6 +76,8 @@ public class RecordTransformProxy extends PythonProcessorProxy<RecordTransform>
         .build();
 
 
+    private static final int MAX_BATCH_BYTES = 1_000_000;
+
     public RecordTransformProxy(final String processorType, final Supplier<PythonProcessorBridge> bridgeFactory, final boolean initialize) {
         super(processorType, bridgeFactory, initialize);
     }
@@ -111,9 +114,9 @@ public class RecordTransformProxy extends PythonProcessorProxy<RecordTransform>
              final RecordReader reader = readerFactory.createRecordReader(flowFile, in, getLogger())) {
 
             final RecordSchema recordSchema = reader.getSchema();
-            try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                final WriteJsonResult writeJsonResult = new WriteJsonResult(getLogger(), recordSchema, new NopSchemaAccessWriter(), baos, false, NullSuppression.NEVER_SUPPRESS,
-                    OutputGrouping.OUTPUT_ARRAY, null, null, null);
+            try (final RecordTransformBatchExchange exchange = new RecordTransformBatchExchange()) {
+                final WriteJsonResult writeJsonResult = new WriteJsonResult(getLogger(), recordSchema, new NopSchemaAccessWriter(), exchange.getInputStream(), false,
+                    NullSuppression.NEVER_SUPPRESS, OutputGrouping.OUTPUT_ARRAY, null, null, null);
 
                 int writtenSinceFlush = 0;
                 Record record;
@@ -126,41 +129,14 @@ public class RecordTransformProxy extends PythonProcessorProxy<RecordTransform>
                     writeJsonResult.writeRawRecord(record);
                     writtenSinceFlush++;
 
-                    if (baos.size() >= 1_000_000) {
-                        writeJsonResult.finishRecordSet();
-                        writeJsonResult.flush();
-                        final String json = baos.toString();
-                        baos.reset();
-
-                        final List<RecordTransformResult> results = transform.transformRecord(json, recordSchema, attributeMap);
-                        try {
-                            for (final RecordTransformResult result : results) {
-                                writeResult(result, destinationTuples, writerFactory, session, flowFile);
-                                recordsWritten++;
-                            }
-                        } finally {
-                            results.forEach(RecordTransformResult::free);
-                        }
-
+                    if (exchange.getInputLength() >= MAX_BATCH_BYTES) {
+                        recordsWritten += transformBatch(transform, writeJsonResult, exchange, recordSchema, attributeMap, destinationTuples, writerFactory, session, flowFile);
                         writtenSinceFlush = 0;
                     }
                 }
 
                 if (writtenSinceFlush > 0) {
-                    writeJsonResult.finishRecordSet();
-                    writeJsonResult.flush();
-                    final String json = baos.toString();
-                    baos.reset();
-
-                    final List<RecordTransformResult> results = transform.transformRecord(json, recordSchema, attributeMap);
-                    try {
-                        for (final RecordTransformResult result : results) {
-                            writeResult(result, destinationTuples, writerFactory, session, flowFile);
-                            recordsWritten++;
-                        }
-                    } finally {
-                        results.forEach(RecordTransformResult::free);
-                    }
+                    recordsWritten += transformBatch(transform, writeJsonResult, exchange, recordSchema, attributeMap, destinationTuples, writerFactory, session, flowFile);
                 }
             }
 
@@ -193,6 +169,33 @@ public class RecordTransformProxy extends PythonProcessorProxy<RecordTransform>
     }
 
 
+    /**
+     * Finishes the current batch of Records, transforms the batch using the Python RecordTransform, and writes each result
+     * to the appropriate RecordSetWriter
+     *
+     * @return the number of results returned by the RecordTransform
+     */
+    private long transformBatch(final RecordTransform transform, final WriteJsonResult writeJsonResult, final RecordTransformBatchExchange exchange,
+                                final RecordSchema recordSchema, final AttributeMap attributeMap, final Map<RecordGroupingKey, DestinationTuple> destinationTuples,
+                                final RecordSetWriterFactory writerFactory, final ProcessSession session, final FlowFile originalFlowFile)
+        throws IOException, SchemaNotFoundException, MalformedRecordException {
+
+        writeJsonResult.finishRecordSet();
+        writeJsonResult.flush();
+
+        final List<RecordSchema> schemas = transform.transformRecordBatch(exchange.getInputFile(), exchange.getInputLength(), exchange.getOutputFile(), recordSchema, attributeMap);
+        exchange.resetInput();
+
+        final List<BatchResult> results = exchange.readResults();
+        for (final BatchResult result : results) {
+            final RecordSchema returnedSchema = result.schema() < 0 ? null : schemas.get(result.schema());
+            final Record transformed = createRecordFromJson(result.recordJson(), returnedSchema, getLogger());
+            writeResult(transformed, result.relationship(), result.partition(), destinationTuples, writerFactory, session, originalFlowFile);
+        }
+
+        return results.size();
+    }
+
     /**
      * Create mapping of each Relationship to all FlowFiles that go to that Relationship.
      * This gives us a way to efficiently transfer FlowFiles and allows us to ensure that we are able
@@ -238,7 +241,9 @@ public class RecordTransformProxy extends PythonProcessorProxy<RecordTransform>
     /**
      * Writes the RecordTransformResult to the appropriate RecordSetWriter
      *
-     * @param result the result to write out
+     * @param transformed the Record to write out, or <code>null</code> if the RecordTransform did not return a Record
+     * @param relationship the name of the Relationship to which the Record should be transferred
+     * @param partition the partition of the Record, or <code>null</code> if the Record is not partitioned
      * @param destinationTuples a mapping of RecordGroupingKey (relationship and optional partition) to a DestinationTuple (FlowFile and RecordSetWriter)
      * @param writerFactory RecordSetWriterFactory to use for creating a RecordSetWriter if necessary
      * @param session the ProcessSession
@@ -247,18 +252,17 @@ public class RecordTransformProxy extends PythonProcessorProxy<RecordTransform>
      * @throws SchemaNotFoundException if unable to find the appropriate schema when attempting to create a new RecordSetWriter
      * @throws IOException if unable to create a new RecordSetWriter
      */
-    private void writeResult(final RecordTransformResult result, final Map<RecordGroupingKey, DestinationTuple> destinationTuples,
+    private void writeResult(final Record transformed, final String relationship, final Map<String, Object> partition, final Map<RecordGroupingKey, DestinationTuple> destinationTuples,
                              final RecordSetWriterFactory writerFactory, final ProcessSession session, final FlowFile originalFlowFile)
-        throws SchemaNotFoundException, IOException, MalformedRecordException {
+        throws SchemaNotFoundException, IOException {
 
-        final Record transformed = createRecordFromJson(result);
         if (transformed == null) {
             getLogger().debug("Received null result from RecordTransform; will not write result to output for {}", originalFlowFile);
             return;
         }
 
         // Get the DestinationTuple for the specified relationship
-        final RecordGroupingKey key = new RecordGroupingKey(result.getRelationship(), result.getPartition());
+        final RecordGroupingKey key = new RecordGroupingKey(relationship, partition);
         DestinationTuple destinationTuple = destinationTuples.get(key);
         if (destinationTuple == null) {
             final FlowFile destinationFlowFile = session.create(originalFlowFile);
@@ -284,27 +288,35 @@ public class RecordTransformProxy extends PythonProcessorProxy<RecordTransform>
     }
 
 
-    private Record createRecordFromJson(final RecordTransformResult transformResult) throws IOException, MalformedRecordException {
-        final String json = transformResult.getRecordJson();
-        final byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    /**
+     * Creates a Record from the JSON returned by the RecordTransform
+     *
+     * @param json the JSON of the Record, or <code>null</code> if the RecordTransform did not return a Record
+     * @param returnedSchema the schema returned with the Record, or <code>null</code> if the schema should be inferred from the JSON
+     * @param logger the logger for the Record Reader
+     * @return the Record, or <code>null</code> if there is no Record
+     */
+    static Record createRecordFromJson(final ByteBuffer json, final RecordSchema returnedSchema, final ComponentLog logger) throws IOException, MalformedRecordException {
+        if (json == null) {
+            return null;
+        }
 
-        final RecordSchema returnedSchema = transformResult.getSchema();
         final RecordSchema schema;
         if (returnedSchema == null) {
-            schema = inferSchema(jsonBytes);
+            schema = inferSchema(json.duplicate());
         } else {
             schema = returnedSchema;
         }
 
-        try (final InputStream in = new ByteArrayInputStream(jsonBytes)) {
-            final JsonTreeRowRecordReader reader = new JsonTreeRowRecordReader(in, getLogger(), schema, null, null, null);
+        try (final InputStream in = new ByteBufferBackedInputStream(json.duplicate())) {
+            final JsonTreeRowRecordReader reader = new JsonTreeRowRecordReader(in, logger, schema, null, null, null);
             final Record record = reader.nextRecord(false, false);
             return record;
         }
     }
 
-    private RecordSchema inferSchema(final byte[] jsonBytes) throws IOException {
-        try (final InputStream in = new ByteArrayInputStream(jsonBytes)) {
+    private static RecordSchema inferSchema(final ByteBuffer json) throws IOException {
+        try (final InputStream in = new ByteBufferBackedInputStream(json)) {
             final JsonRecordSource recordSource = new JsonRecordSource(in);
             final TimeValueInference timeValueInference = new TimeValueInference(null, null, null);
             final JsonSchemaInference schemaInference = new JsonSchemaInference(timeValueInference);
@@ -26,12 +26,20 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class StandardInputFlowFile implements InputFlowFile, Closeable {
+    private static final String TEMP_FILE_PREFIX = "nifi-python-content-";
+
     private final ProcessSession session;
     private final FlowFile flowFile;
+    private final List<Path> tempFiles = new ArrayList<>();
     private BufferedReader bufferedReader;
+    private Path contentsFile;
 
     public StandardInputFlowFile(final ProcessSession session, final FlowFile flowFile) {
         this.session = session;
@@ -52,7 +60,7 @@ public class StandardInputFlowFile implements InputFlowFile, Closeable {
     }
 
     public BufferedReader getContentsAsReader() throws IOException {
-        close();
+        closeReader();
 
         final InputStream in = session.read(flowFile);
         final InputStreamReader reader = new InputStreamReader(in);
@@ -60,10 +68,54 @@ public class StandardInputFlowFile implements InputFlowFile, Closeable {
         return bufferedReader;
     }
 
-    @Override
-    public void close() throws IOException {
+    public synchronized String getContentsAsFile() throws IOException {
+        if (contentsFile == null) {
+            final Path file = createTempFile(".content");
+            session.exportTo(flowFile, file, false);
+            contentsFile = file;
+        }
+
+        return contentsFile.toString();
+    }
+
+    public synchronized String createOutputFile() throws IOException {
+        return createTempFile(".output").toString();
+    }
+
+    private Path createTempFile(final String suffix) throws IOException {
+        final Path file = Files.createTempFile(TEMP_FILE_PREFIX, suffix);
+        tempFiles.add(file);
+        return file;
+    }
+
+    private void closeReader() throws IOException {
         if (bufferedReader != null) {
             bufferedReader.close();
+            bufferedReader = null;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeReader();
+
+        IOException failure = null;
+        for (final Path tempFile : tempFiles) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (final IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        tempFiles.clear();
+        contentsFile = null;
+        if (failure != null) {
+            throw failure;
         }
     }
 
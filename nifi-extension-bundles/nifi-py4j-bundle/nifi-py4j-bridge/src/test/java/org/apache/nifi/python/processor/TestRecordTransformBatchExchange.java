@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.python.processor;
+
+import org.apache.nifi.python.processor.RecordTransformBatchExchange.BatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestRecordTransformBatchExchange {
+
+    @Test
+    public void testWriteAndResetInput() throws IOException {
+        final Path inputFile;
+        final Path outputFile;
+        try (final RecordTransformBatchExchange exchange = new RecordTransformBatchExchange()) {
+            inputFile = Path.of(exchange.getInputFile());
+            outputFile = Path.of(exchange.getOutputFile());
+
+            exchange.getInputStream().write("[{\"id\":1}]".getBytes(StandardCharsets.UTF_8));
+            exchange.getInputStream().flush();
+            assertEquals(10, exchange.getInputLength());
+            assertEquals("[{\"id\":1}]", Files.readString(inputFile, StandardCharsets.UTF_8));
+
+            exchange.resetInput();
+            assertEquals(0, exchange.getInputLength());
+            assertEquals(0, Files.size(inputFile));
+        }
+
+        assertFalse(Files.exists(inputFile));
+        assertFalse(Files.exists(outputFile));
+    }
+
+    @Test
+    public void testReadResults() throws IOException {
+        try (final RecordTransformBatchExchange exchange = new RecordTransformBatchExchange()) {
+            writeOutput(exchange, """
+                {"relationship": "success", "partition": null, "schema": -1}
+                {"id": 1, "name": "first"}
+                {"relationship": "original", "partition": null, "schema": -1}
+                null
+                {"relationship": "even", "partition": {"group": "two"}, "schema": 1, "future": true}
+                {"id": 2}""");
+
+            final List<BatchResult> results = exchange.readResults();
+            assertEquals(3, results.size());
+
+            final BatchResult first = results.get(0);
+            assertEquals("success", first.relationship());
+            assertNull(first.partition());
+            assertEquals(-1, first.schema());
+            assertEquals("{\"id\": 1, \"name\": \"first\"}", toString(first.recordJson()));
+
+            final BatchResult second = results.get(1);
+            assertEquals("original", second.relationship());
+            assertNull(second.recordJson());
+
+            final BatchResult third = results.get(2);
+            assertEquals("even", third.relationship());
+            assertEquals(Map.of("group", "two"), third.partition());
+            assertEquals(1, third.schema());
+            assertEquals("{\"id\": 2}", toString(third.recordJson()));
+        }
+    }
+
+    @Test
+    public void testReadResultsEmpty() throws IOException {
+        try (final RecordTransformBatchExchange exchange = new RecordTransformBatchExchange()) {
+            assertTrue(exchange.readResults().isEmpty());
+        }
+    }
+
+    @Test
+    public void testReadResultsMissingRecord() throws IOException {
+        try (final RecordTransformBatchExchange exchange = new RecordTransformBatchExchange()) {
+            writeOutput(exchange, "{\"relationship\": \"success\", \"partition\": null, \"schema\": -1}\n");
+            assertThrows(IOException.class, exchange::readResults);
+        }
+    }
+
+    private void writeOutput(final RecordTransformBatchExchange exchange, final String output) throws IOException {
+        Files.writeString(Path.of(exchange.getOutputFile()), output, StandardCharsets.UTF_8);
+    }
+
+    private String toString(final ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+    }
+}
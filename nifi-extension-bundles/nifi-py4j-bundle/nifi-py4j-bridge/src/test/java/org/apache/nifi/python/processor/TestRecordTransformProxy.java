@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.python.processor;
+
+import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.serialization.SimpleRecordSchema;
+import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
+import org.apache.nifi.serialization.record.RecordFieldType;
+import org.apache.nifi.serialization.record.RecordSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(MockitoExtension.class)
+public class TestRecordTransformProxy {
+
+    @Mock
+    private ComponentLog logger;
+
+    @Test
+    public void testCreateRecordFromJsonNull() throws Exception {
+        assertNull(RecordTransformProxy.createRecordFromJson(null, null, logger));
+    }
+
+    @Test
+    public void testCreateRecordFromJsonReturnedSchema() throws Exception {
+        final RecordSchema schema = new SimpleRecordSchema(List.of(
+                new RecordField("id", RecordFieldType.INT.getDataType()),
+                new RecordField("name", RecordFieldType.STRING.getDataType())
+        ));
+
+        final Record record = RecordTransformProxy.createRecordFromJson(toBuffer("{\"id\": 1, \"name\": \"first\"}"), schema, logger);
+
+        assertSame(schema, record.getSchema());
+        assertEquals(1, record.getValue("id"));
+        assertEquals("first", record.getValue("name"));
+    }
+
+    @Test
+    public void testCreateRecordFromJsonInferredSchema() throws Exception {
+        final ByteBuffer json = toBuffer("{\"id\": 1, \"tags\": [\"a\", \"b\"]}");
+
+        final Record record = RecordTransformProxy.createRecordFromJson(json, null, logger);
+
+        assertEquals(List.of("id", "tags"), record.getSchema().getFieldNames());
+        assertEquals(RecordFieldType.INT, record.getSchema().getDataType("id").orElseThrow().getFieldType());
+        assertEquals(RecordFieldType.ARRAY, record.getSchema().getDataType("tags").orElseThrow().getFieldType());
+        assertEquals(1, record.getValue("id"));
+        // The buffer is not consumed, so that it can be read again if needed
+        assertEquals(0, json.position());
+    }
+
+    private ByteBuffer toBuffer(final String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
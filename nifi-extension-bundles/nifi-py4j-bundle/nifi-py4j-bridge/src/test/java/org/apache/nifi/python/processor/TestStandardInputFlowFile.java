@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.python.processor;
+
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.processor.ProcessSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TestStandardInputFlowFile {
+    private static final String CONTENTS = "contents";
+
+    @Mock
+    private ProcessSession session;
+
+    @Mock
+    private FlowFile flowFile;
+
+    @Test
+    public void testGetContentsAsFile() throws IOException {
+        doAnswer(invocation -> {
+            final Path destination = invocation.getArgument(1);
+            Files.writeString(destination, CONTENTS);
+            return null;
+        }).when(session).exportTo(eq(flowFile), any(Path.class), eq(false));
+
+        final Path contentsFile;
+        final Path outputFile;
+        try (final StandardInputFlowFile inputFlowFile = new StandardInputFlowFile(session, flowFile)) {
+            contentsFile = Path.of(inputFlowFile.getContentsAsFile());
+            assertEquals(contentsFile, Path.of(inputFlowFile.getContentsAsFile()));
+            assertEquals(CONTENTS, Files.readString(contentsFile, StandardCharsets.UTF_8));
+
+            outputFile = Path.of(inputFlowFile.createOutputFile());
+            assertTrue(Files.exists(outputFile));
+            assertEquals(0, Files.size(outputFile));
+        }
+
+        verify(session, times(1)).exportTo(eq(flowFile), any(Path.class), eq(false));
+        assertFalse(Files.exists(contentsFile));
+        assertFalse(Files.exists(outputFile));
+    }
+}
@@ -13,7 +13,9 @@
 # See the License for the specific language governing permissions and
 # limitations under the License.
 
+import mmap
 from abc import ABC, abstractmethod
+from contextlib import contextmanager
 from nifiapi.__jvm__ import JvmHolder
 from nifiapi.properties import ProcessContext
 
@@ -37,13 +39,38 @@ class FlowFileTransform(ABC):
         pass
 
 
+@contextmanager
+def mapped_contents(flowfile):
+    """
+    Memory-maps the contents of the given FlowFile for reading, without copying the contents into memory or through the gateway.
+    The returned object supports the buffer protocol and may be used with bytes-like operations, such as slicing or find().
+
+    :param flowfile: the FlowFile whose contents are to be read
+    """
+    if flowfile.getSize() == 0:
+        yield b''
+        return
+
+    with open(flowfile.getContentsAsFile(), 'rb') as contents_file:
+        with mmap.mmap(contents_file.fileno(), 0, access=mmap.ACCESS_READ) as mapped:
+            yield mapped
+
+
 class FlowFileTransformResult:
     class Java:
         implements = ['org.apache.nifi.python.processor.FlowFileTransformResult']
 
-    def __init__(self, relationship, attributes = None, contents = None):
+    def __init__(self, relationship, attributes = None, contents = None, contents_file = None):
+        """
+        :param relationship: the name of the Relationship to which the transformed FlowFile is to be transferred
+        :param attributes: a dictionary of attributes to add to the transformed FlowFile
+        :param contents: the contents of the transformed FlowFile, as a string or bytes
+        :param contents_file: the path of a file containing the contents of the transformed FlowFile, such as a file created by
+            flowfile.createOutputFile(), which takes precedence over contents and is streamed into the FlowFile without passing through the gateway
+        """
         self.relationship = relationship
         self.attributes = attributes
+        self.contents_file = contents_file
         if contents is not None and isinstance(contents, str):
             self.contents = str.encode(contents)
         else:
@@ -55,6 +82,9 @@ class FlowFileTransformResult:
     def getContents(self):
         return self.contents
 
+    def getContentsFile(self):
+        return self.contents_file
+
     def getAttributes(self):
         if self.attributes is None:
             return None
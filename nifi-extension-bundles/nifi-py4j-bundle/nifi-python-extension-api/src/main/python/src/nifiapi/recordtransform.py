@@ -14,6 +14,7 @@
 # limitations under the License.
 
 import json
+import mmap
 from abc import ABC, abstractmethod
 from nifiapi.properties import ProcessContext
 from nifiapi.__jvm__ import JvmHolder
@@ -42,6 +43,43 @@ class RecordTransform(ABC):
 
         return results
 
+    def transformRecordBatch(self, input_file, input_length, output_file, schema, attributemap):
+        # The input file is memory-mapped so that the batch does not need to be sent through the gateway as a string,
+        # and results are written to the output file as pairs of lines containing the result metadata and the record
+        with open(input_file, 'rb') as input_stream:
+            with mmap.mmap(input_stream.fileno(), input_length, access=mmap.ACCESS_READ) as mapped_input:
+                # Decode directly from a view of the mapped file instead of slicing it, which would copy the batch into a new bytes object
+                with memoryview(mapped_input) as input_view:
+                    parsed_array = json.loads(str(input_view, 'utf-8'))
+
+        schemas = self.arrayList()
+        schema_indexes = {}
+        # Retain returned schemas so that their identities are not reused while indexing
+        returned_schemas = []
+        caching_attribute_map = CachingAttributeMap(attributemap)
+
+        with open(output_file, 'wb') as output_stream:
+            for record in parsed_array:
+                result = self.transform(self.process_context, record, schema, caching_attribute_map)
+
+                result_schema = result.getSchema()
+                schema_index = -1
+                if result_schema is not None:
+                    schema_index = schema_indexes.get(id(result_schema))
+                    if schema_index is None:
+                        schema_index = len(returned_schemas)
+                        schema_indexes[id(result_schema)] = schema_index
+                        returned_schemas.append(result_schema)
+                        schemas.add(result_schema)
+
+                metadata = {'relationship': result.getRelationship(), 'partition': result.getPartition(), 'schema': schema_index}
+                output_stream.write(json.dumps(metadata).encode('utf-8'))
+                output_stream.write(b'\n')
+                output_stream.write(json.dumps(result.getRecord()).encode('utf-8'))
+                output_stream.write(b'\n')
+
+        return schemas
+
 
     @abstractmethod
     def transform(self, context, record, schema, attributemap):
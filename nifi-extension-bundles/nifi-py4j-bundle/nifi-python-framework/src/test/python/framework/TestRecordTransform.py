@@ -0,0 +1,118 @@
+# Licensed to the Apache Software Foundation (ASF) under one or more
+# contributor license agreements.  See the NOTICE file distributed with
+# this work for additional information regarding copyright ownership.
+# The ASF licenses this file to You under the Apache License, Version 2.0
+# (the "License"); you may not use this file except in compliance with
+# the License.  You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+
+import json
+import os
+import tempfile
+import unittest
+from unittest.mock import MagicMock
+
+from nifiapi.__jvm__ import JvmHolder
+
+
+class FakeArrayList(list):
+    def add(self, value):
+        self.append(value)
+
+
+# The nifiapi modules access the JVM when imported, so stand-ins must be in place before importing them
+JvmHolder.jvm = MagicMock()
+JvmHolder.jvm.java.util.ArrayList = FakeArrayList
+JvmHolder.gateway = MagicMock()
+
+from nifiapi.recordtransform import RecordTransform, RecordTransformResult  # noqa: E402
+
+
+class FakeAttributeMap:
+    def __init__(self, attributes):
+        self.attributes = attributes
+
+    def getAttribute(self, name):
+        return self.attributes.get(name)
+
+    def getAttributes(self):
+        return self.attributes
+
+
+class RoutingRecordTransform(RecordTransform):
+    def __init__(self):
+        super().__init__()
+        self.schema = object()
+
+    def transform(self, context, record, schema, attributemap):
+        if record['number'] == 0:
+            return RecordTransformResult(relationship='original')
+        if record['number'] % 2 == 0:
+            return RecordTransformResult(record={'number': record['number'], 'name': attributemap.getAttribute('name')}, schema=self.schema,
+                                         relationship='even', partition={'group': 'two'})
+        return RecordTransformResult(record=record)
+
+
+class TestRecordTransform(unittest.TestCase):
+    def setUp(self):
+        self.transform = RoutingRecordTransform()
+        self.transform.process_context = None
+
+        self.directory = tempfile.TemporaryDirectory()
+        self.input_file = os.path.join(self.directory.name, 'input.json')
+        self.output_file = os.path.join(self.directory.name, 'output.jsonl')
+
+    def tearDown(self):
+        self.directory.cleanup()
+
+    def write_input(self, records, trailing=b''):
+        content = json.dumps(records).encode('utf-8')
+        with open(self.input_file, 'wb') as input_stream:
+            input_stream.write(content)
+            input_stream.write(trailing)
+        return len(content)
+
+    def read_output(self):
+        with open(self.output_file, 'rb') as output_stream:
+            return [json.loads(line) for line in output_stream.read().splitlines()]
+
+    def test_transform_record_batch(self):
+        # Content beyond the input length is left over from a larger previous batch and must be ignored
+        input_length = self.write_input([{'number': 1}, {'number': 2}, {'number': 0}, {'number': 4}], b', {"number": 3}]')
+
+        schemas = self.transform.transformRecordBatch(self.input_file, input_length, self.output_file, None, FakeAttributeMap({'name': 'test'}))
+
+        self.assertEqual(schemas, [self.transform.schema])
+        self.assertEqual(self.read_output(), [
+            {'relationship': 'success', 'partition': None, 'schema': -1}, {'number': 1},
+            {'relationship': 'even', 'partition': {'group': 'two'}, 'schema': 0}, {'number': 2, 'name': 'test'},
+            {'relationship': 'original', 'partition': None, 'schema': -1}, None,
+            {'relationship': 'even', 'partition': {'group': 'two'}, 'schema': 0}, {'number': 4, 'name': 'test'}
+        ])
+
+    def test_transform_record_batch_unicode(self):
+        input_length = self.write_input([{'number': 1, 'text': 'café ☃'}])
+
+        self.transform.transformRecordBatch(self.input_file, input_length, self.output_file, None, FakeAttributeMap({}))
+
+        self.assertEqual(self.read_output()[1], {'number': 1, 'text': 'café ☃'})
+
+    def test_transform_record_batch_overwrites_output(self):
+        input_length = self.write_input([{'number': 1}, {'number': 3}])
+        self.transform.transformRecordBatch(self.input_file, input_length, self.output_file, None, FakeAttributeMap({}))
+
+        input_length = self.write_input([{'number': 5}])
+        self.transform.transformRecordBatch(self.input_file, input_length, self.output_file, None, FakeAttributeMap({}))
+
+        self.assertEqual(self.read_output(), [{'relationship': 'success', 'partition': None, 'schema': -1}, {'number': 5}])
+
+
+if __name__ == '__main__':
+    unittest.main()
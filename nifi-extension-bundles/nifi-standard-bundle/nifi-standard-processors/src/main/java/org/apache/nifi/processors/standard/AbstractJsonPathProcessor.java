@@ -16,6 +16,7 @@
  */
 package org.apache.nifi.processors.standard;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.Configuration;
@@ -29,6 +30,7 @@ import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
 import org.apache.nifi.components.Validator;
 import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.json.StreamingJsonPathEvaluator;
 import org.apache.nifi.processor.AbstractProcessor;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.io.InputStreamCallback;
@@ -80,16 +82,52 @@ public abstract class AbstractJsonPathProcessor extends AbstractProcessor {
             .addValidator(StandardValidators.DATA_SIZE_VALIDATOR)
             .build();
 
-    static Configuration createConfiguration(final int maxStringLength) {
+    static ObjectMapper createObjectMapper(final int maxStringLength) {
         final StreamReadConstraints streamReadConstraints = StreamReadConstraints.builder().maxStringLength(maxStringLength).build();
 
         final ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.getFactory().setStreamReadConstraints(streamReadConstraints);
+        return objectMapper;
+    }
+
+    static Configuration createConfiguration(final int maxStringLength) {
+        return createConfiguration(createObjectMapper(maxStringLength));
+    }
 
+    static Configuration createConfiguration(final ObjectMapper objectMapper) {
         final JsonProvider jsonProvider = new JacksonJsonProvider(objectMapper);
         return Configuration.builder().jsonProvider(jsonProvider).build();
     }
 
+    /**
+     * Creates an evaluator reading all the given paths in one pass over the JSON content, if every path is simple enough to be evaluated while
+     * streaming
+     *
+     * @param jsonPaths JsonPath expressions keyed by name
+     * @param objectMapper Object Mapper configured with the JSON parsing constraints
+     * @return the streaming evaluator, or null if any path requires evaluation against the parsed document
+     */
+    static <K> StreamingJsonPathEvaluator<K> createStreamingEvaluator(final Map<K, JsonPath> jsonPaths, final ObjectMapper objectMapper) {
+        if (jsonPaths.isEmpty() || !jsonPaths.values().stream().allMatch(StreamingJsonPathEvaluator::isSupported)) {
+            return null;
+        }
+        return new StreamingJsonPathEvaluator<>(jsonPaths, objectMapper);
+    }
+
+    static <K> Map<K, Object> evaluateStreaming(final ProcessSession processSession, final FlowFile flowFile, final StreamingJsonPathEvaluator<K> streamingEvaluator) {
+        final AtomicReference<Map<K, Object>> resultsHolder = new AtomicReference<>(null);
+        processSession.read(flowFile, in -> {
+            try (BufferedInputStream bufferedInputStream = new BufferedInputStream(in)) {
+                resultsHolder.set(streamingEvaluator.evaluate(bufferedInputStream));
+            } catch (final JsonProcessingException e) {
+                // Report invalid content in the same way as parsing the document for JsonPath, such that the calling logic can route
+                throw new InvalidJsonException(e);
+            }
+        });
+
+        return resultsHolder.get();
+    }
+
     static DocumentContext validateAndEstablishJsonContext(ProcessSession processSession, FlowFile flowFile, Configuration jsonPathConfiguration) {
         // Parse the document once into an associated context to support multiple path evaluations if specified
         final AtomicReference<DocumentContext> contextHolder = new AtomicReference<>(null);
@@ -42,6 +42,9 @@ import org.apache.nifi.util.StopWatch;
 import org.apache.nifi.util.db.JdbcCommon;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
@@ -58,6 +61,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -92,6 +98,8 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
 
     private static final String FETCH_SIZE_NAME = "Fetch Size";
     private static final String AUTO_COMMIT_NAME = "Set Auto Commit";
+    private static final String FETCH_PARTITIONS_NAME = "Fetch Partitions";
+    private static final String PARTITION_BOUNDS_ALIAS = "partition_bounds";
 
     public static final PropertyDescriptor FETCH_SIZE = new PropertyDescriptor.Builder()
             .name(FETCH_SIZE_NAME)
@@ -177,6 +185,32 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
             .defaultValue(INITIAL_LOAD_STRATEGY_ALL_ROWS.getValue())
             .build();
 
+    public static final PropertyDescriptor PARTITION_COLUMN = new PropertyDescriptor.Builder()
+            .name("Partition Column")
+            .displayName("Partition Column")
+            .description("The name of a numeric column used to split the query into ranges of values that are fetched concurrently when '" + FETCH_PARTITIONS_NAME
+                    + "' is greater than 1. The minimum and maximum values of the column are queried first and the range between them is divided evenly between the "
+                    + "partitions, so the column should be indexed and have evenly distributed values, such as a numeric primary key. The column must be included in the "
+                    + "columns returned by the query. Rows with a null value in the column are fetched by the first partition.")
+            .required(false)
+            .addValidator(StandardValidators.NON_EMPTY_VALIDATOR)
+            .expressionLanguageSupported(ExpressionLanguageScope.ENVIRONMENT)
+            .build();
+
+    public static final PropertyDescriptor FETCH_PARTITIONS = new PropertyDescriptor.Builder()
+            .name(FETCH_PARTITIONS_NAME)
+            .displayName(FETCH_PARTITIONS_NAME)
+            .description("The number of ranges of '" + PARTITION_COLUMN.getDisplayName() + "' values to fetch concurrently, each using its own connection from the "
+                    + "Database Connection Pooling Service, which should allow at least this many connections. FlowFiles from all partitions are transferred together "
+                    + "in partition order, with fragment attributes identifying their position. '" + OUTPUT_BATCH_SIZE.getDisplayName() + "' and '"
+                    + MAX_FRAGMENTS.getDisplayName() + "' are not applied when more than one partition is fetched.")
+            .defaultValue("1")
+            .required(true)
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .build();
+
+    private volatile ForkJoinPool partitionPool;
+
     @Override
     public Set<Relationship> getRelationships() {
         return relationships;
@@ -231,6 +265,15 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
                     .build());
         }
 
+        final Integer fetchPartitions = validationContext.getProperty(FETCH_PARTITIONS).asInteger();
+        if (fetchPartitions != null && fetchPartitions > 1 && !validationContext.getProperty(PARTITION_COLUMN).isSet()) {
+            results.add(new ValidationResult.Builder().valid(false)
+                    .subject(FETCH_PARTITIONS.getDisplayName())
+                    .input(String.valueOf(fetchPartitions))
+                    .explanation(String.format("'%s' must be configured when '%s' is greater than 1", PARTITION_COLUMN.getDisplayName(), FETCH_PARTITIONS.getDisplayName()))
+                    .build());
+        }
+
         return results;
     }
 
@@ -238,12 +281,22 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
     @OnScheduled
     public void setup(final ProcessContext context) {
         maxValueProperties = getDefaultMaxValueProperties(context, null);
+
+        final int fetchPartitions = context.getProperty(FETCH_PARTITIONS).asInteger();
+        if (fetchPartitions > 1) {
+            partitionPool = new ForkJoinPool(fetchPartitions);
+        }
     }
 
     @OnStopped
     public void stop() {
         // Reset the column type map in case properties change
         setupComplete.set(false);
+
+        if (partitionPool != null) {
+            partitionPool.shutdownNow();
+            partitionPool = null;
+        }
     }
 
     @Override
@@ -349,6 +402,26 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
         final StopWatch stopWatch = new StopWatch(true);
         final String fragmentIdentifier = UUID.randomUUID().toString();
 
+        final ForkJoinPool partitionExecutor = partitionPool;
+        if (partitionExecutor != null) {
+            try {
+                fetchPartitions(context, sessionFactory, session, partitionExecutor, dbAdapter, selectQuery, maxValueColumnNameList, statePropertyMap, fragmentIdentifier);
+            } catch (final ProcessException | SQLException e) {
+                logger.error("Unable to execute partitioned SQL select query {} due to {}", selectQuery, e);
+                context.yield();
+            } finally {
+                try {
+                    // Update the state
+                    session.setState(statePropertyMap, Scope.CLUSTER);
+                } catch (IOException ioe) {
+                    getLogger().error("{} failed to update State Manager, maximum observed values will not be recorded", this, ioe);
+                }
+
+                session.commitAsync();
+            }
+            return;
+        }
+
         try (final Connection con = dbcpService.getConnection(Collections.emptyMap());
              final Statement st = con.createStatement()) {
 
@@ -535,6 +608,11 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
 
     protected String getQuery(DatabaseAdapter dbAdapter, String tableName, String sqlQuery, String columnNames, List<String> maxValColumnNames,
                               String customWhereClause, Map<String, String> stateMap) {
+        return getQuery(dbAdapter, tableName, sqlQuery, columnNames, maxValColumnNames, customWhereClause, null, stateMap);
+    }
+
+    protected String getQuery(DatabaseAdapter dbAdapter, String tableName, String sqlQuery, String columnNames, List<String> maxValColumnNames,
+                              String customWhereClause, String partitionClause, Map<String, String> stateMap) {
         if (StringUtils.isEmpty(tableName)) {
             throw new IllegalArgumentException("Table name must be specified");
         }
@@ -575,6 +653,10 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
             whereClauses.add("(" + customWhereClause + ")");
         }
 
+        if (partitionClause != null) {
+            whereClauses.add(partitionClause);
+        }
+
         if (!whereClauses.isEmpty()) {
             query.append(" WHERE ");
             query.append(StringUtils.join(whereClauses, " AND "));
@@ -583,6 +665,271 @@ public abstract class AbstractQueryDatabaseTable extends AbstractDatabaseFetchPr
         return query.toString();
     }
 
+    /**
+     * Fetches the rows returned by the select query as ranges of Partition Column values, with each range fetched concurrently on its own connection
+     * and Process Session. When every range has been fetched, the FlowFiles are migrated to the given session in range order and the maximum values observed
+     * across all ranges are applied to the state property map.
+     */
+    private void fetchPartitions(final ProcessContext context, final ProcessSessionFactory sessionFactory, final ProcessSession session, final ForkJoinPool partitionExecutor,
+                                 final DatabaseAdapter dbAdapter, final String selectQuery, final List<String> maxValueColumnNameList,
+                                 final Map<String, String> statePropertyMap, final String fragmentIdentifier) throws SQLException {
+        final ComponentLog logger = getLogger();
+        final DBCPService dbcpService = context.getProperty(DBCP_SERVICE).asControllerService(DBCPService.class);
+        final String tableName = context.getProperty(TABLE_NAME).evaluateAttributeExpressions().getValue();
+        final String columnNames = context.getProperty(COLUMN_NAMES).evaluateAttributeExpressions().getValue();
+        final String sqlQuery = context.getProperty(SQL_QUERY).evaluateAttributeExpressions().getValue();
+        final String customWhereClause = context.getProperty(WHERE_CLAUSE).evaluateAttributeExpressions().getValue();
+        final String partitionColumn = context.getProperty(PARTITION_COLUMN).evaluateAttributeExpressions().getValue();
+        final int fetchPartitions = context.getProperty(FETCH_PARTITIONS).asInteger();
+        final Integer queryTimeout = context.getProperty(QUERY_TIMEOUT).evaluateAttributeExpressions().asTimePeriod(TimeUnit.SECONDS).intValue();
+        final Integer transIsolationLevel = context.getProperty(TRANS_ISOLATION_LEVEL).isSet()
+                ? context.getProperty(TRANS_ISOLATION_LEVEL).asInteger()
+                : null;
+        final StopWatch stopWatch = new StopWatch(true);
+
+        // Query the range of partition column values for the rows matched by the select query
+        final String boundsQuery = "SELECT MIN(" + partitionColumn + "), MAX(" + partitionColumn + ") FROM (" + selectQuery + ") "
+                + dbAdapter.getTableAliasClause(PARTITION_BOUNDS_ALIAS);
+        final BigDecimal minimumValue;
+        final BigDecimal maximumValue;
+        String jdbcURL = "DBCPService";
+        try (final Connection con = dbcpService.getConnection(Collections.emptyMap());
+             final Statement st = con.createStatement()) {
+
+            if (transIsolationLevel != null) {
+                con.setTransactionIsolation(transIsolationLevel);
+            }
+
+            try {
+                final DatabaseMetaData databaseMetaData = con.getMetaData();
+                if (databaseMetaData != null) {
+                    jdbcURL = databaseMetaData.getURL();
+                }
+            } catch (SQLException se) {
+                // Ignore and use default JDBC URL. This shouldn't happen unless the driver doesn't implement getMetaData() properly
+            }
+
+            st.setQueryTimeout(queryTimeout); // timeout in seconds
+            logger.debug("Executing partition bounds query {}", boundsQuery);
+            try (final ResultSet resultSet = st.executeQuery(boundsQuery)) {
+                if (resultSet.next()) {
+                    minimumValue = resultSet.getBigDecimal(1);
+                    maximumValue = resultSet.getBigDecimal(2);
+                } else {
+                    minimumValue = null;
+                    maximumValue = null;
+                }
+            }
+        }
+
+        final List<String> partitionClauses = minimumValue == null || maximumValue == null
+                ? Collections.singletonList(null)
+                : getPartitionClauses(partitionColumn, minimumValue, maximumValue, fetchPartitions);
+
+        // Max values are tracked across all partitions, so rows are passed to a single collector one at a time
+        final MaxValueResultSetRowCollector maxValCollector = new MaxValueResultSetRowCollector(tableName, statePropertyMap, dbAdapter);
+        final JdbcCommon.ResultSetRowCallback rowCallback = new JdbcCommon.ResultSetRowCallback() {
+            @Override
+            public void processRow(final ResultSet resultSet) throws IOException {
+                if (maxValueColumnNameList != null) {
+                    synchronized (maxValCollector) {
+                        maxValCollector.processRow(resultSet);
+                    }
+                }
+            }
+
+            @Override
+            public void applyStateChanges() {
+                maxValCollector.applyStateChanges();
+            }
+        };
+
+        final List<Future<PartitionResult>> futures = new ArrayList<>(partitionClauses.size());
+        for (final String partitionClause : partitionClauses) {
+            final String partitionQuery = getQuery(dbAdapter, tableName, sqlQuery, columnNames, maxValueColumnNameList, customWhereClause, partitionClause, statePropertyMap);
+            futures.add(partitionExecutor.submit(() -> fetchPartition(context, sessionFactory, dbcpService, dbAdapter, tableName, partitionQuery, rowCallback)));
+        }
+
+        // Wait for every partition so that no Process Session is left open, rolling back all partitions if any of them failed
+        final List<PartitionResult> partitionResults = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (final Future<PartitionResult> future : futures) {
+            try {
+                partitionResults.add(future.get());
+            } catch (final ExecutionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = failure == null ? e : failure;
+            }
+        }
+
+        if (failure != null) {
+            partitionResults.forEach(partitionResult -> partitionResult.session().rollback());
+            if (failure instanceof SQLException sqlException) {
+                throw sqlException;
+            } else if (failure instanceof ProcessException processException) {
+                throw processException;
+            }
+            throw new ProcessException("Failed to fetch partitioned query results", failure);
+        }
+
+        final List<FlowFile> resultSetFlowFiles = new ArrayList<>();
+        for (final PartitionResult partitionResult : partitionResults) {
+            if (!partitionResult.flowFiles().isEmpty()) {
+                partitionResult.session().migrate(session, partitionResult.flowFiles());
+                resultSetFlowFiles.addAll(partitionResult.flowFiles());
+            }
+            // Commit the counters remaining in the partition session
+            partitionResult.session().commitAsync();
+        }
+
+        if (resultSetFlowFiles.isEmpty()) {
+            context.yield();
+            return;
+        }
+
+        rowCallback.applyStateChanges();
+
+        for (int i = 0; i < resultSetFlowFiles.size(); i++) {
+            final Map<String, String> attributesToAdd = new HashMap<>();
+            for (final Map.Entry<String, String> entry : statePropertyMap.entrySet()) {
+                // Get just the column name from the key
+                final String key = entry.getKey();
+                final String colName = key.substring(key.lastIndexOf(NAMESPACE_DELIMITER) + NAMESPACE_DELIMITER.length());
+                attributesToAdd.put("maxvalue." + colName, entry.getValue());
+            }
+            attributesToAdd.put(FRAGMENT_ID, fragmentIdentifier);
+            attributesToAdd.put(FRAGMENT_INDEX, String.valueOf(i));
+            attributesToAdd.put(FRAGMENT_COUNT, String.valueOf(resultSetFlowFiles.size()));
+
+            final FlowFile flowFile = session.putAllAttributes(resultSetFlowFiles.get(i), attributesToAdd);
+            session.getProvenanceReporter().receive(flowFile, jdbcURL, stopWatch.getElapsed(TimeUnit.MILLISECONDS));
+            resultSetFlowFiles.set(i, flowFile);
+        }
+
+        logger.debug("Fetched {} FlowFiles from {} partitions of {}", resultSetFlowFiles.size(), partitionClauses.size(), tableName);
+        session.transfer(resultSetFlowFiles, REL_SUCCESS);
+    }
+
+    private PartitionResult fetchPartition(final ProcessContext context, final ProcessSessionFactory sessionFactory, final DBCPService dbcpService,
+                                           final DatabaseAdapter dbAdapter, final String tableName, final String partitionQuery,
+                                           final JdbcCommon.ResultSetRowCallback rowCallback) throws SQLException {
+        final ComponentLog logger = getLogger();
+        final Integer queryTimeout = context.getProperty(QUERY_TIMEOUT).evaluateAttributeExpressions().asTimePeriod(TimeUnit.SECONDS).intValue();
+        final Integer fetchSize = context.getProperty(FETCH_SIZE).evaluateAttributeExpressions().asInteger();
+        final Integer maxRowsPerFlowFile = context.getProperty(MAX_ROWS_PER_FLOW_FILE).evaluateAttributeExpressions().asInteger();
+        final Integer transIsolationLevel = context.getProperty(TRANS_ISOLATION_LEVEL).isSet()
+                ? context.getProperty(TRANS_ISOLATION_LEVEL).asInteger()
+                : null;
+        final Boolean propertyAutoCommitValue = context.getProperty(AUTO_COMMIT).evaluateAttributeExpressions().asBoolean();
+        // If user sets AUTO_COMMIT property to non-null (i.e. true or false), then the property value overrides the dbAdapter's value
+        final Boolean setAutoCommitValue = propertyAutoCommitValue != null
+                ? propertyAutoCommitValue
+                : dbAdapter.getAutoCommitForReads(fetchSize).orElse(null);
+
+        final ProcessSession partitionSession = sessionFactory.createSession();
+        final SqlWriter sqlWriter = configureSqlWriter(partitionSession, context);
+        final List<FlowFile> flowFiles = new ArrayList<>();
+
+        try (final Connection con = dbcpService.getConnection(Collections.emptyMap());
+             final Statement st = con.createStatement()) {
+
+            if (fetchSize != null && fetchSize > 0) {
+                try {
+                    st.setFetchSize(fetchSize);
+                } catch (SQLException se) {
+                    // Not all drivers support this, just log the error (at debug level) and move on
+                    logger.debug("Cannot set fetch size to {} due to {}", fetchSize, se.getLocalizedMessage(), se);
+                }
+            }
+
+            if (transIsolationLevel != null) {
+                con.setTransactionIsolation(transIsolationLevel);
+            }
+
+            st.setQueryTimeout(queryTimeout); // timeout in seconds
+            logger.debug("Executing partition query {}", partitionQuery);
+
+            final boolean originalAutoCommit = con.getAutoCommit();
+            if (setAutoCommitValue != null && originalAutoCommit != setAutoCommitValue) {
+                con.setAutoCommit(setAutoCommitValue);
+            }
+
+            try (final ResultSet resultSet = st.executeQuery(partitionQuery)) {
+                while (true) {
+                    final AtomicLong nrOfRows = new AtomicLong(0L);
+                    FlowFile flowFile = partitionSession.create();
+                    flowFile = partitionSession.write(flowFile, out -> {
+                        try {
+                            nrOfRows.set(sqlWriter.writeResultSet(resultSet, out, logger, rowCallback));
+                        } catch (Exception e) {
+                            throw new ProcessException("Error during database query or conversion of records.", e);
+                        }
+                    });
+
+                    if (nrOfRows.get() == 0) {
+                        partitionSession.remove(flowFile);
+                        break;
+                    }
+
+                    final Map<String, String> attributesToAdd = new HashMap<>(sqlWriter.getAttributesToAdd());
+                    attributesToAdd.put(RESULT_ROW_COUNT, String.valueOf(nrOfRows.get()));
+                    attributesToAdd.put(RESULT_TABLENAME, tableName);
+                    flowFiles.add(partitionSession.putAllAttributes(flowFile, attributesToAdd));
+                    sqlWriter.updateCounters(partitionSession);
+
+                    // Without Max Rows Per Flow File the result set has been entirely fetched into a single FlowFile
+                    if (maxRowsPerFlowFile == 0 || nrOfRows.get() < maxRowsPerFlowFile) {
+                        break;
+                    }
+                }
+            } finally {
+                if (con.getAutoCommit() != originalAutoCommit) {
+                    con.setAutoCommit(originalAutoCommit);
+                }
+            }
+        } catch (final SQLException | RuntimeException e) {
+            partitionSession.rollback();
+            throw e;
+        }
+
+        return new PartitionResult(partitionSession, flowFiles);
+    }
+
+    /**
+     * Divides the range of values between the minimum and maximum into contiguous ranges of whole numbers, returning a WHERE clause condition for each range.
+     * The first range is open below and also matches null values, and the last range is open above, so that rows written outside the minimum and maximum
+     * after they were queried are still fetched. The number of ranges is reduced when there are fewer whole numbers than partitions, and a single null
+     * condition is returned when there is only one range.
+     */
+    static List<String> getPartitionClauses(final String partitionColumn, final BigDecimal minimumValue, final BigDecimal maximumValue, final int partitions) {
+        final BigInteger lowerBound = minimumValue.setScale(0, RoundingMode.FLOOR).toBigIntegerExact();
+        final BigInteger upperBound = maximumValue.setScale(0, RoundingMode.CEILING).toBigIntegerExact();
+        final BigInteger span = upperBound.subtract(lowerBound).add(BigInteger.ONE);
+        final BigInteger partitionCount = span.min(BigInteger.valueOf(partitions));
+        final BigInteger partitionWidth = span.add(partitionCount).subtract(BigInteger.ONE).divide(partitionCount);
+
+        final List<BigInteger> boundaries = new ArrayList<>();
+        for (BigInteger boundary = lowerBound.add(partitionWidth); boundary.compareTo(upperBound) <= 0; boundary = boundary.add(partitionWidth)) {
+            boundaries.add(boundary);
+        }
+        if (boundaries.isEmpty()) {
+            return Collections.singletonList(null);
+        }
+
+        final List<String> partitionClauses = new ArrayList<>();
+        partitionClauses.add("(" + partitionColumn + " IS NULL OR " + partitionColumn + " < " + boundaries.getFirst() + ")");
+        for (int i = 1; i < boundaries.size(); i++) {
+            partitionClauses.add("(" + partitionColumn + " >= " + boundaries.get(i - 1) + " AND " + partitionColumn + " < " + boundaries.get(i) + ")");
+        }
+        partitionClauses.add("(" + partitionColumn + " >= " + boundaries.getLast() + ")");
+        return partitionClauses;
+    }
+
+    private record PartitionResult(ProcessSession session, List<FlowFile> flowFiles) {
+    }
+
     public class MaxValueResultSetRowCollector implements JdbcCommon.ResultSetRowCallback {
         DatabaseAdapter dbAdapter;
         final Map<String, String> newColMap;
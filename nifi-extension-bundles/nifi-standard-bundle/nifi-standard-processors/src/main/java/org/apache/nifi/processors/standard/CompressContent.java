@@ -25,8 +25,10 @@ import lzma.streams.LzmaInputStream;
 import lzma.streams.LzmaOutputStream;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
 import org.apache.nifi.annotation.behavior.InputRequirement;
@@ -42,6 +44,8 @@ import org.apache.nifi.annotation.documentation.MultiProcessorUseCase;
 import org.apache.nifi.annotation.documentation.ProcessorConfiguration;
 import org.apache.nifi.annotation.documentation.Tags;
 import org.apache.nifi.annotation.documentation.UseCase;
+import org.apache.nifi.annotation.lifecycle.OnScheduled;
+import org.apache.nifi.annotation.lifecycle.OnStopped;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
@@ -49,11 +53,18 @@ import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processor.AbstractProcessor;
+import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.io.StreamCallback;
+import org.apache.nifi.processor.util.StandardValidators;
+import org.apache.nifi.processors.standard.util.ParallelBlockCompressionOutputStream;
+import org.apache.nifi.processors.standard.util.ParallelBlockCompressionOutputStream.BlockCompressor;
+import org.apache.nifi.processors.standard.util.ParallelFrameDecompressionInputStream;
+import org.apache.nifi.processors.standard.util.ParallelFrameDecompressionInputStream.FrameDecompressor;
+import org.apache.nifi.processors.standard.util.ParallelFrameDecompressionInputStream.FrameFormat;
 import org.apache.nifi.stream.io.GZIPOutputStream;
 import org.apache.nifi.util.StopWatch;
 import org.tukaani.xz.LZMA2Options;
@@ -76,6 +87,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.Deflater;
@@ -149,6 +162,8 @@ public class CompressContent extends AbstractProcessor {
     public static final String MODE_COMPRESS = "compress";
     public static final String MODE_DECOMPRESS = "decompress";
 
+    private static final long MAXIMUM_COMPRESSION_BLOCK_SIZE = 64 * 1024 * 1024;
+
     public static final PropertyDescriptor COMPRESSION_FORMAT = new PropertyDescriptor.Builder()
         .name("Compression Format")
         .description("The compression format to use. Valid values are: GZIP, Deflate, ZSTD, BZIP2, XZ-LZMA2, LZMA, Brotli, Snappy, Snappy Hadoop, Snappy Framed, and LZ4-Framed")
@@ -178,6 +193,32 @@ public class CompressContent extends AbstractProcessor {
         .dependsOn(MODE, MODE_COMPRESS)
         .build();
 
+    public static final PropertyDescriptor COMPRESSION_THREADS = new PropertyDescriptor.Builder()
+        .name("Compression Threads")
+        .description("The number of threads used to compress blocks of content concurrently when using gzip, bzip2, zstd or lz4-framed compression. "
+            + "Each block is compressed independently and written as a complete gzip member, bzip2 stream, zstd frame or LZ4 frame, "
+            + "so the result is a standard concatenated stream. When decompressing zstd or lz4-framed content, frames are located from their "
+            + "block headers and decompressed concurrently. Gzip and bzip2 content is always decompressed on the calling thread, since "
+            + "their streams do not record compressed sizes. A value of 1 compresses or decompresses content as a single stream on the calling thread.")
+        .required(true)
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("1")
+        .dependsOn(COMPRESSION_FORMAT, COMPRESSION_FORMAT_ATTRIBUTE, COMPRESSION_FORMAT_GZIP, COMPRESSION_FORMAT_BZIP2,
+                   COMPRESSION_FORMAT_LZ4_FRAMED, COMPRESSION_FORMAT_ZSTD)
+        .build();
+
+    public static final PropertyDescriptor COMPRESSION_BLOCK_SIZE = new PropertyDescriptor.Builder()
+        .name("Compression Block Size")
+        .description("The amount of uncompressed content in each independently compressed block when using more than one Compression Thread. "
+            + "When decompressing, frames are decompressed concurrently while their compressed and decompressed sizes fit within the block size, "
+            + "and larger frames are decompressed on the calling thread. Larger blocks compress slightly better, while the memory used is up to "
+            + "twice the number of threads multiplied by twice the block size. The block size is limited to 64 MB.")
+        .required(true)
+        .addValidator(StandardValidators.createDataSizeBoundsValidator(1024, MAXIMUM_COMPRESSION_BLOCK_SIZE))
+        .defaultValue("1 MB")
+        .dependsOn(COMPRESSION_THREADS)
+        .build();
+
     public static final PropertyDescriptor UPDATE_FILENAME = new PropertyDescriptor.Builder()
         .name("Update Filename")
         .description("If true, will remove the filename extension when decompressing data (only if the extension indicates the appropriate "
@@ -199,6 +240,8 @@ public class CompressContent extends AbstractProcessor {
     private final List<PropertyDescriptor> properties = List.of(MODE,
         COMPRESSION_FORMAT,
         COMPRESSION_LEVEL,
+        COMPRESSION_THREADS,
+        COMPRESSION_BLOCK_SIZE,
         UPDATE_FILENAME);
 
     private final Set<Relationship> relationships = Set.of(REL_SUCCESS,
@@ -219,6 +262,9 @@ public class CompressContent extends AbstractProcessor {
         Map.entry("application/zstd", COMPRESSION_FORMAT_ZSTD),
         Map.entry("application/x-brotli", COMPRESSION_FORMAT_BROTLI));
 
+    private volatile ExecutorService compressionExecutor;
+    private volatile int compressionBlockSize;
+    private volatile int maximumPendingBlocks;
 
     @Override
     public Set<Relationship> getRelationships() {
@@ -248,6 +294,25 @@ public class CompressContent extends AbstractProcessor {
         return validationResults;
     }
 
+    @OnScheduled
+    public void onScheduled(final ProcessContext context) {
+        final int compressionThreads = context.getProperty(COMPRESSION_THREADS).asInteger();
+        if (compressionThreads > 1) {
+            compressionExecutor = new ForkJoinPool(compressionThreads);
+            compressionBlockSize = context.getProperty(COMPRESSION_BLOCK_SIZE).asDataSize(DataUnit.B).intValue();
+            // Pending blocks are limited to twice the number of threads to keep workers busy while bounding memory
+            maximumPendingBlocks = compressionThreads * 2;
+        }
+    }
+
+    @OnStopped
+    public void onStopped() {
+        if (compressionExecutor != null) {
+            compressionExecutor.shutdownNow();
+            compressionExecutor = null;
+        }
+    }
+
     @Override
     public void onTrigger(final ProcessContext context, final ProcessSession session) {
         FlowFile flowFile = session.get();
@@ -311,8 +376,8 @@ public class CompressContent extends AbstractProcessor {
 
                             switch (compressionFormat.toLowerCase()) {
                                 case COMPRESSION_FORMAT_GZIP: {
-                                    int compressionLevel = context.getProperty(COMPRESSION_LEVEL).asInteger();
-                                    compressionOut = new GZIPOutputStream(bufferedOut, compressionLevel);
+                                    final int compressionLevel = context.getProperty(COMPRESSION_LEVEL).asInteger();
+                                    compressionOut = createCompressionOutputStream(bufferedOut, out -> new GZIPOutputStream(out, compressionLevel));
                                     mimeTypeRef.set("application/gzip");
                                     break;
                                 }
@@ -345,11 +410,11 @@ public class CompressContent extends AbstractProcessor {
                                     break;
                                 case COMPRESSION_FORMAT_LZ4_FRAMED:
                                     mimeTypeRef.set("application/x-lz4-framed");
-                                    compressionOut = new CompressorStreamFactory().createCompressorOutputStream(compressionFormat.toLowerCase(), bufferedOut);
+                                    compressionOut = createCompressionOutputStream(bufferedOut, FramedLZ4CompressorOutputStream::new);
                                     break;
                                 case COMPRESSION_FORMAT_ZSTD:
                                     final int zstdCompressionLevel = context.getProperty(COMPRESSION_LEVEL).asInteger() * 2;
-                                    compressionOut = new ZstdCompressorOutputStream(bufferedOut, zstdCompressionLevel);
+                                    compressionOut = createCompressionOutputStream(bufferedOut, out -> new ZstdCompressorOutputStream(out, zstdCompressionLevel));
                                     mimeTypeRef.set("application/zstd");
                                     break;
                                 case COMPRESSION_FORMAT_BROTLI: {
@@ -361,6 +426,9 @@ public class CompressContent extends AbstractProcessor {
                                     break;
                                 }
                                 case COMPRESSION_FORMAT_BZIP2:
+                                    mimeTypeRef.set("application/x-bzip2");
+                                    compressionOut = createCompressionOutputStream(bufferedOut, BZip2CompressorOutputStream::new);
+                                    break;
                                 default:
                                     mimeTypeRef.set("application/x-bzip2");
                                     compressionOut = new CompressorStreamFactory().createCompressorOutputStream(compressionFormat.toLowerCase(), bufferedOut);
@@ -379,8 +447,9 @@ public class CompressContent extends AbstractProcessor {
                                 case COMPRESSION_FORMAT_SNAPPY -> new SnappyInputStream(bufferedIn);
                                 case COMPRESSION_FORMAT_SNAPPY_HADOOP -> throw new Exception("Cannot decompress snappy-hadoop.");
                                 case COMPRESSION_FORMAT_SNAPPY_FRAMED -> new SnappyFramedInputStream(bufferedIn);
-                                case COMPRESSION_FORMAT_LZ4_FRAMED -> new FramedLZ4CompressorInputStream(bufferedIn, true);
-                                case COMPRESSION_FORMAT_ZSTD -> new ZstdCompressorInputStream(bufferedIn);
+                                case COMPRESSION_FORMAT_LZ4_FRAMED ->
+                                    createDecompressionInputStream(bufferedIn, FrameFormat.LZ4, in -> new FramedLZ4CompressorInputStream(in, true));
+                                case COMPRESSION_FORMAT_ZSTD -> createDecompressionInputStream(bufferedIn, FrameFormat.ZSTD, ZstdCompressorInputStream::new);
                                 case COMPRESSION_FORMAT_BROTLI -> {
                                     Brotli4jLoader.ensureAvailability();
                                     yield new BrotliInputStream(bufferedIn);
@@ -435,6 +504,24 @@ public class CompressContent extends AbstractProcessor {
         }
     }
 
+    private OutputStream createCompressionOutputStream(final OutputStream out, final BlockCompressor blockCompressor) throws IOException {
+        final ExecutorService executor = compressionExecutor;
+        if (executor == null) {
+            return blockCompressor.create(out);
+        }
+
+        return new ParallelBlockCompressionOutputStream(out, executor, blockCompressor, compressionBlockSize, maximumPendingBlocks);
+    }
+
+    private InputStream createDecompressionInputStream(final InputStream in, final FrameFormat frameFormat, final FrameDecompressor frameDecompressor) throws IOException {
+        final ExecutorService executor = compressionExecutor;
+        if (executor == null) {
+            return frameDecompressor.create(in);
+        }
+
+        return new ParallelFrameDecompressionInputStream(in, executor, frameFormat, frameDecompressor, compressionBlockSize, maximumPendingBlocks);
+    }
+
     private void closeQuietly(final Closeable closeable) {
         if (closeable != null) {
             try {
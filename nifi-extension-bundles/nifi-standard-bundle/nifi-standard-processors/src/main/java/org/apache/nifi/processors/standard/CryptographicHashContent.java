@@ -18,9 +18,13 @@
 package org.apache.nifi.processors.standard;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.nifi.annotation.behavior.InputRequirement;
@@ -30,6 +34,7 @@ import org.apache.nifi.annotation.behavior.WritesAttribute;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
 import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.components.ValidationResult;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processor.AbstractProcessor;
@@ -44,7 +49,7 @@ import org.apache.nifi.processors.standard.hash.HashService;
 
 @SideEffectFree
 @SupportsBatching
-@Tags({"content", "hash", "sha", "blake2", "md5", "cryptography"})
+@Tags({"content", "hash", "sha", "blake2", "md5", "cryptography", "crc32", "xxhash"})
 @InputRequirement(InputRequirement.Requirement.INPUT_REQUIRED)
 @CapabilityDescription("Calculates a cryptographic hash value for the flowfile content using the given algorithm and writes it to an output attribute. Please refer to https://csrc.nist.gov/Projects/Hash-Functions/NIST-Policy-on-Hash-Functions for help to decide which algorithm to use.")
 @WritesAttribute(attribute = "content_<algorithm>", description = "This processor adds an attribute whose value is the result of "
@@ -73,6 +78,27 @@ public class CryptographicHashContent extends AbstractProcessor {
             .addValidator(StandardValidators.NON_EMPTY_VALIDATOR)
             .build();
 
+    static final PropertyDescriptor ADDITIONAL_HASH_ALGORITHMS = new PropertyDescriptor.Builder()
+            .name("additional_hash_algorithms")
+            .displayName("Additional Hash Algorithms")
+            .description("Comma-separated list of additional algorithms calculated in the same pass over the content as the Hash Algorithm. " +
+                    "Supports the Hash Algorithm names as well as the non-cryptographic checksums CRC32, CRC32C and XXH64, " +
+                    "which are suitable for integrity checks and deduplication keys but must not be used for security purposes. " +
+                    "Each value is written to an attribute named using the algorithm, e.g. 'content_XXH64'.")
+            .required(false)
+            .addValidator((subject, input, validationContext) -> {
+                final List<String> unsupportedNames = getAlgorithmNames(input).stream()
+                        .filter(algorithmName -> HashService.getCanonicalAlgorithmName(algorithmName) == null)
+                        .toList();
+                return new ValidationResult.Builder()
+                        .subject(subject)
+                        .input(input)
+                        .valid(unsupportedNames.isEmpty())
+                        .explanation("Unsupported algorithms " + unsupportedNames)
+                        .build();
+            })
+            .build();
+
     public static final Relationship REL_SUCCESS = new Relationship.Builder()
             .name("success")
             .description("Used for flowfiles that have a hash value added")
@@ -97,6 +123,7 @@ public class CryptographicHashContent extends AbstractProcessor {
         final List<PropertyDescriptor> _properties = new ArrayList<>();
         _properties.add(FAIL_WHEN_EMPTY);
         _properties.add(HASH_ALGORITHM);
+        _properties.add(ADDITIONAL_HASH_ALGORITHMS);
         properties = Collections.unmodifiableList(_properties);
     }
 
@@ -133,6 +160,12 @@ public class CryptographicHashContent extends AbstractProcessor {
             }
         }
 
+        final List<String> additionalAlgorithmNames = getAlgorithmNames(context.getProperty(ADDITIONAL_HASH_ALGORITHMS).getValue());
+        if (!additionalAlgorithmNames.isEmpty()) {
+            hashMultipleAlgorithms(flowFile, session, algorithmName, additionalAlgorithmNames);
+            return;
+        }
+
         // Generate a hash with the configured algorithm for the content
         // and create a new attribute with the configured name
         logger.debug("Generating {} hash of content", algorithmName);
@@ -158,4 +191,42 @@ public class CryptographicHashContent extends AbstractProcessor {
             session.transfer(flowFile, REL_FAILURE);
         }
     }
+
+    private void hashMultipleAlgorithms(FlowFile flowFile, final ProcessSession session, final String algorithmName, final List<String> additionalAlgorithmNames) {
+        final ComponentLog logger = getLogger();
+
+        final Set<String> algorithmNames = new LinkedHashSet<>();
+        algorithmNames.add(algorithmName);
+        algorithmNames.addAll(additionalAlgorithmNames);
+        logger.debug("Generating {} hashes of content", algorithmNames);
+
+        final AtomicReference<Map<String, String>> hashValuesHolder = new AtomicReference<>(null);
+        try {
+            // Read the content once, updating every algorithm with each buffer read
+            session.read(flowFile, in -> hashValuesHolder.set(HashService.hashValuesStreaming(algorithmNames, in)));
+
+            final Map<String, String> attributes = new LinkedHashMap<>();
+            hashValuesHolder.get().forEach((name, hashValue) -> attributes.put("content_" + name, hashValue));
+
+            flowFile = session.putAllAttributes(flowFile, attributes);
+            logger.info("Successfully added attributes {} to {}; routing to success", attributes, flowFile);
+
+            session.getProvenanceReporter().modifyAttributes(flowFile);
+            session.transfer(flowFile, REL_SUCCESS);
+        } catch (ProcessException e) {
+            logger.error("Routing to failure since failed to process {}", flowFile, e);
+            session.transfer(flowFile, REL_FAILURE);
+        }
+    }
+
+    private static List<String> getAlgorithmNames(final String algorithmNames) {
+        if (algorithmNames == null || algorithmNames.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(algorithmNames.split(","))
+                .map(String::trim)
+                .filter(algorithmName -> !algorithmName.isEmpty())
+                .toList();
+    }
 }
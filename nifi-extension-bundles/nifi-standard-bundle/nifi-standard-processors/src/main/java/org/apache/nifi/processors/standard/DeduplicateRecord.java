@@ -39,6 +39,7 @@ import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
 import org.apache.nifi.components.Validator;
 import org.apache.nifi.distributed.cache.client.DistributedMapCacheClient;
+import org.apache.nifi.distributed.cache.client.MembershipFilterService;
 import org.apache.nifi.distributed.cache.client.Serializer;
 import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.flowfile.FlowFile;
@@ -94,7 +95,7 @@ import static org.apache.commons.codec.binary.StringUtils.getBytesUtf8;
         "filter", "hash", "dupe", "duplicate", "dedupe"})
 @CapabilityDescription("This processor de-duplicates individual records within a record set. " +
         "It can operate on a per-file basis using an in-memory hashset or bloom filter. " +
-        "When configured with a distributed map cache, it de-duplicates records across multiple files.")
+        "When configured with a distributed map cache or a membership filter service, it de-duplicates records across multiple files.")
 @WritesAttribute(attribute = DeduplicateRecord.RECORD_COUNT_ATTRIBUTE, description = "Number of records written to the destination FlowFile.")
 @DynamicProperty(
         name = "Name of the property.",
@@ -104,6 +105,7 @@ import static org.apache.commons.codec.binary.StringUtils.getBytesUtf8;
 @SeeAlso(classNames = {
         "org.apache.nifi.distributed.cache.client.DistributedMapCacheClientService",
         "org.apache.nifi.distributed.cache.server.map.DistributedMapCacheServer",
+        "org.apache.nifi.distributed.cache.server.filter.ScalableBloomFilterService",
         "org.apache.nifi.processors.standard.DetectDuplicate"
 })
 public class DeduplicateRecord extends AbstractProcessor {
@@ -160,7 +162,7 @@ public class DeduplicateRecord extends AbstractProcessor {
             .displayName("Deduplication Strategy")
             .description("The strategy to use for detecting and routing duplicate records. The option for detecting " +
                     "duplicates across a single FlowFile operates in-memory, whereas detection spanning multiple FlowFiles " +
-                    "utilises a distributed map cache.")
+                    "utilises a distributed map cache or a membership filter service.")
             .allowableValues(OPTION_SINGLE_FILE, OPTION_MULTIPLE_FILES)
             .defaultValue(OPTION_SINGLE_FILE.getValue())
             .required(true)
@@ -169,7 +171,7 @@ public class DeduplicateRecord extends AbstractProcessor {
     static final PropertyDescriptor DISTRIBUTED_MAP_CACHE = new PropertyDescriptor.Builder()
             .name("distributed-map-cache")
             .displayName("Distributed Map Cache client")
-            .description("This property is required when the deduplication strategy is set to 'multiple files.' The map " +
+            .description("This property or Membership Filter Service is required when the deduplication strategy is set to 'multiple files.' The map " +
                     "cache will for each record, atomically check whether the cache key exists and if not, set it.")
             .identifiesControllerService(DistributedMapCacheClient.class)
             .required(false)
@@ -177,6 +179,17 @@ public class DeduplicateRecord extends AbstractProcessor {
             .dependsOn(DEDUPLICATION_STRATEGY, OPTION_MULTIPLE_FILES)
             .build();
 
+    static final PropertyDescriptor MEMBERSHIP_FILTER_SERVICE = new PropertyDescriptor.Builder()
+            .name("membership-filter-service")
+            .displayName("Membership Filter Service")
+            .description("This property or Distributed Map Cache client is required when the deduplication strategy is set to 'multiple files.' " +
+                    "The membership filter will for each record, add the cache key and determine whether the cache key might have been added previously. " +
+                    "Membership filters use constant memory for large numbers of keys at the expense of occasional false positive duplicates.")
+            .identifiesControllerService(MembershipFilterService.class)
+            .required(false)
+            .dependsOn(DEDUPLICATION_STRATEGY, OPTION_MULTIPLE_FILES)
+            .build();
+
     static final PropertyDescriptor CACHE_IDENTIFIER = new PropertyDescriptor.Builder()
             .name("cache-identifier")
             .displayName("Cache Identifier")
@@ -298,6 +311,7 @@ public class DeduplicateRecord extends AbstractProcessor {
         final List<PropertyDescriptor> descriptors = new ArrayList<>();
         descriptors.add(DEDUPLICATION_STRATEGY);
         descriptors.add(DISTRIBUTED_MAP_CACHE);
+        descriptors.add(MEMBERSHIP_FILTER_SERVICE);
         descriptors.add(CACHE_IDENTIFIER);
         descriptors.add(PUT_CACHE_IDENTIFIER);
         descriptors.add(RECORD_READER);
@@ -360,11 +374,19 @@ public class DeduplicateRecord extends AbstractProcessor {
                                 .valid(false).build());
             }
         } else if (!useSingleFile) {
-            if (!context.getProperty(DISTRIBUTED_MAP_CACHE).isSet()) {
+            final boolean mapCacheSet = context.getProperty(DISTRIBUTED_MAP_CACHE).isSet();
+            final boolean membershipFilterSet = context.getProperty(MEMBERSHIP_FILTER_SERVICE).isSet();
+            if (!mapCacheSet && !membershipFilterSet) {
                 validationResults.add(new ValidationResult.Builder()
                         .subject(DISTRIBUTED_MAP_CACHE.getName())
-                        .explanation("Multiple files deduplication was chosen, but a distributed map cache client was " +
-                                "not configured")
+                        .explanation("Multiple files deduplication was chosen, but a distributed map cache client or " +
+                                "membership filter service was not configured")
+                        .valid(false).build());
+            } else if (mapCacheSet && membershipFilterSet) {
+                validationResults.add(new ValidationResult.Builder()
+                        .subject(MEMBERSHIP_FILTER_SERVICE.getName())
+                        .explanation("Multiple files deduplication supports either a distributed map cache client or " +
+                                "a membership filter service but not both")
                         .valid(false).build());
             }
         }
@@ -373,6 +395,7 @@ public class DeduplicateRecord extends AbstractProcessor {
     }
 
     private DistributedMapCacheClient mapCacheClient;
+    private MembershipFilterService membershipFilterService;
     private RecordReaderFactory readerFactory;
     private RecordSetWriterFactory writerFactory;
 
@@ -392,6 +415,12 @@ public class DeduplicateRecord extends AbstractProcessor {
             mapCacheClient = context.getProperty(DISTRIBUTED_MAP_CACHE).asControllerService(DistributedMapCacheClient.class);
         }
 
+        if (context.getProperty(MEMBERSHIP_FILTER_SERVICE).isSet()) {
+            membershipFilterService = context.getProperty(MEMBERSHIP_FILTER_SERVICE).asControllerService(MembershipFilterService.class);
+        } else {
+            membershipFilterService = null;
+        }
+
         readerFactory = context.getProperty(RECORD_READER).asControllerService(RecordReaderFactory.class);
         writerFactory = context.getProperty(RECORD_WRITER).asControllerService(RecordSetWriterFactory.class);
 
@@ -412,6 +441,8 @@ public class DeduplicateRecord extends AbstractProcessor {
                     filterCapacity,
                     context.getProperty(BLOOM_FILTER_FPP).asDouble()
             ));
+        } else if (membershipFilterService != null) {
+            return new MembershipFilterServiceWrapper(membershipFilterService);
         } else {
             return new DistributedMapCacheClientWrapper(mapCacheClient, context.getProperty(PUT_CACHE_IDENTIFIER).asBoolean());
         }
@@ -457,6 +488,8 @@ public class DeduplicateRecord extends AbstractProcessor {
 
             nonDuplicatesWriter.beginRecordSet();
             duplicatesWriter.beginRecordSet();
+            final List<Record> batchRecords = new ArrayList<>(FILTER_BATCH_SIZE);
+            final List<String> batchHashes = new ArrayList<>(FILTER_BATCH_SIZE);
             Record record;
 
             while ((record = reader.nextRecord()) != null) {
@@ -482,15 +515,15 @@ public class DeduplicateRecord extends AbstractProcessor {
                     recordHash = context.getProperty(CACHE_IDENTIFIER).evaluateAttributeExpressions(flowFile, additional).getValue();
                 }
 
-                if (filter.contains(recordHash)) {
-                    duplicatesWriter.write(record);
-                } else {
-                    nonDuplicatesWriter.write(record);
-                    filter.put(recordHash);
+                batchRecords.add(record);
+                batchHashes.add(recordHash);
+                if (batchRecords.size() == FILTER_BATCH_SIZE) {
+                    writeBatch(filter, batchRecords, batchHashes, nonDuplicatesWriter, duplicatesWriter);
                 }
 
                 index++;
             }
+            writeBatch(filter, batchRecords, batchHashes, nonDuplicatesWriter, duplicatesWriter);
 
             duplicateMimeType = duplicatesWriter.getMimeType();
             nonDuplicateMimeType = nonDuplicatesWriter.getMimeType();
@@ -546,6 +579,25 @@ public class DeduplicateRecord extends AbstractProcessor {
         }
     }
 
+    private void writeBatch(final FilterWrapper filter, final List<Record> records, final List<String> hashes,
+                            final RecordSetWriter nonDuplicatesWriter, final RecordSetWriter duplicatesWriter) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        final boolean[] duplicates = filter.containsAll(hashes);
+        for (int i = 0; i < duplicates.length; i++) {
+            if (duplicates[i]) {
+                duplicatesWriter.write(records.get(i));
+            } else {
+                nonDuplicatesWriter.write(records.get(i));
+            }
+        }
+
+        records.clear();
+        hashes.clear();
+    }
+
     private String evaluateKeyFromDynamicProperties(ProcessContext context, Record record, FlowFile flowFile) {
         final List<String> fieldValues = new ArrayList<>();
         for (final PropertyDescriptor propertyDescriptor : dynamicProperties) {
@@ -572,6 +624,24 @@ public class DeduplicateRecord extends AbstractProcessor {
         public abstract boolean contains(String value);
 
         public abstract void put(String value);
+
+        /**
+         * Check each value in order and put values not already contained
+         *
+         * @param values Values to check and put
+         * @return Array indicating whether each value was already contained
+         */
+        public boolean[] containsAll(final List<String> values) {
+            final boolean[] contained = new boolean[values.size()];
+            for (int i = 0; i < contained.length; i++) {
+                final String value = values.get(i);
+                contained[i] = contains(value);
+                if (!contained[i]) {
+                    put(value);
+                }
+            }
+            return contained;
+        }
     }
 
     private static class HashSetFilterWrapper extends FilterWrapper {
@@ -641,5 +711,41 @@ public class DeduplicateRecord extends AbstractProcessor {
         }
     }
 
+    private static class MembershipFilterServiceWrapper extends FilterWrapper {
+        private final MembershipFilterService filterService;
+
+        public MembershipFilterServiceWrapper(final MembershipFilterService filterService) {
+            this.filterService = filterService;
+        }
+
+        @Override
+        public boolean contains(String value) {
+            return !filterService.put(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void put(String value) {
+            // Do nothing as the key is checked and put to the filter atomically in the `contains` method.
+        }
+
+        @Override
+        public boolean[] containsAll(final List<String> values) {
+            final List<byte[]> keys = new ArrayList<>(values.size());
+            for (final String value : values) {
+                keys.add(value.getBytes(StandardCharsets.UTF_8));
+            }
+
+            // Keys are checked and put in order, so that repeated keys within the batch are reported as contained
+            final boolean[] contained = filterService.putAll(keys);
+            for (int i = 0; i < contained.length; i++) {
+                contained[i] = !contained[i];
+            }
+            return contained;
+        }
+    }
+
+    // Number of records checked against the filter together, allowing Membership Filter Services to add keys in bulk
+    private static final int FILTER_BATCH_SIZE = 1000;
+
     private static final Serializer<String> STRING_SERIALIZER = (value, output) -> output.write(value.getBytes(StandardCharsets.UTF_8));
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.nifi.processors.standard;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
@@ -37,6 +38,7 @@ import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
 import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.json.StreamingJsonPathEvaluator;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.processor.ProcessContext;
@@ -151,6 +153,7 @@ public class EvaluateJsonPath extends AbstractJsonPathProcessor {
     private volatile String pathNotFound;
     private volatile String nullDefaultValue;
     private volatile Configuration jsonPathConfiguration;
+    private volatile StreamingJsonPathEvaluator<String> streamingEvaluator;
 
     @Override
     protected void init(final ProcessorInitializationContext context) {
@@ -255,7 +258,14 @@ public class EvaluateJsonPath extends AbstractJsonPathProcessor {
         nullDefaultValue = NULL_REPRESENTATION_MAP.get(processContext.getProperty(NULL_VALUE_DEFAULT_REPRESENTATION).getValue());
 
         final int maxStringLength = processContext.getProperty(MAX_STRING_LENGTH).asDataSize(DataUnit.B).intValue();
-        jsonPathConfiguration = createConfiguration(maxStringLength);
+        final ObjectMapper objectMapper = createObjectMapper(maxStringLength);
+        jsonPathConfiguration = createConfiguration(objectMapper);
+
+        // Expressions limited to field names and array indexes are evaluated together while streaming the content instead of parsing the whole document
+        final Map<String, JsonPath> jsonPaths = processContext.getProperties().entrySet().stream()
+                .filter(e -> e.getKey().isDynamic())
+                .collect(Collectors.toMap(e -> e.getKey().getName(), e -> JsonPath.compile(e.getValue())));
+        streamingEvaluator = createStreamingEvaluator(jsonPaths, objectMapper);
     }
 
     @OnUnscheduled
@@ -272,9 +282,15 @@ public class EvaluateJsonPath extends AbstractJsonPathProcessor {
 
         final ComponentLog logger = getLogger();
 
-        DocumentContext documentContext;
+        final StreamingJsonPathEvaluator<String> evaluator = streamingEvaluator;
+        DocumentContext documentContext = null;
+        Map<String, Object> evaluatedResults = null;
         try {
-            documentContext = validateAndEstablishJsonContext(processSession, flowFile, jsonPathConfiguration);
+            if (evaluator == null) {
+                documentContext = validateAndEstablishJsonContext(processSession, flowFile, jsonPathConfiguration);
+            } else {
+                evaluatedResults = evaluateStreaming(processSession, flowFile, evaluator);
+            }
         } catch (InvalidJsonException e) {
             logger.error("FlowFile {} did not have valid JSON content.", flowFile);
             processSession.transfer(flowFile, REL_FAILURE);
@@ -299,7 +315,7 @@ public class EvaluateJsonPath extends AbstractJsonPathProcessor {
 
                 Object result;
                 try {
-                    final Object potentialResult = documentContext.read(jsonPathExp);
+                    final Object potentialResult = documentContext == null ? readEvaluatedResult(evaluatedResults, jsonPathAttrKey, jsonPathExp) : documentContext.read(jsonPathExp);
                     if (returnType.equals(RETURN_TYPE_SCALAR) && !isJsonScalar(potentialResult)) {
                         logger.error("Unable to return a scalar value for the expression {} for FlowFile {}. Evaluated value was {}. Transferring to {}.",
                                 jsonPathExp.getPath(), flowFile.getId(), potentialResult.toString(), REL_FAILURE.getName());
@@ -346,4 +362,11 @@ public class EvaluateJsonPath extends AbstractJsonPathProcessor {
             attributeToJsonPathEntrySetQueue.offer(attributeJsonPathEntries);
         }
     }
+
+    private Object readEvaluatedResult(final Map<String, Object> evaluatedResults, final String jsonPathAttrKey, final JsonPath jsonPathExp) {
+        if (!evaluatedResults.containsKey(jsonPathAttrKey)) {
+            throw new PathNotFoundException("No results for path: " + jsonPathExp.getPath());
+        }
+        return evaluatedResults.get(jsonPathAttrKey);
+    }
 }
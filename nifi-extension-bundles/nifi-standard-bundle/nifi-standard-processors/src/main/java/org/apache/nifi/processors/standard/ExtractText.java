@@ -41,6 +41,7 @@ import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.io.InputStreamCallback;
 import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.stream.io.StreamUtils;
+import org.apache.nifi.util.search.regex.MultiPatternMatcher;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -262,6 +263,7 @@ public class ExtractText extends AbstractProcessor {
 
     private final BlockingQueue<byte[]> bufferQueue = new LinkedBlockingQueue<>();
     private final AtomicReference<Map<String, Pattern>> compiledPattersMapRef = new AtomicReference<>();
+    private final AtomicReference<MultiPatternMatcher<String>> multiPatternMatcherRef = new AtomicReference<>();
 
 
     @Override
@@ -362,6 +364,7 @@ public class ExtractText extends AbstractProcessor {
             compiledPatternsMap.put(entry.getKey().getName(), pattern);
         }
         compiledPattersMapRef.set(compiledPatternsMap);
+        multiPatternMatcherRef.set(new MultiPatternMatcher<>(compiledPatternsMap));
 
         for (int i = 0; i < context.getMaxConcurrentTasks(); i++) {
             final int maxBufferSize = context.getProperty(MAX_BUFFER_SIZE).asDataSize(DataUnit.B).intValue();
@@ -411,12 +414,18 @@ public class ExtractText extends AbstractProcessor {
         final Map<String, String> regexResults = new HashMap<>();
 
         final Map<String, Pattern> patternMap = compiledPattersMapRef.get();
+        // Scan the content once for literals required by the regular expressions to skip evaluating those that cannot match
+        final Set<String> candidates = multiPatternMatcherRef.get().getCandidates(contentString);
 
         final int startGroupIdx = context.getProperty(INCLUDE_CAPTURE_GROUP_ZERO).asBoolean() ? 0 : 1;
         final boolean useNamedGroups = context.getProperty(ENABLE_NAMED_GROUPS).isSet()
             ? context.getProperty(ENABLE_NAMED_GROUPS).asBoolean() : false;
 
         for (final Map.Entry<String, Pattern> entry : patternMap.entrySet()) {
+            if (!candidates.contains(entry.getKey())) {
+                continue;
+            }
+
             final String baseKey = entry.getKey();
             final String patternString = entry.getValue().toString();
             final String[] namedGroups = getNameGroups(patternString).toArray(new String[0]);
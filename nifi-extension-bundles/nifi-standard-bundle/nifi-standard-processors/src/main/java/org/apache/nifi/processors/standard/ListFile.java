@@ -52,11 +52,12 @@ import org.apache.nifi.util.Tuple;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileStore;
-import java.nio.file.FileVisitOption;
-import java.nio.file.FileVisitResult;
-import java.nio.file.FileVisitor;
+import java.nio.file.FileSystemLoopException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
@@ -75,15 +76,21 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -270,14 +277,41 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         .build();
 
 
+    public static final PropertyDescriptor LISTING_THREADS = new Builder()
+        .name("listing-threads")
+        .displayName("Directory Listing Threads")
+        .description("The number of threads used to list directories concurrently when 'Recurse Subdirectories' is true. Each thread lists a single directory at a time, " +
+            "so this also bounds the number of directories being listed at once. Increasing this value can considerably reduce the time taken to list large directory trees " +
+            "on network file systems, where each disk operation has high latency.")
+        .required(true)
+        .addValidator(POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("1")
+        .build();
+
+    public static final PropertyDescriptor SKIP_UNCHANGED_DIRECTORIES = new Builder()
+        .name("skip-unchanged-directories")
+        .displayName("Skip Unchanged Directories")
+        .description("Whether the files in a directory are skipped when the last modified time of the directory has not changed since a previous listing in which all of its files " +
+            "were older than the minimum timestamp to list. Subdirectories of a skipped directory are still listed. This avoids retrieving the attributes of files that cannot be " +
+            "listed again, but a file that is modified in place, without a file being created, renamed or deleted in its directory, will not be listed until its directory changes. " +
+            "The index of unchanged directories is held in memory and is cleared whenever the Processor is started.")
+        .required(true)
+        .allowableValues("true", "false")
+        .defaultValue("false")
+        .build();
+
+
     private List<PropertyDescriptor> properties;
     private Set<Relationship> relationships;
 
+    private final Map<Path, DirectoryIndexEntry> directoryIndex = new ConcurrentHashMap<>();
+
     private volatile ScheduledExecutorService monitoringThreadPool;
     private volatile Future<?> monitoringFuture;
 
     private volatile boolean includeFileAttributes;
     private volatile PerformanceTracker performanceTracker;
+    private volatile ForkJoinPool listingPool;
     private volatile long performanceLoggingTimestamp = System.currentTimeMillis();
 
     public static final String FILE_CREATION_TIME_ATTRIBUTE = "file.creationTime";
@@ -315,6 +349,8 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         properties.add(MAX_TRACKED_FILES);
         properties.add(MAX_DISK_OPERATION_TIME);
         properties.add(MAX_LISTING_TIME);
+        properties.add(LISTING_THREADS);
+        properties.add(SKIP_UNCHANGED_DIRECTORIES);
         this.properties = Collections.unmodifiableList(properties);
 
         final Set<Relationship> relationships = new HashSet<>();
@@ -343,6 +379,7 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
     @OnScheduled
     public void onScheduled(final ProcessContext context) {
         includeFileAttributes = context.getProperty(INCLUDE_FILE_ATTRIBUTES).asBoolean();
+        directoryIndex.clear();
 
         final long maxDiskOperationMillis = context.getProperty(MAX_DISK_OPERATION_TIME).evaluateAttributeExpressions().asTimePeriod(TimeUnit.MILLISECONDS);
         final long maxListingMillis = context.getProperty(MAX_LISTING_TIME).evaluateAttributeExpressions().asTimePeriod(TimeUnit.MILLISECONDS);
@@ -358,6 +395,12 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         final long millisToKeepStats = TimeUnit.MINUTES.toMillis(15);
         final MonitorActiveTasks monitorTask = new MonitorActiveTasks(performanceTracker, getLogger(), maxDiskOperationMillis, maxListingMillis, millisToKeepStats);
         monitoringFuture = monitoringThreadPool.scheduleAtFixedRate(monitorTask, 15, 15, TimeUnit.SECONDS);
+
+        // Directories are listed on the thread that triggers the Processor unless more than one listing thread is configured
+        final int listingThreads = context.getProperty(LISTING_THREADS).asInteger();
+        if (listingThreads > 1 && context.getProperty(RECURSE).asBoolean()) {
+            listingPool = new ForkJoinPool(listingThreads);
+        }
     }
 
     @OnStopped
@@ -366,6 +409,11 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
             monitoringFuture.cancel(true);
         }
 
+        if (listingPool != null) {
+            listingPool.shutdownNow();
+            listingPool = null;
+        }
+
         final boolean trackPerformance = context.getProperty(TRACK_PERFORMANCE).asBoolean();
         if (trackPerformance) {
             logPerformance();
@@ -516,7 +564,6 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
             throws IOException {
         final Path basePath = new File(getPath(context)).toPath();
         final Boolean recurse = context.getProperty(RECURSE).asBoolean();
-        final Map<Path, BasicFileAttributes> lastModifiedMap = new HashMap<>();
 
         final BiPredicate<Path, BasicFileAttributes> fileFilter;
         final PerformanceTracker performanceTracker;
@@ -529,113 +576,19 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
             fileFilter = createFileFilter(context, performanceTracker, applyFilters, basePath);
         }
 
-        int maxDepth = recurse ? Integer.MAX_VALUE : 1;
-
-        final BiPredicate<Path, BasicFileAttributes> matcher = new BiPredicate<Path, BasicFileAttributes>() {
-            private long lastTimestamp = System.currentTimeMillis();
-
-            @Override
-            public boolean test(final Path path, final BasicFileAttributes attributes) {
-                if (!isScheduled() && listingMode == ListingMode.EXECUTION) {
-                    throw new ProcessorStoppedException();
-                }
-
-                final long now = System.currentTimeMillis();
-                final long timeToList = now - lastTimestamp;
-                lastTimestamp = now;
+        // The directory index is only consulted when listing for execution, since only then is the minimum timestamp known to exclude older files
+        final boolean skipUnchangedDirectories = listingMode == ListingMode.EXECUTION && applyFilters && minTimestamp != null
+                && context.getProperty(SKIP_UNCHANGED_DIRECTORIES).asBoolean();
 
-                final Path relativeDirectory = basePath.relativize(path).getParent();
-                final String relativePath = relativeDirectory == null ? "" : relativeDirectory.toString();
-                final String filename = path.getFileName().toString();
-                performanceTracker.acceptOperation(DiskOperation.RETRIEVE_NEXT_FILE_FROM_OS, relativePath, filename, timeToList);
-
-                final boolean isDirectory = attributes.isDirectory();
-                if (isDirectory) {
-                    performanceTracker.setActiveDirectory(relativePath);
-                }
-
-                final TimedOperationKey operationKey = performanceTracker.beginOperation(DiskOperation.FILTER, relativePath, filename);
-
-                try {
-                    final boolean matchesFilters = (minTimestamp == null || attributes.lastModifiedTime().toMillis() >= minTimestamp)
-                            && fileFilter.test(path, attributes);
-                    if (!isDirectory && (!applyFilters || matchesFilters)) {
-                        // We store the attributes for each Path we are returning in order to avoid
-                        // retrieving them again later when creating the FileInfo
-                        lastModifiedMap.put(path, attributes);
-
-                        return true;
-                    }
-
-                    return false;
-                } finally {
-                    performanceTracker.completeOperation(operationKey);
-
-                    if (TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - performanceLoggingTimestamp) >= 5) {
-                        logPerformance();
-                    }
-                }
-            }
-        };
+        final DirectoryWalker walker = new DirectoryWalker(basePath, recurse, minTimestamp, listingMode, applyFilters, fileFilter, performanceTracker,
+                skipUnchangedDirectories ? directoryIndex : null);
 
         try {
             final long start = System.currentTimeMillis();
-            final List<FileInfo> result = new LinkedList<>();
-
-            Files.walkFileTree(basePath, Collections.singleton(FileVisitOption.FOLLOW_LINKS), maxDepth, new FileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attributes) {
-                    if (Files.isReadable(dir)) {
-                        return FileVisitResult.CONTINUE;
-                    } else {
-                        getLogger().debug("The following directory is not readable: {}", dir);
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path path, final BasicFileAttributes attributes) {
-                    if (matcher.test(path, attributes)) {
-                        final File file = path.toFile();
-                        final BasicFileAttributes fileAttributes = lastModifiedMap.get(path);
-                        final FileInfo fileInfo = new FileInfo.Builder()
-                                .directory(false)
-                                .filename(file.getName())
-                                .fullPathFileName(file.getAbsolutePath())
-                                .lastModifiedTime(fileAttributes.lastModifiedTime().toMillis())
-                                .size(fileAttributes.size())
-                                .build();
-
-                        result.add(fileInfo);
-                    }
-
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFileFailed(final Path path, final IOException e) {
-                    if (e instanceof AccessDeniedException) {
-                        getLogger().debug("The following file is not readable: {}", path);
-                        return FileVisitResult.SKIP_SUBTREE;
-                    } else {
-                        getLogger().error("Error during visiting file {}", path, e);
-                        return FileVisitResult.TERMINATE;
-                    }
-                }
-
-                @Override
-                public FileVisitResult postVisitDirectory(final Path dir, final IOException e) {
-                    if (e != null) {
-                        getLogger().error("Error during visiting directory {}: {}", dir.toString(), e.getMessage(), e);
-                    }
-
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-
+            final List<FileInfo> result = walker.walk(listingPool);
             final long millis = System.currentTimeMillis() - start;
 
-            getLogger().debug("Took {} milliseconds to perform listing and gather {} entries", millis, result.size());
+            getLogger().debug("Took {} milliseconds to perform listing and gather {} entries ({} directories skipped as unchanged)", millis, result.size(), walker.getSkippedDirectories());
             return result;
         } catch (final ProcessorStoppedException pse) {
             getLogger().info("Processor was stopped so will not complete listing of Files");
@@ -1287,6 +1240,327 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
     private static class ProcessorStoppedException extends RuntimeException {
     }
 
+    /**
+     * The last modified time of a directory whose files were all older than the minimum timestamp to list, along with its subdirectories,
+     * so that the directory can be traversed without listing its files again for as long as its last modified time does not change.
+     */
+    private record DirectoryIndexEntry(long lastModified, List<Path> subdirectories) {
+    }
+
+    private record Ancestor(Path path, Object fileKey) {
+    }
+
+    /**
+     * Walks a directory tree, following links, with each directory listed by a separate task on a fork/join pool, or one after another on
+     * the calling thread when no pool is provided. Files matched in each directory are collected as a batch so that worker threads do not
+     * contend on a shared list.
+     */
+    private final class DirectoryWalker {
+        private final Path basePath;
+        private final boolean recurse;
+        private final Long minTimestamp;
+        private final ListingMode listingMode;
+        private final boolean applyFilters;
+        private final BiPredicate<Path, BasicFileAttributes> fileFilter;
+        private final PerformanceTracker performanceTracker;
+        private final Map<Path, DirectoryIndexEntry> directoryIndex;
+
+        private final Queue<List<FileInfo>> batches = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean terminated = new AtomicBoolean();
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final AtomicInteger skippedDirectories = new AtomicInteger();
+        private boolean parallel;
+
+        private DirectoryWalker(final Path basePath, final boolean recurse, final Long minTimestamp, final ListingMode listingMode, final boolean applyFilters,
+                                final BiPredicate<Path, BasicFileAttributes> fileFilter, final PerformanceTracker performanceTracker,
+                                final Map<Path, DirectoryIndexEntry> directoryIndex) {
+            this.basePath = basePath;
+            this.recurse = recurse;
+            this.minTimestamp = minTimestamp;
+            this.listingMode = listingMode;
+            this.applyFilters = applyFilters;
+            this.fileFilter = fileFilter;
+            this.performanceTracker = performanceTracker;
+            this.directoryIndex = directoryIndex;
+        }
+
+        List<FileInfo> walk(final ForkJoinPool listingPool) {
+            this.parallel = listingPool != null;
+
+            final BasicFileAttributes attributes;
+            try {
+                attributes = readAttributes(basePath);
+            } catch (final IOException e) {
+                visitFailed(basePath, e);
+                return Collections.emptyList();
+            }
+
+            if (attributes.isDirectory()) {
+                final ListDirectoryTask task = new ListDirectoryTask(basePath, attributes, List.of());
+                if (parallel) {
+                    listingPool.invoke(task);
+                } else {
+                    task.compute();
+                }
+            } else if (accept(basePath, attributes, 0L)) {
+                batches.add(List.of(createFileInfo(basePath, attributes)));
+            }
+
+            if (stopped.get()) {
+                throw new ProcessorStoppedException();
+            }
+
+            final List<FileInfo> result = new ArrayList<>();
+            batches.forEach(result::addAll);
+            return result;
+        }
+
+        int getSkippedDirectories() {
+            return skippedDirectories.get();
+        }
+
+        private BasicFileAttributes readAttributes(final Path path) throws IOException {
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (final IOException e) {
+                // As with Files.walkFileTree, fall back to the attributes of the link itself if the link cannot be followed
+                try {
+                    return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                } catch (final IOException ignored) {
+                    throw e;
+                }
+            }
+        }
+
+        /**
+         * Handles a failure to access the given path, returning whether the walk should continue.
+         */
+        private boolean visitFailed(final Path path, final IOException e) {
+            if (e instanceof AccessDeniedException) {
+                getLogger().debug("The following file is not readable: {}", path);
+                return true;
+            }
+
+            getLogger().error("Error during visiting file {}", path, e);
+            terminated.set(true);
+            return false;
+        }
+
+        private boolean isHalted() {
+            return terminated.get() || stopped.get();
+        }
+
+        private boolean accept(final Path path, final BasicFileAttributes attributes, final long timeToList) {
+            if (!isScheduled() && listingMode == ListingMode.EXECUTION) {
+                stopped.set(true);
+                return false;
+            }
+
+            final Path relativeDirectory = basePath.relativize(path).getParent();
+            final String relativePath = relativeDirectory == null ? "" : relativeDirectory.toString();
+            final String filename = path.getFileName().toString();
+            performanceTracker.acceptOperation(DiskOperation.RETRIEVE_NEXT_FILE_FROM_OS, relativePath, filename, timeToList);
+
+            final TimedOperationKey operationKey = performanceTracker.beginOperation(DiskOperation.FILTER, relativePath, filename);
+
+            try {
+                final boolean matchesFilters = (minTimestamp == null || attributes.lastModifiedTime().toMillis() >= minTimestamp)
+                        && fileFilter.test(path, attributes);
+                return !applyFilters || matchesFilters;
+            } finally {
+                performanceTracker.completeOperation(operationKey);
+
+                if (TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - performanceLoggingTimestamp) >= 5) {
+                    logPerformance();
+                }
+            }
+        }
+
+        private FileInfo createFileInfo(final Path path, final BasicFileAttributes attributes) {
+            final File file = path.toFile();
+            return new FileInfo.Builder()
+                    .directory(false)
+                    .filename(file.getName())
+                    .fullPathFileName(file.getAbsolutePath())
+                    .lastModifiedTime(attributes.lastModifiedTime().toMillis())
+                    .size(attributes.size())
+                    .build();
+        }
+
+        private final class ListDirectoryTask extends RecursiveAction {
+            private final Path directory;
+            private final BasicFileAttributes directoryAttributes;
+            private final List<Ancestor> ancestors;
+
+            private ListDirectoryTask(final Path directory, final BasicFileAttributes directoryAttributes, final List<Ancestor> ancestors) {
+                this.directory = directory;
+                this.directoryAttributes = directoryAttributes;
+                this.ancestors = ancestors;
+            }
+
+            @Override
+            protected void compute() {
+                if (!isScheduled() && listingMode == ListingMode.EXECUTION) {
+                    stopped.set(true);
+                }
+
+                if (isHalted()) {
+                    return;
+                }
+
+                if (!Files.isReadable(directory)) {
+                    getLogger().debug("The following directory is not readable: {}", directory);
+                    return;
+                }
+
+                performanceTracker.setActiveDirectory(basePath.relativize(directory).toString());
+
+                final long lastModified = directoryAttributes.lastModifiedTime().toMillis();
+                final List<Ancestor> childAncestors = new ArrayList<>(ancestors);
+                childAncestors.add(new Ancestor(directory, directoryAttributes.fileKey()));
+
+                final List<ListDirectoryTask> subdirectoryTasks = new ArrayList<>();
+                final DirectoryIndexEntry indexEntry = directoryIndex == null ? null : directoryIndex.get(directory);
+                if (indexEntry != null && indexEntry.lastModified() == lastModified) {
+                    skippedDirectories.incrementAndGet();
+                    for (final Path subdirectory : indexEntry.subdirectories()) {
+                        try {
+                            addSubdirectoryTask(subdirectory, readAttributes(subdirectory), childAncestors, subdirectoryTasks);
+                        } catch (final IOException e) {
+                            directoryIndex.remove(directory);
+                            if (!visitFailed(subdirectory, e)) {
+                                return;
+                            }
+                        }
+                    }
+
+                    listSubdirectories(subdirectoryTasks);
+                    return;
+                }
+
+                final List<FileInfo> batch = new ArrayList<>();
+                final List<Path> subdirectories = new ArrayList<>();
+                boolean unchangedFiles = minTimestamp != null;
+                long lastTimestamp = System.currentTimeMillis();
+
+                try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+                    for (final Path path : directoryStream) {
+                        if (isHalted()) {
+                            return;
+                        }
+
+                        final long now = System.currentTimeMillis();
+                        final long timeToList = now - lastTimestamp;
+                        lastTimestamp = now;
+
+                        final BasicFileAttributes attributes;
+                        try {
+                            attributes = readAttributes(path);
+                        } catch (final IOException e) {
+                            unchangedFiles = false;
+                            if (!visitFailed(path, e)) {
+                                return;
+                            }
+                            continue;
+                        }
+
+                        if (attributes.isDirectory()) {
+                            if (recurse) {
+                                subdirectories.add(path);
+                                if (!addSubdirectoryTask(path, attributes, childAncestors, subdirectoryTasks)) {
+                                    return;
+                                }
+                            }
+                            continue;
+                        }
+
+                        if (unchangedFiles && attributes.lastModifiedTime().toMillis() >= minTimestamp) {
+                            unchangedFiles = false;
+                        }
+
+                        if (accept(path, attributes, timeToList)) {
+                            batch.add(createFileInfo(path, attributes));
+                        }
+                    }
+                } catch (final DirectoryIteratorException e) {
+                    getLogger().error("Error during visiting directory {}: {}", directory, e.getMessage(), e);
+                    unchangedFiles = false;
+                } catch (final IOException e) {
+                    visitFailed(directory, e);
+                    return;
+                }
+
+                if (!batch.isEmpty()) {
+                    batches.add(batch);
+                }
+
+                if (directoryIndex != null) {
+                    if (unchangedFiles && !isHalted() && isUnchangedSinceListing(lastModified)) {
+                        directoryIndex.put(directory, new DirectoryIndexEntry(lastModified, subdirectories));
+                    } else {
+                        directoryIndex.remove(directory);
+                    }
+                }
+
+                listSubdirectories(subdirectoryTasks);
+            }
+
+            /**
+             * Determines whether the directory can be indexed with the last modified time read before it was listed. The directory must not have
+             * changed while it was listed, and must have been last modified before the minimum timestamp, since entries added within the same
+             * timestamp granularity as the listing would otherwise not change the last modified time of the directory.
+             */
+            private boolean isUnchangedSinceListing(final long lastModified) {
+                if (lastModified >= minTimestamp) {
+                    return false;
+                }
+
+                try {
+                    return readAttributes(directory).lastModifiedTime().toMillis() == lastModified;
+                } catch (final IOException e) {
+                    return false;
+                }
+            }
+
+            private void listSubdirectories(final List<ListDirectoryTask> subdirectoryTasks) {
+                if (parallel) {
+                    invokeAll(subdirectoryTasks);
+                } else {
+                    subdirectoryTasks.forEach(ListDirectoryTask::compute);
+                }
+            }
+
+            private boolean addSubdirectoryTask(final Path subdirectory, final BasicFileAttributes attributes, final List<Ancestor> childAncestors,
+                                                final List<ListDirectoryTask> subdirectoryTasks) {
+                if (!attributes.isDirectory()) {
+                    return true;
+                }
+
+                final Object fileKey = attributes.fileKey();
+                for (final Ancestor ancestor : childAncestors) {
+                    if (isSameFile(subdirectory, fileKey, ancestor)) {
+                        return visitFailed(subdirectory, new FileSystemLoopException(subdirectory.toString()));
+                    }
+                }
+
+                subdirectoryTasks.add(new ListDirectoryTask(subdirectory, attributes, childAncestors));
+                return true;
+            }
+
+            private boolean isSameFile(final Path subdirectory, final Object fileKey, final Ancestor ancestor) {
+                if (fileKey != null && ancestor.fileKey() != null) {
+                    return fileKey.equals(ancestor.fileKey());
+                }
+
+                try {
+                    return Files.isSameFile(subdirectory, ancestor.path());
+                } catch (final IOException e) {
+                    return false;
+                }
+            }
+        }
+    }
+
     static class MonitorActiveTasks implements Runnable {
         private final PerformanceTracker performanceTracker;
         private final ComponentLog logger;
@@ -377,6 +377,19 @@ public class PutDatabaseRecord extends AbstractProcessor {
             .expressionLanguageSupported(FLOWFILE_ATTRIBUTES)
             .build();
 
+    static final PropertyDescriptor ROWS_PER_INSERT_STATEMENT = new Builder()
+            .name("Rows Per Insert Statement")
+            .displayName("Rows Per Insert Statement")
+            .description("Specifies the maximum number of Records to include in each INSERT statement, using a single INSERT statement with multiple VALUES rows. "
+                    + "Combining several Records into each statement reduces the number of statements the database has to parse and execute for large inserts. "
+                    + "A value of 1 generates one INSERT statement per Record. Values greater than 1 require a Database Type that supports multi-row INSERT statements, "
+                    + "and the number of rows is further limited by the maximum number of statement parameters supported by the Database Type.")
+            .defaultValue("1")
+            .required(true)
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .dependsOn(STATEMENT_TYPE, INSERT_TYPE, USE_ATTR_TYPE)
+            .build();
+
     static final PropertyDescriptor AUTO_COMMIT = new PropertyDescriptor.Builder()
             .name("database-session-autocommit")
             .displayName("Database Session AutoCommit")
@@ -443,6 +456,7 @@ public class PutDatabaseRecord extends AbstractProcessor {
         pds.add(RollbackOnFailure.ROLLBACK_ON_FAILURE);
         pds.add(TABLE_SCHEMA_CACHE_SIZE);
         pds.add(MAX_BATCH_SIZE);
+        pds.add(ROWS_PER_INSERT_STATEMENT);
         pds.add(AUTO_COMMIT);
 
         propDescriptors = Collections.unmodifiableList(pds);
@@ -479,6 +493,17 @@ public class PutDatabaseRecord extends AbstractProcessor {
             );
         }
 
+        final Integer rowsPerInsertStatement = validationContext.getProperty(ROWS_PER_INSERT_STATEMENT).asInteger();
+        if (rowsPerInsertStatement != null && rowsPerInsertStatement > 1 && !databaseAdapter.supportsMultiRowInsert()
+                && (INSERT_TYPE.equals(statementType) || USE_ATTR_TYPE.equals(statementType))) {
+            validationResults.add(new ValidationResult.Builder()
+                .subject(ROWS_PER_INSERT_STATEMENT.getDisplayName())
+                .valid(false)
+                .explanation(databaseAdapter.getName() + " does not support multi-row INSERT statements")
+                .build()
+            );
+        }
+
         final boolean autoCommit = validationContext.getProperty(AUTO_COMMIT).asBoolean();
         final boolean rollbackOnFailure = validationContext.getProperty(RollbackOnFailure.ROLLBACK_ON_FAILURE).asBoolean();
         if (autoCommit && rollbackOnFailure) {
@@ -742,6 +767,7 @@ public class PutDatabaseRecord extends AbstractProcessor {
         final String tableName = context.getProperty(TABLE_NAME).evaluateAttributeExpressions(flowFile).getValue();
         final String updateKeys = context.getProperty(UPDATE_KEYS).evaluateAttributeExpressions(flowFile).getValue();
         final int maxBatchSize = context.getProperty(MAX_BATCH_SIZE).evaluateAttributeExpressions(flowFile).asInteger();
+        final int rowsPerInsertStatement = context.getProperty(ROWS_PER_INSERT_STATEMENT).asInteger();
         final int timeoutMillis = context.getProperty(QUERY_TIMEOUT).evaluateAttributeExpressions().asTimePeriod(TimeUnit.MILLISECONDS).intValue();
 
         final String binaryStringFormat = context.getProperty(BINARY_STRING_FORMAT).evaluateAttributeExpressions(flowFile).getValue();
@@ -784,6 +810,9 @@ public class PutDatabaseRecord extends AbstractProcessor {
         int batchIndex = 0;
         Record outerRecord;
         PreparedStatement lastPreparedStatement = null;
+        // Multi-row INSERT statements are only used when every Record is inserted, as the batch is never switched to another statement
+        final boolean multiRowInsert = INSERT_TYPE.equalsIgnoreCase(explicitStatementType) && rowsPerInsertStatement > 1 && databaseAdapter.supportsMultiRowInsert();
+        MultiRowInsertStatement multiRowInsertStatement = null;
 
         try {
             while ((outerRecord = recordReader.nextRecord()) != null) {
@@ -831,6 +860,15 @@ public class PutDatabaseRecord extends AbstractProcessor {
 
                         preparedSqlAndColumns = new PreparedSqlAndColumns(sqlHolder, preparedStatement);
                         preparedSql.put(statementType, preparedSqlAndColumns);
+
+                        if (multiRowInsert) {
+                            final int columnCount = sqlHolder.getFieldIndexes().size();
+                            final int rowsPerStatement = Math.min(rowsPerInsertStatement, Math.max(1, databaseAdapter.getMaxStatementParameters() / columnCount));
+                            if (rowsPerStatement > 1) {
+                                multiRowInsertStatement = new MultiRowInsertStatement(con, sqlHolder.getSql(), preparedStatement, columnCount, rowsPerStatement, timeoutMillis);
+                                log.debug("Inserting up to {} Records per statement for {}", rowsPerStatement, flowFile);
+                            }
+                        }
                     }
 
                     final PreparedStatement ps = preparedSqlAndColumns.getPreparedStatement();
@@ -853,6 +891,7 @@ public class PutDatabaseRecord extends AbstractProcessor {
                     final RecordSchema recordSchema = currentRecord.getSchema();
                     final Map<String, ColumnDescription> columns = tableSchema.getColumns();
 
+                    final StatementParameter[] rowParameters = multiRowInsertStatement == null ? null : new StatementParameter[fieldIndexes.size()];
                     int deleteIndex = 0;
                     for (int i = 0; i < fieldIndexes.size(); i++) {
                         final int currentFieldIndex = fieldIndexes.get(i);
@@ -941,35 +980,61 @@ public class PutDatabaseRecord extends AbstractProcessor {
                             for (int j = 0; j < timesToAddObjects; j++) {
                                 setParameter(ps, i + (fieldIndexes.size() * j) + 1, currentValue, fieldSqlType, sqlType);
                             }
+                        } else if (rowParameters != null) {
+                            rowParameters[i] = new StatementParameter(currentValue, fieldSqlType, sqlType);
                         } else {
                             setParameter(ps, i + 1, currentValue, fieldSqlType, sqlType);
                         }
                     }
 
-                    ps.addBatch();
+                    if (rowParameters == null) {
+                        ps.addBatch();
+                    } else {
+                        multiRowInsertStatement.addRow(rowParameters);
+                    }
                     session.adjustCounter(statementType + " updates performed", 1, false);
                     if (++currentBatchSize == maxBatchSize) {
                         batchIndex++;
                         log.debug("Executing query {} because batch reached max size for {}; fieldIndexes: {}; batch index: {}; batch size: {}",
                             sql, flowFile, fieldIndexes, batchIndex, currentBatchSize);
                         session.adjustCounter("Batches Executed", 1, false);
-                        ps.executeBatch();
+                        if (multiRowInsertStatement == null) {
+                            ps.executeBatch();
+                        } else {
+                            multiRowInsertStatement.executeBatch();
+                        }
                         currentBatchSize = 0;
                     }
                 }
             }
 
             if (currentBatchSize > 0) {
-                lastPreparedStatement.executeBatch();
+                if (multiRowInsertStatement == null) {
+                    lastPreparedStatement.executeBatch();
+                } else {
+                    multiRowInsertStatement.executeBatch();
+                }
                 session.adjustCounter("Batches Executed", 1, false);
             }
         } finally {
             for (final PreparedSqlAndColumns preparedSqlAndColumns : preparedSql.values()) {
                 preparedSqlAndColumns.getPreparedStatement().close();
             }
+            if (multiRowInsertStatement != null) {
+                multiRowInsertStatement.close();
+            }
         }
     }
 
+    /**
+     * Generates an INSERT statement with the given number of VALUES rows from a single-row INSERT statement generated by
+     * {@link #generateInsert(RecordSchema, String, TableSchema, DMLSettings)}
+     */
+    static String generateMultiRowInsert(final String insertSql, final int columnCount, final int rowCount) {
+        final String rowPlaceholders = ", (" + StringUtils.repeat("?", ",", columnCount) + ")";
+        return insertSql + rowPlaceholders.repeat(rowCount - 1);
+    }
+
     private void setParameter(PreparedStatement ps, int index, Object value, int fieldSqlType, int sqlType) throws IOException {
         if (sqlType == Types.BLOB) {
             // Convert Byte[] or String (anything that has been converted to byte[]) into BLOB
@@ -1682,6 +1747,96 @@ public class PutDatabaseRecord extends AbstractProcessor {
         }
     }
 
+    /**
+     * A converted Record field value along with the SQL types used to bind it to a statement parameter
+     */
+    private record StatementParameter(Object value, int fieldSqlType, int sqlType) {
+    }
+
+    /**
+     * Binds rows of parameters into a multi-row INSERT statement, executing one statement for every full group of rows.
+     * Rows remaining when the batch is executed are inserted using the single-row INSERT statement.
+     */
+    private class MultiRowInsertStatement {
+        private final Connection connection;
+        private final String singleRowSql;
+        private final PreparedStatement singleRowStatement;
+        private final int columnCount;
+        private final int rowsPerStatement;
+        private final int timeoutMillis;
+        private final List<StatementParameter[]> pendingRows;
+
+        private PreparedStatement multiRowStatement;
+        private boolean multiRowStatementBatched;
+
+        MultiRowInsertStatement(final Connection connection, final String singleRowSql, final PreparedStatement singleRowStatement,
+                                final int columnCount, final int rowsPerStatement, final int timeoutMillis) {
+            this.connection = connection;
+            this.singleRowSql = singleRowSql;
+            this.singleRowStatement = singleRowStatement;
+            this.columnCount = columnCount;
+            this.rowsPerStatement = rowsPerStatement;
+            this.timeoutMillis = timeoutMillis;
+            this.pendingRows = new ArrayList<>(rowsPerStatement);
+        }
+
+        void addRow(final StatementParameter[] row) throws SQLException, IOException {
+            pendingRows.add(row);
+            if (pendingRows.size() < rowsPerStatement) {
+                return;
+            }
+
+            if (multiRowStatement == null) {
+                final String sql = generateMultiRowInsert(singleRowSql, columnCount, rowsPerStatement);
+                multiRowStatement = connection.prepareStatement(sql);
+                try {
+                    multiRowStatement.setQueryTimeout(timeoutMillis); // timeout in seconds
+                } catch (final SQLException se) {
+                    // If the driver doesn't support query timeout, then assume it is "infinite". Allow a timeout of zero only
+                    if (timeoutMillis > 0) {
+                        throw se;
+                    }
+                }
+            }
+
+            for (int rowIndex = 0; rowIndex < pendingRows.size(); rowIndex++) {
+                setParameters(multiRowStatement, pendingRows.get(rowIndex), rowIndex * columnCount);
+            }
+            multiRowStatement.addBatch();
+            multiRowStatementBatched = true;
+            pendingRows.clear();
+        }
+
+        void executeBatch() throws SQLException, IOException {
+            if (multiRowStatementBatched) {
+                multiRowStatement.executeBatch();
+                multiRowStatementBatched = false;
+            }
+
+            if (!pendingRows.isEmpty()) {
+                for (final StatementParameter[] row : pendingRows) {
+                    setParameters(singleRowStatement, row, 0);
+                    singleRowStatement.addBatch();
+                }
+                singleRowStatement.executeBatch();
+                pendingRows.clear();
+            }
+        }
+
+        void close() throws SQLException {
+            if (multiRowStatement != null) {
+                multiRowStatement.close();
+            }
+        }
+
+        private void setParameters(final PreparedStatement statement, final StatementParameter[] row, final int offset) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                final StatementParameter parameter = row[i];
+                setParameter(statement, offset + i + 1, parameter.value(), parameter.fieldSqlType(), parameter.sqlType());
+            }
+        }
+    }
+
     static class PreparedSqlAndColumns {
         private final SqlAndIncludedColumns sqlAndIncludedColumns;
         private final PreparedStatement preparedStatement;
@@ -212,6 +212,8 @@ public class QueryDatabaseTableRecord extends AbstractQueryDatabaseTable {
         pds.add(MAX_ROWS_PER_FLOW_FILE);
         pds.add(OUTPUT_BATCH_SIZE);
         pds.add(MAX_FRAGMENTS);
+        pds.add(PARTITION_COLUMN);
+        pds.add(FETCH_PARTITIONS);
         pds.add(NORMALIZE_NAMES);
         pds.add(USE_AVRO_LOGICAL_TYPES);
         pds.add(VARIABLE_REGISTRY_ONLY_DEFAULT_PRECISION);
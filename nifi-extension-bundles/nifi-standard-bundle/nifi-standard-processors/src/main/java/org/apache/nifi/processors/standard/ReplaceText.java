@@ -29,6 +29,7 @@ import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
 import org.apache.nifi.annotation.documentation.UseCase;
 import org.apache.nifi.annotation.lifecycle.OnScheduled;
+import org.apache.nifi.annotation.lifecycle.OnStopped;
 import org.apache.nifi.attribute.expression.language.exception.AttributeExpressionLanguageException;
 import org.apache.nifi.attribute.expression.language.exception.IllegalAttributeException;
 import org.apache.nifi.components.AllowableValue;
@@ -59,16 +60,23 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.nio.BufferOverflowException;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -278,6 +286,17 @@ public class ReplaceText extends AbstractProcessor {
         .required(false)
         .build();
 
+    public static final PropertyDescriptor LINE_PROCESSING_THREADS = new PropertyDescriptor.Builder()
+        .name("Line Processing Threads")
+        .description("The number of threads used to apply the 'Replacement Strategy' to chunks of lines when the Evaluation Mode is Line-by-Line. "
+            + "Chunks of lines are read while earlier chunks are being replaced and are written in their original order. "
+            + "The number of chunks held in memory is limited to twice the number of threads. A value of 1 replaces lines on the calling thread.")
+        .required(true)
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("1")
+        .dependsOn(EVALUATION_MODE, LINE_BY_LINE)
+        .build();
+
 
 
     // Relationships
@@ -294,6 +313,7 @@ public class ReplaceText extends AbstractProcessor {
     private List<PropertyDescriptor> properties;
     private Set<Relationship> relationships;
     private ReplacementStrategyExecutor replacementStrategyExecutor;
+    private volatile ForkJoinPool lineProcessingPool;
 
     @Override
     protected void init(final ProcessorInitializationContext context) {
@@ -307,6 +327,7 @@ public class ReplaceText extends AbstractProcessor {
         properties.add(MAX_BUFFER_SIZE);
         properties.add(EVALUATION_MODE);
         properties.add(LINE_BY_LINE_EVALUATION_MODE);
+        properties.add(LINE_PROCESSING_THREADS);
         this.properties = Collections.unmodifiableList(properties);
 
         final Set<Relationship> relationships = new HashSet<>();
@@ -393,6 +414,19 @@ public class ReplaceText extends AbstractProcessor {
             default:
                 throw new AssertionError();
         }
+
+        final int lineProcessingThreads = context.getProperty(LINE_PROCESSING_THREADS).asInteger();
+        if (evaluateMode.equalsIgnoreCase(LINE_BY_LINE) && lineProcessingThreads > 1) {
+            lineProcessingPool = new ForkJoinPool(lineProcessingThreads);
+        }
+    }
+
+    @OnStopped
+    public void shutdown() {
+        if (lineProcessingPool != null) {
+            lineProcessingPool.shutdownNow();
+            lineProcessingPool = null;
+        }
     }
 
     @Override
@@ -419,7 +453,7 @@ public class ReplaceText extends AbstractProcessor {
         final StopWatch stopWatch = new StopWatch(true);
 
         try {
-            flowFile = replacementStrategyExecutor.replace(flowFile, session, context, evaluateMode, charset, maxBufferSize);
+            flowFile = replacementStrategyExecutor.replace(flowFile, session, context, evaluateMode, charset, maxBufferSize, lineProcessingPool);
         } catch (StackOverflowError e) {
             // Some regular expressions can produce many matches on large input data size using recursive code
             // do not log the StackOverflowError stack trace
@@ -483,18 +517,18 @@ public class ReplaceText extends AbstractProcessor {
 
     private static class AlwaysReplace implements ReplacementStrategyExecutor {
         @Override
-        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize) {
+        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize,
+                final ForkJoinPool lineProcessingPool) {
 
             final String replacementValue = context.getProperty(REPLACEMENT_VALUE).evaluateAttributeExpressions(flowFile).getValue();
-            final StringBuilder lineEndingBuilder = new StringBuilder(2);
 
             if (evaluateMode.equalsIgnoreCase(ENTIRE_TEXT)) {
                 flowFile = session.write(flowFile, out -> out.write(replacementValue.getBytes(charset)));
             } else {
-                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(),
+                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(), lineProcessingPool,
                     ((bw, oneLine) -> {
                         // We need to determine what line ending was used and use that after our replacement value.
-                        lineEndingBuilder.setLength(0);
+                        final StringBuilder lineEndingBuilder = new StringBuilder(2);
                         for (int i = oneLine.length() - 1; i >= 0; i--) {
                             final char c = oneLine.charAt(i);
                             if (c == '\r' || c == '\n') {
@@ -523,7 +557,8 @@ public class ReplaceText extends AbstractProcessor {
 
     private static class PrependReplace implements ReplacementStrategyExecutor {
         @Override
-        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize) {
+        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize,
+                final ForkJoinPool lineProcessingPool) {
             final String replacementValue = context.getProperty(REPLACEMENT_VALUE).evaluateAttributeExpressions(flowFile).getValue();
 
             if (evaluateMode.equalsIgnoreCase(ENTIRE_TEXT)) {
@@ -535,7 +570,7 @@ public class ReplaceText extends AbstractProcessor {
                     }
                 });
             } else {
-                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(),
+                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(), lineProcessingPool,
                     (bw, oneLine) -> bw.write(replacementValue.concat(oneLine))));
             }
             return flowFile;
@@ -558,7 +593,8 @@ public class ReplaceText extends AbstractProcessor {
         }
 
         @Override
-        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize) {
+        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize,
+                final ForkJoinPool lineProcessingPool) {
             final String prependValue = (prependValueDescriptor == null) ? null : context.getProperty(prependValueDescriptor).evaluateAttributeExpressions(flowFile).getValue();
             final String appendValue = context.getProperty(appendValueDescriptor).evaluateAttributeExpressions(flowFile).getValue();
 
@@ -575,7 +611,7 @@ public class ReplaceText extends AbstractProcessor {
                     }
                 });
             } else {
-                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(),
+                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(), lineProcessingPool,
                     (bw, oneLine) -> {
                         if (prependValue != null && !prependValue.isEmpty()) {
                             bw.write(prependValue);
@@ -633,7 +669,8 @@ public class ReplaceText extends AbstractProcessor {
         }
 
         @Override
-        public FlowFile replace(final FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize) {
+        public FlowFile replace(final FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize,
+                final ForkJoinPool lineProcessingPool) {
             final AttributeValueDecorator quotedAttributeDecorator = Pattern::quote;
 
             final String searchRegex = context.getProperty(SEARCH_VALUE).evaluateAttributeExpressions(flowFile, quotedAttributeDecorator).getValue();
@@ -679,10 +716,11 @@ public class ReplaceText extends AbstractProcessor {
                 }
 
             } else {
-                final Matcher matcher = searchPattern.matcher("");
-                updatedFlowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(),
+                updatedFlowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(), lineProcessingPool,
                     (bw, oneLine) -> {
-                        matcher.reset(oneLine);
+                        // Matchers and attributes are created for each line as lines may be replaced concurrently
+                        final Matcher matcher = searchPattern.matcher(oneLine);
+                        final Map<String, String> lineAttrs = new HashMap<>(numCapturingGroups);
 
                         int matches = 0;
                         StringBuffer sb = new StringBuffer();
@@ -691,10 +729,10 @@ public class ReplaceText extends AbstractProcessor {
                             matches++;
 
                             for (int i = 0; i <= matcher.groupCount(); i++) {
-                                additionalAttrs.put("$" + i, matcher.group(i));
+                                lineAttrs.put("$" + i, matcher.group(i));
                             }
 
-                            String replacement = context.getProperty(REPLACEMENT_VALUE).evaluateAttributeExpressions(flowFile, additionalAttrs, escapeBackRefDecorator).getValue();
+                            String replacement = context.getProperty(REPLACEMENT_VALUE).evaluateAttributeExpressions(flowFile, lineAttrs, escapeBackRefDecorator).getValue();
                             replacement = escapeLiteralBackReferences(replacement, numCapturingGroups);
                             String replacementFinal = normalizeReplacementString(replacement);
 
@@ -724,7 +762,8 @@ public class ReplaceText extends AbstractProcessor {
 
     private static class LiteralReplace implements ReplacementStrategyExecutor {
         @Override
-        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize) {
+        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize,
+                final ForkJoinPool lineProcessingPool) {
             final String replacementValue = context.getProperty(REPLACEMENT_VALUE).evaluateAttributeExpressions(flowFile).getValue();
             final String searchValue = context.getProperty(SEARCH_VALUE).evaluateAttributeExpressions(flowFile).getValue();
 
@@ -746,7 +785,7 @@ public class ReplaceText extends AbstractProcessor {
             } else {
                 final Pattern searchPattern = Pattern.compile(searchValue, Pattern.LITERAL);
 
-                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(),
+                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(), lineProcessingPool,
                     (bw, oneLine) -> {
                         int matches = 0;
                         int lastEnd = 0;
@@ -779,7 +818,8 @@ public class ReplaceText extends AbstractProcessor {
 
     private static class SubstituteVariablesReplace implements ReplacementStrategyExecutor {
         @Override
-        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize) {
+        public FlowFile replace(FlowFile flowFile, final ProcessSession session, final ProcessContext context, final String evaluateMode, final Charset charset, final int maxBufferSize,
+                final ForkJoinPool lineProcessingPool) {
             final Map<String, String> flowFileAttributes = flowFile.getAttributes();
 
             if (evaluateMode.equalsIgnoreCase(ENTIRE_TEXT)) {
@@ -797,7 +837,7 @@ public class ReplaceText extends AbstractProcessor {
                     }
                 });
             } else {
-                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(),
+                flowFile = session.write(flowFile, new StreamReplaceCallback(charset, maxBufferSize, context.getProperty(LINE_BY_LINE_EVALUATION_MODE).getValue(), lineProcessingPool,
                         (bw, oneLine) -> {
                             final String substitutedLine = StringSubstitutor.replace(oneLine, flowFileAttributes);
                             bw.write(substitutedLine);
@@ -826,7 +866,7 @@ public class ReplaceText extends AbstractProcessor {
     }
 
     private interface ReplacementStrategyExecutor {
-        FlowFile replace(FlowFile flowFile, ProcessSession session, ProcessContext context, String evaluateMode, Charset charset, int maxBufferSize);
+        FlowFile replace(FlowFile flowFile, ProcessSession session, ProcessContext context, String evaluateMode, Charset charset, int maxBufferSize, ForkJoinPool lineProcessingPool);
 
         boolean isAllDataBufferedForEntireText();
     }
@@ -837,19 +877,30 @@ public class ReplaceText extends AbstractProcessor {
     }
 
 
+    @FunctionalInterface
+    private interface LineHandler {
+        void handle(String line, boolean replace) throws IOException;
+    }
+
     private static class StreamReplaceCallback implements StreamCallback {
+        private static final int CHUNK_MAXIMUM_LINES = 1024;
+        private static final int CHUNK_MAXIMUM_CHARACTERS = 1024 * 1024;
+
         private final Charset charset;
         private final int maxBufferSize;
         private final String lineByLineEvaluationMode;
+        private final ForkJoinPool lineProcessingPool;
         private final ReplaceLine replaceLine;
 
         private StreamReplaceCallback(Charset charset,
                                      int maxBufferSize,
                                      String lineByLineEvaluationMode,
+                                     ForkJoinPool lineProcessingPool,
                                      ReplaceLine replaceLine) {
             this.charset = charset;
             this.maxBufferSize = maxBufferSize;
             this.lineByLineEvaluationMode = lineByLineEvaluationMode;
+            this.lineProcessingPool = lineProcessingPool;
             this.replaceLine = replaceLine;
         }
 
@@ -858,39 +909,158 @@ public class ReplaceText extends AbstractProcessor {
             try (final LineDemarcator demarcator = new LineDemarcator(in, charset, maxBufferSize, 8192);
                  final BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(out, charset))) {
 
-                String precedingLine = demarcator.nextLine();
-                String succeedingLine;
-
-                boolean firstLine = true;
-
-                while (null != (succeedingLine = demarcator.nextLine())) {
-                    if (firstLine && lineByLineEvaluationMode.equalsIgnoreCase(FIRST_LINE)) {
-                        replaceLine.apply(bw, precedingLine);
-                        firstLine = false;
-                    } else if (firstLine && lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_FIRST_LINE)) {
-                        firstLine = false;
-                        bw.write(precedingLine);
-                    } else if (lineByLineEvaluationMode.equalsIgnoreCase(LINE_BY_LINE)
-                        || lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_LAST_LINE)
-                        || lineByLineEvaluationMode.equalsIgnoreCase(ALL)
-                        || (!firstLine && lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_FIRST_LINE))) {
-                        replaceLine.apply(bw, precedingLine);
-                    } else {
-                        bw.write(precedingLine);
+                if (lineProcessingPool == null) {
+                    processLines(demarcator, (line, replace) -> {
+                        if (replace) {
+                            replaceLine.apply(bw, line);
+                        } else {
+                            bw.write(line);
+                        }
+                    });
+                } else {
+                    final ChunkWriter chunkWriter = new ChunkWriter(bw);
+                    try {
+                        processLines(demarcator, chunkWriter);
+                        chunkWriter.finish();
+                    } finally {
+                        chunkWriter.cancel();
                     }
-                    precedingLine = succeedingLine;
                 }
+            }
+        }
+
+        private void processLines(final LineDemarcator demarcator, final LineHandler lineHandler) throws IOException {
+            String precedingLine = demarcator.nextLine();
+            String succeedingLine;
+
+            boolean firstLine = true;
+
+            while (null != (succeedingLine = demarcator.nextLine())) {
+                if (firstLine && lineByLineEvaluationMode.equalsIgnoreCase(FIRST_LINE)) {
+                    lineHandler.handle(precedingLine, true);
+                    firstLine = false;
+                } else if (firstLine && lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_FIRST_LINE)) {
+                    firstLine = false;
+                    lineHandler.handle(precedingLine, false);
+                } else if (lineByLineEvaluationMode.equalsIgnoreCase(LINE_BY_LINE)
+                    || lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_LAST_LINE)
+                    || lineByLineEvaluationMode.equalsIgnoreCase(ALL)
+                    || (!firstLine && lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_FIRST_LINE))) {
+                    lineHandler.handle(precedingLine, true);
+                } else {
+                    lineHandler.handle(precedingLine, false);
+                }
+                precedingLine = succeedingLine;
+            }
 
-                // 0 byte empty FlowFIles are left untouched
-                if (null != precedingLine) {
-                    if (lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_LAST_LINE)
-                        || (!firstLine && lineByLineEvaluationMode.equalsIgnoreCase(FIRST_LINE))
-                        || (firstLine && lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_FIRST_LINE))) {
-                        bw.write(precedingLine);
-                    } else {
-                        replaceLine.apply(bw, precedingLine);
+            // 0 byte empty FlowFIles are left untouched
+            if (null != precedingLine) {
+                if (lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_LAST_LINE)
+                    || (!firstLine && lineByLineEvaluationMode.equalsIgnoreCase(FIRST_LINE))
+                    || (firstLine && lineByLineEvaluationMode.equalsIgnoreCase(EXCEPT_FIRST_LINE))) {
+                    lineHandler.handle(precedingLine, false);
+                } else {
+                    lineHandler.handle(precedingLine, true);
+                }
+            }
+        }
+
+        /**
+         * Collects lines into chunks that are replaced concurrently and writes replaced chunks in their original order,
+         * limiting the number of chunks pending to twice the parallelism of the pool
+         */
+        private class ChunkWriter implements LineHandler {
+            private final BufferedWriter bw;
+            private final int maximumPendingChunks = lineProcessingPool.getParallelism() * 2;
+            private final Deque<Future<String>> pendingChunks = new ArrayDeque<>();
+
+            private List<String> lines = new ArrayList<>();
+            private BitSet replaceLines = new BitSet();
+            private int characters;
+
+            private ChunkWriter(final BufferedWriter bw) {
+                this.bw = bw;
+            }
+
+            @Override
+            public void handle(final String line, final boolean replace) throws IOException {
+                if (replace) {
+                    replaceLines.set(lines.size());
+                }
+                lines.add(line);
+                characters += line.length();
+
+                if (lines.size() >= CHUNK_MAXIMUM_LINES || characters >= CHUNK_MAXIMUM_CHARACTERS) {
+                    submitChunk();
+                }
+            }
+
+            private void submitChunk() throws IOException {
+                if (lines.isEmpty()) {
+                    return;
+                }
+
+                while (pendingChunks.size() >= maximumPendingChunks) {
+                    writeChunk(pendingChunks.removeFirst());
+                }
+
+                final List<String> chunkLines = lines;
+                final BitSet chunkReplaceLines = replaceLines;
+                pendingChunks.addLast(lineProcessingPool.submit(() -> replaceChunk(chunkLines, chunkReplaceLines)));
+
+                lines = new ArrayList<>();
+                replaceLines = new BitSet();
+                characters = 0;
+            }
+
+            private String replaceChunk(final List<String> chunkLines, final BitSet chunkReplaceLines) throws IOException {
+                final StringWriter chunkWriter = new StringWriter();
+                try (final BufferedWriter chunkBufferedWriter = new BufferedWriter(chunkWriter)) {
+                    for (int i = 0; i < chunkLines.size(); i++) {
+                        final String line = chunkLines.get(i);
+                        if (chunkReplaceLines.get(i)) {
+                            replaceLine.apply(chunkBufferedWriter, line);
+                        } else {
+                            chunkBufferedWriter.write(line);
+                        }
+                    }
+                }
+                return chunkWriter.toString();
+            }
+
+            private void writeChunk(final Future<String> chunk) throws IOException {
+                final String replaced;
+                try {
+                    replaced = chunk.get();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while replacing lines", e);
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof IOException ioException) {
+                        throw ioException;
+                    } else if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    } else if (cause instanceof Error error) {
+                        throw error;
                     }
+                    throw new IOException("Failed to replace lines", cause);
+                }
+                bw.write(replaced);
+            }
+
+            private void finish() throws IOException {
+                submitChunk();
+                while (!pendingChunks.isEmpty()) {
+                    writeChunk(pendingChunks.removeFirst());
+                }
+            }
+
+            private void cancel() {
+                for (final Future<String> pendingChunk : pendingChunks) {
+                    pendingChunk.cancel(true);
                 }
+                pendingChunks.clear();
             }
         }
     }
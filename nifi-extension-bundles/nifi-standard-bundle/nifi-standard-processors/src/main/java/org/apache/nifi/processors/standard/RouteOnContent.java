@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +52,7 @@ import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.io.InputStreamCallback;
 import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.stream.io.StreamUtils;
+import org.apache.nifi.util.search.regex.MultiPatternMatcher;
 
 @SideEffectFree
 @SupportsBatching
@@ -103,6 +105,7 @@ public class RouteOnContent extends AbstractProcessor {
 
     private final AtomicReference<Set<Relationship>> relationships = new AtomicReference<>();
     private List<PropertyDescriptor> properties;
+    private final AtomicReference<CompiledRegexes> compiledRegexesRef = new AtomicReference<>();
 
     @Override
     protected void init(final ProcessorInitializationContext context) {
@@ -191,13 +194,26 @@ public class RouteOnContent extends AbstractProcessor {
 
             final String contentString = new String(buffer, 0, bufferedByteCount.get(), charset);
 
+            final Map<String, String> regexes = new LinkedHashMap<>();
             for (final PropertyDescriptor descriptor : context.getProperties().keySet()) {
                 if (!descriptor.isDynamic()) {
                     continue;
                 }
 
                 final String regex = context.getProperty(descriptor).evaluateAttributeExpressions(flowFile, quoteDecorator).getValue();
-                final Pattern pattern = Pattern.compile(regex);
+                regexes.put(descriptor.getName(), regex);
+            }
+
+            // Scan the content once for literals required by the regular expressions to skip evaluating those that cannot match
+            final MultiPatternMatcher<String> multiPatternMatcher = getMultiPatternMatcher(regexes);
+            final Set<String> candidates = multiPatternMatcher.getCandidates(contentString);
+
+            for (final Map.Entry<String, Pattern> entry : multiPatternMatcher.getPatterns().entrySet()) {
+                if (!candidates.contains(entry.getKey())) {
+                    continue;
+                }
+
+                final Pattern pattern = entry.getValue();
                 final boolean matches;
                 if (context.getProperty(MATCH_REQUIREMENT).getValue().equalsIgnoreCase(MATCH_ALL)) {
                     matches = pattern.matcher(contentString).matches();
@@ -206,7 +222,7 @@ public class RouteOnContent extends AbstractProcessor {
                 }
 
                 if (matches) {
-                    final Relationship relationship = new Relationship.Builder().name(descriptor.getName()).build();
+                    final Relationship relationship = new Relationship.Builder().name(entry.getKey()).build();
                     destinations.add(relationship);
                 }
             }
@@ -240,4 +256,22 @@ public class RouteOnContent extends AbstractProcessor {
             }
         }
     }
+
+    private MultiPatternMatcher<String> getMultiPatternMatcher(final Map<String, String> regexes) {
+        final CompiledRegexes compiledRegexes = compiledRegexesRef.get();
+        if (compiledRegexes != null && compiledRegexes.regexes().equals(regexes)) {
+            return compiledRegexes.matcher();
+        }
+
+        final Map<String, Pattern> patterns = new LinkedHashMap<>();
+        for (final Map.Entry<String, String> entry : regexes.entrySet()) {
+            patterns.put(entry.getKey(), Pattern.compile(entry.getValue()));
+        }
+        final MultiPatternMatcher<String> matcher = new MultiPatternMatcher<>(patterns);
+        compiledRegexesRef.set(new CompiledRegexes(regexes, matcher));
+        return matcher;
+    }
+
+    private record CompiledRegexes(Map<String, String> regexes, MultiPatternMatcher<String> matcher) {
+    }
 }
@@ -50,6 +50,7 @@ import org.apache.nifi.processor.io.InputStreamCallback;
 import org.apache.nifi.processor.io.OutputStreamCallback;
 import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.stream.io.util.LineDemarcator;
+import org.apache.nifi.util.search.regex.MultiPatternMatcher;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -250,6 +251,11 @@ public class RouteText extends AbstractProcessor {
             .<String, Pattern>build()
             .asMap();
 
+    /**
+     * Matcher selecting candidate regular expressions for each line, rebuilt when the evaluated patterns change
+     */
+    private final AtomicReference<MultiPatternMatcher<Relationship>> multiPatternMatcherRef = new AtomicReference<>();
+
     private Pattern cachedCompiledPattern(final String regex, final boolean ignoreCase) {
         return patternsCache.computeIfAbsent(regex,
                 r -> ignoreCase ? Pattern.compile(r, Pattern.CASE_INSENSITIVE) : Pattern.compile(r));
@@ -438,6 +444,8 @@ public class RouteText extends AbstractProcessor {
             }
         }
 
+        final MultiPatternMatcher<Relationship> multiPatternMatcher = compileRegex ? getMultiPatternMatcher(propValueMap) : null;
+
         final Map<Relationship, Map<Group, FlowFile>> flowFileMap = new HashMap<>();
         final Pattern groupPattern = groupingRegex;
 
@@ -478,9 +486,13 @@ public class RouteText extends AbstractProcessor {
                         variables.put("line", line);
                         variables.put("lineNo", String.valueOf(++lineCount));
 
+                        // Scan the line once for literals required by the regular expressions to skip evaluating those that cannot match
+                        final Set<Relationship> candidates = multiPatternMatcher == null ? null : multiPatternMatcher.getCandidates(matchLine);
+
                         int propertiesThatMatchedLine = 0;
                         for (final Map.Entry<Relationship, Object> entry : propValueMap.entrySet()) {
-                            boolean lineMatchesProperty = lineMatches(matchLine, entry.getValue(), matchStrategy, ignoreCase, originalFlowFile, variables);
+                            final boolean candidate = candidates == null || candidates.contains(entry.getKey());
+                            boolean lineMatchesProperty = candidate && lineMatches(matchLine, entry.getValue(), matchStrategy, ignoreCase, originalFlowFile, variables);
                             if (lineMatchesProperty) {
                                 propertiesThatMatchedLine++;
                             }
@@ -554,6 +566,19 @@ public class RouteText extends AbstractProcessor {
     }
 
 
+    @SuppressWarnings("unchecked")
+    private MultiPatternMatcher<Relationship> getMultiPatternMatcher(final Map<Relationship, Object> propValueMap) {
+        final Map<Relationship, Pattern> patterns = (Map) propValueMap;
+        final MultiPatternMatcher<Relationship> cachedMatcher = multiPatternMatcherRef.get();
+        if (cachedMatcher != null && cachedMatcher.getPatterns().equals(patterns)) {
+            return cachedMatcher;
+        }
+
+        final MultiPatternMatcher<Relationship> matcher = new MultiPatternMatcher<>(patterns);
+        multiPatternMatcherRef.set(matcher);
+        return matcher;
+    }
+
     private Group getGroup(final String line, final Pattern groupPattern) {
         if (groupPattern == null) {
             return EMPTY_GROUP;
@@ -16,6 +16,12 @@
  */
 package org.apache.nifi.processors.standard;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
@@ -33,17 +39,20 @@ import org.apache.nifi.annotation.behavior.WritesAttributes;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
 import org.apache.nifi.annotation.lifecycle.OnScheduled;
+import org.apache.nifi.components.AllowableValue;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
+import org.apache.nifi.json.StreamingJsonPathEvaluator;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.ProcessorInitializationContext;
 import org.apache.nifi.processor.Relationship;
+import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.util.StandardValidators;
 
 import java.nio.charset.StandardCharsets;
@@ -57,6 +66,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.apache.nifi.flowfile.attributes.FragmentAttributes.FRAGMENT_COUNT;
 import static org.apache.nifi.flowfile.attributes.FragmentAttributes.FRAGMENT_ID;
@@ -83,9 +94,14 @@ import static org.apache.nifi.flowfile.attributes.FragmentAttributes.copyAttribu
 })
 @SystemResourceConsideration(resource = SystemResource.MEMORY, description = "The entirety of the FlowFile's content (as a JsonNode object) is read into memory, " +
         "in addition to all of the generated FlowFiles representing the split JSON. If many splits are generated due to the size of the JSON, or how the JSON is " +
-        "configured to be split, a two-phase approach may be necessary to avoid excessive use of memory.")
+        "configured to be split, a two-phase approach may be necessary to avoid excessive use of memory. When the Split Strategy is 'Reference Array Elements', " +
+        "the content is streamed instead and only the location of each split is held in memory.")
 public class SplitJson extends AbstractJsonPathProcessor {
 
+    private static final Pattern FIELD_PATH_PATTERN = Pattern.compile("^\\$((?:\\['(?:[^'\\\\]|\\\\.)*'\\])*)(?:\\[\\*\\])?$");
+
+    private static final Pattern FIELD_NAME_PATTERN = Pattern.compile("\\['((?:[^'\\\\]|\\\\.)*)'\\]");
+
     public static final PropertyDescriptor ARRAY_JSON_PATH_EXPRESSION = new PropertyDescriptor.Builder()
             .name("JsonPath Expression")
             .description("A JsonPath expression that indicates the array element to split into JSON/scalar fragments.")
@@ -93,6 +109,21 @@ public class SplitJson extends AbstractJsonPathProcessor {
             .required(true)
             .build();
 
+    public static final AllowableValue SPLIT_STRATEGY_PARSE = new AllowableValue("Parse Content", "Parse Content",
+            "The content is parsed into memory, the JsonPath Expression is evaluated against it and each element of the resulting array is serialized as the content of a split.");
+    public static final AllowableValue SPLIT_STRATEGY_REFERENCE = new AllowableValue("Reference Array Elements", "Reference Array Elements",
+            "The content is streamed to locate the array selected by the JsonPath Expression, and each split references the range of the original content holding "
+                    + "one element of the array instead of copying it. Elements, including strings and null values, are emitted exactly as they appear in the original content. "
+                    + "Only JsonPath Expressions that select an array through object fields are supported, such as $, $.records or $.data.records, optionally followed by [*].");
+
+    public static final PropertyDescriptor SPLIT_STRATEGY = new PropertyDescriptor.Builder()
+            .name("Split Strategy")
+            .description("Specifies how the array to split is located and how the content of each split is created")
+            .allowableValues(SPLIT_STRATEGY_PARSE, SPLIT_STRATEGY_REFERENCE)
+            .defaultValue(SPLIT_STRATEGY_PARSE.getValue())
+            .required(true)
+            .build();
+
     public static final Relationship REL_ORIGINAL = new Relationship.Builder()
             .name("original")
             .description("The original FlowFile that was split into segments. If the FlowFile fails processing, nothing will be sent to "
@@ -114,11 +145,14 @@ public class SplitJson extends AbstractJsonPathProcessor {
     private final AtomicReference<JsonPath> JSON_PATH_REF = new AtomicReference<>();
     private volatile String nullDefaultValue;
     private volatile Configuration jsonPathConfiguration;
+    private volatile JsonFactory jsonFactory;
+    private volatile StreamingJsonPathEvaluator<String> streamingEvaluator;
 
     @Override
     protected void init(final ProcessorInitializationContext context) {
         final List<PropertyDescriptor> properties = new ArrayList<>();
         properties.add(ARRAY_JSON_PATH_EXPRESSION);
+        properties.add(SPLIT_STRATEGY);
         properties.add(NULL_VALUE_DEFAULT_REPRESENTATION);
         properties.add(MAX_STRING_LENGTH);
         this.properties = Collections.unmodifiableList(properties);
@@ -165,7 +199,20 @@ public class SplitJson extends AbstractJsonPathProcessor {
         };
 
         String value = validationContext.getProperty(ARRAY_JSON_PATH_EXPRESSION).getValue();
-        return Collections.singleton(validator.validate(ARRAY_JSON_PATH_EXPRESSION.getName(), value, validationContext));
+        final ValidationResult pathResult = validator.validate(ARRAY_JSON_PATH_EXPRESSION.getName(), value, validationContext);
+
+        final JsonPath jsonPath = JSON_PATH_REF.get();
+        if (pathResult.isValid() && jsonPath != null && SPLIT_STRATEGY_REFERENCE.getValue().equals(validationContext.getProperty(SPLIT_STRATEGY).getValue())
+                && getArrayFieldNames(jsonPath) == null) {
+            return Collections.singleton(new ValidationResult.Builder()
+                    .subject(ARRAY_JSON_PATH_EXPRESSION.getDisplayName())
+                    .input(value)
+                    .valid(false)
+                    .explanation("the expression must select an array through object fields only when the Split Strategy is " + SPLIT_STRATEGY_REFERENCE.getDisplayName())
+                    .build());
+        }
+
+        return Collections.singleton(pathResult);
     }
 
     @OnScheduled
@@ -173,7 +220,15 @@ public class SplitJson extends AbstractJsonPathProcessor {
         nullDefaultValue = NULL_REPRESENTATION_MAP.get(processContext.getProperty(NULL_VALUE_DEFAULT_REPRESENTATION).getValue());
 
         final int maxStringLength = processContext.getProperty(MAX_STRING_LENGTH).asDataSize(DataUnit.B).intValue();
-        jsonPathConfiguration = createConfiguration(maxStringLength);
+        final ObjectMapper objectMapper = createObjectMapper(maxStringLength);
+        jsonPathConfiguration = createConfiguration(objectMapper);
+        jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder().maxStringLength(maxStringLength).build())
+                .build();
+
+        // Read only the selected array while streaming the content when the expression consists of field names and array indexes
+        final JsonPath jsonPath = JsonPath.compile(processContext.getProperty(ARRAY_JSON_PATH_EXPRESSION).getValue());
+        streamingEvaluator = createStreamingEvaluator(Map.of(ARRAY_JSON_PATH_EXPRESSION.getName(), jsonPath), objectMapper);
     }
 
     @Override
@@ -185,9 +240,20 @@ public class SplitJson extends AbstractJsonPathProcessor {
 
         final ComponentLog logger = getLogger();
 
-        DocumentContext documentContext;
+        if (SPLIT_STRATEGY_REFERENCE.getValue().equals(processContext.getProperty(SPLIT_STRATEGY).getValue())) {
+            splitArrayElementReferences(processSession, original);
+            return;
+        }
+
+        final StreamingJsonPathEvaluator<String> evaluator = streamingEvaluator;
+        DocumentContext documentContext = null;
+        Map<String, Object> evaluatedResults = null;
         try {
-            documentContext = validateAndEstablishJsonContext(processSession, original, jsonPathConfiguration);
+            if (evaluator == null) {
+                documentContext = validateAndEstablishJsonContext(processSession, original, jsonPathConfiguration);
+            } else {
+                evaluatedResults = evaluateStreaming(processSession, original, evaluator);
+            }
         } catch (InvalidJsonException e) {
             logger.error("FlowFile {} did not have valid JSON content.", original);
             processSession.transfer(original, REL_FAILURE);
@@ -198,7 +264,13 @@ public class SplitJson extends AbstractJsonPathProcessor {
 
         Object jsonPathResult;
         try {
-            jsonPathResult = documentContext.read(jsonPath);
+            if (documentContext != null) {
+                jsonPathResult = documentContext.read(jsonPath);
+            } else if (evaluatedResults.containsKey(ARRAY_JSON_PATH_EXPRESSION.getName())) {
+                jsonPathResult = evaluatedResults.get(ARRAY_JSON_PATH_EXPRESSION.getName());
+            } else {
+                throw new PathNotFoundException("No results for path: " + jsonPath.getPath());
+            }
         } catch (PathNotFoundException e) {
             logger.warn("JsonPath {} could not be found for FlowFile {}", jsonPath.getPath(), original);
             processSession.transfer(original, REL_FAILURE);
@@ -235,4 +307,111 @@ public class SplitJson extends AbstractJsonPathProcessor {
         processSession.transfer(original, REL_ORIGINAL);
         logger.info("Split {} into {} FlowFiles", original, resultList.size());
     }
-}
\ No newline at end of file
+
+    private void splitArrayElementReferences(final ProcessSession processSession, FlowFile original) {
+        final JsonPath jsonPath = JSON_PATH_REF.get();
+
+        final List<ElementRange> elementRanges;
+        try {
+            elementRanges = findArrayElements(processSession, original, getArrayFieldNames(jsonPath));
+        } catch (final ProcessException e) {
+            getLogger().error("Failed to locate the array selected by JsonPath {} in FlowFile {}", jsonPath.getPath(), original, e);
+            processSession.transfer(original, REL_FAILURE);
+            return;
+        }
+
+        final Map<String, String> attributes = new HashMap<>();
+        final String fragmentId = UUID.randomUUID().toString();
+        attributes.put(FRAGMENT_ID.key(), fragmentId);
+        attributes.put(FRAGMENT_COUNT.key(), Integer.toString(elementRanges.size()));
+        attributes.put(SEGMENT_ORIGINAL_FILENAME.key(), original.getAttribute(CoreAttributes.FILENAME.key()));
+
+        for (int i = 0; i < elementRanges.size(); i++) {
+            final ElementRange elementRange = elementRanges.get(i);
+            final FlowFile split = processSession.clone(original, elementRange.offset(), elementRange.length());
+            attributes.put(FRAGMENT_INDEX.key(), Integer.toString(i));
+            processSession.transfer(processSession.putAllAttributes(split, attributes), REL_SPLIT);
+        }
+
+        original = copyAttributesToOriginal(processSession, original, fragmentId, elementRanges.size());
+        processSession.transfer(original, REL_ORIGINAL);
+        getLogger().info("Split {} into {} FlowFiles referencing the original content", original, elementRanges.size());
+    }
+
+    /**
+     * Streams the content to find the byte range of each element of the array reached by following the given object field names from the root value.
+     * The remainder of the content is read as well so that invalid JSON is still routed to failure.
+     */
+    private List<ElementRange> findArrayElements(final ProcessSession processSession, final FlowFile flowFile, final List<String> fieldNames) {
+        final List<ElementRange> elementRanges = new ArrayList<>();
+        processSession.read(flowFile, in -> {
+            try (final JsonParser parser = jsonFactory.createParser(in)) {
+                JsonToken token = parser.nextToken();
+                for (final String fieldName : fieldNames) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new ProcessException("Field [%s] not found since its parent is not a JSON Object".formatted(fieldName));
+                    }
+
+                    token = null;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        final boolean matched = fieldName.equals(parser.currentName());
+                        final JsonToken valueToken = parser.nextToken();
+                        if (matched) {
+                            token = valueToken;
+                            break;
+                        }
+                        parser.skipChildren();
+                    }
+
+                    if (token == null) {
+                        throw new ProcessException("Field [%s] not found".formatted(fieldName));
+                    }
+                }
+
+                if (token != JsonToken.START_ARRAY) {
+                    throw new ProcessException("The selected value is not a JSON Array");
+                }
+
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of content within JSON Array");
+                    }
+
+                    final long offset = parser.currentTokenLocation().getByteOffset();
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    } else {
+                        parser.finishToken();
+                    }
+                    elementRanges.add(new ElementRange(offset, parser.currentLocation().getByteOffset() - offset));
+                }
+
+                while (parser.nextToken() != null) {
+                    parser.skipChildren();
+                }
+            }
+        });
+        return elementRanges;
+    }
+
+    /**
+     * Returns the object field names leading from the root value to the array selected by the given path, or <code>null</code> if the path
+     * selects anything other than an array reached through object fields.
+     */
+    private static List<String> getArrayFieldNames(final JsonPath jsonPath) {
+        final Matcher pathMatcher = FIELD_PATH_PATTERN.matcher(jsonPath.getPath());
+        if (!pathMatcher.matches()) {
+            return null;
+        }
+
+        final List<String> fieldNames = new ArrayList<>();
+        final Matcher fieldMatcher = FIELD_NAME_PATTERN.matcher(pathMatcher.group(1));
+        while (fieldMatcher.find()) {
+            fieldNames.add(fieldMatcher.group(1).replaceAll("\\\\(.)", "$1"));
+        }
+        return fieldNames;
+    }
+
+    private record ElementRange(long offset, long length) {
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.nifi.annotation.behavior.WritesAttribute;
 import org.apache.nifi.annotation.behavior.WritesAttributes;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.components.AllowableValue;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.flowfile.FlowFile;
@@ -65,7 +66,8 @@ import java.util.UUID;
 @SideEffectFree
 @Tags({"split", "generic", "schema", "json", "csv", "avro", "log", "logs", "freeform", "text"})
 @WritesAttributes({
-    @WritesAttribute(attribute = "mime.type", description = "Sets the mime.type attribute to the MIME Type specified by the Record Writer for the FlowFiles routed to the 'splits' Relationship."),
+    @WritesAttribute(attribute = "mime.type", description = "Sets the mime.type attribute to the MIME Type specified by the Record Writer for the FlowFiles routed to the 'splits' Relationship. "
+        + "When the Split Strategy is 'Reference Lines', the MIME Type of the original FlowFile is retained."),
     @WritesAttribute(attribute = "record.count", description = "The number of records in the FlowFile. This is added to FlowFiles that are routed to the 'splits' Relationship."),
     @WritesAttribute(attribute = "fragment.identifier", description = "All split FlowFiles produced from the same parent FlowFile will have the same randomly generated UUID added for this attribute"),
     @WritesAttribute(attribute = "fragment.index", description = "A one-up number that indicates the ordering of the split FlowFiles that were created from a single parent FlowFile"),
@@ -80,16 +82,32 @@ public class SplitRecord extends AbstractProcessor {
     public static final String FRAGMENT_COUNT = FragmentAttributes.FRAGMENT_COUNT.key();
     public static final String SEGMENT_ORIGINAL_FILENAME = FragmentAttributes.SEGMENT_ORIGINAL_FILENAME.key();
 
+    static final AllowableValue SPLIT_STRATEGY_RECORDS = new AllowableValue("Rewrite Records", "Rewrite Records",
+        "Each record is read with the Record Reader and each split is written with the Record Writer.");
+    static final AllowableValue SPLIT_STRATEGY_LINES = new AllowableValue("Reference Lines", "Reference Lines",
+        "The content is scanned for line boundaries without being parsed, and each split references a range of the original content instead of copying it. "
+            + "This requires that every record occupies exactly one line and that the content has no header, such as newline-delimited JSON or CSV without a header line. "
+            + "Blank lines are not counted as records, and the line terminator following the last record of a split is not included in the split.");
+
+    static final PropertyDescriptor SPLIT_STRATEGY = new PropertyDescriptor.Builder()
+        .name("Split Strategy")
+        .description("Specifies how the records of the incoming data are located and how the content of each split is created")
+        .allowableValues(SPLIT_STRATEGY_RECORDS, SPLIT_STRATEGY_LINES)
+        .defaultValue(SPLIT_STRATEGY_RECORDS.getValue())
+        .required(true)
+        .build();
     static final PropertyDescriptor RECORD_READER = new PropertyDescriptor.Builder()
         .name("Record Reader")
         .description("Specifies the Controller Service to use for reading incoming data")
         .identifiesControllerService(RecordReaderFactory.class)
+        .dependsOn(SPLIT_STRATEGY, SPLIT_STRATEGY_RECORDS)
         .required(true)
         .build();
     static final PropertyDescriptor RECORD_WRITER = new PropertyDescriptor.Builder()
         .name("Record Writer")
         .description("Specifies the Controller Service to use for writing out the records")
         .identifiesControllerService(RecordSetWriterFactory.class)
+        .dependsOn(SPLIT_STRATEGY, SPLIT_STRATEGY_RECORDS)
         .required(true)
         .build();
     static final PropertyDescriptor RECORDS_PER_SPLIT = new PropertyDescriptor.Builder()
@@ -117,6 +135,7 @@ public class SplitRecord extends AbstractProcessor {
     @Override
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
         final List<PropertyDescriptor> properties = new ArrayList<>();
+        properties.add(SPLIT_STRATEGY);
         properties.add(RECORD_READER);
         properties.add(RECORD_WRITER);
         properties.add(RECORDS_PER_SPLIT);
@@ -139,11 +158,15 @@ public class SplitRecord extends AbstractProcessor {
             return;
         }
 
+        final int maxRecords = Math.max(1, context.getProperty(RECORDS_PER_SPLIT).evaluateAttributeExpressions(original).asInteger());
+        if (SPLIT_STRATEGY_LINES.getValue().equals(context.getProperty(SPLIT_STRATEGY).getValue())) {
+            splitLines(session, original, maxRecords);
+            return;
+        }
+
         final RecordReaderFactory readerFactory = context.getProperty(RECORD_READER).asControllerService(RecordReaderFactory.class);
         final RecordSetWriterFactory writerFactory = context.getProperty(RECORD_WRITER).asControllerService(RecordSetWriterFactory.class);
 
-        final int maxRecords = Math.max(1, context.getProperty(RECORDS_PER_SPLIT).evaluateAttributeExpressions(original).asInteger());
-
         final List<FlowFile> splits = new ArrayList<>();
         final Map<String, String> originalAttributes = original.getAttributes();
         final String fragmentId = UUID.randomUUID().toString();
@@ -198,7 +221,7 @@ public class SplitRecord extends AbstractProcessor {
                 }
             });
         } catch (final ProcessException pe) {
-            getLogger().error("Failed to split", original, pe);
+            getLogger().error("Failed to split {}", original, pe);
             session.remove(splits);
             session.transfer(original, REL_FAILURE);
             return;
@@ -214,4 +237,98 @@ public class SplitRecord extends AbstractProcessor {
         getLogger().info("Successfully split {} into {} FlowFiles, each containing up to {} records", original, splits.size(), maxRecords);
     }
 
+    private void splitLines(final ProcessSession session, final FlowFile original, final int maxRecords) {
+        final List<LineRange> ranges;
+        try {
+            ranges = findLineRanges(session, original, maxRecords);
+        } catch (final ProcessException pe) {
+            getLogger().error("Failed to split {}", original, pe);
+            session.transfer(original, REL_FAILURE);
+            return;
+        }
+
+        final String fragmentId = UUID.randomUUID().toString();
+        final List<FlowFile> splits = new ArrayList<>(ranges.size());
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put(FRAGMENT_ID, fragmentId);
+        attributes.put(FRAGMENT_COUNT, String.valueOf(ranges.size()));
+        attributes.put(SEGMENT_ORIGINAL_FILENAME, original.getAttribute(CoreAttributes.FILENAME.key()));
+
+        long recordCount = 0;
+        for (int fragmentIndex = 0; fragmentIndex < ranges.size(); fragmentIndex++) {
+            final LineRange range = ranges.get(fragmentIndex);
+            final FlowFile split = session.clone(original, range.offset(), range.length());
+
+            attributes.put("record.count", String.valueOf(range.recordCount()));
+            attributes.put(FRAGMENT_INDEX, String.valueOf(fragmentIndex));
+            splits.add(session.putAllAttributes(split, attributes));
+            recordCount += range.recordCount();
+        }
+
+        session.adjustCounter("Records Split", recordCount, false);
+
+        final FlowFile originalFlowFile = FragmentAttributes.copyAttributesToOriginal(session, original, fragmentId, splits.size());
+        session.transfer(originalFlowFile, REL_ORIGINAL);
+        session.transfer(splits, REL_SPLITS);
+        getLogger().info("Successfully split {} into {} FlowFiles referencing the original content, each containing up to {} records", original, splits.size(), maxRecords);
+    }
+
+    /**
+     * Finds the ranges of the content holding each group of up to the given number of non-blank lines, without the line terminator of the last line in each group.
+     */
+    private List<LineRange> findLineRanges(final ProcessSession session, final FlowFile original, final int maxRecords) {
+        final List<LineRange> ranges = new ArrayList<>();
+        session.read(original, in -> {
+            final byte[] buffer = new byte[65536];
+
+            long offset = 0;
+            long lineStart = 0;
+            boolean lineBlank = true;
+            long rangeStart = -1;
+            long rangeEnd = 0;
+            int rangeRecords = 0;
+            byte previous = 0;
+
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++, offset++) {
+                    final byte b = buffer[i];
+                    if (b == '\n') {
+                        if (!lineBlank) {
+                            if (rangeStart < 0) {
+                                rangeStart = lineStart;
+                            }
+                            rangeEnd = previous == '\r' ? offset - 1 : offset;
+                            if (++rangeRecords == maxRecords) {
+                                ranges.add(new LineRange(rangeStart, rangeEnd - rangeStart, rangeRecords));
+                                rangeStart = -1;
+                                rangeRecords = 0;
+                            }
+                        }
+
+                        lineStart = offset + 1;
+                        lineBlank = true;
+                    } else if (lineBlank && !Character.isWhitespace(b)) {
+                        lineBlank = false;
+                    }
+                    previous = b;
+                }
+            }
+
+            if (!lineBlank) {
+                if (rangeStart < 0) {
+                    rangeStart = lineStart;
+                }
+                rangeEnd = offset;
+                rangeRecords++;
+            }
+            if (rangeRecords > 0) {
+                ranges.add(new LineRange(rangeStart, rangeEnd - rangeStart, rangeRecords));
+            }
+        });
+        return ranges;
+    }
+
+    private record LineRange(long offset, long length, int recordCount) {
+    }
 }
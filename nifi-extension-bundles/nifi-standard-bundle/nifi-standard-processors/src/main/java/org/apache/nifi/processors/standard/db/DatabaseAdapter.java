@@ -81,6 +81,24 @@ public interface DatabaseAdapter {
         return false;
     }
 
+    /**
+     * Tells whether this adapter supports INSERT statements with multiple VALUES rows, such as INSERT INTO t (a, b) VALUES (?, ?), (?, ?).
+     *
+     * @return true if multi-row INSERT statements are supported, false otherwise
+     */
+    default boolean supportsMultiRowInsert() {
+        return false;
+    }
+
+    /**
+     * Tells the maximum number of parameters that can be bound to a single prepared statement, used to limit the number of rows in a multi-row INSERT statement.
+     *
+     * @return The maximum number of parameters in a single statement
+     */
+    default int getMaxStatementParameters() {
+        return Integer.MAX_VALUE;
+    }
+
     /**
      * Tells How many times the column values need to be inserted into the prepared statement. Some DBs (such as MySQL) need the values specified twice in the statement,
      * some need only to specify them once.
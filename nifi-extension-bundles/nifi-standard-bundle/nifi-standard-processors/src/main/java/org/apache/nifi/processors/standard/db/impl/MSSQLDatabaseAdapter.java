@@ -38,6 +38,17 @@ public class MSSQLDatabaseAdapter implements DatabaseAdapter {
         return "Generates MS SQL Compatible SQL, for version 2012 or greater";
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
+    @Override
+    public int getMaxStatementParameters() {
+        // SQL Server allows at most 2,100 parameters per request, one of which may be used by the driver
+        return 2099;
+    }
+
     @Override
     public String getSelectStatement(String tableName, String columnNames, String whereClause, String orderByClause, Long limit, Long offset) {
         return getSelectStatement(tableName, columnNames, whereClause, orderByClause, limit, offset, null);
@@ -52,6 +52,12 @@ public class MySQLDatabaseAdapter extends GenericDatabaseAdapter {
         return "Generates MySQL compatible SQL";
     }
 
+    @Override
+    public int getMaxStatementParameters() {
+        // MySQL prepared statements are limited to 65,535 placeholders
+        return 65535;
+    }
+
     @Override
     public String unwrapIdentifier(String identifier) {
         // Removes double quotes and back-ticks.
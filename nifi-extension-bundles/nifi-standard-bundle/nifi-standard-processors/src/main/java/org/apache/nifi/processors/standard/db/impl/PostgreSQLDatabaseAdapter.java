@@ -50,6 +50,12 @@ public class PostgreSQLDatabaseAdapter extends GenericDatabaseAdapter {
         return "Generates PostgreSQL compatible SQL";
     }
 
+    @Override
+    public int getMaxStatementParameters() {
+        // Older PostgreSQL JDBC drivers limit bind parameters to a signed 16-bit count
+        return 32767;
+    }
+
     @Override
     public boolean supportsUpsert() {
         return true;
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.hash;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+
+/**
+ * Non-cryptographic checksum algorithms suitable for integrity checks and deduplication keys but not for security purposes.
+ */
+public enum ChecksumAlgorithm {
+
+    CRC32("CRC32", 4, java.util.zip.CRC32::new),
+    CRC32C("CRC32C", 4, java.util.zip.CRC32C::new),
+    XXH64("XXH64", 8, XXHash64::new);
+
+    private final String name;
+    private final int checksumBytesLength;
+    private final Supplier<Checksum> checksumSupplier;
+
+    ChecksumAlgorithm(final String name, final int checksumBytesLength, final Supplier<Checksum> checksumSupplier) {
+        this.name = name;
+        this.checksumBytesLength = checksumBytesLength;
+        this.checksumSupplier = checksumSupplier;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getChecksumBytesLength() {
+        return checksumBytesLength;
+    }
+
+    /**
+     * @return new Checksum instance for the algorithm
+     */
+    public Checksum createChecksum() {
+        return checksumSupplier.get();
+    }
+
+    /**
+     * Returns the algorithm matching the provided name ignoring case or {@code null} when not found
+     *
+     * @param algorithmName the algorithm name
+     * @return matching algorithm or null
+     */
+    public static ChecksumAlgorithm fromName(final String algorithmName) {
+        return Arrays.stream(ChecksumAlgorithm.values())
+                .filter(algorithm -> algorithm.name.equalsIgnoreCase(algorithmName))
+                .findFirst()
+                .orElse(null);
+    }
+}
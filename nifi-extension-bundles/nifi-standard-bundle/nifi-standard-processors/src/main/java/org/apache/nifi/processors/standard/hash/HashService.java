@@ -18,14 +18,19 @@ package org.apache.nifi.processors.standard.hash;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.Checksum;
 import org.apache.nifi.components.AllowableValue;
 import org.bouncycastle.crypto.digests.Blake2bDigest;
 import org.slf4j.Logger;
@@ -40,6 +45,7 @@ import org.slf4j.LoggerFactory;
 public class HashService {
     private static final Logger logger = LoggerFactory.getLogger(HashService.class);
     private static final int BUFFER_SIZE = 8192;
+    private static final int MULTIPLE_HASH_BUFFER_SIZE = 65536;
     private static final String UTF_16_DESCRIPTION = "This character set normally decodes using an optional BOM at the beginning of the data but encodes by inserting a BE BOM. " +
         "For hashing, it will be replaced with UTF-16BE. ";
 
@@ -112,6 +118,64 @@ public class HashService {
         }
     }
 
+    /**
+     * Returns the hex-encoded hash values of the specified stream for each of the specified algorithms, reading the stream once.
+     * Algorithm names may refer to a {@link HashAlgorithm} or a {@link ChecksumAlgorithm}.
+     *
+     * @param algorithmNames the names of the hash or checksum algorithms to use
+     * @param value          the value to hash (cannot be {@code null} but can be an empty stream)
+     * @return the hash values in hex keyed by the canonical algorithm name, in the order of the algorithm names provided
+     */
+    public static Map<String, String> hashValuesStreaming(final Collection<String> algorithmNames, final InputStream value) throws IOException {
+        if (algorithmNames == null || algorithmNames.isEmpty()) {
+            throw new IllegalArgumentException("The hash algorithms cannot be empty");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("The value cannot be null");
+        }
+
+        final Map<String, StreamingHash> hashes = new LinkedHashMap<>();
+        for (final String algorithmName : algorithmNames) {
+            final String canonicalName = getCanonicalAlgorithmName(algorithmName);
+            if (canonicalName == null) {
+                throw new IllegalArgumentException("No algorithm matches " + algorithmName);
+            }
+            hashes.computeIfAbsent(canonicalName, HashService::createStreamingHash);
+        }
+
+        final byte[] buffer = new byte[MULTIPLE_HASH_BUFFER_SIZE];
+        int read = value.read(buffer);
+        while (read != -1) {
+            for (final StreamingHash hash : hashes.values()) {
+                hash.update(buffer, read);
+            }
+            read = value.read(buffer);
+        }
+
+        final Map<String, String> hashValues = new LinkedHashMap<>();
+        for (final Map.Entry<String, StreamingHash> entry : hashes.entrySet()) {
+            hashValues.put(entry.getKey(), HexFormat.of().formatHex(entry.getValue().digest()));
+        }
+        return hashValues;
+    }
+
+    /**
+     * Returns the canonical name of the {@link HashAlgorithm} or {@link ChecksumAlgorithm} matching the specified name ignoring case.
+     *
+     * @param algorithmName the algorithm name
+     * @return the canonical algorithm name or {@code null} when no algorithm matches
+     */
+    public static String getCanonicalAlgorithmName(final String algorithmName) {
+        for (final HashAlgorithm hashAlgorithm : HashAlgorithm.values()) {
+            if (hashAlgorithm.getName().equalsIgnoreCase(algorithmName)) {
+                return hashAlgorithm.getName();
+            }
+        }
+
+        final ChecksumAlgorithm checksumAlgorithm = ChecksumAlgorithm.fromName(algorithmName);
+        return checksumAlgorithm == null ? null : checksumAlgorithm.getName();
+    }
+
     /**
      * Returns the hex-encoded hash of the specified value.
      *
@@ -238,4 +302,61 @@ public class HashService {
         blake2bDigest.doFinal(rawHash, 0);
         return rawHash;
     }
+
+    private static StreamingHash createStreamingHash(final String canonicalName) {
+        final ChecksumAlgorithm checksumAlgorithm = ChecksumAlgorithm.fromName(canonicalName);
+        if (checksumAlgorithm != null) {
+            final Checksum checksum = checksumAlgorithm.createChecksum();
+            final int checksumBytesLength = checksumAlgorithm.getChecksumBytesLength();
+            return new StreamingHash() {
+                @Override
+                public void update(final byte[] buffer, final int length) {
+                    checksum.update(buffer, 0, length);
+                }
+
+                @Override
+                public byte[] digest() {
+                    final byte[] value = ByteBuffer.allocate(Long.BYTES).putLong(checksum.getValue()).array();
+                    return Arrays.copyOfRange(value, Long.BYTES - checksumBytesLength, Long.BYTES);
+                }
+            };
+        }
+
+        final HashAlgorithm algorithm = HashAlgorithm.fromName(canonicalName);
+        if (algorithm.isBlake2()) {
+            final Blake2bDigest blake2bDigest = new Blake2bDigest(algorithm.getDigestBytesLength() * 8);
+            return new StreamingHash() {
+                @Override
+                public void update(final byte[] buffer, final int length) {
+                    blake2bDigest.update(buffer, 0, length);
+                }
+
+                @Override
+                public byte[] digest() {
+                    final byte[] rawHash = new byte[blake2bDigest.getDigestSize()];
+                    blake2bDigest.doFinal(rawHash, 0);
+                    return rawHash;
+                }
+            };
+        }
+
+        final MessageDigest messageDigest = getMessageDigest(algorithm);
+        return new StreamingHash() {
+            @Override
+            public void update(final byte[] buffer, final int length) {
+                messageDigest.update(buffer, 0, length);
+            }
+
+            @Override
+            public byte[] digest() {
+                return messageDigest.digest();
+            }
+        };
+    }
+
+    private interface StreamingHash {
+        void update(byte[] buffer, int length);
+
+        byte[] digest();
+    }
 }
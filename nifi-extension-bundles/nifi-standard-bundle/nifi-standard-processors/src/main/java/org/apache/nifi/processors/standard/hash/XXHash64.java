@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.hash;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+
+/**
+ * Streaming implementation of the non-cryptographic XXH64 hash function as described in the
+ * <a href="https://github.com/Cyan4973/xxHash/blob/dev/doc/xxhash_spec.md">xxHash specification</a>
+ */
+public class XXHash64 implements Checksum {
+
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+    private static final int STRIPE_LENGTH = 32;
+
+    private static final VarHandle LONG_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_HANDLE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final long seed;
+    private final byte[] stripe = new byte[STRIPE_LENGTH];
+    private final byte[] single = new byte[1];
+
+    private long accumulator1;
+    private long accumulator2;
+    private long accumulator3;
+    private long accumulator4;
+    private long totalLength;
+    private int stripeLength;
+
+    public XXHash64() {
+        this(0);
+    }
+
+    public XXHash64(final long seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    @Override
+    public void update(final int b) {
+        single[0] = (byte) b;
+        update(single, 0, 1);
+    }
+
+    @Override
+    public void update(final byte[] b, final int off, final int len) {
+        totalLength += len;
+
+        int offset = off;
+        final int end = off + len;
+        if (stripeLength > 0) {
+            final int length = Math.min(len, STRIPE_LENGTH - stripeLength);
+            System.arraycopy(b, offset, stripe, stripeLength, length);
+            stripeLength += length;
+            offset += length;
+            if (stripeLength < STRIPE_LENGTH) {
+                return;
+            }
+            processStripe(stripe, 0);
+            stripeLength = 0;
+        }
+
+        while (end - offset >= STRIPE_LENGTH) {
+            processStripe(b, offset);
+            offset += STRIPE_LENGTH;
+        }
+
+        if (offset < end) {
+            stripeLength = end - offset;
+            System.arraycopy(b, offset, stripe, 0, stripeLength);
+        }
+    }
+
+    @Override
+    public long getValue() {
+        long hash;
+        if (totalLength >= STRIPE_LENGTH) {
+            hash = Long.rotateLeft(accumulator1, 1) + Long.rotateLeft(accumulator2, 7) + Long.rotateLeft(accumulator3, 12) + Long.rotateLeft(accumulator4, 18);
+            hash = mergeRound(hash, accumulator1);
+            hash = mergeRound(hash, accumulator2);
+            hash = mergeRound(hash, accumulator3);
+            hash = mergeRound(hash, accumulator4);
+        } else {
+            hash = seed + PRIME_5;
+        }
+        hash += totalLength;
+
+        int offset = 0;
+        while (stripeLength - offset >= Long.BYTES) {
+            hash ^= round(0, (long) LONG_HANDLE.get(stripe, offset));
+            hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+            offset += Long.BYTES;
+        }
+        if (stripeLength - offset >= Integer.BYTES) {
+            hash ^= ((int) INT_HANDLE.get(stripe, offset) & 0xFFFFFFFFL) * PRIME_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+            offset += Integer.BYTES;
+        }
+        while (offset < stripeLength) {
+            hash ^= (stripe[offset] & 0xFFL) * PRIME_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME_1;
+            offset++;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    @Override
+    public void reset() {
+        accumulator1 = seed + PRIME_1 + PRIME_2;
+        accumulator2 = seed + PRIME_2;
+        accumulator3 = seed;
+        accumulator4 = seed - PRIME_1;
+        totalLength = 0;
+        stripeLength = 0;
+    }
+
+    private void processStripe(final byte[] b, final int offset) {
+        accumulator1 = round(accumulator1, (long) LONG_HANDLE.get(b, offset));
+        accumulator2 = round(accumulator2, (long) LONG_HANDLE.get(b, offset + 8));
+        accumulator3 = round(accumulator3, (long) LONG_HANDLE.get(b, offset + 16));
+        accumulator4 = round(accumulator4, (long) LONG_HANDLE.get(b, offset + 24));
+    }
+
+    private static long round(final long accumulator, final long input) {
+        return Long.rotateLeft(accumulator + input * PRIME_2, 31) * PRIME_1;
+    }
+
+    private static long mergeRound(final long hash, final long accumulator) {
+        return (hash ^ round(0, accumulator)) * PRIME_1 + PRIME_4;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Output Stream that splits written data into blocks of a fixed size and compresses each block independently on an
+ * Executor Service. Compressed blocks are written to the underlying stream in order, producing a concatenation of
+ * complete compressed streams such as gzip members or zstd and LZ4 frames. The number of blocks held in memory is
+ * limited to the configured maximum of pending blocks.
+ */
+public class ParallelBlockCompressionOutputStream extends OutputStream {
+
+    private final OutputStream out;
+    private final ExecutorService executorService;
+    private final BlockCompressor blockCompressor;
+    private final int blockSize;
+    private final int maximumPendingBlocks;
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+    private byte[] block;
+    private int blockLength;
+    private boolean blocksSubmitted;
+    private boolean closed;
+
+    /**
+     * Compressor creating a complete compressed stream for each block
+     */
+    @FunctionalInterface
+    public interface BlockCompressor {
+        /**
+         * Create compressing Output Stream writing to the provided Output Stream
+         *
+         * @param out Output Stream for compressed block
+         * @return Compressing Output Stream that completes the compressed stream when closed
+         * @throws IOException Thrown on failure to create Output Stream
+         */
+        OutputStream create(OutputStream out) throws IOException;
+    }
+
+    public ParallelBlockCompressionOutputStream(final OutputStream out, final ExecutorService executorService, final BlockCompressor blockCompressor,
+                                                final int blockSize, final int maximumPendingBlocks) {
+        this.out = Objects.requireNonNull(out, "Output Stream required");
+        this.executorService = Objects.requireNonNull(executorService, "Executor Service required");
+        this.blockCompressor = Objects.requireNonNull(blockCompressor, "Block Compressor required");
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block Size must be greater than 0");
+        }
+        if (maximumPendingBlocks < 1) {
+            throw new IllegalArgumentException("Maximum Pending Blocks must be greater than 0");
+        }
+        this.blockSize = blockSize;
+        this.maximumPendingBlocks = maximumPendingBlocks;
+        this.block = new byte[blockSize];
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        if (blockLength == blockSize) {
+            submitBlock();
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        Objects.checkFromIndexSize(off, len, b.length);
+
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            final int length = Math.min(remaining, blockSize - blockLength);
+            System.arraycopy(b, offset, block, blockLength, length);
+            blockLength += length;
+            offset += length;
+            remaining -= length;
+
+            if (blockLength == blockSize) {
+                submitBlock();
+            }
+        }
+    }
+
+    /**
+     * Writes completed blocks to the underlying stream and flushes it. Data buffered in the current block is not
+     * compressed until the block is full or the stream is closed, so that flushing does not produce small blocks.
+     *
+     * @throws IOException Thrown on failure to compress or write blocks
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peekFirst().isDone()) {
+            writeBlock(pendingBlocks.removeFirst());
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            // Submit an empty block when nothing was written to produce a valid compressed stream
+            if (blockLength > 0 || !blocksSubmitted) {
+                submitBlock();
+            }
+            while (!pendingBlocks.isEmpty()) {
+                writeBlock(pendingBlocks.removeFirst());
+            }
+            out.flush();
+        } finally {
+            for (final Future<byte[]> pendingBlock : pendingBlocks) {
+                pendingBlock.cancel(true);
+            }
+            pendingBlocks.clear();
+            out.close();
+        }
+    }
+
+    private void submitBlock() throws IOException {
+        while (pendingBlocks.size() >= maximumPendingBlocks) {
+            writeBlock(pendingBlocks.removeFirst());
+        }
+
+        final byte[] submittedBlock = block;
+        final int submittedLength = blockLength;
+        pendingBlocks.addLast(executorService.submit(() -> compress(submittedBlock, submittedLength)));
+        blocksSubmitted = true;
+
+        block = new byte[blockSize];
+        blockLength = 0;
+    }
+
+    private byte[] compress(final byte[] uncompressed, final int length) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(length / 2, 64));
+        try (final OutputStream compressionOut = blockCompressor.create(compressed)) {
+            compressionOut.write(uncompressed, 0, length);
+        }
+        return compressed.toByteArray();
+    }
+
+    private void writeBlock(final Future<byte[]> pendingBlock) throws IOException {
+        final byte[] compressed;
+        try {
+            compressed = pendingBlock.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing block", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Failed to compress block", cause);
+        }
+        out.write(compressed);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Input Stream that decompresses a concatenation of zstd or LZ4 frames concurrently on an Executor Service. Frame
+ * boundaries are located by reading frame headers and block headers without decoding, since both formats record the
+ * compressed size of each block. Decompressed frames are returned in order, and the number of frames held in memory
+ * is limited to the configured maximum of pending frames.
+ * <p>
+ * Frames are decompressed concurrently only when the compressed frame and the decompressed content fit within the
+ * configured block size. A larger decompressed frame is decompressed on the reading thread, and the remaining input
+ * is decompressed sequentially after a compressed frame that is too large or that cannot be parsed, so that the
+ * Frame Decompressor reports invalid input.
+ */
+public class ParallelFrameDecompressionInputStream extends InputStream {
+
+    private static final int SKIPPABLE_FRAME_MAGIC = 0x184D2A50;
+    private static final int SKIPPABLE_FRAME_MAGIC_MASK = 0xFFFFFFF0;
+
+    // Frames compressed from one block include headers and incompressible blocks stored with small block headers
+    private static final int FRAME_OVERHEAD = 1024;
+
+    private final InputStream in;
+    private final ExecutorService executorService;
+    private final FrameFormat frameFormat;
+    private final FrameDecompressor frameDecompressor;
+    private final int blockSize;
+    private final int maximumFrameLength;
+    private final int maximumPendingFrames;
+    private final Deque<PendingFrame> pendingFrames = new ArrayDeque<>();
+
+    private InputStream currentIn = InputStream.nullInputStream();
+    private InputStream sequentialIn;
+    private boolean framesRead;
+    private boolean framesExhausted;
+    private boolean closed;
+
+    /**
+     * Frame formats recording the compressed size of each block
+     */
+    public enum FrameFormat {
+        LZ4(0x184D2204),
+
+        ZSTD(0xFD2FB528);
+
+        private final int magic;
+
+        FrameFormat(final int magic) {
+            this.magic = magic;
+        }
+    }
+
+    /**
+     * Decompressor reading one or more complete frames
+     */
+    @FunctionalInterface
+    public interface FrameDecompressor {
+        /**
+         * Create decompressing Input Stream reading from the provided Input Stream
+         *
+         * @param in Input Stream containing compressed frames
+         * @return Decompressing Input Stream
+         * @throws IOException Thrown on failure to create Input Stream
+         */
+        InputStream create(InputStream in) throws IOException;
+    }
+
+    public ParallelFrameDecompressionInputStream(final InputStream in, final ExecutorService executorService, final FrameFormat frameFormat,
+                                                 final FrameDecompressor frameDecompressor, final int blockSize, final int maximumPendingFrames) {
+        this.in = Objects.requireNonNull(in, "Input Stream required");
+        this.executorService = Objects.requireNonNull(executorService, "Executor Service required");
+        this.frameFormat = Objects.requireNonNull(frameFormat, "Frame Format required");
+        this.frameDecompressor = Objects.requireNonNull(frameDecompressor, "Frame Decompressor required");
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block Size must be greater than 0");
+        }
+        if (maximumPendingFrames < 1) {
+            throw new IllegalArgumentException("Maximum Pending Frames must be greater than 0");
+        }
+        this.blockSize = blockSize;
+        this.maximumFrameLength = blockSize + blockSize / 64 + FRAME_OVERHEAD;
+        this.maximumPendingFrames = maximumPendingFrames;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        final int read = read(b, 0, 1);
+        return read == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+
+        while (true) {
+            final int read = currentIn.read(b, off, len);
+            if (read != -1) {
+                return read;
+            }
+            if (!nextInput()) {
+                return -1;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        for (final PendingFrame pendingFrame : pendingFrames) {
+            pendingFrame.decompressed().cancel(true);
+        }
+        pendingFrames.clear();
+
+        try (in) {
+            currentIn.close();
+            if (sequentialIn != null) {
+                sequentialIn.close();
+            }
+        }
+    }
+
+    private boolean nextInput() throws IOException {
+        currentIn.close();
+        submitFrames();
+
+        final PendingFrame pendingFrame = pendingFrames.pollFirst();
+        if (pendingFrame != null) {
+            final byte[] decompressed = getDecompressed(pendingFrame.decompressed());
+            if (decompressed == null) {
+                // Decompressed content larger than the block size is streamed from the frame on the reading thread
+                currentIn = frameDecompressor.create(new ByteArrayInputStream(pendingFrame.frame()));
+            } else {
+                currentIn = new ByteArrayInputStream(decompressed);
+            }
+            submitFrames();
+            return true;
+        }
+
+        if (sequentialIn != null) {
+            currentIn = sequentialIn;
+            sequentialIn = null;
+            return true;
+        }
+
+        currentIn = InputStream.nullInputStream();
+        return false;
+    }
+
+    private void submitFrames() throws IOException {
+        while (!framesExhausted && pendingFrames.size() < maximumPendingFrames) {
+            final FrameBuffer frameBuffer = new FrameBuffer();
+            final FrameStatus frameStatus = readFrame(frameBuffer);
+            switch (frameStatus) {
+                case FRAME -> {
+                    final byte[] frame = frameBuffer.toByteArray();
+                    pendingFrames.addLast(new PendingFrame(frame, executorService.submit(() -> decompress(frame))));
+                    framesRead = true;
+                }
+                case SKIPPED -> framesRead = true;
+                case END -> {
+                    framesExhausted = true;
+                    if (!framesRead) {
+                        // Empty input is passed to the Frame Decompressor to preserve its handling of missing frames
+                        sequentialIn = frameDecompressor.create(InputStream.nullInputStream());
+                    }
+                }
+                case SEQUENTIAL -> {
+                    framesExhausted = true;
+                    final InputStream remainingIn = new SequenceInputStream(frameBuffer.toInputStream(), in);
+                    sequentialIn = frameDecompressor.create(remainingIn);
+                }
+            }
+        }
+    }
+
+    private byte[] decompress(final byte[] frame) throws IOException {
+        try (final InputStream decompressionIn = frameDecompressor.create(new ByteArrayInputStream(frame))) {
+            final byte[] decompressed = decompressionIn.readNBytes(blockSize + 1);
+            return decompressed.length > blockSize ? null : decompressed;
+        }
+    }
+
+    private byte[] getDecompressed(final Future<byte[]> decompressed) throws IOException {
+        try {
+            return decompressed.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while decompressing frame", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Failed to decompress frame", cause);
+        }
+    }
+
+    private FrameStatus readFrame(final FrameBuffer frameBuffer) throws IOException {
+        final int magicLength = in.readNBytes(frameBuffer.buffer, 0, Integer.BYTES);
+        frameBuffer.length = magicLength;
+        if (magicLength == 0) {
+            return FrameStatus.END;
+        } else if (magicLength < Integer.BYTES) {
+            return FrameStatus.SEQUENTIAL;
+        }
+
+        final int magic = frameBuffer.getInt(0);
+        if ((magic & SKIPPABLE_FRAME_MAGIC_MASK) == SKIPPABLE_FRAME_MAGIC) {
+            if (!frameBuffer.read(Integer.BYTES)) {
+                return FrameStatus.SEQUENTIAL;
+            }
+            // Skippable frames contain user data that is not decompressed
+            in.skipNBytes(Integer.toUnsignedLong(frameBuffer.getInt(Integer.BYTES)));
+            return FrameStatus.SKIPPED;
+        } else if (magic != frameFormat.magic) {
+            return FrameStatus.SEQUENTIAL;
+        }
+
+        final boolean frameRead = switch (frameFormat) {
+            case LZ4 -> readLz4Frame(frameBuffer);
+            case ZSTD -> readZstdFrame(frameBuffer);
+        };
+        return frameRead ? FrameStatus.FRAME : FrameStatus.SEQUENTIAL;
+    }
+
+    private boolean readLz4Frame(final FrameBuffer frameBuffer) throws IOException {
+        if (!frameBuffer.read(2)) {
+            return false;
+        }
+        final int flags = frameBuffer.getByte(Integer.BYTES);
+        if ((flags >> 6) != 1) {
+            return false;
+        }
+        final boolean blockChecksum = (flags & 0x10) != 0;
+        final boolean contentSize = (flags & 0x08) != 0;
+        final boolean contentChecksum = (flags & 0x04) != 0;
+        final boolean dictionaryId = (flags & 0x01) != 0;
+
+        // Header Checksum follows the optional Content Size and Dictionary ID
+        final int headerLength = (contentSize ? Long.BYTES : 0) + (dictionaryId ? Integer.BYTES : 0) + 1;
+        if (!frameBuffer.read(headerLength)) {
+            return false;
+        }
+
+        while (true) {
+            final int blockHeaderIndex = frameBuffer.length;
+            if (!frameBuffer.read(Integer.BYTES)) {
+                return false;
+            }
+            final int blockHeader = frameBuffer.getInt(blockHeaderIndex);
+            if (blockHeader == 0) {
+                break;
+            }
+
+            // Highest bit indicates an uncompressed block and remaining bits contain the block size
+            final int blockLength = blockHeader & 0x7FFFFFFF;
+            if (!frameBuffer.read(blockLength) || (blockChecksum && !frameBuffer.read(Integer.BYTES))) {
+                return false;
+            }
+        }
+
+        return !contentChecksum || frameBuffer.read(Integer.BYTES);
+    }
+
+    private boolean readZstdFrame(final FrameBuffer frameBuffer) throws IOException {
+        if (!frameBuffer.read(1)) {
+            return false;
+        }
+        final int descriptor = frameBuffer.getByte(Integer.BYTES);
+        if ((descriptor & 0x08) != 0) {
+            return false;
+        }
+        final int contentSizeFlag = descriptor >> 6;
+        final boolean singleSegment = (descriptor & 0x20) != 0;
+        final boolean contentChecksum = (descriptor & 0x04) != 0;
+        final int dictionaryIdFlag = descriptor & 0x03;
+
+        final int windowDescriptorLength = singleSegment ? 0 : 1;
+        final int dictionaryIdLength = dictionaryIdFlag == 3 ? Integer.BYTES : dictionaryIdFlag;
+        final int contentSizeLength = switch (contentSizeFlag) {
+            case 0 -> singleSegment ? 1 : 0;
+            case 1 -> Short.BYTES;
+            case 2 -> Integer.BYTES;
+            default -> Long.BYTES;
+        };
+        if (!frameBuffer.read(windowDescriptorLength + dictionaryIdLength + contentSizeLength)) {
+            return false;
+        }
+
+        boolean lastBlock = false;
+        while (!lastBlock) {
+            final int blockHeaderIndex = frameBuffer.length;
+            if (!frameBuffer.read(3)) {
+                return false;
+            }
+            final int blockHeader = frameBuffer.getByte(blockHeaderIndex)
+                | frameBuffer.getByte(blockHeaderIndex + 1) << 8
+                | frameBuffer.getByte(blockHeaderIndex + 2) << 16;
+            lastBlock = (blockHeader & 1) != 0;
+            final int blockType = (blockHeader >> 1) & 0x03;
+            final int blockLength = blockHeader >>> 3;
+
+            // Run Length Encoded blocks contain a single byte repeated for the block size
+            final int blockContentLength = switch (blockType) {
+                case 0, 2 -> blockLength;
+                case 1 -> 1;
+                default -> -1;
+            };
+            if (blockContentLength < 0 || !frameBuffer.read(blockContentLength)) {
+                return false;
+            }
+        }
+
+        return !contentChecksum || frameBuffer.read(Integer.BYTES);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private enum FrameStatus {
+        FRAME,
+
+        SKIPPED,
+
+        END,
+
+        SEQUENTIAL
+    }
+
+    private record PendingFrame(byte[] frame, Future<byte[]> decompressed) {
+    }
+
+    /**
+     * Buffer for bytes of one frame read from the input, limited to the maximum frame length
+     */
+    private class FrameBuffer {
+        private byte[] buffer = new byte[256];
+        private int length;
+
+        /**
+         * Read bytes from the input into the buffer
+         *
+         * @param count Number of bytes to read
+         * @return Read status is false when the input ended or the frame exceeds the maximum frame length
+         * @throws IOException Thrown on failure to read input
+         */
+        private boolean read(final int count) throws IOException {
+            if (count > maximumFrameLength - length) {
+                return false;
+            }
+
+            final int requiredLength = length + count;
+            if (requiredLength > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(Math.max(requiredLength, buffer.length * 2), maximumFrameLength));
+            }
+            final int read = in.readNBytes(buffer, length, count);
+            length += read;
+            return read == count;
+        }
+
+        private int getByte(final int index) {
+            return buffer[index] & 0xFF;
+        }
+
+        private int getInt(final int index) {
+            return getByte(index) | getByte(index + 1) << 8 | getByte(index + 2) << 16 | getByte(index + 3) << 24;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buffer, 0, length);
+        }
+    }
+}
@@ -78,6 +78,28 @@ public class CryptographicHashContentTest {
         }
     }
 
+    @Test
+    void testShouldCalculateAdditionalHashesInSinglePass() throws IOException {
+        final byte[] content = StringUtils.repeat("apachenifi ", 8192).getBytes(StandardCharsets.UTF_8);
+        final Map<String, String> expectedHashValues = HashService.hashValuesStreaming(List.of("SHA-256", "MD5", "CRC32C", "XXH64"), new ByteArrayInputStream(content));
+
+        runner.setProperty(CryptographicHashContent.HASH_ALGORITHM, HashAlgorithm.SHA256.getName());
+        runner.setProperty(CryptographicHashContent.ADDITIONAL_HASH_ALGORITHMS, "md5, crc32c,XXH64");
+        runner.enqueue(content);
+
+        runner.run(1);
+
+        runner.assertAllFlowFilesTransferred(CryptographicHashContent.REL_SUCCESS, 1);
+        final MockFlowFile flowFile = runner.getFlowFilesForRelationship(CryptographicHashContent.REL_SUCCESS).get(0);
+        expectedHashValues.forEach((algorithmName, hashValue) -> flowFile.assertAttributeEquals("content_" + algorithmName, hashValue));
+    }
+
+    @Test
+    void testShouldRejectUnsupportedAdditionalHashAlgorithms() {
+        runner.setProperty(CryptographicHashContent.ADDITIONAL_HASH_ALGORITHMS, "CRC32,SHA-999");
+        runner.assertNotValid();
+    }
+
     @Test
     void testShouldCalculateHashOfEmptyContent() throws IOException {
         final String emptyContent = "";
@@ -465,6 +465,74 @@ public class PutDatabaseRecordTest {
         conn.close();
     }
 
+    @Test
+    public void testInsertMultiRowStatements() throws InitializationException, ProcessException, SQLException {
+        setRunner(TestCaseEnum.ROLLBACK_1000.getTestCase());
+        // Batch size not divisible by the rows per statement, so each batch ends with rows inserted using the single-row statement
+        runner.setProperty(PutDatabaseRecord.MAX_BATCH_SIZE, "5");
+        runner.setProperty(PutDatabaseRecord.ROWS_PER_INSERT_STATEMENT, "3");
+
+        recreateTable(createPersons);
+        final MockRecordParser parser = new MockRecordParser();
+        runner.addControllerService("parser", parser);
+        runner.enableControllerService(parser);
+
+        parser.addSchemaField("id", RecordFieldType.INT);
+        parser.addSchemaField("name", RecordFieldType.STRING);
+        parser.addSchemaField("code", RecordFieldType.INT);
+
+        final int recordCount = 12;
+        for (int i = 1; i <= recordCount; i++) {
+            parser.addRecord(i, i % 4 == 0 ? null : "rec" + i, 100 + i);
+        }
+
+        runner.setProperty(PutDatabaseRecord.RECORD_READER_FACTORY, "parser");
+        runner.setProperty(PutDatabaseRecord.STATEMENT_TYPE, PutDatabaseRecord.INSERT_TYPE);
+        runner.setProperty(PutDatabaseRecord.TABLE_NAME, "PERSONS");
+
+        runner.enqueue(new byte[0]);
+        runner.run();
+
+        runner.assertTransferCount(PutDatabaseRecord.REL_SUCCESS, 1);
+        assertEquals(3L, runner.getCounterValue("Batches Executed"));
+        final Connection conn = dbcp.getConnection();
+        final Statement stmt = conn.createStatement();
+        final ResultSet rs = stmt.executeQuery("SELECT * FROM PERSONS ORDER BY id");
+        for (int i = 1; i <= recordCount; i++) {
+            assertTrue(rs.next());
+            assertEquals(i, rs.getInt(1));
+            assertEquals(i % 4 == 0 ? null : "rec" + i, rs.getString(2));
+            assertEquals(100 + i, rs.getInt(3));
+        }
+        assertFalse(rs.next());
+
+        stmt.close();
+        conn.close();
+    }
+
+    @Test
+    public void testInsertMultiRowStatementsUnsupported() throws InitializationException {
+        setRunner(TestCaseEnum.DEFAULT_1000.getTestCase());
+        final MockRecordParser parser = new MockRecordParser();
+        runner.addControllerService("parser", parser);
+        runner.enableControllerService(parser);
+
+        runner.setProperty(PutDatabaseRecord.RECORD_READER_FACTORY, "parser");
+        runner.setProperty(PutDatabaseRecord.STATEMENT_TYPE, PutDatabaseRecord.INSERT_TYPE);
+        runner.setProperty(PutDatabaseRecord.TABLE_NAME, "PERSONS");
+        runner.setProperty(PutDatabaseRecord.ROWS_PER_INSERT_STATEMENT, "10");
+        runner.assertValid();
+
+        runner.setProperty(PutDatabaseRecord.DB_TYPE, "Oracle");
+        runner.assertNotValid();
+    }
+
+    @Test
+    public void testGenerateMultiRowInsert() {
+        assertEquals("INSERT INTO PERSONS (id, name) VALUES (?,?), (?,?), (?,?)",
+                PutDatabaseRecord.generateMultiRowInsert("INSERT INTO PERSONS (id, name) VALUES (?,?)", 2, 3));
+    }
+
     @Test
     public void testInsertNonRequiredColumns() throws InitializationException, ProcessException, SQLException {
         setRunner(TestCaseEnum.ROLLBACK_0.getTestCase());
@@ -43,6 +43,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -916,6 +917,72 @@ public class QueryDatabaseTableRecordTest {
         runner.clearTransferState();
     }
 
+    @Test
+    public void testFetchPartitions() throws SQLException, IOException {
+        final Connection con = ((DBCPService) runner.getControllerService("dbcp")).getConnection();
+        Statement stmt = con.createStatement();
+
+        try {
+            stmt.execute("drop table TEST_QUERY_DB_TABLE");
+        } catch (final SQLException sqle) {
+            // Ignore this error, probably a "table does not exist" since Derby doesn't yet support DROP IF EXISTS [DERBY-4842]
+        }
+
+        stmt.execute("create table TEST_QUERY_DB_TABLE (id integer, name varchar(100))");
+        for (int id = 10; id < 110; id++) {
+            stmt.execute("insert into TEST_QUERY_DB_TABLE (id, name) VALUES (" + id + ", 'Name " + id + "')");
+        }
+        stmt.execute("insert into TEST_QUERY_DB_TABLE (id, name) VALUES (null, 'No Identifier')");
+
+        runner.setProperty(QueryDatabaseTableRecord.TABLE_NAME, "TEST_QUERY_DB_TABLE");
+        runner.setIncomingConnection(false);
+        runner.setProperty(QueryDatabaseTableRecord.PARTITION_COLUMN, "ID");
+        runner.setProperty(QueryDatabaseTableRecord.FETCH_PARTITIONS, "4");
+
+        runner.run();
+        runner.assertAllFlowFilesTransferred(QueryDatabaseTableRecord.REL_SUCCESS, 4);
+        final String[] expectedRecordCounts = {"26", "25", "25", "25"};
+        for (int i = 0; i < expectedRecordCounts.length; i++) {
+            final MockFlowFile flowFile = runner.getFlowFilesForRelationship(QueryDatabaseTableRecord.REL_SUCCESS).get(i);
+            flowFile.assertAttributeEquals("record.count", expectedRecordCounts[i]);
+            flowFile.assertAttributeEquals("fragment.index", String.valueOf(i));
+            flowFile.assertAttributeEquals("fragment.count", "4");
+            flowFile.assertAttributeExists("fragment.identifier");
+        }
+        assertEquals(4, runner.getProvenanceEvents().size());
+        runner.clearTransferState();
+
+        // Track maximum values across partitions
+        runner.getStateManager().clear(Scope.CLUSTER);
+        runner.setProperty(QueryDatabaseTableRecord.MAX_VALUE_COLUMN_NAMES, "ID");
+        runner.setProperty(QueryDatabaseTableRecord.MAX_ROWS_PER_FLOW_FILE, "20");
+        runner.run();
+        runner.assertAllFlowFilesTransferred(QueryDatabaseTableRecord.REL_SUCCESS, 8);
+        runner.getFlowFilesForRelationship(QueryDatabaseTableRecord.REL_SUCCESS).forEach(flowFile -> flowFile.assertAttributeEquals("maxvalue.id", "109"));
+        runner.getStateManager().assertStateEquals("test_query_db_table" + AbstractDatabaseFetchProcessor.NAMESPACE_DELIMITER + "id", "109", Scope.CLUSTER);
+        runner.clearTransferState();
+
+        stmt.execute("insert into TEST_QUERY_DB_TABLE (id, name) VALUES (110, 'Name 110')");
+        stmt.execute("insert into TEST_QUERY_DB_TABLE (id, name) VALUES (111, 'Name 111')");
+        runner.run();
+        runner.assertAllFlowFilesTransferred(QueryDatabaseTableRecord.REL_SUCCESS, 2);
+        runner.getStateManager().assertStateEquals("test_query_db_table" + AbstractDatabaseFetchProcessor.NAMESPACE_DELIMITER + "id", "111", Scope.CLUSTER);
+        runner.clearTransferState();
+
+        runner.run();
+        runner.assertAllFlowFilesTransferred(QueryDatabaseTableRecord.REL_SUCCESS, 0);
+    }
+
+    @Test
+    public void testGetPartitionClauses() {
+        assertEquals(Arrays.asList("(ID IS NULL OR ID < 4)", "(ID >= 4 AND ID < 7)", "(ID >= 7)"),
+                AbstractQueryDatabaseTable.getPartitionClauses("ID", BigDecimal.ONE, BigDecimal.valueOf(9), 3));
+        assertEquals(Arrays.asList("(ID IS NULL OR ID < -1)", "(ID >= -1)"),
+                AbstractQueryDatabaseTable.getPartitionClauses("ID", new BigDecimal("-1.5"), new BigDecimal("-1.5"), 4));
+        assertEquals(Collections.singletonList(null),
+                AbstractQueryDatabaseTable.getPartitionClauses("ID", BigDecimal.valueOf(5), BigDecimal.valueOf(5), 4));
+    }
+
     @Test
     public void testInitialMaxValue() throws SQLException {
 
@@ -21,11 +21,16 @@ import org.apache.nifi.util.MockFlowFile;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -364,6 +369,135 @@ public class TestCompressContent {
         flowFile.assertAttributeEquals("filename", "SampleFile.txt.zst");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {CompressContent.COMPRESSION_FORMAT_GZIP, CompressContent.COMPRESSION_FORMAT_BZIP2,
+        CompressContent.COMPRESSION_FORMAT_LZ4_FRAMED, CompressContent.COMPRESSION_FORMAT_ZSTD})
+    public void testCompressWithThreadsDecompress(final String compressionFormat) throws Exception {
+        final TestRunner compressRunner = TestRunners.newTestRunner(CompressContent.class);
+        compressRunner.setProperty(CompressContent.MODE, CompressContent.MODE_COMPRESS);
+        compressRunner.setProperty(CompressContent.COMPRESSION_FORMAT, compressionFormat);
+        compressRunner.setProperty(CompressContent.COMPRESSION_THREADS, "4");
+        compressRunner.setProperty(CompressContent.COMPRESSION_BLOCK_SIZE, "4 KB");
+
+        compressRunner.enqueue(Paths.get("src/test/resources/CompressedData/SampleFile.txt"));
+        compressRunner.run();
+
+        compressRunner.assertAllFlowFilesTransferred(CompressContent.REL_SUCCESS, 1);
+        final MockFlowFile compressed = compressRunner.getFlowFilesForRelationship(CompressContent.REL_SUCCESS).get(0);
+
+        final TestRunner decompressRunner = TestRunners.newTestRunner(CompressContent.class);
+        decompressRunner.setProperty(CompressContent.MODE, CompressContent.MODE_DECOMPRESS);
+        decompressRunner.setProperty(CompressContent.COMPRESSION_FORMAT, compressionFormat);
+
+        decompressRunner.enqueue(compressed.toByteArray());
+        decompressRunner.run();
+
+        decompressRunner.assertAllFlowFilesTransferred(CompressContent.REL_SUCCESS, 1);
+        final MockFlowFile decompressed = decompressRunner.getFlowFilesForRelationship(CompressContent.REL_SUCCESS).get(0);
+        decompressed.assertContentEquals(Paths.get("src/test/resources/CompressedData/SampleFile.txt"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CompressContent.COMPRESSION_FORMAT_LZ4_FRAMED, CompressContent.COMPRESSION_FORMAT_ZSTD})
+    public void testCompressWithThreadsDecompressWithThreads(final String compressionFormat) throws Exception {
+        final TestRunner compressRunner = TestRunners.newTestRunner(CompressContent.class);
+        compressRunner.setProperty(CompressContent.MODE, CompressContent.MODE_COMPRESS);
+        compressRunner.setProperty(CompressContent.COMPRESSION_FORMAT, compressionFormat);
+        compressRunner.setProperty(CompressContent.COMPRESSION_THREADS, "4");
+        compressRunner.setProperty(CompressContent.COMPRESSION_BLOCK_SIZE, "4 KB");
+
+        compressRunner.enqueue(Paths.get("src/test/resources/CompressedData/SampleFile.txt"));
+        compressRunner.run();
+
+        compressRunner.assertAllFlowFilesTransferred(CompressContent.REL_SUCCESS, 1);
+        final MockFlowFile compressed = compressRunner.getFlowFilesForRelationship(CompressContent.REL_SUCCESS).get(0);
+
+        // Skippable frames are ignored when decompressing frames concurrently
+        final byte[] skippableFrame = new byte[]{0x50, 0x2A, 0x4D, 0x18, 4, 0, 0, 0, 1, 2, 3, 4};
+        final byte[] compressedContent = compressed.toByteArray();
+        final byte[] content = Arrays.copyOf(skippableFrame, skippableFrame.length + compressedContent.length);
+        System.arraycopy(compressedContent, 0, content, skippableFrame.length, compressedContent.length);
+
+        final TestRunner decompressRunner = TestRunners.newTestRunner(CompressContent.class);
+        decompressRunner.setProperty(CompressContent.MODE, CompressContent.MODE_DECOMPRESS);
+        decompressRunner.setProperty(CompressContent.COMPRESSION_FORMAT, compressionFormat);
+        decompressRunner.setProperty(CompressContent.COMPRESSION_THREADS, "4");
+        decompressRunner.setProperty(CompressContent.COMPRESSION_BLOCK_SIZE, "4 KB");
+
+        decompressRunner.enqueue(content);
+        decompressRunner.run();
+
+        decompressRunner.assertAllFlowFilesTransferred(CompressContent.REL_SUCCESS, 1);
+        final MockFlowFile decompressed = decompressRunner.getFlowFilesForRelationship(CompressContent.REL_SUCCESS).get(0);
+        decompressed.assertContentEquals(Paths.get("src/test/resources/CompressedData/SampleFile.txt"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {CompressContent.COMPRESSION_FORMAT_LZ4_FRAMED, CompressContent.COMPRESSION_FORMAT_ZSTD})
+    public void testDecompressWithThreadsFramesLargerThanBlockSize(final String compressionFormat) throws Exception {
+        final byte[] random = new byte[8192];
+        new Random(0).nextBytes(random);
+        final byte[] repeated = new byte[65536];
+        Arrays.fill(repeated, (byte) 'a');
+
+        final TestRunner compressRunner = TestRunners.newTestRunner(CompressContent.class);
+        compressRunner.setProperty(CompressContent.MODE, CompressContent.MODE_COMPRESS);
+        compressRunner.setProperty(CompressContent.COMPRESSION_FORMAT, compressionFormat);
+        compressRunner.enqueue(repeated);
+        compressRunner.enqueue(random);
+        compressRunner.run(2);
+
+        compressRunner.assertAllFlowFilesTransferred(CompressContent.REL_SUCCESS, 2);
+        final List<MockFlowFile> compressed = compressRunner.getFlowFilesForRelationship(CompressContent.REL_SUCCESS);
+        final byte[] repeatedFrame = compressed.get(0).toByteArray();
+        final byte[] randomFrame = compressed.get(1).toByteArray();
+
+        // Repeated content decompresses beyond the block size and random content is compressed beyond the block size
+        final byte[] content = Arrays.copyOf(repeatedFrame, repeatedFrame.length + randomFrame.length);
+        System.arraycopy(randomFrame, 0, content, repeatedFrame.length, randomFrame.length);
+
+        final TestRunner decompressRunner = TestRunners.newTestRunner(CompressContent.class);
+        decompressRunner.setProperty(CompressContent.MODE, CompressContent.MODE_DECOMPRESS);
+        decompressRunner.setProperty(CompressContent.COMPRESSION_FORMAT, compressionFormat);
+        decompressRunner.setProperty(CompressContent.COMPRESSION_THREADS, "4");
+        decompressRunner.setProperty(CompressContent.COMPRESSION_BLOCK_SIZE, "1 KB");
+
+        decompressRunner.enqueue(content);
+        decompressRunner.run();
+
+        decompressRunner.assertAllFlowFilesTransferred(CompressContent.REL_SUCCESS, 1);
+        final byte[] expected = Arrays.copyOf(repeated, repeated.length + random.length);
+        System.arraycopy(random, 0, expected, repeated.length, random.length);
+        decompressRunner.getFlowFilesForRelationship(CompressContent.REL_SUCCESS).get(0).assertContentEquals(expected);
+    }
+
+    @Test
+    public void testDecompressWithThreadsInvalidContent() {
+        final TestRunner runner = TestRunners.newTestRunner(CompressContent.class);
+        runner.setProperty(CompressContent.MODE, CompressContent.MODE_DECOMPRESS);
+        runner.setProperty(CompressContent.COMPRESSION_FORMAT, CompressContent.COMPRESSION_FORMAT_ZSTD);
+        runner.setProperty(CompressContent.COMPRESSION_THREADS, "4");
+
+        runner.enqueue("not compressed");
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(CompressContent.REL_FAILURE, 1);
+    }
+
+    @Test
+    public void testCompressionBlockSizeMaximum() {
+        final TestRunner runner = TestRunners.newTestRunner(CompressContent.class);
+        runner.setProperty(CompressContent.MODE, CompressContent.MODE_COMPRESS);
+        runner.setProperty(CompressContent.COMPRESSION_FORMAT, CompressContent.COMPRESSION_FORMAT_GZIP);
+        runner.setProperty(CompressContent.COMPRESSION_THREADS, "4");
+
+        runner.setProperty(CompressContent.COMPRESSION_BLOCK_SIZE, "64 MB");
+        runner.assertValid();
+
+        runner.setProperty(CompressContent.COMPRESSION_BLOCK_SIZE, "65 MB");
+        runner.assertNotValid();
+    }
+
     @Test
     public void testZstdDecompress() throws Exception {
         final TestRunner runner = TestRunners.newTestRunner(CompressContent.class);
@@ -17,7 +17,9 @@
 package org.apache.nifi.processors.standard;
 
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.nifi.controller.AbstractControllerService;
 import org.apache.nifi.distributed.cache.client.DistributedMapCacheClient;
+import org.apache.nifi.distributed.cache.client.MembershipFilterService;
 import org.apache.nifi.reporting.InitializationException;
 import org.apache.nifi.serialization.record.MockRecordParser;
 import org.apache.nifi.serialization.record.MockRecordWriter;
@@ -28,10 +30,14 @@ import org.apache.nifi.util.TestRunners;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -367,6 +373,46 @@ public class TestDeduplicateRecord {
         doCountTests(0, 1, 1, 1, 1, 3);
     }
 
+    @Test
+    public void testDeduplicateWithMembershipFilterService() throws Exception {
+        final MockMembershipFilterService filterService = new MockMembershipFilterService();
+        runner.addControllerService("filter", filterService);
+        runner.setProperty(DeduplicateRecord.DEDUPLICATION_STRATEGY, DeduplicateRecord.OPTION_MULTIPLE_FILES.getValue());
+        runner.assertNotValid();
+
+        runner.setProperty(DeduplicateRecord.MEMBERSHIP_FILTER_SERVICE, "filter");
+        runner.enableControllerService(filterService);
+        runner.assertValid();
+
+        filterService.put(FIRST_KEY_HASHED.getBytes(StandardCharsets.UTF_8));
+
+        reader.addRecord("John", "Q", "Smith");
+        reader.addRecord("Jack", "Z", "Brown");
+        reader.addRecord("Jack", "Z", "Brown");
+        reader.addRecord("Jane", "X", "Doe");
+
+        runner.enqueue("");
+        runner.run();
+
+        doCountTests(0, 1, 1, 1, 2, 2);
+        assertEquals(1, filterService.putAllInvocations);
+    }
+
+    @Test
+    public void testMembershipFilterServiceAndDMCNotValid() throws Exception {
+        final MockMembershipFilterService filterService = new MockMembershipFilterService();
+        runner.addControllerService("filter", filterService);
+        runner.enableControllerService(filterService);
+        final DistributedMapCacheClient dmc = new MockCacheService();
+        runner.addControllerService("dmc", dmc);
+        runner.enableControllerService(dmc);
+
+        runner.setProperty(DeduplicateRecord.DEDUPLICATION_STRATEGY, DeduplicateRecord.OPTION_MULTIPLE_FILES.getValue());
+        runner.setProperty(DeduplicateRecord.DISTRIBUTED_MAP_CACHE, "dmc");
+        runner.setProperty(DeduplicateRecord.MEMBERSHIP_FILTER_SERVICE, "filter");
+        runner.assertNotValid();
+    }
+
     void doCountTests(int failure, int original, int duplicates, int notDuplicates, int notDupeCount, int dupeCount) {
         runner.assertTransferCount(DeduplicateRecord.REL_FAILURE, failure);
         runner.assertTransferCount(DeduplicateRecord.REL_ORIGINAL, original);
@@ -384,4 +430,25 @@ public class TestDeduplicateRecord {
         }
     }
 
+    private static class MockMembershipFilterService extends AbstractControllerService implements MembershipFilterService {
+        private final Set<ByteBuffer> keys = new HashSet<>();
+
+        private int putAllInvocations;
+
+        @Override
+        public boolean mightContain(final byte[] key) {
+            return keys.contains(ByteBuffer.wrap(key));
+        }
+
+        @Override
+        public boolean put(final byte[] key) {
+            return keys.add(ByteBuffer.wrap(key));
+        }
+
+        @Override
+        public boolean[] putAll(final List<byte[]> keys) {
+            putAllInvocations++;
+            return MembershipFilterService.super.putAll(keys);
+        }
+    }
 }
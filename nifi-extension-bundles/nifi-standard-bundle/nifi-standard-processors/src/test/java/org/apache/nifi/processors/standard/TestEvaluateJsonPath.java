@@ -16,7 +16,9 @@
  */
 package org.apache.nifi.processors.standard;
 
+import com.jayway.jsonpath.JsonPath;
 import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.json.StreamingJsonPathEvaluator;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.util.MockFlowFile;
@@ -31,10 +33,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TestEvaluateJsonPath {
 
@@ -416,4 +422,88 @@ class TestEvaluateJsonPath {
         final MockFlowFile out = testRunner.getFlowFilesForRelationship(expectedRel).get(0);
         assertNotNull(out.getAttribute(jsonPathControlCharKey), "Transferred flow file did not have the correct result for id attribute");
     }
+
+    @Test
+    void testStreamingEvaluationMatchesJsonPath() {
+        final String json = """
+                {"id": 1, "big": 12345678901234567890, "ratio": 0.25, "flag": true, "nullField": null, "text": "line\\nbreak \\u00e9",
+                 "skipped": {"nested": [1, 2, {"deep": "value"}]}, "duplicate": {"value": "first"}, "duplicate": {"other": "last"},
+                 "record": {"name": "test", "tags": ["a", "b"], "child": {"count": 2}}, "items": [{"name": "x"}, null, [true]]}
+                """;
+        final Map<String, String> jsonPaths = Map.ofEntries(
+                Map.entry("id", "$.id"),
+                Map.entry("big", "$.big"),
+                Map.entry("ratio", "$.ratio"),
+                Map.entry("flag", "$.flag"),
+                Map.entry("nullField", "$.nullField"),
+                Map.entry("belowNull", "$.nullField.value"),
+                Map.entry("text", "$.text"),
+                Map.entry("duplicateFirst", "$.duplicate.value"),
+                Map.entry("duplicateLast", "$.duplicate.other"),
+                Map.entry("record", "$.record"),
+                Map.entry("recordName", "$['record']['name']"),
+                Map.entry("recordTag", "$.record.tags[1]"),
+                Map.entry("recordTagMissing", "$.record.tags[2]"),
+                Map.entry("recordChild", "$.record.child.count"),
+                Map.entry("itemName", "$.items[0].name"),
+                Map.entry("itemNull", "$.items[1]"),
+                Map.entry("itemNested", "$.items[2][0]"),
+                Map.entry("indexOnObject", "$.record[0]"),
+                Map.entry("fieldOnArray", "$.items.name"),
+                Map.entry("missing", "$.missing.value")
+        );
+
+        final Map<String, String> streamedAttributes = evaluateAttributes(json, jsonPaths);
+
+        // A wildcard expression requires evaluating all expressions against the parsed document
+        final Map<String, String> documentJsonPaths = new HashMap<>(jsonPaths);
+        documentJsonPaths.put("wildcard", "$.items[*]");
+        final Map<String, String> documentAttributes = evaluateAttributes(json, documentJsonPaths);
+
+        for (final String attributeName : jsonPaths.keySet()) {
+            assertEquals(documentAttributes.get(attributeName), streamedAttributes.get(attributeName), attributeName);
+        }
+        assertEquals("last", streamedAttributes.get("duplicateLast"));
+        assertEquals("", streamedAttributes.get("duplicateFirst"));
+        assertEquals("{\"name\":\"test\",\"tags\":[\"a\",\"b\"],\"child\":{\"count\":2}}", streamedAttributes.get("record"));
+    }
+
+    @Test
+    void testStreamingEvaluationSupportedPaths() {
+        assertTrue(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$")));
+        assertTrue(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$.store.book[0]['title']")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$.store.book[*]")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$..title")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$.store.book[-1]")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$.store.book.length()")));
+        assertFalse(StreamingJsonPathEvaluator.isSupported(JsonPath.compile("$.store['book','bicycle']")));
+    }
+
+    @Test
+    void testStreamingEvaluationInvalidJson() {
+        final TestRunner testRunner = TestRunners.newTestRunner(new EvaluateJsonPath());
+        testRunner.setProperty(EvaluateJsonPath.DESTINATION, EvaluateJsonPath.DESTINATION_ATTRIBUTE);
+        testRunner.setProperty("name", "$.record.name");
+
+        testRunner.enqueue("{\"record\": {\"name\": \"test\", \"tags\": [");
+        testRunner.enqueue("");
+        testRunner.enqueue("null");
+        testRunner.run(3);
+
+        testRunner.assertAllFlowFilesTransferred(EvaluateJsonPath.REL_FAILURE, 3);
+    }
+
+    private Map<String, String> evaluateAttributes(final String json, final Map<String, String> jsonPaths) {
+        final TestRunner testRunner = TestRunners.newTestRunner(new EvaluateJsonPath());
+        testRunner.setProperty(EvaluateJsonPath.DESTINATION, EvaluateJsonPath.DESTINATION_ATTRIBUTE);
+        testRunner.setProperty(EvaluateJsonPath.RETURN_TYPE, EvaluateJsonPath.RETURN_TYPE_JSON);
+        testRunner.setProperty(EvaluateJsonPath.NULL_VALUE_DEFAULT_REPRESENTATION, AbstractJsonPathProcessor.NULL_STRING_OPTION);
+        jsonPaths.forEach(testRunner::setProperty);
+
+        testRunner.enqueue(json);
+        testRunner.run();
+
+        testRunner.assertAllFlowFilesTransferred(EvaluateJsonPath.REL_MATCH, 1);
+        return testRunner.getFlowFilesForRelationship(EvaluateJsonPath.REL_MATCH).get(0).getAttributes();
+    }
 }
@@ -55,6 +55,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -163,6 +164,12 @@ public class TestListFile {
         dumpState.dumpState(startedAtMillis);
     }
 
+    private void runWithoutInitialization(final boolean initialize) throws InterruptedException {
+        runner.clearTransferState();
+        Thread.sleep(AbstractListProcessor.LISTING_LAG_MILLIS.get(TimeUnit.SECONDS) * 2);
+        runner.run(1, false, initialize);
+    }
+
     @Test
     public void testGetPath() {
         runner.setProperty(ListFile.DIRECTORY, "/dir/test1");
@@ -727,6 +734,109 @@ public class TestListFile {
         assertEquals(1, successFiles2.size());
     }
 
+    @Test
+    public void testRecurseWithListingThreads() throws Exception {
+        final long now = getTestModifiedTime();
+
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 3; j++) {
+                final File subdir = new File(TESTDIR + "/subdir" + i + "/subdir" + j);
+                assertTrue(subdir.mkdirs());
+
+                final File file = new File(subdir, "file" + i + j + ".txt");
+                assertTrue(file.createNewFile());
+                assertTrue(file.setLastModified(now));
+            }
+        }
+
+        runner.setProperty(ListFile.DIRECTORY, testDir.getAbsolutePath());
+        runner.setProperty(ListFile.RECURSE, "true");
+        runner.setProperty(ListFile.LISTING_THREADS, "4");
+        assertVerificationOutcome(Outcome.SUCCESSFUL, "Successfully listed .* Found 12 objects.  Of those, 12 match the filter.");
+        runNext();
+        runner.assertAllFlowFilesTransferred(ListFile.REL_SUCCESS, 12);
+
+        final Set<String> paths = runner.getFlowFilesForRelationship(ListFile.REL_SUCCESS).stream()
+                .map(flowFile -> flowFile.getAttribute(CoreAttributes.PATH.key()) + flowFile.getAttribute(CoreAttributes.FILENAME.key()))
+                .collect(Collectors.toSet());
+        assertEquals(12, paths.size());
+        assertTrue(paths.contains("subdir3" + File.separator + "subdir2" + File.separator + "file32.txt"));
+    }
+
+    @Test
+    public void testSkipUnchangedDirectories() throws Exception {
+        final long now = getTestModifiedTime();
+
+        final File subdir = new File(TESTDIR + "/subdir");
+        assertTrue(subdir.mkdirs());
+
+        final File olderFile = new File(subdir, "older.txt");
+        assertTrue(olderFile.createNewFile());
+        assertTrue(olderFile.setLastModified(now - 10_000L));
+
+        final File newerFile = new File(TESTDIR + "/newer.txt");
+        assertTrue(newerFile.createNewFile());
+        assertTrue(newerFile.setLastModified(now));
+
+        // directories last modified at or after the minimum timestamp are not indexed, since entries may still be added within the same timestamp
+        assertTrue(subdir.setLastModified(now - 10_000L));
+
+        runner.setProperty(ListFile.DIRECTORY, testDir.getAbsolutePath());
+        runner.setProperty(ListFile.RECURSE, "true");
+        runner.setProperty(ListFile.SKIP_UNCHANGED_DIRECTORIES, "true");
+
+        runWithoutInitialization(true);
+        runner.assertAllFlowFilesTransferred(ListFile.REL_SUCCESS, 2);
+
+        // the subdirectory only holds files older than the latest listed timestamp, so it is recorded as unchanged
+        runWithoutInitialization(false);
+        runner.assertTransferCount(ListFile.REL_SUCCESS, 0);
+
+        // modifying the file in place does not change its directory, so the directory is skipped
+        assertTrue(olderFile.setLastModified(now + 1_000L));
+        runWithoutInitialization(false);
+        runner.assertTransferCount(ListFile.REL_SUCCESS, 0);
+
+        // adding a file changes the directory, so its files are listed again
+        final File addedFile = new File(subdir, "added.txt");
+        assertTrue(addedFile.createNewFile());
+        assertTrue(addedFile.setLastModified(now + 1_000L));
+        runWithoutInitialization(false);
+        runner.assertAllFlowFilesTransferred(ListFile.REL_SUCCESS, 2);
+    }
+
+    @Test
+    public void testSkipUnchangedDirectoriesRecentlyModified() throws Exception {
+        final long now = getTestModifiedTime();
+
+        final File subdir = new File(TESTDIR + "/subdir");
+        assertTrue(subdir.mkdirs());
+
+        final File olderFile = new File(subdir, "older.txt");
+        assertTrue(olderFile.createNewFile());
+        assertTrue(olderFile.setLastModified(now - 10_000L));
+        assertTrue(subdir.setLastModified(now));
+
+        final File newerFile = new File(TESTDIR + "/newer.txt");
+        assertTrue(newerFile.createNewFile());
+        assertTrue(newerFile.setLastModified(now));
+
+        runner.setProperty(ListFile.DIRECTORY, testDir.getAbsolutePath());
+        runner.setProperty(ListFile.RECURSE, "true");
+        runner.setProperty(ListFile.SKIP_UNCHANGED_DIRECTORIES, "true");
+
+        runWithoutInitialization(true);
+        runner.assertAllFlowFilesTransferred(ListFile.REL_SUCCESS, 2);
+
+        runWithoutInitialization(false);
+        runner.assertTransferCount(ListFile.REL_SUCCESS, 0);
+
+        // the subdirectory was last modified at the minimum timestamp, so it is not recorded as unchanged and its files are listed again
+        assertTrue(olderFile.setLastModified(now + 1_000L));
+        runWithoutInitialization(false);
+        runner.assertAllFlowFilesTransferred(ListFile.REL_SUCCESS, 1);
+    }
+
     @Test
     public void testReadable() throws Exception {
         final long now = getTestModifiedTime();
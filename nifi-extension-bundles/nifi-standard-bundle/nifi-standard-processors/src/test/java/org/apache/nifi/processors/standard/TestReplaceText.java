@@ -632,6 +632,33 @@ public class TestReplaceText {
         out.assertContentEquals("Good-bye, World!");
     }
 
+    @Test
+    public void testRegexReplaceLineByLineWithProcessingThreads() {
+        final TestRunner runner = getRunner();
+        runner.setProperty(ReplaceText.SEARCH_VALUE, "value=(\\d+)");
+        runner.setProperty(ReplaceText.REPLACEMENT_VALUE, "v=$1");
+        runner.setProperty(ReplaceText.REPLACEMENT_STRATEGY, ReplaceText.REGEX_REPLACE);
+        runner.setProperty(ReplaceText.EVALUATION_MODE, ReplaceText.LINE_BY_LINE);
+        runner.setProperty(ReplaceText.LINE_BY_LINE_EVALUATION_MODE, ReplaceText.EXCEPT_FIRST_LINE);
+        runner.setProperty(ReplaceText.LINE_PROCESSING_THREADS, "4");
+
+        final StringBuilder content = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            content.append("line ").append(i).append(" value=").append(i).append('\n');
+            expected.append("line ").append(i).append(i == 0 ? " value=" : " v=").append(i).append('\n');
+        }
+        content.append("last value=5000");
+        expected.append("last v=5000");
+        runner.enqueue(content.toString());
+
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(ReplaceText.REL_SUCCESS, 1);
+        final MockFlowFile out = runner.getFlowFilesForRelationship(ReplaceText.REL_SUCCESS).get(0);
+        out.assertContentEquals(expected.toString());
+    }
+
     @Test
     public void testRegexWithExpressionLanguageIsEscaped() throws IOException {
         final TestRunner runner = getRunner();
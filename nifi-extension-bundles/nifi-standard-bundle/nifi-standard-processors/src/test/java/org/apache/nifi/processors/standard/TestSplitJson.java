@@ -34,6 +34,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.apache.nifi.flowfile.attributes.FragmentAttributes.FRAGMENT_COUNT;
 import static org.apache.nifi.flowfile.attributes.FragmentAttributes.FRAGMENT_ID;
@@ -287,4 +288,58 @@ public class TestSplitJson {
         testRunner.run();
         testRunner.assertTransferCount(SplitJson.REL_FAILURE, 1);
     }
+
+    @Test
+    public void testSplitReferenceArrayElements() {
+        final TestRunner testRunner = TestRunners.newTestRunner(new SplitJson());
+        testRunner.setProperty(SplitJson.ARRAY_JSON_PATH_EXPRESSION, "$.data.records[*]");
+        testRunner.setProperty(SplitJson.SPLIT_STRATEGY, SplitJson.SPLIT_STRATEGY_REFERENCE.getValue());
+
+        final String content = "{\"skipped\": {\"records\": [1]}, \"data\": {\"count\": 4, \"records\": [ {\"id\": 1, \"tags\": [\"a\", \"b\"]}, \"two\", 3.5, null ]}}";
+        testRunner.enqueue(content, Collections.singletonMap(CoreAttributes.FILENAME.key(), "test.json"));
+        testRunner.run();
+
+        testRunner.assertTransferCount(SplitJson.REL_ORIGINAL, 1);
+        testRunner.assertTransferCount(SplitJson.REL_SPLIT, 4);
+        final MockFlowFile originalFlowFile = testRunner.getFlowFilesForRelationship(SplitJson.REL_ORIGINAL).get(0);
+        originalFlowFile.assertContentEquals(content);
+        originalFlowFile.assertAttributeEquals(FRAGMENT_COUNT.key(), "4");
+
+        final List<MockFlowFile> splits = testRunner.getFlowFilesForRelationship(SplitJson.REL_SPLIT);
+        splits.get(0).assertContentEquals("{\"id\": 1, \"tags\": [\"a\", \"b\"]}");
+        splits.get(1).assertContentEquals("\"two\"");
+        splits.get(2).assertContentEquals("3.5");
+        splits.get(3).assertContentEquals("null");
+        for (int i = 0; i < splits.size(); i++) {
+            splits.get(i).assertAttributeEquals(FRAGMENT_INDEX.key(), String.valueOf(i));
+            splits.get(i).assertAttributeEquals(FRAGMENT_COUNT.key(), "4");
+            splits.get(i).assertAttributeEquals(FRAGMENT_ID.key(), originalFlowFile.getAttribute(FRAGMENT_ID.key()));
+            splits.get(i).assertAttributeEquals(SEGMENT_ORIGINAL_FILENAME.key(), "test.json");
+        }
+    }
+
+    @Test
+    public void testSplitReferenceArrayElementsFailure() {
+        final TestRunner testRunner = TestRunners.newTestRunner(new SplitJson());
+        testRunner.setProperty(SplitJson.ARRAY_JSON_PATH_EXPRESSION, "$.records");
+        testRunner.setProperty(SplitJson.SPLIT_STRATEGY, SplitJson.SPLIT_STRATEGY_REFERENCE.getValue());
+
+        testRunner.enqueue("{\"records\": {\"id\": 1}}");
+        testRunner.enqueue("{\"other\": []}");
+        testRunner.enqueue("{\"records\": [1, 2]");
+        testRunner.run(3);
+
+        testRunner.assertAllFlowFilesTransferred(SplitJson.REL_FAILURE, 3);
+    }
+
+    @Test
+    public void testSplitReferenceArrayElementsUnsupportedPath() {
+        final TestRunner testRunner = TestRunners.newTestRunner(new SplitJson());
+        testRunner.setProperty(SplitJson.SPLIT_STRATEGY, SplitJson.SPLIT_STRATEGY_REFERENCE.getValue());
+        testRunner.setProperty(SplitJson.ARRAY_JSON_PATH_EXPRESSION, "$[0].range");
+        testRunner.assertNotValid();
+
+        testRunner.setProperty(SplitJson.ARRAY_JSON_PATH_EXPRESSION, "$");
+        testRunner.assertValid();
+    }
 }
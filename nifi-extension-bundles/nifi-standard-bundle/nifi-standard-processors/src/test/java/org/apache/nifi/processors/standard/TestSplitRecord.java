@@ -193,4 +193,34 @@ public class TestSplitRecord {
         assertTrue(original == failed);
     }
 
+    @Test
+    public void testReferenceLines() {
+        final TestRunner runner = TestRunners.newTestRunner(SplitRecord.class);
+        runner.setProperty(SplitRecord.SPLIT_STRATEGY, SplitRecord.SPLIT_STRATEGY_LINES.getValue());
+        runner.setProperty(SplitRecord.RECORDS_PER_SPLIT, "2");
+
+        final MockFlowFile inputFlowFile = runner.enqueue("{\"id\":1}\r\n\n{\"id\":2}\n{\"id\":3}\n  \n{\"id\":4}\n{\"id\":5}");
+        runner.run();
+
+        runner.assertTransferCount(SplitRecord.REL_SPLITS, 3);
+        runner.assertTransferCount(SplitRecord.REL_ORIGINAL, 1);
+        runner.assertTransferCount(SplitRecord.REL_FAILURE, 0);
+
+        final List<MockFlowFile> out = runner.getFlowFilesForRelationship(SplitRecord.REL_SPLITS);
+        out.get(0).assertContentEquals("{\"id\":1}\r\n\n{\"id\":2}");
+        out.get(0).assertAttributeEquals("record.count", "2");
+        out.get(1).assertContentEquals("{\"id\":3}\n  \n{\"id\":4}");
+        out.get(1).assertAttributeEquals("record.count", "2");
+        out.get(2).assertContentEquals("{\"id\":5}");
+        out.get(2).assertAttributeEquals("record.count", "1");
+
+        for (int fragmentIndex = 0; fragmentIndex < out.size(); fragmentIndex++) {
+            final MockFlowFile split = out.get(fragmentIndex);
+            split.assertAttributeEquals(SplitRecord.FRAGMENT_COUNT, "3");
+            split.assertAttributeEquals(SplitRecord.FRAGMENT_INDEX, String.valueOf(fragmentIndex));
+            split.assertAttributeEquals(SplitRecord.SEGMENT_ORIGINAL_FILENAME, inputFlowFile.getAttribute(CoreAttributes.FILENAME.key()));
+        }
+
+        runner.getFlowFilesForRelationship(SplitRecord.REL_ORIGINAL).get(0).assertAttributeEquals(SplitRecord.FRAGMENT_COUNT, "3");
+    }
 }
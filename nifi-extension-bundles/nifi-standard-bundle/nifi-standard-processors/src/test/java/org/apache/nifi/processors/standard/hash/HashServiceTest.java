@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -330,6 +331,34 @@ public class HashServiceTest {
         });
     }
 
+    @Test
+    void testShouldHashMultipleValuesFromStream() throws IOException {
+        final byte[] value = StringUtils.repeat(KNOWN_VALUE, 10000).getBytes(StandardCharsets.UTF_8);
+        final List<String> algorithmNames = List.of("sha-256", "MD5", "BLAKE2-256", "crc32c", "XXH64");
+
+        final Map<String, String> hashValues = HashService.hashValuesStreaming(algorithmNames, new ByteArrayInputStream(value));
+
+        assertEquals(List.of("SHA-256", "MD5", "BLAKE2-256", "CRC32C", "XXH64"), new ArrayList<>(hashValues.keySet()));
+        assertEquals(HashService.hashValueStreaming(HashAlgorithm.SHA256, new ByteArrayInputStream(value)), hashValues.get("SHA-256"));
+        assertEquals(HashService.hashValueStreaming(HashAlgorithm.MD5, new ByteArrayInputStream(value)), hashValues.get("MD5"));
+        assertEquals(HashService.hashValueStreaming(HashAlgorithm.BLAKE2_256, new ByteArrayInputStream(value)), hashValues.get("BLAKE2-256"));
+
+        final CRC32C crc32c = new CRC32C();
+        crc32c.update(value);
+        assertEquals("%08x".formatted(crc32c.getValue()), hashValues.get("CRC32C"));
+    }
+
+    @Test
+    void testShouldHashXXH64KnownValues() throws IOException {
+        final Map<String, String> emptyValues = HashService.hashValuesStreaming(List.of("XXH64"), new ByteArrayInputStream(new byte[0]));
+        assertEquals("ef46db3751d8e999", emptyValues.get("XXH64"));
+
+        final Map<String, String> knownValues = HashService.hashValuesStreaming(List.of("XXH64"), new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("44bc2cf5ad770999", knownValues.get("XXH64"));
+
+        assertThrows(IllegalArgumentException.class, () -> HashService.hashValuesStreaming(List.of("XXH3"), new ByteArrayInputStream(new byte[0])));
+    }
+
     @Test
     void testShouldHashValueFromStream() {
         // Arrange
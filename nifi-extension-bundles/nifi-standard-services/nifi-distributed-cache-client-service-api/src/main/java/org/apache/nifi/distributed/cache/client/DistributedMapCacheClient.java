@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface defines an API that can be used for interacting with a
@@ -164,6 +165,72 @@ public interface DistributedMapCacheClient extends ControllerService {
         return results;
     }
 
+    /**
+     * Returns the value in the cache for the given key without waiting for the operation to complete.
+     * Implementations that support request pipelining can have many asynchronous operations in flight at
+     * the same time. The default implementation performs the operation synchronously.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param key the key to lookup in the map
+     * @param keySerializer key serializer
+     * @param valueDeserializer value deserializer
+     * @return future completed with the value in the cache for the given key, or <code>null</code> if none exists;
+     * completed exceptionally if unable to communicate with the remote instance
+     */
+    default <K, V> CompletableFuture<V> getAsync(K key, Serializer<K> keySerializer, Deserializer<V> valueDeserializer) {
+        try {
+            return CompletableFuture.completedFuture(get(key, keySerializer, valueDeserializer));
+        } catch (final IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Adds the specified key and value to the cache, overwriting any value that is currently set, without waiting
+     * for the operation to complete. The default implementation performs the operation synchronously.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param key the key to set
+     * @param value the value to associate with the given key
+     * @param keySerializer key serializer
+     * @param valueSerializer value serializer
+     * @return future completed when the value has been set;
+     * completed exceptionally if unable to communicate with the remote instance
+     */
+    default <K, V> CompletableFuture<Void> putAsync(K key, V value, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        try {
+            put(key, value, keySerializer, valueSerializer);
+            return CompletableFuture.completedFuture(null);
+        } catch (final IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Adds the specified key and value to the cache, if they are not already present, without waiting for the
+     * operation to complete. The default implementation performs the operation synchronously.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param key the key to add to the map
+     * @param value the value to add to the map if and only if the key is absent
+     * @param keySerializer key serializer
+     * @param valueSerializer value serializer
+     * @param valueDeserializer value deserializer
+     * @return future completed with the value already associated with the key, or <code>null</code> if the key was
+     * absent and the value was added; completed exceptionally if unable to communicate with the remote instance
+     */
+    default <K, V> CompletableFuture<V> getAndPutIfAbsentAsync(K key, V value, Serializer<K> keySerializer,
+                                                               Serializer<V> valueSerializer, Deserializer<V> valueDeserializer) {
+        try {
+            return CompletableFuture.completedFuture(getAndPutIfAbsent(key, value, keySerializer, valueSerializer, valueDeserializer));
+        } catch (final IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Attempts to notify the server that we are finished communicating with it
      * and cleans up resources
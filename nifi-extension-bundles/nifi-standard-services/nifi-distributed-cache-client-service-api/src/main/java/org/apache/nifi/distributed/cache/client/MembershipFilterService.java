@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.client;
+
+import org.apache.nifi.annotation.documentation.CapabilityDescription;
+import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.controller.ControllerService;
+
+import java.util.List;
+
+/**
+ * This interface defines an API for a probabilistic set that tracks keys seen across multiple FlowFiles.
+ * Implementations may report false positives, indicating that a key might have been seen when it was not,
+ * but must not report false negatives for keys added within the retention period of the filter.
+ */
+@Tags({"filter", "bloom", "membership", "deduplication", "cache"})
+@CapabilityDescription("Provides the ability to test whether keys have been seen previously using a probabilistic membership filter.")
+public interface MembershipFilterService extends ControllerService {
+
+    /**
+     * Determines whether the given key might have been added to the filter
+     *
+     * @param key the key to check
+     * @return <code>true</code> if the key might have been added, <code>false</code> if the key has definitely not been added
+     */
+    boolean mightContain(byte[] key);
+
+    /**
+     * Adds the given key to the filter
+     *
+     * @param key the key to add
+     * @return <code>true</code> if the key has definitely not been added before, <code>false</code> if the key might have been added before
+     */
+    boolean put(byte[] key);
+
+    /**
+     * Determines whether each of the given keys might have been added to the filter
+     *
+     * @param keys the keys to check
+     * @return array containing the result of {@link #mightContain(byte[])} for each key in the order provided
+     */
+    default boolean[] mightContainAll(final List<byte[]> keys) {
+        final boolean[] results = new boolean[keys.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = mightContain(keys.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * Adds each of the given keys to the filter
+     *
+     * @param keys the keys to add
+     * @return array containing the result of {@link #put(byte[])} for each key in the order provided
+     */
+    default boolean[] putAll(final List<byte[]> keys) {
+        final boolean[] results = new boolean[keys.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = put(keys.get(i));
+        }
+        return results;
+    }
+}
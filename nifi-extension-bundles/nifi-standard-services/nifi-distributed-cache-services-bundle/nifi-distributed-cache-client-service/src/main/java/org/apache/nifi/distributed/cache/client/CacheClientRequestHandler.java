@@ -21,30 +21,35 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
-import io.netty.channel.ChannelPromise;
 import org.apache.nifi.distributed.cache.client.adapter.InboundAdapter;
-import org.apache.nifi.distributed.cache.client.adapter.NullInboundAdapter;
 import org.apache.nifi.distributed.cache.client.adapter.OutboundAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * The {@link io.netty.channel.ChannelHandler} responsible for sending client requests and receiving server responses
  * in the context of a distributed cache server.
+ *
+ * The server processes requests received on a channel in order, so multiple requests may be written to the same
+ * channel before responses are received. Responses are assigned to pending requests in the order written.
  */
 public class CacheClientRequestHandler extends ChannelInboundHandlerAdapter {
 
-    /**
-     * The object used to buffer and interpret the service response byte stream.
-     */
-    private InboundAdapter inboundAdapter = new NullInboundAdapter();
+    private final Logger logger = LoggerFactory.getLogger(getClass());
 
     /**
-     * The synchronization construct used to signal the client application that the server response has been received.
+     * The requests written to the channel for which the server response has not been completely received.
      */
-    private ChannelPromise channelPromise;
+    private final Queue<PendingRequest> pendingRequests = new ConcurrentLinkedQueue<>();
 
     /**
      * THe network timeout associated with the connection
@@ -61,7 +66,12 @@ public class CacheClientRequestHandler extends ChannelInboundHandlerAdapter {
         try {
             final byte[] bytes = new byte[byteBuf.readableBytes()];
             byteBuf.readBytes(bytes);
-            inboundAdapter.queue(bytes);
+            final PendingRequest pendingRequest = pendingRequests.peek();
+            if (pendingRequest == null) {
+                logger.debug("Received and dropped {} extraneous bytes.", bytes.length);
+            } else {
+                pendingRequest.inboundAdapter.queue(bytes);
+            }
         } finally {
             byteBuf.release();
         }
@@ -69,22 +79,36 @@ public class CacheClientRequestHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelReadComplete(final ChannelHandlerContext ctx) throws IOException {
-        inboundAdapter.dequeue();
-        if (inboundAdapter.isComplete() && !channelPromise.isSuccess()) {
-            channelPromise.setSuccess();
+        PendingRequest pendingRequest = pendingRequests.peek();
+        while (pendingRequest != null) {
+            pendingRequest.inboundAdapter.dequeue();
+            if (!pendingRequest.inboundAdapter.isComplete()) {
+                break;
+            }
+
+            pendingRequests.remove();
+            final byte[] remaining = pendingRequest.inboundAdapter.drain();
+            pendingRequest.future.complete(null);
+
+            pendingRequest = pendingRequests.peek();
+            if (remaining.length > 0) {
+                if (pendingRequest == null) {
+                    logger.debug("Received and dropped {} extraneous bytes.", remaining.length);
+                } else {
+                    pendingRequest.inboundAdapter.queue(remaining);
+                }
+            }
         }
     }
 
     @Override
     public void channelUnregistered(final ChannelHandlerContext ctx) {
-        if (!inboundAdapter.isComplete()) {
-            channelPromise.setFailure(new IOException("Channel unregistered before processing completed: " + ctx.channel().toString()));
-        }
+        failPendingRequests(new IOException("Channel unregistered before processing completed: " + ctx.channel().toString()));
     }
 
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
-        channelPromise.setFailure(cause);
+        failPendingRequests(cause);
     }
 
     /**
@@ -99,25 +123,82 @@ public class CacheClientRequestHandler extends ChannelInboundHandlerAdapter {
      * @param inboundAdapter  the business logic to deserialize the server response
      */
     public void invoke(final Channel channel, final OutboundAdapter outboundAdapter, final InboundAdapter inboundAdapter) throws IOException {
+        final CompletableFuture<Void> future = invokeAsync(channel, outboundAdapter, inboundAdapter);
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            // Close Channel since the response for the request could be received in the context of another request
+            channel.close();
+            throw new SocketTimeoutException(String.format("Request invocation timeout [%d ms] to remote address [%s]", timeoutMillis, channel.remoteAddress()));
+        } catch (final ExecutionException e) {
+            throw new IOException("Request invocation failed", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Request invocation interrupted", e);
+        }
+    }
+
+    /**
+     * Perform an asynchronous method call to the server. The request is written to the channel without waiting
+     * for the responses to previous requests, and the returned future completes when the inbound adapter has
+     * received the complete server response.
+     *
+     * @param channel         the network channel used to make the request
+     * @param outboundAdapter the request payload, which might be a method name, and [0..n] concatenated arguments
+     * @param inboundAdapter  the business logic to deserialize the server response
+     * @return future completed when the server response has been received
+     * @throws IOException on handshake failure or serialization failure
+     */
+    public CompletableFuture<Void> invokeAsync(final Channel channel, final OutboundAdapter outboundAdapter, final InboundAdapter inboundAdapter) throws IOException {
         final CacheClientHandshakeHandler handshakeHandler = channel.pipeline().get(CacheClientHandshakeHandler.class);
         handshakeHandler.waitHandshakeComplete();
         if (handshakeHandler.isSuccess()) {
             if (handshakeHandler.getVersionNegotiator().getVersion() < outboundAdapter.getMinimumVersion()) {
                 throw new UnsupportedOperationException("Remote cache server doesn't support protocol version " + outboundAdapter.getMinimumVersion());
             }
-            this.inboundAdapter = inboundAdapter;
-            channelPromise = channel.newPromise();
-            channel.writeAndFlush(Unpooled.wrappedBuffer(outboundAdapter.toBytes()));
-            final boolean completed = channelPromise.awaitUninterruptibly(timeoutMillis, TimeUnit.MILLISECONDS);
-            if (!completed) {
-                throw new SocketTimeoutException(String.format("Request invocation timeout [%d ms] to remote address [%s]", timeoutMillis, channel.remoteAddress()));
-            }
-            this.inboundAdapter = new NullInboundAdapter();
-            if (channelPromise.cause() != null) {
-                throw new IOException("Request invocation failed", channelPromise.cause());
+
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            final ByteBuf request = Unpooled.wrappedBuffer(outboundAdapter.toBytes());
+            if (inboundAdapter.isComplete()) {
+                // Requests without a response are complete when written
+                channel.writeAndFlush(request).addListener(writeFuture -> {
+                    if (writeFuture.isSuccess()) {
+                        future.complete(null);
+                    } else {
+                        future.completeExceptionally(writeFuture.cause());
+                    }
+                });
+            } else {
+                pendingRequests.add(new PendingRequest(inboundAdapter, future));
+                channel.writeAndFlush(request).addListener(writeFuture -> {
+                    if (!writeFuture.isSuccess()) {
+                        future.completeExceptionally(writeFuture.cause());
+                        channel.close();
+                    }
+                });
             }
+            return future;
         } else {
             throw new IOException("Request invocation failed", handshakeHandler.cause());
         }
     }
+
+    private void failPendingRequests(final Throwable cause) {
+        PendingRequest pendingRequest = pendingRequests.poll();
+        while (pendingRequest != null) {
+            pendingRequest.future.completeExceptionally(cause);
+            pendingRequest = pendingRequests.poll();
+        }
+    }
+
+    private static class PendingRequest {
+        private final InboundAdapter inboundAdapter;
+
+        private final CompletableFuture<Void> future;
+
+        private PendingRequest(final InboundAdapter inboundAdapter, final CompletableFuture<Void> future) {
+            this.inboundAdapter = inboundAdapter;
+            this.future = future;
+        }
+    }
 }
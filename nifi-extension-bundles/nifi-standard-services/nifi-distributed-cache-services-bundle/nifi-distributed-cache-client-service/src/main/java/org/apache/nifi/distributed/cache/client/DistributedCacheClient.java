@@ -27,6 +27,9 @@ import org.apache.nifi.remote.VersionNegotiatorFactory;
 import org.apache.nifi.ssl.SSLContextService;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Encapsulate operations which may be performed using a {@link DistributedSetCacheClientService} or a
@@ -43,6 +46,13 @@ public class DistributedCacheClient {
 
     private final EventLoopGroup eventLoopGroup;
 
+    private final int timeoutMillis;
+
+    /**
+     * The network connection shared for pipelining asynchronous client requests.
+     */
+    private volatile Channel pipelineChannel;
+
     /**
      * Constructor.
      *
@@ -62,6 +72,7 @@ public class DistributedCacheClient {
                                      final String identifier) {
         final String poolName = String.format("%s[%s]", getClass().getSimpleName(), identifier);
         this.eventLoopGroup = new NioEventLoopGroup(new DefaultThreadFactory(poolName, DAEMON_THREAD_ENABLED));
+        this.timeoutMillis = timeoutMillis;
         this.channelPool = new CacheClientChannelPoolFactory().createChannelPool(
                 hostname, port, timeoutMillis, sslContextService, factory, eventLoopGroup);
     }
@@ -83,10 +94,70 @@ public class DistributedCacheClient {
         }
     }
 
+    /**
+     * Call a service method without waiting for the response. Asynchronous requests share a single network
+     * connection and are written without waiting for the responses to previous requests, so that many requests
+     * can be in flight at the same time.
+     *
+     * @param outboundAdapter the object used to assemble the service request byte stream
+     * @param inboundAdapter  the object used to interpret the service response byte stream
+     * @return future completed when the service response has been received, or completed exceptionally on
+     * serialization failure, communication failure, or timeout
+     */
+    protected CompletableFuture<Void> invokeAsync(final OutboundAdapter outboundAdapter, final InboundAdapter inboundAdapter) {
+        final Channel channel;
+        final CompletableFuture<Void> future;
+        try {
+            channel = getPipelineChannel();
+            final CacheClientRequestHandler requestHandler = channel.pipeline().get(CacheClientRequestHandler.class);
+            // Write requests while holding the lock so that the order of pending responses matches the order of requests
+            synchronized (this) {
+                future = requestHandler.invokeAsync(channel, outboundAdapter, inboundAdapter);
+            }
+        } catch (final IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((result, throwable) -> {
+            if (throwable instanceof TimeoutException) {
+                // Close Channel since subsequent responses cannot be matched to pending requests after a timeout
+                channel.close();
+            }
+        });
+    }
+
+    private Channel getPipelineChannel() {
+        final Channel channel = pipelineChannel;
+        if (channel != null && channel.isActive()) {
+            return channel;
+        }
+
+        // Acquire outside the lock so that connecting and handshaking do not block requests on an active Channel
+        final Channel acquiredChannel = channelPool.acquire().syncUninterruptibly().getNow();
+        synchronized (this) {
+            if (pipelineChannel != null && pipelineChannel.isActive()) {
+                // Another request replaced the inactive Channel first
+                channelPool.release(acquiredChannel);
+                return pipelineChannel;
+            }
+            if (pipelineChannel != null) {
+                channelPool.release(pipelineChannel);
+            }
+            pipelineChannel = acquiredChannel;
+            return acquiredChannel;
+        }
+    }
+
     /**
      * Close Channel Pool and supporting Event Loop Group
      */
     protected void closeChannelPool() {
+        synchronized (this) {
+            if (pipelineChannel != null) {
+                channelPool.release(pipelineChannel);
+                pipelineChannel = null;
+            }
+        }
         channelPool.close();
         eventLoopGroup.close();
     }
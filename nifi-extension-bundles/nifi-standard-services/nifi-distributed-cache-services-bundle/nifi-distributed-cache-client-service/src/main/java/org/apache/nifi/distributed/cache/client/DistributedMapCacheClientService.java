@@ -40,9 +40,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Tags({"distributed", "cache", "state", "map", "cluster"})
@@ -106,7 +108,7 @@ public class DistributedMapCacheClientService extends AbstractControllerService
     public void onEnabled(final ConfigurationContext context) {
         getLogger().debug("Enabling Map Cache Client Service [{}]", context.getName());
         this.versionNegotiatorFactory  = new StandardVersionNegotiatorFactory(
-                ProtocolVersion.V3.value(), ProtocolVersion.V2.value(), ProtocolVersion.V1.value());
+                ProtocolVersion.V4.value(), ProtocolVersion.V3.value(), ProtocolVersion.V2.value(), ProtocolVersion.V1.value());
         this.cacheClient = new NettyDistributedMapCacheClient(
                 context.getProperty(HOSTNAME).getValue(),
                 context.getProperty(PORT).asInteger(),
@@ -141,6 +143,25 @@ public class DistributedMapCacheClientService extends AbstractControllerService
         cacheClient.put(bytesKey, bytesValue);
     }
 
+    @Override
+    public <K, V> void putAll(final Map<K, V> keysAndValues, final Serializer<K> keySerializer, final Serializer<V> valueSerializer) throws IOException {
+        final Map<byte[], byte[]> bytesKeysAndValues = new LinkedHashMap<>(keysAndValues.size());
+        for (final Map.Entry<K, V> entry : keysAndValues.entrySet()) {
+            final byte[] bytesKey = CacheClientSerde.serialize(entry.getKey(), keySerializer);
+            final byte[] bytesValue = CacheClientSerde.serialize(entry.getValue(), valueSerializer);
+            bytesKeysAndValues.put(bytesKey, bytesValue);
+        }
+
+        try {
+            cacheClient.putAll(bytesKeysAndValues);
+        } catch (final UnsupportedOperationException e) {
+            getLogger().debug("Remote cache server does not support batched put: sending individual requests");
+            for (final Map.Entry<byte[], byte[]> entry : bytesKeysAndValues.entrySet()) {
+                cacheClient.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     @Override
     public <K> boolean containsKey(final K key, final Serializer<K> keySerializer) throws IOException {
         final byte[] bytesKey = CacheClientSerde.serialize(key, keySerializer);
@@ -162,6 +183,41 @@ public class DistributedMapCacheClientService extends AbstractControllerService
         return cacheClient.get(bytesKey, inboundAdapter);
     }
 
+    @Override
+    public <K, V> CompletableFuture<V> getAsync(final K key, final Serializer<K> keySerializer, final Deserializer<V> valueDeserializer) {
+        try {
+            final byte[] bytesKey = CacheClientSerde.serialize(key, keySerializer);
+            final ValueInboundAdapter<V> inboundAdapter = new ValueInboundAdapter<>(valueDeserializer);
+            return cacheClient.getAsync(bytesKey, inboundAdapter);
+        } catch (final IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public <K, V> CompletableFuture<Void> putAsync(final K key, final V value, final Serializer<K> keySerializer, final Serializer<V> valueSerializer) {
+        try {
+            final byte[] bytesKey = CacheClientSerde.serialize(key, keySerializer);
+            final byte[] bytesValue = CacheClientSerde.serialize(value, valueSerializer);
+            return cacheClient.putAsync(bytesKey, bytesValue);
+        } catch (final IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public <K, V> CompletableFuture<V> getAndPutIfAbsentAsync(final K key, final V value, final Serializer<K> keySerializer,
+                                                              final Serializer<V> valueSerializer, final Deserializer<V> valueDeserializer) {
+        try {
+            final byte[] bytesKey = CacheClientSerde.serialize(key, keySerializer);
+            final byte[] bytesValue = CacheClientSerde.serialize(value, valueSerializer);
+            final ValueInboundAdapter<V> inboundAdapter = new ValueInboundAdapter<>(valueDeserializer);
+            return cacheClient.getAndPutIfAbsentAsync(bytesKey, bytesValue, inboundAdapter);
+        } catch (final IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @Override
     public <K, V> Map<K, V> subMap(Set<K> keys, Serializer<K> keySerializer, Deserializer<V> valueDeserializer) throws IOException {
         Collection<byte[]> bytesKeys = CacheClientSerde.serialize(keys, keySerializer);
@@ -34,6 +34,8 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * The implementation of the {@link DistributedMapCacheClient} using the netty library to provide the remote
@@ -107,6 +109,51 @@ public class NettyDistributedMapCacheClient extends DistributedCacheClient {
         }
     }
 
+    /**
+     * Adds the specified keys and values to the cache in a single request, overwriting any values that are
+     * currently set.
+     *
+     * @param keysAndValues the keys and associated values to set
+     * @throws IOException if unable to communicate with the remote instance
+     */
+    public void putAll(final Map<byte[], byte[]> keysAndValues) throws IOException {
+        final OutboundAdapter outboundAdapter = new OutboundAdapter()
+                .minimumVersion(ProtocolVersion.V4.value())
+                .write(MapOperation.PUT_ALL.value())
+                .write(keysAndValues.size());
+        for (final Map.Entry<byte[], byte[]> entry : keysAndValues.entrySet()) {
+            outboundAdapter.write(entry.getKey()).write(entry.getValue());
+        }
+        final BooleanInboundAdapter inboundAdapter = new BooleanInboundAdapter();
+        invoke(outboundAdapter, inboundAdapter);
+        if (!inboundAdapter.getResult()) {
+            throw new IOException("Server indicated 'putAll' operation failed");
+        }
+    }
+
+    /**
+     * Adds the specified key and value to the cache without waiting for the response, overwriting any value that is
+     * currently set.
+     *
+     * @param key   The key to set
+     * @param value The value to associate with the given Key
+     * @return future completed when the server response is received, or completed exceptionally on failure
+     * @throws IOException on serialization failure
+     */
+    public CompletableFuture<Void> putAsync(final byte[] key, final byte[] value) throws IOException {
+        final OutboundAdapter outboundAdapter = new OutboundAdapter()
+                .write(MapOperation.PUT.value())
+                .write(key)
+                .write(value);
+        final BooleanInboundAdapter inboundAdapter = new BooleanInboundAdapter();
+        return invokeAsync(outboundAdapter, inboundAdapter).thenApply(result -> {
+            if (!inboundAdapter.getResult()) {
+                throw new CompletionException(new IOException("Server indicated 'put' operation failed"));
+            }
+            return result;
+        });
+    }
+
     /**
      * Determines if the given value is present in the cache and if so returns
      * <code>true</code>, else returns <code>false</code>
@@ -148,6 +195,25 @@ public class NettyDistributedMapCacheClient extends DistributedCacheClient {
         return valueAdapter.getResult();
     }
 
+    /**
+     * Adds the specified key and value to the cache, if they are not already
+     * present, without waiting for the response.
+     *
+     * @param key          the key to add to the map
+     * @param value        the value to add to the map if and only if the key is absent
+     * @param valueAdapter the reader used to deserialize the service result
+     * @return future completed with the value already associated with the key, or null if the key was absent
+     * @throws IOException on serialization failure
+     */
+    public <V> CompletableFuture<V> getAndPutIfAbsentAsync(final byte[] key, final byte[] value,
+                                                           final ValueInboundAdapter<V> valueAdapter) throws IOException {
+        final OutboundAdapter outboundAdapter = new OutboundAdapter()
+                .write(MapOperation.GET_AND_PUT_IF_ABSENT.value())
+                .write(key)
+                .write(value);
+        return invokeAsync(outboundAdapter, valueAdapter).thenApply(result -> valueAdapter.getResult());
+    }
+
     /**
      * Returns the value in the cache for the given key, if one exists;
      * otherwise returns <code>null</code>
@@ -166,6 +232,22 @@ public class NettyDistributedMapCacheClient extends DistributedCacheClient {
         return valueAdapter.getResult();
     }
 
+    /**
+     * Returns the value in the cache for the given key without waiting for the response.
+     *
+     * @param <V>          the value type
+     * @param key          the key to lookup in the map
+     * @param valueAdapter the reader used to deserialize the service result
+     * @return future completed with the value in the cache for the given key, or null if the key is absent
+     * @throws IOException on serialization failure
+     */
+    public <V> CompletableFuture<V> getAsync(final byte[] key, final ValueInboundAdapter<V> valueAdapter) throws IOException {
+        final OutboundAdapter outboundAdapter = new OutboundAdapter()
+                .write(MapOperation.GET.value())
+                .write(key);
+        return invokeAsync(outboundAdapter, valueAdapter).thenApply(result -> valueAdapter.getResult());
+    }
+
     /**
      * Returns the values in the cache for the given keys, if they exist.
      *
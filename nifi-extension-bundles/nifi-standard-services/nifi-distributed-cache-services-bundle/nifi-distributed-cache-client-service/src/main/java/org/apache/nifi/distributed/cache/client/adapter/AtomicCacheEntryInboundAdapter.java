@@ -107,4 +107,11 @@ public class AtomicCacheEntryInboundAdapter<K, V> implements InboundAdapter {
             }
         }
     }
+
+    @Override
+    public byte[] drain() {
+        final byte[] remaining = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(remaining);
+        return remaining;
+    }
 }
@@ -68,4 +68,11 @@ public class BooleanInboundAdapter implements InboundAdapter {
             result = (b != 0);
         }
     }
+
+    @Override
+    public byte[] drain() {
+        final byte[] remaining = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(remaining);
+        return remaining;
+    }
 }
@@ -44,4 +44,14 @@ public interface InboundAdapter {
      * @throws IOException on failure parsing the content
      */
     void dequeue() throws IOException;
+
+    /**
+     * Remove content queued beyond the end of the service response, so that it can be supplied to the adapter for
+     * the next response when multiple requests are pipelined on the same {@link io.netty.channel.Channel}.
+     *
+     * @return the content not consumed when parsing the service response, or an empty array when none remains
+     */
+    default byte[] drain() {
+        return new byte[0];
+    }
 }
@@ -67,4 +67,11 @@ public class LongInboundAdapter implements InboundAdapter {
             result = byteBuf.readLong();
         }
     }
+
+    @Override
+    public byte[] drain() {
+        final byte[] remaining = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(remaining);
+        return remaining;
+    }
 }
@@ -123,4 +123,11 @@ public class MapInboundAdapter<K, V> implements InboundAdapter {
             }
         }
     }
+
+    @Override
+    public byte[] drain() {
+        final byte[] remaining = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(remaining);
+        return remaining;
+    }
 }
@@ -104,4 +104,11 @@ public class MapValuesInboundAdapter<K, V> implements InboundAdapter {
             }
         }
     }
+
+    @Override
+    public byte[] drain() {
+        final byte[] remaining = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(remaining);
+        return remaining;
+    }
 }
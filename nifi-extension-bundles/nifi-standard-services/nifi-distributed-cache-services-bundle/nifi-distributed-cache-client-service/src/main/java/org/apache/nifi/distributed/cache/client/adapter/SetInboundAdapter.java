@@ -102,4 +102,11 @@ public class SetInboundAdapter<T> implements InboundAdapter {
             }
         }
     }
+
+    @Override
+    public byte[] drain() {
+        final byte[] remaining = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(remaining);
+        return remaining;
+    }
 }
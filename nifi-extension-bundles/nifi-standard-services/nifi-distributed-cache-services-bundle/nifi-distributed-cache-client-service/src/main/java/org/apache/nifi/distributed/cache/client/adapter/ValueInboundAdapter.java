@@ -77,4 +77,11 @@ public class ValueInboundAdapter<T> implements InboundAdapter {
     public void dequeue() throws IOException {
         inboundToken.update(byteBuf, deserializer);
     }
+
+    @Override
+    public byte[] drain() {
+        final byte[] remaining = new byte[byteBuf.readableBytes()];
+        byteBuf.readBytes(remaining);
+        return remaining;
+    }
 }
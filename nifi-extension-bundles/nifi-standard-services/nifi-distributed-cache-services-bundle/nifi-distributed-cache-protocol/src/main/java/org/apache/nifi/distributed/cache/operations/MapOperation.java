@@ -26,6 +26,7 @@ public enum MapOperation implements CacheOperation {
     GET_AND_PUT_IF_ABSENT("getAndPutIfAbsent"),
     KEYSET("keySet"),
     PUT("put"),
+    PUT_ALL("putAll"),
     PUT_IF_ABSENT("putIfAbsent"),
     REMOVE("remove"),
     REMOVE_AND_GET("removeAndGet"),
@@ -65,6 +65,8 @@ public class MapCacheRequestDecoder extends CacheRequestDecoder {
             request = readSubMapRequest(cacheOperation, byteBuf);
         } else if (MapOperation.PUT == cacheOperation) {
             request = readKeyValueRequest(cacheOperation, byteBuf);
+        } else if (MapOperation.PUT_ALL == cacheOperation) {
+            request = readKeysValuesRequest(cacheOperation, byteBuf);
         } else if (MapOperation.PUT_IF_ABSENT == cacheOperation) {
             request = readKeyValueRequest(cacheOperation, byteBuf);
         } else {
@@ -137,4 +139,34 @@ public class MapCacheRequestDecoder extends CacheRequestDecoder {
 
         return mapCacheRequest;
     }
+
+    private MapCacheRequest readKeysValuesRequest(final CacheOperation cacheOperation, final ByteBuf byteBuf) {
+        final MapCacheRequest mapCacheRequest;
+
+        final OptionalInt entries = readInt(byteBuf);
+        if (entries.isPresent()) {
+            final int entriesFound = entries.getAsInt();
+            final List<byte[]> keys = new ArrayList<>(entriesFound);
+            final List<byte[]> values = new ArrayList<>(entriesFound);
+            for (int i = 0; i < entriesFound; i++) {
+                final Optional<byte[]> key = readBytes(byteBuf);
+                final Optional<byte[]> value = key.isPresent() ? readBytes(byteBuf) : Optional.empty();
+                if (value.isPresent()) {
+                    keys.add(key.get());
+                    values.add(value.get());
+                } else {
+                    // Clear Lists to return null and retry on subsequent invocations
+                    keys.clear();
+                    values.clear();
+                    break;
+                }
+            }
+
+            mapCacheRequest = keys.size() == entriesFound ? new MapCacheRequest(cacheOperation, keys, values) : null;
+        } else {
+            mapCacheRequest = null;
+        }
+
+        return mapCacheRequest;
+    }
 }
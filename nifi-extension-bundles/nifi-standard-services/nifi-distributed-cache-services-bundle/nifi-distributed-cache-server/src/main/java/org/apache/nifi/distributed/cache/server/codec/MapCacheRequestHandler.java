@@ -31,7 +31,9 @@ import org.apache.nifi.distributed.cache.server.protocol.MapValueResponse;
 import org.apache.nifi.logging.ComponentLog;
 
 import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -90,6 +92,16 @@ public class MapCacheRequestHandler extends SimpleChannelInboundHandler<MapCache
             final ByteBuffer value = ByteBuffer.wrap(mapCacheRequest.getValue());
             final MapPutResult result = mapCache.put(key, value);
             writeResult(channelHandlerContext, cacheOperation, result.isSuccessful());
+        } else if (MapOperation.PUT_ALL == cacheOperation) {
+            final List<byte[]> keys = mapCacheRequest.getKeys();
+            final List<byte[]> values = mapCacheRequest.getValues();
+            final Map<ByteBuffer, ByteBuffer> keysAndValues = new LinkedHashMap<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                keysAndValues.put(ByteBuffer.wrap(keys.get(i)), ByteBuffer.wrap(values.get(i)));
+            }
+            final List<MapPutResult> results = mapCache.putAll(keysAndValues);
+            final boolean success = results.stream().allMatch(MapPutResult::isSuccessful);
+            writeResult(channelHandlerContext, cacheOperation, success);
         } else if (MapOperation.PUT_IF_ABSENT == cacheOperation) {
             final ByteBuffer key = ByteBuffer.wrap(mapCacheRequest.getKey());
             final ByteBuffer value = ByteBuffer.wrap(mapCacheRequest.getValue());
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.filter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Fixed capacity Bloom Filter storing bits in a direct buffer or in a memory-mapped file. The number of insertions is stored in the
+ * header next to the bits, so that a memory-mapped file contains a consistent count without requiring the segment to be closed.
+ */
+class BloomFilterSegment implements Closeable {
+    static final int HEADER_LENGTH = 64;
+
+    private static final int MAGIC = 0x4e426c46;
+
+    private static final int VERSION = 1;
+
+    private static final int MAGIC_POSITION = 0;
+
+    private static final int VERSION_POSITION = 4;
+
+    private static final int HASHES_POSITION = 8;
+
+    private static final int BITS_POSITION = 16;
+
+    private static final int CAPACITY_POSITION = 24;
+
+    private static final int INSERTIONS_POSITION = 32;
+
+    private static final int PROBABILITY_POSITION = 40;
+
+    private static final long MAXIMUM_BITS = (long) (Integer.MAX_VALUE - HEADER_LENGTH - Long.BYTES) * Byte.SIZE / Long.SIZE * Long.SIZE;
+
+    private static final double LOG_2_SQUARED = Math.log(2) * Math.log(2);
+
+    private static final VarHandle LONG_HANDLE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final ByteBuffer buffer;
+
+    private final FileChannel fileChannel;
+
+    private final Path path;
+
+    private final int hashes;
+
+    private final long bits;
+
+    private final long capacity;
+
+    private final double falsePositiveProbability;
+
+    private BloomFilterSegment(final ByteBuffer buffer, final FileChannel fileChannel, final Path path, final int hashes, final long bits,
+                               final long capacity, final double falsePositiveProbability) {
+        this.buffer = buffer;
+        this.fileChannel = fileChannel;
+        this.path = path;
+        this.hashes = hashes;
+        this.bits = bits;
+        this.capacity = capacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Create new segment sized for the expected capacity and false positive probability. The capacity is reduced to the maximum capacity
+     * for the false positive probability when the bits required exceed the maximum size of a segment.
+     *
+     * @param expectedCapacity Number of keys expected before reaching the false positive probability
+     * @param falsePositiveProbability False positive probability at capacity
+     * @param path Path to memory-mapped file or null for a direct buffer
+     * @return Bloom Filter Segment
+     * @throws IOException Thrown on failure to create memory-mapped file
+     */
+    static BloomFilterSegment create(final long expectedCapacity, final double falsePositiveProbability, final Path path) throws IOException {
+        final long capacity = Math.min(expectedCapacity, getMaximumCapacity(falsePositiveProbability));
+        final long bits = getOptimalBits(capacity, falsePositiveProbability);
+        final int hashes = getOptimalHashes(capacity, bits);
+        final int length = Math.toIntExact(HEADER_LENGTH + bits / Byte.SIZE);
+
+        final ByteBuffer buffer;
+        final FileChannel fileChannel;
+        if (path == null) {
+            buffer = ByteBuffer.allocateDirect(length);
+            fileChannel = null;
+        } else {
+            fileChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+
+        buffer.putInt(MAGIC_POSITION, MAGIC);
+        buffer.putInt(VERSION_POSITION, VERSION);
+        buffer.putInt(HASHES_POSITION, hashes);
+        buffer.putLong(BITS_POSITION, bits);
+        buffer.putLong(CAPACITY_POSITION, capacity);
+        buffer.putLong(INSERTIONS_POSITION, 0);
+        buffer.putDouble(PROBABILITY_POSITION, falsePositiveProbability);
+
+        return new BloomFilterSegment(buffer, fileChannel, path, hashes, bits, capacity, falsePositiveProbability);
+    }
+
+    /**
+     * Open existing segment from memory-mapped file
+     *
+     * @param path Path to memory-mapped file
+     * @return Bloom Filter Segment
+     * @throws IOException Thrown on failure to read file or on invalid file header
+     */
+    static BloomFilterSegment open(final Path path) throws IOException {
+        final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long size = fileChannel.size();
+            if (size < HEADER_LENGTH) {
+                throw new IOException("Bloom Filter [%s] length [%d] less than header length".formatted(path, size));
+            }
+
+            final MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            final int magic = buffer.getInt(MAGIC_POSITION);
+            final int version = buffer.getInt(VERSION_POSITION);
+            if (magic != MAGIC || version != VERSION) {
+                throw new IOException("Bloom Filter [%s] header not valid".formatted(path));
+            }
+
+            final int hashes = buffer.getInt(HASHES_POSITION);
+            final long bits = buffer.getLong(BITS_POSITION);
+            if (hashes < 1 || bits < Long.SIZE || HEADER_LENGTH + bits / Byte.SIZE != size) {
+                throw new IOException("Bloom Filter [%s] size not valid".formatted(path));
+            }
+
+            final long capacity = buffer.getLong(CAPACITY_POSITION);
+            final double falsePositiveProbability = buffer.getDouble(PROBABILITY_POSITION);
+            return new BloomFilterSegment(buffer, fileChannel, path, hashes, bits, capacity, falsePositiveProbability);
+        } catch (final IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Determine whether the segment might contain the hashed key
+     *
+     * @param hash Two 64-bit hash values for the key
+     * @return Contains status
+     */
+    boolean mightContain(final long[] hash) {
+        long combinedHash = hash[0];
+        for (int i = 0; i < hashes; i++) {
+            final long bitIndex = (combinedHash & Long.MAX_VALUE) % bits;
+            final long word = (long) LONG_HANDLE.getVolatile(buffer, getWordPosition(bitIndex));
+            if ((word & getBitMask(bitIndex)) == 0) {
+                return false;
+            }
+            combinedHash += hash[1];
+        }
+        return true;
+    }
+
+    /**
+     * Put hashed key in the segment
+     *
+     * @param hash Two 64-bit hash values for the key
+     * @return Changed status indicating the key was not previously present
+     */
+    boolean put(final long[] hash) {
+        boolean changed = false;
+        long combinedHash = hash[0];
+        for (int i = 0; i < hashes; i++) {
+            final long bitIndex = (combinedHash & Long.MAX_VALUE) % bits;
+            final long bitMask = getBitMask(bitIndex);
+            final long previous = (long) LONG_HANDLE.getAndBitwiseOr(buffer, getWordPosition(bitIndex), bitMask);
+            if ((previous & bitMask) == 0) {
+                changed = true;
+            }
+            combinedHash += hash[1];
+        }
+
+        if (changed) {
+            LONG_HANDLE.getAndAdd(buffer, INSERTIONS_POSITION, 1L);
+        }
+        return changed;
+    }
+
+    boolean isFull() {
+        return getInsertions() >= capacity;
+    }
+
+    long getCapacity() {
+        return capacity;
+    }
+
+    double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    long getInsertions() {
+        return (long) LONG_HANDLE.getVolatile(buffer, INSERTIONS_POSITION);
+    }
+
+    int getHashes() {
+        return hashes;
+    }
+
+    long getBits() {
+        return bits;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Close segment and force changes to memory-mapped file when configured
+     *
+     * @throws IOException Thrown on failure to close file
+     */
+    @Override
+    public void close() throws IOException {
+        if (fileChannel == null) {
+            return;
+        }
+
+        if (buffer instanceof MappedByteBuffer mappedByteBuffer) {
+            mappedByteBuffer.force();
+        }
+        fileChannel.close();
+    }
+
+    static long getOptimalBits(final long capacity, final double falsePositiveProbability) {
+        final double optimalBits = -capacity * Math.log(falsePositiveProbability) / LOG_2_SQUARED;
+        final long roundedBits = ((long) Math.ceil(optimalBits) + Long.SIZE - 1) / Long.SIZE * Long.SIZE;
+        return Math.min(Math.max(roundedBits, Long.SIZE), MAXIMUM_BITS);
+    }
+
+    /**
+     * Get the maximum number of keys that a single segment can hold at the false positive probability
+     *
+     * @param falsePositiveProbability False positive probability at capacity
+     * @return Maximum capacity of a segment
+     */
+    static long getMaximumCapacity(final double falsePositiveProbability) {
+        final double maximumCapacity = MAXIMUM_BITS * LOG_2_SQUARED / -Math.log(falsePositiveProbability);
+        return Math.max(1, (long) Math.floor(maximumCapacity));
+    }
+
+    static int getOptimalHashes(final long capacity, final long bits) {
+        final long optimalHashes = Math.round((double) bits / capacity * Math.log(2));
+        return (int) Math.max(1, Math.min(optimalHashes, Byte.MAX_VALUE));
+    }
+
+    private static int getWordPosition(final long bitIndex) {
+        return HEADER_LENGTH + (int) (bitIndex >>> 6) * Long.BYTES;
+    }
+
+    private static long getBitMask(final long bitIndex) {
+        return 1L << (bitIndex & (Long.SIZE - 1));
+    }
+}
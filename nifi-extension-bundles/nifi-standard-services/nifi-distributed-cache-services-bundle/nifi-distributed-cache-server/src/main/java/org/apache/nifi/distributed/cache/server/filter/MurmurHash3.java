@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.filter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * MurmurHash3 x64 128-bit hash function returning two 64-bit values for double hashing in Bloom Filters
+ */
+final class MurmurHash3 {
+    private static final VarHandle LONG_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final int BLOCK_LENGTH = 16;
+
+    private MurmurHash3() {
+
+    }
+
+    /**
+     * Hash bytes returning 128 bits as two 64-bit values
+     *
+     * @param bytes Bytes to be hashed
+     * @return Array of two 64-bit hash values
+     */
+    static long[] hash128(final byte[] bytes) {
+        long h1 = 0;
+        long h2 = 0;
+
+        final int blocks = bytes.length / BLOCK_LENGTH;
+        for (int block = 0; block < blocks; block++) {
+            final int offset = block * BLOCK_LENGTH;
+            long k1 = (long) LONG_LITTLE_ENDIAN.get(bytes, offset);
+            long k2 = (long) LONG_LITTLE_ENDIAN.get(bytes, offset + Long.BYTES);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        final int tail = blocks * BLOCK_LENGTH;
+        switch (bytes.length - tail) {
+            case 15:
+                k2 ^= (long) (bytes[tail + 14] & 0xff) << 48;
+            case 14:
+                k2 ^= (long) (bytes[tail + 13] & 0xff) << 40;
+            case 13:
+                k2 ^= (long) (bytes[tail + 12] & 0xff) << 32;
+            case 12:
+                k2 ^= (long) (bytes[tail + 11] & 0xff) << 24;
+            case 11:
+                k2 ^= (long) (bytes[tail + 10] & 0xff) << 16;
+            case 10:
+                k2 ^= (long) (bytes[tail + 9] & 0xff) << 8;
+            case 9:
+                k2 ^= bytes[tail + 8] & 0xff;
+                h2 ^= mixK2(k2);
+            case 8:
+                k1 ^= (long) (bytes[tail + 7] & 0xff) << 56;
+            case 7:
+                k1 ^= (long) (bytes[tail + 6] & 0xff) << 48;
+            case 6:
+                k1 ^= (long) (bytes[tail + 5] & 0xff) << 40;
+            case 5:
+                k1 ^= (long) (bytes[tail + 4] & 0xff) << 32;
+            case 4:
+                k1 ^= (long) (bytes[tail + 3] & 0xff) << 24;
+            case 3:
+                k1 ^= (long) (bytes[tail + 2] & 0xff) << 16;
+            case 2:
+                k1 ^= (long) (bytes[tail + 1] & 0xff) << 8;
+            case 1:
+                k1 ^= bytes[tail] & 0xff;
+                h1 ^= mixK1(k1);
+            default:
+                break;
+        }
+
+        h1 ^= bytes.length;
+        h2 ^= bytes.length;
+
+        h1 += h2;
+        h2 += h1;
+
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+
+        h1 += h2;
+        h2 += h1;
+
+        return new long[]{h1, h2};
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        return k2;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.filter;
+
+import org.apache.nifi.annotation.behavior.SystemResource;
+import org.apache.nifi.annotation.behavior.SystemResourceConsideration;
+import org.apache.nifi.annotation.documentation.CapabilityDescription;
+import org.apache.nifi.annotation.documentation.SeeAlso;
+import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.annotation.lifecycle.OnDisabled;
+import org.apache.nifi.annotation.lifecycle.OnEnabled;
+import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.components.ValidationContext;
+import org.apache.nifi.components.ValidationResult;
+import org.apache.nifi.components.Validator;
+import org.apache.nifi.controller.AbstractControllerService;
+import org.apache.nifi.controller.ConfigurationContext;
+import org.apache.nifi.distributed.cache.client.MembershipFilterService;
+import org.apache.nifi.processor.util.StandardValidators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Tags({"filter", "bloom", "membership", "deduplication", "cache", "time window"})
+@CapabilityDescription("Provides a probabilistic membership filter composed of scalable Bloom Filters for tracking keys across multiple FlowFiles. "
+        + "Keys are added to the Bloom Filter for the current Time Window, and a key is considered present when any retained Time Window might contain it. "
+        + "Each Time Window starts with a single Bloom Filter sized for the Expected Keys and adds larger Bloom Filters as keys are added, "
+        + "maintaining the configured False Positive Probability. When a Persistence Directory is configured, Bloom Filters are stored in "
+        + "memory-mapped files and restored when the service is enabled. State is local to each node and is not shared across a cluster.")
+@SeeAlso(classNames = {"org.apache.nifi.processors.standard.DeduplicateRecord"})
+@SystemResourceConsideration(resource = SystemResource.MEMORY, description = "Bloom Filters are allocated using direct memory or memory-mapped files "
+        + "sized according to Expected Keys and False Positive Probability for each retained Time Window.")
+public class ScalableBloomFilterService extends AbstractControllerService implements MembershipFilterService {
+
+    public static final PropertyDescriptor PERSISTENCE_DIRECTORY = new PropertyDescriptor.Builder()
+        .name("Persistence Directory")
+        .description("If specified, Bloom Filters will be stored in memory-mapped files in the given directory; if not specified, Bloom Filters will be in-memory only")
+        .required(false)
+        .addValidator(StandardValidators.createDirectoryExistsValidator(true, true))
+        .build();
+
+    public static final PropertyDescriptor EXPECTED_KEYS = new PropertyDescriptor.Builder()
+        .name("Expected Keys")
+        .description("The expected number of unique keys added in each Time Window. Additional Bloom Filters are allocated when the number of keys exceeds this value.")
+        .required(true)
+        .addValidator(StandardValidators.POSITIVE_LONG_VALIDATOR)
+        .defaultValue("1000000")
+        .build();
+
+    public static final PropertyDescriptor FALSE_POSITIVE_PROBABILITY = new PropertyDescriptor.Builder()
+        .name("False Positive Probability")
+        .description("The maximum probability that a key not previously added will be reported as present in a Time Window, between 0 and 1 exclusive")
+        .required(true)
+        .addValidator(new ProbabilityValidator())
+        .defaultValue("0.01")
+        .build();
+
+    public static final PropertyDescriptor TIME_WINDOW = new PropertyDescriptor.Builder()
+        .name("Time Window")
+        .description("The duration of each Time Window. Keys are added to the Bloom Filters for the current Time Window.")
+        .required(true)
+        .addValidator(StandardValidators.TIME_PERIOD_VALIDATOR)
+        .defaultValue("1 hour")
+        .build();
+
+    public static final PropertyDescriptor TIME_WINDOWS_RETAINED = new PropertyDescriptor.Builder()
+        .name("Time Windows Retained")
+        .description("The number of Time Windows including the current Time Window that will be checked for previously added keys. "
+            + "Bloom Filters for older Time Windows are removed.")
+        .required(true)
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("24")
+        .build();
+
+    private static final List<PropertyDescriptor> PROPERTIES = List.of(
+        PERSISTENCE_DIRECTORY,
+        EXPECTED_KEYS,
+        FALSE_POSITIVE_PROBABILITY,
+        TIME_WINDOW,
+        TIME_WINDOWS_RETAINED
+    );
+
+    private static final String FILE_EXTENSION = ".bloom";
+
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("^(\\d+)-(\\d+)\\.bloom$");
+
+    /** Ratio of capacity for each additional Bloom Filter in a Time Window */
+    private static final int GROWTH_RATIO = 2;
+
+    /** Ratio of false positive probability for each additional Bloom Filter, bounding the compound probability to twice the initial probability */
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private volatile Path persistenceDirectory;
+
+    private volatile long expectedKeys;
+
+    private volatile double falsePositiveProbability;
+
+    private volatile long timeWindowMillis;
+
+    private volatile int timeWindowsRetained;
+
+    private volatile List<TimeWindow> timeWindows = Collections.emptyList();
+
+    @Override
+    protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
+        return PROPERTIES;
+    }
+
+    @OnEnabled
+    public void onEnabled(final ConfigurationContext context) throws IOException {
+        final String directory = context.getProperty(PERSISTENCE_DIRECTORY).getValue();
+        persistenceDirectory = directory == null ? null : Paths.get(directory);
+        expectedKeys = context.getProperty(EXPECTED_KEYS).asLong();
+        falsePositiveProbability = context.getProperty(FALSE_POSITIVE_PROBABILITY).asDouble();
+        timeWindowMillis = context.getProperty(TIME_WINDOW).asTimePeriod(TimeUnit.MILLISECONDS);
+        timeWindowsRetained = context.getProperty(TIME_WINDOWS_RETAINED).asInteger();
+
+        final long maximumCapacity = BloomFilterSegment.getMaximumCapacity(falsePositiveProbability * TIGHTENING_RATIO);
+        if (expectedKeys > maximumCapacity) {
+            getLogger().warn("Expected Keys [{}] exceed the maximum capacity [{}] of a single Bloom Filter: each Time Window will use multiple Bloom Filters",
+                    expectedKeys, maximumCapacity);
+        }
+
+        if (persistenceDirectory == null) {
+            timeWindows = Collections.emptyList();
+        } else {
+            Files.createDirectories(persistenceDirectory);
+            timeWindows = restoreTimeWindows(System.currentTimeMillis());
+        }
+    }
+
+    @OnDisabled
+    public synchronized void onDisabled() throws IOException {
+        final List<TimeWindow> closing = timeWindows;
+        timeWindows = Collections.emptyList();
+
+        IOException closeException = null;
+        for (final TimeWindow timeWindow : closing) {
+            try {
+                timeWindow.close();
+            } catch (final IOException e) {
+                if (closeException == null) {
+                    closeException = e;
+                } else {
+                    closeException.addSuppressed(e);
+                }
+            }
+        }
+
+        if (closeException != null) {
+            throw closeException;
+        }
+    }
+
+    @Override
+    public boolean mightContain(final byte[] key) {
+        final long[] hash = MurmurHash3.hash128(key);
+        return mightContain(getTimeWindows(System.currentTimeMillis()), hash);
+    }
+
+    @Override
+    public boolean put(final byte[] key) {
+        final long[] hash = MurmurHash3.hash128(key);
+        return put(getTimeWindows(System.currentTimeMillis()), hash);
+    }
+
+    @Override
+    public boolean[] mightContainAll(final List<byte[]> keys) {
+        final List<TimeWindow> windows = getTimeWindows(System.currentTimeMillis());
+        final boolean[] results = new boolean[keys.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = mightContain(windows, MurmurHash3.hash128(keys.get(i)));
+        }
+        return results;
+    }
+
+    @Override
+    public boolean[] putAll(final List<byte[]> keys) {
+        final List<TimeWindow> windows = getTimeWindows(System.currentTimeMillis());
+        final boolean[] results = new boolean[keys.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = put(windows, MurmurHash3.hash128(keys.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Get retained Time Windows ordered from oldest to current, rotating Time Windows when the current time is outside the current Time Window
+     *
+     * @param currentTime Current time in milliseconds
+     * @return Retained Time Windows with the current Time Window last
+     */
+    List<TimeWindow> getTimeWindows(final long currentTime) {
+        final List<TimeWindow> windows = timeWindows;
+        final long windowStart = getWindowStart(currentTime);
+        if (!windows.isEmpty() && windows.getLast().getStart() == windowStart) {
+            return windows;
+        }
+        return rotateTimeWindows(windowStart);
+    }
+
+    private boolean mightContain(final List<TimeWindow> windows, final long[] hash) {
+        for (final TimeWindow timeWindow : windows) {
+            if (timeWindow.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean put(final List<TimeWindow> windows, final long[] hash) {
+        final int currentIndex = windows.size() - 1;
+        boolean found = false;
+        for (int i = 0; i < currentIndex; i++) {
+            if (windows.get(i).mightContain(hash)) {
+                found = true;
+                break;
+            }
+        }
+
+        // Add to current Time Window regardless of previous status to retain recently seen keys
+        final boolean added = windows.get(currentIndex).put(hash);
+        return added && !found;
+    }
+
+    private synchronized List<TimeWindow> rotateTimeWindows(final long windowStart) {
+        final List<TimeWindow> windows = timeWindows;
+        if (!windows.isEmpty() && windows.getLast().getStart() >= windowStart) {
+            return windows;
+        }
+
+        final long oldestRetained = getOldestRetainedStart(windowStart);
+        final List<TimeWindow> rotated = new ArrayList<>();
+        for (final TimeWindow timeWindow : windows) {
+            if (timeWindow.getStart() >= oldestRetained) {
+                rotated.add(timeWindow);
+            } else {
+                removeTimeWindow(timeWindow);
+            }
+        }
+
+        try {
+            rotated.add(new TimeWindow(windowStart, createSegment(windowStart, 0, expectedKeys, falsePositiveProbability * TIGHTENING_RATIO)));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to create Bloom Filter for Time Window [%d]".formatted(windowStart), e);
+        }
+
+        final List<TimeWindow> snapshot = Collections.unmodifiableList(rotated);
+        timeWindows = snapshot;
+        return snapshot;
+    }
+
+    private List<TimeWindow> restoreTimeWindows(final long currentTime) throws IOException {
+        final long oldestRetained = getOldestRetainedStart(getWindowStart(currentTime));
+        final Map<Long, TreeMap<Integer, Path>> windowPaths = new TreeMap<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(persistenceDirectory, "*" + FILE_EXTENSION)) {
+            for (final Path path : paths) {
+                final Matcher matcher = FILE_NAME_PATTERN.matcher(path.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+
+                final long windowStart = Long.parseLong(matcher.group(1));
+                if (windowStart < oldestRetained) {
+                    getLogger().debug("Removing expired Bloom Filter [{}]", path);
+                    Files.deleteIfExists(path);
+                } else {
+                    final int segmentIndex = Integer.parseInt(matcher.group(2));
+                    windowPaths.computeIfAbsent(windowStart, start -> new TreeMap<>()).put(segmentIndex, path);
+                }
+            }
+        }
+
+        final List<TimeWindow> windows = new ArrayList<>();
+        for (final Map.Entry<Long, TreeMap<Integer, Path>> windowEntry : windowPaths.entrySet()) {
+            final TreeMap<Integer, Path> segmentPaths = windowEntry.getValue();
+            final List<BloomFilterSegment> segments = new ArrayList<>();
+            for (final Path path : segmentPaths.values()) {
+                segments.add(BloomFilterSegment.open(path));
+            }
+            // Segment indexes can have gaps after files are removed, so new segments follow the highest restored index
+            windows.add(new TimeWindow(windowEntry.getKey(), segments, segmentPaths.lastKey() + 1));
+            getLogger().info("Restored Bloom Filters [{}] for Time Window [{}]", segments.size(), windowEntry.getKey());
+        }
+        return Collections.unmodifiableList(windows);
+    }
+
+    private void removeTimeWindow(final TimeWindow timeWindow) {
+        try {
+            timeWindow.close();
+            for (final BloomFilterSegment segment : timeWindow.getSegments()) {
+                final Path path = segment.getPath();
+                if (path != null) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (final IOException e) {
+            getLogger().warn("Failed to remove Bloom Filters for expired Time Window [{}]", timeWindow.getStart(), e);
+        }
+    }
+
+    private BloomFilterSegment createSegment(final long windowStart, final int segmentIndex, final long capacity, final double probability) throws IOException {
+        final Path path = persistenceDirectory == null ? null : persistenceDirectory.resolve(windowStart + "-" + segmentIndex + FILE_EXTENSION);
+        return BloomFilterSegment.create(capacity, probability, path);
+    }
+
+    private long getWindowStart(final long currentTime) {
+        return currentTime - Math.floorMod(currentTime, timeWindowMillis);
+    }
+
+    private long getOldestRetainedStart(final long windowStart) {
+        return windowStart - (timeWindowsRetained - 1) * timeWindowMillis;
+    }
+
+    /**
+     * Time Window containing one or more Bloom Filter Segments with increasing capacity
+     */
+    class TimeWindow {
+        private final long start;
+
+        private volatile List<BloomFilterSegment> segments;
+
+        private int nextSegmentIndex;
+
+        private TimeWindow(final long start, final BloomFilterSegment segment) {
+            this(start, List.of(segment), 1);
+        }
+
+        private TimeWindow(final long start, final List<BloomFilterSegment> segments, final int nextSegmentIndex) {
+            this.start = start;
+            this.segments = List.copyOf(segments);
+            this.nextSegmentIndex = nextSegmentIndex;
+        }
+
+        long getStart() {
+            return start;
+        }
+
+        List<BloomFilterSegment> getSegments() {
+            return segments;
+        }
+
+        boolean mightContain(final long[] hash) {
+            for (final BloomFilterSegment segment : segments) {
+                if (segment.mightContain(hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized boolean put(final long[] hash) {
+            if (mightContain(hash)) {
+                return false;
+            }
+
+            BloomFilterSegment segment = segments.getLast();
+            if (segment.isFull()) {
+                segment = addSegment(segment);
+            }
+            return segment.put(hash);
+        }
+
+        private BloomFilterSegment addSegment(final BloomFilterSegment lastSegment) {
+            // Segment creation limits capacity to the maximum size of a segment, so capacity stops growing once segments reach the maximum size
+            final long capacity = lastSegment.getCapacity() * GROWTH_RATIO;
+            final double probability = lastSegment.getFalsePositiveProbability() * TIGHTENING_RATIO;
+            final BloomFilterSegment segment;
+            try {
+                segment = createSegment(start, nextSegmentIndex, capacity, probability);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to create Bloom Filter for Time Window [%d]".formatted(start), e);
+            }
+
+            nextSegmentIndex++;
+            final List<BloomFilterSegment> added = new ArrayList<>(segments);
+            added.add(segment);
+            segments = List.copyOf(added);
+            getLogger().debug("Added Bloom Filter [{}] with capacity [{}] for Time Window [{}]", added.size(), segment.getCapacity(), start);
+            return segment;
+        }
+
+        private synchronized void close() throws IOException {
+            for (final BloomFilterSegment segment : segments) {
+                segment.close();
+            }
+        }
+    }
+
+    private static class ProbabilityValidator implements Validator {
+        @Override
+        public ValidationResult validate(final String subject, final String input, final ValidationContext context) {
+            boolean valid;
+            try {
+                final double probability = Double.parseDouble(input);
+                valid = probability > 0 && probability < 1;
+            } catch (final NumberFormatException e) {
+                valid = false;
+            }
+
+            return new ValidationResult.Builder()
+                    .subject(subject)
+                    .input(input)
+                    .valid(valid)
+                    .explanation(valid ? null : "Value must be a number greater than 0 and less than 1")
+                    .build();
+        }
+    }
+}
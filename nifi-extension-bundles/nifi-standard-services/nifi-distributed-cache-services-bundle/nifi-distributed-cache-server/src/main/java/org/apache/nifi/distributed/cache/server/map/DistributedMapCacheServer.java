@@ -18,15 +18,19 @@ package org.apache.nifi.distributed.cache.server.map;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.net.ssl.SSLContext;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.SeeAlso;
 import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.controller.ConfigurationContext;
 import org.apache.nifi.distributed.cache.server.CacheServer;
 import org.apache.nifi.distributed.cache.server.DistributedCacheServer;
 import org.apache.nifi.distributed.cache.server.EvictionPolicy;
 import org.apache.nifi.processor.DataUnit;
+import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.ssl.SSLContextService;
 
 @Tags({"distributed", "cluster", "map", "cache", "server", "key/value"})
@@ -35,6 +39,25 @@ import org.apache.nifi.ssl.SSLContextService;
 @SeeAlso(classNames = {"org.apache.nifi.distributed.cache.client.DistributedMapCacheClientService", "org.apache.nifi.ssl.StandardSSLContextService"})
 public class DistributedMapCacheServer extends DistributedCacheServer {
 
+    public static final PropertyDescriptor CACHE_PARTITIONS = new PropertyDescriptor.Builder()
+        .name("cache-partitions")
+        .displayName("Cache Partitions")
+        .description("The number of independent partitions used to store cache entries. Each partition has its own lock, eviction ordering, "
+            + "and Write-Ahead Log when persistence is enabled, allowing concurrent operations on different keys. "
+            + "Maximum Cache Entries and eviction are applied to each partition separately. "
+            + "Changing this value requires clearing the Persistence Directory.")
+        .required(true)
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("1")
+        .build();
+
+    @Override
+    protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
+        final List<PropertyDescriptor> properties = new ArrayList<>(super.getSupportedPropertyDescriptors());
+        properties.add(CACHE_PARTITIONS);
+        return properties;
+    }
+
     @Override
     protected CacheServer createCacheServer(final ConfigurationContext context) {
         final int port = context.getProperty(PORT).asInteger();
@@ -43,6 +66,7 @@ public class DistributedMapCacheServer extends DistributedCacheServer {
         final int maxSize = context.getProperty(MAX_CACHE_ENTRIES).asInteger();
         final String evictionPolicyName = context.getProperty(EVICTION_POLICY).getValue();
         final int maxReadSize = context.getProperty(MAX_READ_SIZE).asDataSize(DataUnit.B).intValue();
+        final int partitions = context.getProperty(CACHE_PARTITIONS).asInteger();
 
         final SSLContext sslContext;
         if (sslContextService == null) {
@@ -69,7 +93,7 @@ public class DistributedMapCacheServer extends DistributedCacheServer {
         try {
             final File persistenceDir = persistencePath == null ? null : new File(persistencePath);
 
-            return createMapCacheServer(port, maxSize, sslContext, evictionPolicy, persistenceDir, maxReadSize);
+            return createMapCacheServer(port, maxSize, sslContext, evictionPolicy, persistenceDir, maxReadSize, partitions);
         } catch (final Exception e) {
             throw new RuntimeException(e);
         }
@@ -81,7 +105,8 @@ public class DistributedMapCacheServer extends DistributedCacheServer {
             final SSLContext sslContext,
             final EvictionPolicy evictionPolicy,
             final File persistenceDir,
-            final int maxReadSize
+            final int maxReadSize,
+            final int partitions
     ) throws IOException {
         return new StandardMapCacheServer(
                 getLogger(),
@@ -91,7 +116,8 @@ public class DistributedMapCacheServer extends DistributedCacheServer {
                 maxSize,
                 evictionPolicy,
                 persistenceDir,
-                maxReadSize
+                maxReadSize,
+                partitions
         );
     }
 }
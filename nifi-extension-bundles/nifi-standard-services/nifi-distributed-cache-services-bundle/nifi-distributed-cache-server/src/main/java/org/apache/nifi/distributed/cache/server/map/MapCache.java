@@ -28,6 +28,8 @@ public interface MapCache {
 
     MapPutResult put(ByteBuffer key, ByteBuffer value) throws IOException;
 
+    List<MapPutResult> putAll(Map<ByteBuffer, ByteBuffer> keysAndValues) throws IOException;
+
     boolean containsKey(ByteBuffer key) throws IOException;
 
     ByteBuffer get(ByteBuffer key) throws IOException;
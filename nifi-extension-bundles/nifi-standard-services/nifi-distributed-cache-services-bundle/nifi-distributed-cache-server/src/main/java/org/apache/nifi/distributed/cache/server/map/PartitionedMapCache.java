@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.map;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map Cache that distributes keys across independent partitions, each with its own lock, eviction ordering
+ * and optional Write-Ahead Log, so that operations on different keys do not contend on a single lock.
+ * Eviction is applied within each partition, so the maximum size of the cache is the sum of the partition sizes.
+ */
+public class PartitionedMapCache implements MapCache {
+
+    private final MapCache[] partitions;
+
+    public PartitionedMapCache(final List<MapCache> partitions) {
+        Objects.requireNonNull(partitions, "Partitions required");
+        if (partitions.isEmpty()) {
+            throw new IllegalArgumentException("At least one partition required");
+        }
+        this.partitions = partitions.toArray(new MapCache[0]);
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionedMapCache[partitions=" + partitions.length + "]";
+    }
+
+    @Override
+    public MapPutResult putIfAbsent(final ByteBuffer key, final ByteBuffer value) throws IOException {
+        return getPartition(key).putIfAbsent(key, value);
+    }
+
+    @Override
+    public MapPutResult put(final ByteBuffer key, final ByteBuffer value) throws IOException {
+        return getPartition(key).put(key, value);
+    }
+
+    @Override
+    public List<MapPutResult> putAll(final Map<ByteBuffer, ByteBuffer> keysAndValues) throws IOException {
+        final Map<MapCache, Map<ByteBuffer, ByteBuffer>> partitionedEntries = new LinkedHashMap<>();
+        for (final Map.Entry<ByteBuffer, ByteBuffer> entry : keysAndValues.entrySet()) {
+            final MapCache partition = getPartition(entry.getKey());
+            partitionedEntries.computeIfAbsent(partition, p -> new LinkedHashMap<>()).put(entry.getKey(), entry.getValue());
+        }
+
+        final List<MapPutResult> results = new ArrayList<>(keysAndValues.size());
+        for (final Map.Entry<MapCache, Map<ByteBuffer, ByteBuffer>> partitionEntries : partitionedEntries.entrySet()) {
+            results.addAll(partitionEntries.getKey().putAll(partitionEntries.getValue()));
+        }
+        return results;
+    }
+
+    @Override
+    public boolean containsKey(final ByteBuffer key) throws IOException {
+        return getPartition(key).containsKey(key);
+    }
+
+    @Override
+    public ByteBuffer get(final ByteBuffer key) throws IOException {
+        return getPartition(key).get(key);
+    }
+
+    @Override
+    public Map<ByteBuffer, ByteBuffer> subMap(final List<ByteBuffer> keys) throws IOException {
+        if (keys == null) {
+            return null;
+        }
+
+        final Map<MapCache, List<ByteBuffer>> partitionedKeys = new LinkedHashMap<>();
+        for (final ByteBuffer key : keys) {
+            partitionedKeys.computeIfAbsent(getPartition(key), p -> new ArrayList<>()).add(key);
+        }
+
+        final Map<ByteBuffer, ByteBuffer> results = new HashMap<>(keys.size());
+        for (final Map.Entry<MapCache, List<ByteBuffer>> partitionKeys : partitionedKeys.entrySet()) {
+            results.putAll(partitionKeys.getKey().subMap(partitionKeys.getValue()));
+        }
+        return results;
+    }
+
+    @Override
+    public ByteBuffer remove(final ByteBuffer key) throws IOException {
+        return getPartition(key).remove(key);
+    }
+
+    @Override
+    public MapCacheRecord fetch(final ByteBuffer key) throws IOException {
+        return getPartition(key).fetch(key);
+    }
+
+    @Override
+    public MapPutResult replace(final MapCacheRecord record) throws IOException {
+        return getPartition(record.getKey()).replace(record);
+    }
+
+    @Override
+    public Set<ByteBuffer> keySet() throws IOException {
+        final Set<ByteBuffer> keys = new HashSet<>();
+        for (final MapCache partition : partitions) {
+            keys.addAll(partition.keySet());
+        }
+        return keys;
+    }
+
+    @Override
+    public void shutdown() throws IOException {
+        IOException shutdownException = null;
+        for (final MapCache partition : partitions) {
+            try {
+                partition.shutdown();
+            } catch (final IOException e) {
+                if (shutdownException == null) {
+                    shutdownException = e;
+                } else {
+                    shutdownException.addSuppressed(e);
+                }
+            }
+        }
+
+        if (shutdownException != null) {
+            throw shutdownException;
+        }
+    }
+
+    int getPartitionIndex(final ByteBuffer key) {
+        final int hash = key.hashCode();
+        // Spread higher bits to avoid clustering when the number of partitions is a power of two
+        return Math.floorMod(hash ^ (hash >>> 16), partitions.length);
+    }
+
+    private MapCache getPartition(final ByteBuffer key) {
+        return partitions[getPartitionIndex(key)];
+    }
+}
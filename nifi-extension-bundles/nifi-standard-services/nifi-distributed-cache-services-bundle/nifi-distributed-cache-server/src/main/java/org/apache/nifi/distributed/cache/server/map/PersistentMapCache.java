@@ -82,24 +82,47 @@ public class PersistentMapCache implements MapCache {
         return putResult;
     }
 
+    @Override
+    public List<MapPutResult> putAll(final Map<ByteBuffer, ByteBuffer> keysAndValues) throws IOException {
+        final List<MapPutResult> putResults = wrapped.putAll(keysAndValues);
+
+        // Write all successful puts and evictions in a single Write-Ahead Log update
+        final List<MapWaliRecord> records = new ArrayList<>();
+        for (final MapPutResult putResult : putResults) {
+            addWriteAheadLogRecords(putResult.getRecord().getKey(), putResult.getRecord().getValue(), putResult, records);
+        }
+        updateWriteAheadLog(records);
+        return putResults;
+    }
+
     protected void putWriteAheadLog(ByteBuffer key, ByteBuffer value, MapPutResult putResult) throws IOException {
+        final List<MapWaliRecord> records = new ArrayList<>();
+        addWriteAheadLogRecords(key, value, putResult, records);
+        updateWriteAheadLog(records);
+    }
+
+    private void addWriteAheadLogRecords(final ByteBuffer key, final ByteBuffer value, final MapPutResult putResult, final List<MapWaliRecord> records) {
         if ( putResult.isSuccessful() ) {
             // The put was successful.
-            final MapWaliRecord record = new MapWaliRecord(UpdateType.CREATE, key, value);
-            final List<MapWaliRecord> records = new ArrayList<>();
-            records.add(record);
+            records.add(new MapWaliRecord(UpdateType.CREATE, key, value));
 
             final MapCacheRecord evicted = putResult.getEvicted();
             if ( evicted != null ) {
                 records.add(new MapWaliRecord(UpdateType.DELETE, evicted.getKey(), evicted.getValue()));
             }
+        }
+    }
 
-            wali.update(records, false);
+    private void updateWriteAheadLog(final List<MapWaliRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
 
-            final long modCount = modifications.getAndIncrement();
-            if ( modCount > 0 && modCount % 100000 == 0 ) {
-                wali.checkpoint();
-            }
+        wali.update(records, false);
+
+        final long modCount = modifications.getAndIncrement();
+        if ( modCount > 0 && modCount % 100000 == 0 ) {
+            wali.checkpoint();
         }
     }
 
@@ -19,6 +19,7 @@ package org.apache.nifi.distributed.cache.server.map;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -130,6 +131,22 @@ public class SimpleMapCache implements MapCache {
         }
     }
 
+    @Override
+    public List<MapPutResult> putAll(final Map<ByteBuffer, ByteBuffer> keysAndValues) {
+        final List<MapPutResult> results = new ArrayList<>(keysAndValues.size());
+        writeLock.lock();
+        try {
+            for (final Map.Entry<ByteBuffer, ByteBuffer> entry : keysAndValues.entrySet()) {
+                final ByteBuffer key = entry.getKey();
+                final MapCacheRecord existing = cache.get(key);
+                results.add(put(key, entry.getValue(), existing));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return results;
+    }
+
     @Override
     public boolean containsKey(final ByteBuffer key) {
         readLock.lock();
@@ -39,12 +39,24 @@ import javax.net.ssl.SSLContext;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Standard Map Cache Server implemented using Netty
  */
 public class StandardMapCacheServer extends EventCacheServer {
+    private static final int SINGLE_PARTITION = 1;
+
+    private static final String PARTITION_DIRECTORY_PREFIX = "partition-";
+
+    private static final String CHECKPOINT_FILE_NAME = "checkpoint";
+
+    private static final String PARTIAL_CHECKPOINT_FILE_NAME = "checkpoint.partial";
+
+    private static final String JOURNALS_DIRECTORY_NAME = "journals";
+
     private final EventServerFactory eventServerFactory;
 
     private final MapCache cache;
@@ -58,17 +70,31 @@ public class StandardMapCacheServer extends EventCacheServer {
             final EvictionPolicy evictionPolicy,
             final File persistencePath,
             final int maxReadLength
+    ) throws IOException {
+        this(log, identifier, sslContext, port, maxCacheEntries, evictionPolicy, persistencePath, maxReadLength, SINGLE_PARTITION);
+    }
+
+    public StandardMapCacheServer(
+            final ComponentLog log,
+            final String identifier,
+            final SSLContext sslContext,
+            final int port,
+            final int maxCacheEntries,
+            final EvictionPolicy evictionPolicy,
+            final File persistencePath,
+            final int maxReadLength,
+            final int partitions
     ) throws IOException {
         super(log, port);
 
-        final MapCache simpleCache = new SimpleMapCache(identifier, maxCacheEntries, evictionPolicy);
+        if (persistencePath != null) {
+            validatePersistenceLayout(persistencePath, partitions);
+        }
 
-        if (persistencePath == null) {
-            this.cache = simpleCache;
+        if (partitions == SINGLE_PARTITION) {
+            this.cache = createMapCache(identifier, maxCacheEntries, evictionPolicy, persistencePath);
         } else {
-            final PersistentMapCache persistentCache = new PersistentMapCache(identifier, persistencePath, simpleCache);
-            persistentCache.restore();
-            this.cache = persistentCache;
+            this.cache = createPartitionedMapCache(identifier, maxCacheEntries, evictionPolicy, persistencePath, partitions);
         }
 
         final NettyEventServerFactory nettyEventServerFactory = createEventServerFactory(identifier, sslContext);
@@ -98,6 +124,84 @@ public class StandardMapCacheServer extends EventCacheServer {
         this.eventServerFactory = nettyEventServerFactory;
     }
 
+    private MapCache createPartitionedMapCache(
+            final String identifier,
+            final int maxCacheEntries,
+            final EvictionPolicy evictionPolicy,
+            final File persistencePath,
+            final int partitions
+    ) throws IOException {
+        // Distribute maximum entries across partitions rounding up to avoid partitions with no capacity
+        final int partitionMaxCacheEntries = (maxCacheEntries + partitions - 1) / partitions;
+
+        final List<MapCache> partitionCaches = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            final File partitionPersistencePath = persistencePath == null ? null : new File(persistencePath, PARTITION_DIRECTORY_PREFIX + partition);
+            final String partitionIdentifier = identifier + "-" + PARTITION_DIRECTORY_PREFIX + partition;
+            partitionCaches.add(createMapCache(partitionIdentifier, partitionMaxCacheEntries, evictionPolicy, partitionPersistencePath));
+        }
+        return new PartitionedMapCache(partitionCaches);
+    }
+
+    /**
+     * Ensure that Write-Ahead Log data persisted with a different number of partitions is not silently ignored. A single partition
+     * persists the Write-Ahead Log in the Persistence Directory, while multiple partitions use one subdirectory for each partition.
+     *
+     * @param persistencePath Persistence Directory
+     * @param partitions Number of partitions configured
+     * @throws IOException Thrown when the Persistence Directory contains data for a different number of partitions
+     */
+    private void validatePersistenceLayout(final File persistencePath, final int partitions) throws IOException {
+        final File[] partitionDirectories = persistencePath.listFiles(file -> file.isDirectory() && file.getName().startsWith(PARTITION_DIRECTORY_PREFIX));
+        final int partitionDirectoriesFound = partitionDirectories == null ? 0 : partitionDirectories.length;
+        final boolean singlePartitionFound = isWriteAheadLogFound(persistencePath);
+
+        final int partitionsFound;
+        if (partitionDirectoriesFound > 0) {
+            if (singlePartitionFound) {
+                throw new IOException(String.format("Persistence Directory [%s] contains both unpartitioned data and [%d] partitions", persistencePath, partitionDirectoriesFound));
+            }
+            partitionsFound = partitionDirectoriesFound;
+        } else if (singlePartitionFound) {
+            partitionsFound = SINGLE_PARTITION;
+        } else {
+            return;
+        }
+
+        if (partitionsFound != partitions) {
+            throw new IOException(String.format("Persistence Directory [%s] contains [%d] partitions but [%d] partitions configured: "
+                    + "restore the configured partitions or remove the persisted data", persistencePath, partitionsFound, partitions));
+        }
+    }
+
+    private boolean isWriteAheadLogFound(final File persistencePath) {
+        if (new File(persistencePath, CHECKPOINT_FILE_NAME).exists() || new File(persistencePath, PARTIAL_CHECKPOINT_FILE_NAME).exists()) {
+            return true;
+        }
+
+        final String[] journals = new File(persistencePath, JOURNALS_DIRECTORY_NAME).list();
+        return journals != null && journals.length > 0;
+    }
+
+    private MapCache createMapCache(
+            final String identifier,
+            final int maxCacheEntries,
+            final EvictionPolicy evictionPolicy,
+            final File persistencePath
+    ) throws IOException {
+        final MapCache simpleCache = new SimpleMapCache(identifier, maxCacheEntries, evictionPolicy);
+
+        final MapCache mapCache;
+        if (persistencePath == null) {
+            mapCache = simpleCache;
+        } else {
+            final PersistentMapCache persistentCache = new PersistentMapCache(identifier, persistencePath, simpleCache);
+            persistentCache.restore();
+            mapCache = persistentCache;
+        }
+        return mapCache;
+    }
+
     @Override
     public void stop() {
         try {
@@ -116,6 +220,7 @@ public class StandardMapCacheServer extends EventCacheServer {
 
     protected VersionNegotiator createVersionNegotiator() {
         return new StandardVersionNegotiator(
+                ProtocolVersion.V4.value(),
                 ProtocolVersion.V3.value(),
                 ProtocolVersion.V2.value(),
                 ProtocolVersion.V1.value()
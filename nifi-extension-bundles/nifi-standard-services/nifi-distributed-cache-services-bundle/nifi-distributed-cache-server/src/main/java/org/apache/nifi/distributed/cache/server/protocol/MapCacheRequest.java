@@ -38,6 +38,8 @@ public class MapCacheRequest {
 
     private List<byte[]> keys = Collections.emptyList();
 
+    private List<byte[]> values = Collections.emptyList();
+
     public MapCacheRequest(
             final CacheOperation cacheOperation
     ) {
@@ -87,6 +89,18 @@ public class MapCacheRequest {
         this.keys = Objects.requireNonNull(keys, "Keys required");
     }
 
+    public MapCacheRequest(
+            final CacheOperation cacheOperation,
+            final List<byte[]> keys,
+            final List<byte[]> values
+    ) {
+        this(cacheOperation, keys);
+        this.values = Objects.requireNonNull(values, "Values required");
+        if (keys.size() != values.size()) {
+            throw new IllegalArgumentException(String.format("Keys [%d] and Values [%d] not matched", keys.size(), values.size()));
+        }
+    }
+
     public CacheOperation getCacheOperation() {
         return cacheOperation;
     }
@@ -110,4 +124,8 @@ public class MapCacheRequest {
     public List<byte[]> getKeys() {
         return keys;
     }
+
+    public List<byte[]> getValues() {
+        return values;
+    }
 }
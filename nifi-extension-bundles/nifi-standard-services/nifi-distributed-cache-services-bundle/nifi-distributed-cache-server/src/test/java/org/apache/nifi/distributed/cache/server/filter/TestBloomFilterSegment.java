@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestBloomFilterSegment {
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private static final double LOG_2_SQUARED = Math.log(2) * Math.log(2);
+
+    @Test
+    public void testMaximumCapacityHasRequiredBits() {
+        for (final double probability : new double[]{0.1, FALSE_POSITIVE_PROBABILITY, 1.0E-9}) {
+            final long maximumCapacity = BloomFilterSegment.getMaximumCapacity(probability);
+            assertTrue(BloomFilterSegment.getOptimalBits(maximumCapacity, probability) >= getRequiredBits(maximumCapacity, probability));
+
+            // Larger capacities would require more bits than a segment can hold
+            final long largerCapacity = maximumCapacity * 2;
+            assertTrue(BloomFilterSegment.getOptimalBits(largerCapacity, probability) < getRequiredBits(largerCapacity, probability));
+        }
+    }
+
+    @Test
+    public void testInsertionsPersistedBeforeClose(@TempDir final Path directory) throws Exception {
+        final Path path = directory.resolve("segment.bloom");
+        try (BloomFilterSegment segment = BloomFilterSegment.create(100, FALSE_POSITIVE_PROBABILITY, path)) {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(segment.put(getHash(i)));
+            }
+            assertFalse(segment.put(getHash(0)));
+            assertEquals(10, segment.getInsertions());
+
+            // Opening the file without closing the segment reflects the state after an unexpected shutdown
+            try (BloomFilterSegment restored = BloomFilterSegment.open(path)) {
+                assertEquals(10, restored.getInsertions());
+                assertEquals(100, restored.getCapacity());
+                assertTrue(restored.mightContain(getHash(9)));
+            }
+        }
+
+        try (BloomFilterSegment restored = BloomFilterSegment.open(path)) {
+            assertEquals(10, restored.getInsertions());
+            assertFalse(restored.isFull());
+        }
+    }
+
+    private long getRequiredBits(final long capacity, final double probability) {
+        return (long) Math.ceil(-capacity * Math.log(probability) / LOG_2_SQUARED);
+    }
+
+    private long[] getHash(final int index) {
+        return MurmurHash3.hash128(("key-" + index).getBytes(StandardCharsets.UTF_8));
+    }
+}
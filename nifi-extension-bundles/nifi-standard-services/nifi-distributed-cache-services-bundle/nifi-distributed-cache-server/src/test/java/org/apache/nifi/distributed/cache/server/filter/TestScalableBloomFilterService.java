@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.filter;
+
+import org.apache.nifi.processor.Processor;
+import org.apache.nifi.util.TestRunner;
+import org.apache.nifi.util.TestRunners;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestScalableBloomFilterService {
+    private static final String SERVICE_ID = "filter";
+
+    private static final int EXPECTED_KEYS = 100;
+
+    private TestRunner runner;
+
+    private ScalableBloomFilterService service;
+
+    @BeforeEach
+    public void setRunner() throws Exception {
+        runner = TestRunners.newTestRunner(Mockito.mock(Processor.class));
+        service = new ScalableBloomFilterService();
+        runner.addControllerService(SERVICE_ID, service);
+        runner.setProperty(service, ScalableBloomFilterService.EXPECTED_KEYS, Integer.toString(EXPECTED_KEYS));
+    }
+
+    @Test
+    public void testPutMightContain() {
+        runner.enableControllerService(service);
+
+        final byte[] key = getKey(1);
+        assertFalse(service.mightContain(key));
+        assertTrue(service.put(key));
+        assertTrue(service.mightContain(key));
+        assertFalse(service.put(key));
+    }
+
+    @Test
+    public void testPutAllMightContainAll() {
+        runner.enableControllerService(service);
+
+        final List<byte[]> keys = List.of(getKey(1), getKey(2), getKey(1));
+        assertArrayEquals(new boolean[]{true, true, false}, service.putAll(keys));
+        assertArrayEquals(new boolean[]{true, true, true}, service.mightContainAll(keys));
+        assertArrayEquals(new boolean[]{false}, service.mightContainAll(List.of(getKey(3))));
+    }
+
+    @Test
+    public void testScalingBeyondExpectedKeys() {
+        runner.enableControllerService(service);
+
+        final int keys = EXPECTED_KEYS * 10;
+        final List<byte[]> added = new ArrayList<>();
+        for (int i = 0; i < keys; i++) {
+            added.add(getKey(i));
+        }
+        service.putAll(added);
+
+        for (final boolean contains : service.mightContainAll(added)) {
+            assertTrue(contains);
+        }
+
+        final List<ScalableBloomFilterService.TimeWindow> timeWindows = service.getTimeWindows(System.currentTimeMillis());
+        assertTrue(timeWindows.getLast().getSegments().size() > 1);
+
+        int falsePositives = 0;
+        for (int i = keys; i < keys * 2; i++) {
+            if (service.mightContain(getKey(i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < keys * 0.05, "False positives [%d] exceeded expected probability".formatted(falsePositives));
+    }
+
+    @Test
+    public void testTimeWindowRotation() {
+        runner.setProperty(service, ScalableBloomFilterService.TIME_WINDOW, "1 min");
+        runner.setProperty(service, ScalableBloomFilterService.TIME_WINDOWS_RETAINED, "2");
+        runner.enableControllerService(service);
+
+        final long currentTime = System.currentTimeMillis();
+        final byte[] key = getKey(1);
+        service.getTimeWindows(currentTime).getLast().put(MurmurHash3.hash128(key));
+
+        final List<ScalableBloomFilterService.TimeWindow> retained = service.getTimeWindows(currentTime + 60000);
+        assertEquals(2, retained.size());
+        assertTrue(retained.getFirst().mightContain(MurmurHash3.hash128(key)));
+
+        final List<ScalableBloomFilterService.TimeWindow> rotated = service.getTimeWindows(currentTime + 120000);
+        assertEquals(2, rotated.size());
+        assertFalse(rotated.getFirst().mightContain(MurmurHash3.hash128(key)));
+    }
+
+    @Test
+    public void testPersistenceDirectory(@TempDir final Path persistenceDirectory) throws Exception {
+        runner.setProperty(service, ScalableBloomFilterService.PERSISTENCE_DIRECTORY, persistenceDirectory.toString());
+        runner.enableControllerService(service);
+
+        final byte[] key = getKey(1);
+        assertTrue(service.put(key));
+        runner.disableControllerService(service);
+
+        try (Stream<Path> files = Files.list(persistenceDirectory)) {
+            assertEquals(1, files.count());
+        }
+
+        runner.enableControllerService(service);
+        assertTrue(service.mightContain(key));
+        assertFalse(service.put(key));
+        runner.disableControllerService(service);
+    }
+
+    @Test
+    public void testPersistenceDirectorySegmentIndexGap(@TempDir final Path persistenceDirectory) throws Exception {
+        runner.setProperty(service, ScalableBloomFilterService.PERSISTENCE_DIRECTORY, persistenceDirectory.toString());
+        runner.enableControllerService(service);
+
+        final List<byte[]> added = new ArrayList<>();
+        for (int i = 0; i < EXPECTED_KEYS * 4; i++) {
+            added.add(getKey(i));
+        }
+        service.putAll(added);
+        runner.disableControllerService(service);
+
+        final List<Path> segmentPaths;
+        try (Stream<Path> files = Files.list(persistenceDirectory)) {
+            segmentPaths = files.sorted().toList();
+        }
+        assertEquals(3, segmentPaths.size());
+        Files.delete(segmentPaths.get(1));
+
+        runner.enableControllerService(service);
+        final byte[] lastKey = getKey(EXPECTED_KEYS * 4 - 1);
+        assertTrue(service.mightContain(lastKey));
+
+        final List<byte[]> additional = new ArrayList<>();
+        for (int i = EXPECTED_KEYS * 4; i < EXPECTED_KEYS * 10; i++) {
+            additional.add(getKey(i));
+        }
+        service.putAll(additional);
+        assertTrue(service.mightContain(lastKey));
+        runner.disableControllerService(service);
+
+        try (Stream<Path> files = Files.list(persistenceDirectory)) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void testInvalidFalsePositiveProbability() {
+        runner.setProperty(service, ScalableBloomFilterService.FALSE_POSITIVE_PROBABILITY, "1");
+        runner.assertNotValid(service);
+    }
+
+    private byte[] getKey(final int index) {
+        return ("key-" + index).getBytes(StandardCharsets.UTF_8);
+    }
+}
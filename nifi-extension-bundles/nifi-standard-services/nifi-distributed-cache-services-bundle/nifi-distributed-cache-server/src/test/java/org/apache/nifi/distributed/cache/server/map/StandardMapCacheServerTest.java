@@ -26,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -43,6 +44,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Timeout(5)
 @ExtendWith(MockitoExtension.class)
@@ -156,6 +158,39 @@ class StandardMapCacheServerTest {
         }
     }
 
+    @Test
+    void testPersistencePartitionsChanged(@TempDir final File persistencePath) throws IOException {
+        startPersistentServer(persistencePath, 1).stop();
+
+        assertThrows(IOException.class, () -> startPersistentServer(persistencePath, 2));
+        startPersistentServer(persistencePath, 1).stop();
+    }
+
+    @Test
+    void testPersistencePartitionsRemoved(@TempDir final File persistencePath) throws IOException {
+        startPersistentServer(persistencePath, 4).stop();
+
+        assertThrows(IOException.class, () -> startPersistentServer(persistencePath, 1));
+        assertThrows(IOException.class, () -> startPersistentServer(persistencePath, 2));
+        startPersistentServer(persistencePath, 4).stop();
+    }
+
+    private StandardMapCacheServer startPersistentServer(final File persistencePath, final int partitions) throws IOException {
+        final StandardMapCacheServer persistentServer = new StandardMapCacheServer(
+                log,
+                IDENTIFIER,
+                SSL_CONTEXT_DISABLED,
+                0,
+                MAX_CACHE_ENTRIES,
+                EVICTION_POLICY,
+                persistencePath,
+                MAX_READ_LENGTH,
+                partitions
+        );
+        persistentServer.start();
+        return persistentServer;
+    }
+
     private void sendHeaderVersion(final DataOutputStream dataOutputStream, final InputStream inputStream) throws IOException {
         dataOutputStream.write(HEADER);
         dataOutputStream.writeInt(ProtocolVersion.V3.value());
@@ -58,10 +58,13 @@ import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -146,6 +149,82 @@ public class TestDistributedMapServerAndClient {
         }
     }
 
+    @Test
+    public void testPartitionedMapServerAndClient() throws InitializationException, IOException {
+        runner.setProperty(server, DistributedMapCacheServer.CACHE_PARTITIONS, "4");
+        runner.setProperty(server, DistributedMapCacheServer.PERSISTENCE_PATH, dataFile.getAbsolutePath());
+        runner.enableControllerService(server);
+
+        DistributedMapCacheClientService client = new DistributedMapCacheClientService();
+        try {
+            runner.addControllerService("client", client);
+            runner.setProperty(client, DistributedMapCacheClientService.HOSTNAME, "localhost");
+            runner.setProperty(client, DistributedMapCacheClientService.PORT, String.valueOf(server.getPort()));
+            runner.enableControllerService(client);
+
+            final Serializer<String> serializer = new StringSerializer();
+            final Deserializer<String> deserializer = new StringDeserializer();
+
+            final Map<String, String> keysAndValues = new HashMap<>();
+            for (int i = 0; i < 100; i++) {
+                keysAndValues.put("key-" + i, "value-" + i);
+            }
+            client.putAll(keysAndValues, serializer, serializer);
+
+            assertEquals(keysAndValues.keySet(), client.keySet(deserializer));
+            assertEquals(keysAndValues, client.subMap(keysAndValues.keySet(), serializer, deserializer));
+
+            assertTrue(client.remove("key-0", serializer));
+            assertFalse(client.containsKey("key-0", serializer));
+        } finally {
+            client.close();
+        }
+
+        server.shutdownServer();
+        assertEquals(4, dataFile.listFiles(File::isDirectory).length);
+    }
+
+    @Test
+    public void testPipelinedAsyncOperations() throws Exception {
+        runner.enableControllerService(server);
+
+        DistributedMapCacheClientService client = new DistributedMapCacheClientService();
+        try {
+            runner.addControllerService("client", client);
+            runner.setProperty(client, DistributedMapCacheClientService.HOSTNAME, "localhost");
+            runner.setProperty(client, DistributedMapCacheClientService.PORT, String.valueOf(server.getPort()));
+            runner.enableControllerService(client);
+
+            final Serializer<String> serializer = new StringSerializer();
+            final Deserializer<String> deserializer = new StringDeserializer();
+
+            final int requests = 1000;
+            final List<CompletableFuture<Void>> puts = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                puts.add(client.putAsync("key-" + i, "value-" + i, serializer, serializer));
+            }
+            CompletableFuture.allOf(puts.toArray(new CompletableFuture[0])).get();
+
+            final List<CompletableFuture<String>> gets = new ArrayList<>();
+            final List<CompletableFuture<String>> getAndPuts = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                gets.add(client.getAsync("key-" + i, serializer, deserializer));
+                getAndPuts.add(client.getAndPutIfAbsentAsync("key-" + (i + requests), "value", serializer, serializer, deserializer));
+            }
+
+            for (int i = 0; i < requests; i++) {
+                assertEquals("value-" + i, gets.get(i).get());
+                assertNull(getAndPuts.get(i).get());
+            }
+
+            // Synchronous operations remain available alongside pipelined operations
+            assertEquals("value", client.get("key-" + requests, serializer, deserializer));
+            assertEquals("value", client.getAndPutIfAbsentAsync("key-" + requests, "other", serializer, serializer, deserializer).get());
+        } finally {
+            client.close();
+        }
+    }
+
     @Test
     public void testOptimisticLock() throws Exception {
         runner.enableControllerService(server);
@@ -223,8 +302,9 @@ public class TestDistributedMapServerAndClient {
         // Create a server that only supports protocol version 1.
         server = new DistributedMapCacheServer() {
             @Override
-            protected CacheServer createMapCacheServer(int port, int maxSize, SSLContext sslContext, EvictionPolicy evictionPolicy, File persistenceDir, int maxReadSize) throws IOException {
-                return new StandardMapCacheServer(getLogger(), getIdentifier(), sslContext, port, maxSize, evictionPolicy, persistenceDir, maxReadSize) {
+            protected CacheServer createMapCacheServer(int port, int maxSize, SSLContext sslContext, EvictionPolicy evictionPolicy, File persistenceDir,
+                                                       int maxReadSize, int partitions) throws IOException {
+                return new StandardMapCacheServer(getLogger(), getIdentifier(), sslContext, port, maxSize, evictionPolicy, persistenceDir, maxReadSize, partitions) {
                     @Override
                     protected StandardVersionNegotiator createVersionNegotiator() {
                         return new StandardVersionNegotiator(ProtocolVersion.V1.value());
@@ -260,6 +340,10 @@ public class TestDistributedMapServerAndClient {
 
             assertTrue(client.containsKey(key, stringSerializer));
 
+            // Batched put should fall back to individual put operations
+            client.putAll(Map.of(key, "value3"), stringSerializer, stringSerializer);
+            assertEquals("value3", client.get(key, stringSerializer, stringDeserializer));
+
             assertThrows(UnsupportedOperationException.class, () -> client.fetch(key, stringSerializer, stringDeserializer));
 
             AtomicCacheEntry<String, String, Long> entry = new AtomicCacheEntry<>(key, "value2", 0L);
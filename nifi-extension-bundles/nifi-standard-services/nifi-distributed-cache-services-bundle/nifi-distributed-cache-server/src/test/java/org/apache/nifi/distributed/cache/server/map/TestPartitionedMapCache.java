@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.distributed.cache.server.map;
+
+import org.apache.nifi.distributed.cache.server.EvictionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestPartitionedMapCache {
+    private static final int PARTITIONS = 4;
+
+    private static final int PARTITION_SIZE = 100;
+
+    @Test
+    public void testPutAllGetAndRemove() throws Exception {
+        final PartitionedMapCache cache = createCache();
+
+        final Map<ByteBuffer, ByteBuffer> keysAndValues = new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            keysAndValues.put(toBuffer("key-" + i), toBuffer("value-" + i));
+        }
+
+        final List<MapPutResult> results = cache.putAll(keysAndValues);
+        assertEquals(keysAndValues.size(), results.size());
+        assertTrue(results.stream().allMatch(MapPutResult::isSuccessful));
+
+        assertEquals(keysAndValues.keySet(), cache.keySet());
+        assertEquals(keysAndValues, cache.subMap(new ArrayList<>(keysAndValues.keySet())));
+
+        final ByteBuffer key = toBuffer("key-0");
+        assertEquals(toBuffer("value-0"), cache.get(key));
+        assertFalse(cache.putIfAbsent(key, toBuffer("updated")).isSuccessful());
+        assertEquals(toBuffer("value-0"), cache.remove(key));
+        assertNull(cache.get(key));
+        assertFalse(cache.containsKey(key));
+    }
+
+    @Test
+    public void testReplaceRevision() throws Exception {
+        final PartitionedMapCache cache = createCache();
+
+        final ByteBuffer key = toBuffer("key");
+        assertTrue(cache.replace(new MapCacheRecord(key, toBuffer("value-0"))).isSuccessful());
+
+        final MapCacheRecord fetched = cache.fetch(key);
+        assertEquals(0, fetched.getRevision());
+
+        final MapPutResult replaced = cache.replace(new MapCacheRecord(key, toBuffer("value-1"), fetched.getRevision()));
+        assertTrue(replaced.isSuccessful());
+        assertEquals(1, replaced.getRecord().getRevision());
+        assertFalse(cache.replace(new MapCacheRecord(key, toBuffer("value-2"), fetched.getRevision())).isSuccessful());
+    }
+
+    @Test
+    public void testPartitionIndexStable() {
+        final PartitionedMapCache cache = createCache();
+
+        for (int i = 0; i < 1000; i++) {
+            final int partitionIndex = cache.getPartitionIndex(toBuffer("key-" + i));
+            assertTrue(partitionIndex >= 0 && partitionIndex < PARTITIONS);
+            assertEquals(partitionIndex, cache.getPartitionIndex(toBuffer("key-" + i)));
+        }
+    }
+
+    private PartitionedMapCache createCache() {
+        final List<MapCache> partitions = new ArrayList<>();
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions.add(new SimpleMapCache("service-id-" + i, PARTITION_SIZE, EvictionPolicy.FIFO));
+        }
+        return new PartitionedMapCache(partitions);
+    }
+
+    private ByteBuffer toBuffer(final String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -30,6 +30,7 @@ public class AvroReaderWithEmbeddedSchema extends AvroRecordReader {
     private final InputStream in;
     private final Schema avroSchema;
     private final RecordSchema recordSchema;
+    private GenericRecord reusableRecord;
 
     public AvroReaderWithEmbeddedSchema(final InputStream in) throws IOException {
         this.in = in;
@@ -45,12 +46,13 @@ public class AvroReaderWithEmbeddedSchema extends AvroRecordReader {
     }
 
     @Override
-    protected GenericRecord nextAvroRecord() {
+    protected GenericRecord nextAvroRecord() throws IOException {
         if (!dataFileStream.hasNext()) {
             return null;
         }
 
-        return dataFileStream.next();
+        reusableRecord = dataFileStream.next(reusableRecord);
+        return reusableRecord;
     }
 
     @Override
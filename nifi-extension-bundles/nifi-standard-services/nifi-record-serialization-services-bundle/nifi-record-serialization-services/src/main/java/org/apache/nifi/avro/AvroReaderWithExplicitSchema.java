@@ -81,7 +81,12 @@ public class AvroReaderWithExplicitSchema extends AvroRecordReader {
     protected GenericRecord nextAvroRecord() throws IOException {
         // If the avro file had an embedded schema that matched the explicit schema, delegate to the DataFileStream for reading records
         if (dataFileStream != null) {
-            return dataFileStream.hasNext() ? dataFileStream.next() : null;
+            if (!dataFileStream.hasNext()) {
+                return null;
+            }
+
+            genericRecord = dataFileStream.next(genericRecord);
+            return genericRecord;
         }
 
         if (decoder.isEnd()) {
@@ -89,7 +94,7 @@ public class AvroReaderWithExplicitSchema extends AvroRecordReader {
         }
 
         try {
-            genericRecord = datumReader.read(null, decoder);
+            genericRecord = datumReader.read(genericRecord, decoder);
         } catch (final EOFException eof) {
             throw new IOException("Was expecting more data, but reached EOF.", eof);
         }
@@ -29,6 +29,14 @@ import java.util.Map;
 
 public abstract class AvroRecordReader implements RecordReader {
 
+    private AvroToRecordConverter converter;
+
+    /**
+     * Read next Avro Generic Record. Implementations may reuse the same Generic Record instance for subsequent invocations.
+     *
+     * @return Avro Generic Record or null when no more records are available
+     * @throws IOException Thrown on failure to read the next Avro Generic Record
+     */
     protected abstract GenericRecord nextAvroRecord() throws IOException;
 
     @Override
@@ -40,7 +48,10 @@ public abstract class AvroRecordReader implements RecordReader {
             }
 
             final RecordSchema schema = getSchema();
-            final Map<String, Object> values = AvroTypeUtil.convertAvroRecordToMap(record, schema);
+            if (converter == null) {
+                converter = new AvroToRecordConverter(record.getSchema(), schema);
+            }
+            final Map<String, Object> values = converter.convert(record);
             return new MapRecord(schema, values);
         } catch (IOException e) {
             throw e;
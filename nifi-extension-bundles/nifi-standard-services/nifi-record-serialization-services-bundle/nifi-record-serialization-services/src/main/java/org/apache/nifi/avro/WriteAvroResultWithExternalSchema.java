@@ -42,6 +42,7 @@ public class WriteAvroResultWithExternalSchema extends AbstractRecordSetWriter {
     private final BinaryEncoder encoder;
     private final OutputStream buffered;
     private final DatumWriter<GenericRecord> datumWriter;
+    private final RecordToAvroConverter converter;
     private final BlockingQueue<BinaryEncoder> recycleQueue;
     private boolean closed = false;
 
@@ -63,6 +64,7 @@ public class WriteAvroResultWithExternalSchema extends AbstractRecordSetWriter {
         encoder = EncoderFactory.get().blockingBinaryEncoder(buffered, reusableEncoder);
 
         datumWriter = new GenericDatumWriter<>(avroSchema);
+        converter = new RecordToAvroConverter(avroSchema);
     }
 
     @Override
@@ -85,7 +87,7 @@ public class WriteAvroResultWithExternalSchema extends AbstractRecordSetWriter {
             schemaAccessWriter.writeHeader(recordSchema, getOutputStream());
         }
 
-        final GenericRecord rec = AvroTypeUtil.createAvroRecord(record, avroSchema);
+        final GenericRecord rec = converter.convert(record);
         datumWriter.write(rec, encoder);
         return schemaAccessWriter.getAttributes(recordSchema);
     }
@@ -33,11 +33,11 @@ import org.apache.nifi.serialization.record.Record;
 public class WriteAvroResultWithSchema extends AbstractRecordSetWriter {
 
     private final DataFileWriter<GenericRecord> dataFileWriter;
-    private final Schema schema;
+    private final RecordToAvroConverter converter;
 
     public WriteAvroResultWithSchema(final Schema schema, final OutputStream out, final CodecFactory codec) throws IOException {
         super(out);
-        this.schema = schema;
+        this.converter = new RecordToAvroConverter(schema);
 
         final GenericDatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>(schema);
         dataFileWriter = new DataFileWriter<>(datumWriter);
@@ -57,7 +57,7 @@ public class WriteAvroResultWithSchema extends AbstractRecordSetWriter {
 
     @Override
     public Map<String, String> writeRecord(final Record record) throws IOException {
-        final GenericRecord rec = AvroTypeUtil.createAvroRecord(record, schema);
+        final GenericRecord rec = converter.convert(record);
         dataFileWriter.append(rec);
         return Collections.emptyMap();
     }
@@ -23,6 +23,8 @@ import org.apache.nifi.serialization.record.DataType;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
+import org.apache.nifi.serialization.record.util.TypeCoercionCompiler;
+
 import java.util.Optional;
 
 abstract public class AbstractCSVRecordReader implements RecordReader {
@@ -38,6 +40,8 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
 
     protected final RecordSchema schema;
 
+    private final TypeCoercionCompiler typeCoercionCompiler;
+
     AbstractCSVRecordReader(final ComponentLog logger, final RecordSchema schema, final boolean hasHeader, final boolean ignoreHeader,
                             final String dateFormat, final String timeFormat, final String timestampFormat, final boolean trimDoubleQuote) {
         this.logger = logger;
@@ -63,6 +67,8 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
         } else {
             this.timestampFormat = timestampFormat;
         }
+
+        this.typeCoercionCompiler = new TypeCoercionCompiler(Optional.ofNullable(this.dateFormat), Optional.ofNullable(this.timeFormat), Optional.ofNullable(this.timestampFormat));
     }
 
     protected final Object convert(final String value, final DataType dataType, final String fieldName) {
@@ -83,7 +89,7 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             return null;
         }
 
-        return DataTypeUtils.convertType(trimmed, dataType, Optional.ofNullable(dateFormat), Optional.ofNullable(timeFormat), Optional.ofNullable(timestampFormat), fieldName);
+        return typeCoercionCompiler.getCoercer(dataType).coerce(trimmed, fieldName);
     }
 
     protected final Object convertSimpleIfPossible(final String value, final DataType dataType, final String fieldName) {
@@ -116,22 +122,22 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             case CHAR:
             case SHORT:
                 if (DataTypeUtils.isCompatibleDataType(trimmed, dataType)) {
-                    return DataTypeUtils.convertType(trimmed, dataType, Optional.ofNullable(dateFormat), Optional.ofNullable(timeFormat), Optional.ofNullable(timestampFormat), fieldName);
+                    return typeCoercionCompiler.getCoercer(dataType).coerce(trimmed, fieldName);
                 }
                 break;
             case DATE:
                 if (DataTypeUtils.isDateTypeCompatible(trimmed, dateFormat)) {
-                    return DataTypeUtils.convertType(trimmed, dataType, Optional.ofNullable(dateFormat), Optional.ofNullable(timeFormat), Optional.ofNullable(timestampFormat), fieldName);
+                    return typeCoercionCompiler.getCoercer(dataType).coerce(trimmed, fieldName);
                 }
                 break;
             case TIME:
                 if (DataTypeUtils.isTimeTypeCompatible(trimmed, timeFormat)) {
-                    return DataTypeUtils.convertType(trimmed, dataType, Optional.ofNullable(dateFormat), Optional.ofNullable(timeFormat), Optional.ofNullable(timestampFormat), fieldName);
+                    return typeCoercionCompiler.getCoercer(dataType).coerce(trimmed, fieldName);
                 }
                 break;
             case TIMESTAMP:
                 if (DataTypeUtils.isTimestampTypeCompatible(trimmed, timestampFormat)) {
-                    return DataTypeUtils.convertType(trimmed, dataType, Optional.ofNullable(dateFormat), Optional.ofNullable(timeFormat), Optional.ofNullable(timestampFormat), fieldName);
+                    return typeCoercionCompiler.getCoercer(dataType).coerce(trimmed, fieldName);
                 }
                 break;
         }
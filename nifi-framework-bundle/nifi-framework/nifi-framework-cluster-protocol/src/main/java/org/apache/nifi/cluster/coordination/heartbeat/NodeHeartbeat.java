@@ -61,4 +61,19 @@ public interface NodeHeartbeat {
      * @return the number of updates that have occurred to the Revision Manager
      */
     long getRevisionUpdateCount();
+
+    /**
+     * @return the number of threads that are active in components of the flow on the node, as reported in the controller status,
+     *         or <code>null</code> if the node did not report it
+     */
+    default Integer getComponentActiveThreadCount() {
+        return null;
+    }
+
+    /**
+     * @return the number of terminated threads in components of the flow on the node, or <code>null</code> if the node did not report it
+     */
+    default Integer getTerminatedThreadCount() {
+        return null;
+    }
 }
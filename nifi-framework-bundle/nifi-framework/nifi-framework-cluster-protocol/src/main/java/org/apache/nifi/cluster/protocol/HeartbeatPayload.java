@@ -57,6 +57,8 @@ public class HeartbeatPayload {
     private long systemStartTime;
     private List<NodeConnectionStatus> clusterStatus;
     private long revisionUpdateCount;
+    private Integer componentActiveThreadCount;
+    private Integer terminatedThreadCount;
 
     public int getActiveThreadCount() {
         return activeThreadCount;
@@ -106,6 +108,28 @@ public class HeartbeatPayload {
         this.revisionUpdateCount = revisionUpdateCount;
     }
 
+    /**
+     * @return the number of threads active in components of the flow, as reported in the controller status, or <code>null</code> if not reported by the node
+     */
+    public Integer getComponentActiveThreadCount() {
+        return componentActiveThreadCount;
+    }
+
+    public void setComponentActiveThreadCount(final Integer componentActiveThreadCount) {
+        this.componentActiveThreadCount = componentActiveThreadCount;
+    }
+
+    /**
+     * @return the number of terminated threads in components of the flow, as reported in the controller status, or <code>null</code> if not reported by the node
+     */
+    public Integer getTerminatedThreadCount() {
+        return terminatedThreadCount;
+    }
+
+    public void setTerminatedThreadCount(final Integer terminatedThreadCount) {
+        this.terminatedThreadCount = terminatedThreadCount;
+    }
+
     public byte[] marshal() throws ProtocolException {
         final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
         marshal(this, payloadBytes);
@@ -31,6 +31,18 @@ public interface ProtocolContext<T> {
      */
     ProtocolMessageMarshaller<T> createMarshaller();
 
+    /**
+     * Creates a marshaller for serializing the response to a request that was
+     * deserialized using the given unmarshaller. The response is serialized
+     * using an encoding that the sender of the request is able to read.
+     *
+     * @param requestUnmarshaller the unmarshaller used to deserialize the request
+     * @return a marshaller
+     */
+    default ProtocolMessageMarshaller<T> createResponseMarshaller(ProtocolMessageUnmarshaller<T> requestUnmarshaller) {
+        return createMarshaller();
+    }
+
     /**
      * Creates an unmarshaller for deserializing protocol messages.
      *
@@ -180,7 +180,7 @@ public class SocketProtocolListener extends SocketListener implements ProtocolLi
                         logger.debug("Sending response for request {}", requestId);
 
                         // marshal message to output stream
-                        final ProtocolMessageMarshaller<ProtocolMessage> marshaller = protocolContext.createMarshaller();
+                        final ProtocolMessageMarshaller<ProtocolMessage> marshaller = protocolContext.createResponseMarshaller(unmarshaller);
                         marshaller.marshal(response, socket.getOutputStream());
                     } catch (final IOException ioe) {
                         throw new ProtocolException("Failed marshalling protocol message in response to message type: " + request.getType() + " due to " + ioe, ioe);
@@ -38,10 +38,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Implements a context for communicating internally amongst the cluster using
  * JAXB.
+ * <p>
+ * Two message encodings are supported. The standard encoding writes the size of the
+ * message followed by the XML, which requires buffering the entire message. The compressed
+ * encoding streams the XML through a deflate stream and writes it as a series of size-prefixed
+ * chunks, so that large messages such as connection responses carrying the flow are neither
+ * fully buffered when marshalled nor when unmarshalled. Unmarshallers accept both encodings,
+ * and responses are written with the encoding of the corresponding request so that nodes
+ * without support for compression can still communicate with nodes that have it enabled.
+ * </p>
  *
  * @param <T> The type of protocol message.
  *
@@ -57,14 +69,80 @@ public class JaxbProtocolContext<T> implements ProtocolContext<T> {
      */
     private static final byte MESSAGE_PROTOCOL_START_SENTINEL = 0x5A;
 
+    /*
+     * Sentinel for messages using the compressed encoding, followed by the version of the encoding.
+     */
+    private static final byte COMPRESSED_MESSAGE_PROTOCOL_START_SENTINEL = 0x5B;
+
+    private static final byte COMPRESSED_MESSAGE_PROTOCOL_VERSION = 1;
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
     private final JAXBContext jaxbCtx;
 
+    private final boolean compressionEnabled;
+
     public JaxbProtocolContext(final JAXBContext jaxbCtx) {
+        this(jaxbCtx, false);
+    }
+
+    /**
+     * @param jaxbCtx JAXB context for protocol messages
+     * @param compressionEnabled whether messages that are not responses should be written using the compressed encoding.
+     * Only nodes that support the compressed encoding are able to read these messages.
+     */
+    public JaxbProtocolContext(final JAXBContext jaxbCtx, final boolean compressionEnabled) {
         this.jaxbCtx = jaxbCtx;
+        this.compressionEnabled = compressionEnabled;
     }
 
     @Override
     public ProtocolMessageMarshaller<T> createMarshaller() {
+        return compressionEnabled ? createCompressedMarshaller() : createStandardMarshaller();
+    }
+
+    @Override
+    public ProtocolMessageMarshaller<T> createResponseMarshaller(final ProtocolMessageUnmarshaller<T> requestUnmarshaller) {
+        if (requestUnmarshaller instanceof JaxbProtocolContext.EncodingAwareUnmarshaller unmarshaller) {
+            return unmarshaller.isCompressedEncoding() ? createCompressedMarshaller() : createStandardMarshaller();
+        }
+
+        return createMarshaller();
+    }
+
+    private ProtocolMessageMarshaller<T> createCompressedMarshaller() {
+        return new ProtocolMessageMarshaller<T>() {
+
+            @Override
+            public void marshal(final T msg, final OutputStream os) throws IOException {
+
+                try {
+
+                    final DataOutputStream dos = new DataOutputStream(os);
+                    dos.write(COMPRESSED_MESSAGE_PROTOCOL_START_SENTINEL);
+                    dos.write(COMPRESSED_MESSAGE_PROTOCOL_VERSION);
+
+                    // marshal message directly to the compressed stream without buffering the message
+                    final Marshaller marshaller = jaxbCtx.createMarshaller();
+                    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                    try (final ChunkedOutputStream chunkedOut = new ChunkedOutputStream(dos);
+                         final DeflaterOutputStream deflaterOut = new DeflaterOutputStream(chunkedOut, deflater, CHUNK_SIZE)) {
+                        marshaller.marshal(msg, deflaterOut);
+                    } finally {
+                        deflater.end();
+                    }
+
+                    dos.flush();
+
+                } catch (final JAXBException je) {
+                    throw new IOException("Failed marshalling protocol message due to: " + je, je);
+                }
+
+            }
+        };
+    }
+
+    private ProtocolMessageMarshaller<T> createStandardMarshaller() {
         return new ProtocolMessageMarshaller<T>() {
 
             @Override
@@ -100,54 +178,221 @@ public class JaxbProtocolContext<T> implements ProtocolContext<T> {
 
     @Override
     public ProtocolMessageUnmarshaller<T> createUnmarshaller() {
-        return new ProtocolMessageUnmarshaller<T>() {
+        return new EncodingAwareUnmarshaller();
+    }
 
-            @Override
-            public T unmarshal(final InputStream is) throws IOException {
+    /**
+     * Unmarshaller accepting both message encodings, which records the encoding of the last message read
+     */
+    private class EncodingAwareUnmarshaller implements ProtocolMessageUnmarshaller<T> {
 
-                try {
+        private volatile boolean compressedEncoding;
 
-                    final DataInputStream dis = new DataInputStream(is);
+        boolean isCompressedEncoding() {
+            return compressedEncoding;
+        }
 
-                    // check for the presence of the message protocol sentinel
-                    final byte sentinel = (byte) dis.read();
-                    if (sentinel == -1) {
-                        throw new EOFException();
-                    }
+        @Override
+        public T unmarshal(final InputStream is) throws IOException {
+
+            try {
+
+                final DataInputStream dis = new DataInputStream(is);
+
+                // check for the presence of the message protocol sentinel
+                final int sentinel = dis.read();
+                if (sentinel == -1) {
+                    throw new EOFException();
+                }
+
+                if (COMPRESSED_MESSAGE_PROTOCOL_START_SENTINEL == sentinel) {
+                    compressedEncoding = true;
+                    return unmarshalCompressed(dis);
+                }
+
+                if (MESSAGE_PROTOCOL_START_SENTINEL != sentinel) {
+                    throw new IOException("Failed reading protocol message due to malformed header");
+                }
 
-                    if (MESSAGE_PROTOCOL_START_SENTINEL != sentinel) {
-                        throw new IOException("Failed reading protocol message due to malformed header");
+                compressedEncoding = false;
+
+                // read the message size
+                final int msgBytesSize = dis.readInt();
+
+                // read the message
+                final ByteBuffer buffer = ByteBuffer.allocate(msgBytesSize);
+                int totalBytesRead = 0;
+                do {
+                    final int bytesToRead;
+                    if ((msgBytesSize - totalBytesRead) >= BUF_SIZE) {
+                        bytesToRead = BUF_SIZE;
+                    } else {
+                        bytesToRead = msgBytesSize - totalBytesRead;
                     }
+                    totalBytesRead += dis.read(buffer.array(), totalBytesRead, bytesToRead);
+                } while (totalBytesRead < msgBytesSize);
+
+                // unmarshall message and return
+                final byte[] msg = new byte[totalBytesRead];
+                buffer.get(msg);
+                return unmarshalXml(new ByteArrayInputStream(msg));
+
+            } catch (final JAXBException | ProcessingException e) {
+                throw new IOException("Failed unmarshalling protocol message due to: " + e, e);
+            }
+
+        }
+
+        private T unmarshalCompressed(final DataInputStream dis) throws IOException, JAXBException {
+            final int version = dis.read();
+            if (COMPRESSED_MESSAGE_PROTOCOL_VERSION != version) {
+                throw new IOException("Failed reading protocol message due to unsupported encoding version " + version);
+            }
+
+            final ChunkedInputStream chunkedIn = new ChunkedInputStream(dis);
+            final T msg = unmarshalXml(new InflaterInputStream(chunkedIn));
 
-                    // read the message size
-                    final int msgBytesSize = dis.readInt();
-
-                    // read the message
-                    final ByteBuffer buffer = ByteBuffer.allocate(msgBytesSize);
-                    int totalBytesRead = 0;
-                    do {
-                        final int bytesToRead;
-                        if ((msgBytesSize - totalBytesRead) >= BUF_SIZE) {
-                            bytesToRead = BUF_SIZE;
-                        } else {
-                            bytesToRead = msgBytesSize - totalBytesRead;
-                        }
-                        totalBytesRead += dis.read(buffer.array(), totalBytesRead, bytesToRead);
-                    } while (totalBytesRead < msgBytesSize);
-
-                    // unmarshall message and return
-                    final Unmarshaller unmarshaller = jaxbCtx.createUnmarshaller();
-                    final byte[] msg = new byte[totalBytesRead];
-                    buffer.get(msg);
-                    final XMLStreamReaderProvider provider = new StandardXMLStreamReaderProvider();
-                    final XMLStreamReader xsr = provider.getStreamReader(new StreamSource(new ByteArrayInputStream(msg)));
-                    return (T) unmarshaller.unmarshal(xsr);
-
-                } catch (final JAXBException | ProcessingException e) {
-                    throw new IOException("Failed unmarshalling protocol message due to: " + e, e);
+            // consume any remaining chunks so that the stream is positioned after the message
+            chunkedIn.skipRemaining();
+            return msg;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T unmarshalXml(final InputStream xmlIn) throws JAXBException {
+            final Unmarshaller unmarshaller = jaxbCtx.createUnmarshaller();
+            final XMLStreamReaderProvider provider = new StandardXMLStreamReaderProvider();
+            final XMLStreamReader xsr = provider.getStreamReader(new StreamSource(xmlIn));
+            return (T) unmarshaller.unmarshal(xsr);
+        }
+    }
+
+    /**
+     * Output Stream writing size-prefixed chunks, terminated by an empty chunk when closed. The wrapped stream is not closed.
+     */
+    private static class ChunkedOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        private int count;
+        private boolean closed;
+
+        private ChunkedOutputStream(final DataOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (count == buffer.length) {
+                writeChunk();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                if (count == buffer.length) {
+                    writeChunk();
                 }
 
+                final int length = Math.min(remaining, buffer.length - count);
+                System.arraycopy(b, offset, buffer, count, length);
+                count += length;
+                offset += length;
+                remaining -= length;
             }
-        };
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (count > 0) {
+                writeChunk();
+            }
+            out.writeInt(0);
+            out.flush();
+        }
+
+        private void writeChunk() throws IOException {
+            out.writeInt(count);
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    /**
+     * Input Stream reading size-prefixed chunks until an empty chunk is found. The chunk size is validated
+     * so that a corrupted message does not cause reading an arbitrary amount of data.
+     */
+    private static class ChunkedInputStream extends InputStream {
+        private final DataInputStream in;
+        private int chunkRemaining;
+        private boolean finished;
+
+        private ChunkedInputStream(final DataInputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+
+            final int b = in.read();
+            if (b == -1) {
+                throw new EOFException();
+            }
+            chunkRemaining--;
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextChunk()) {
+                return -1;
+            }
+
+            final int bytesRead = in.read(b, off, Math.min(len, chunkRemaining));
+            if (bytesRead == -1) {
+                throw new EOFException();
+            }
+            chunkRemaining -= bytesRead;
+            return bytesRead;
+        }
+
+        private void skipRemaining() throws IOException {
+            while (nextChunk()) {
+                in.skipNBytes(chunkRemaining);
+                chunkRemaining = 0;
+            }
+        }
+
+        private boolean nextChunk() throws IOException {
+            while (chunkRemaining == 0) {
+                if (finished) {
+                    return false;
+                }
+
+                final int chunkSize = in.readInt();
+                if (chunkSize < 0 || chunkSize > CHUNK_SIZE) {
+                    throw new IOException("Failed reading protocol message due to invalid chunk size " + chunkSize);
+                }
+                if (chunkSize == 0) {
+                    finished = true;
+                    return false;
+                }
+                chunkRemaining = chunkSize;
+            }
+            return true;
+        }
     }
 }
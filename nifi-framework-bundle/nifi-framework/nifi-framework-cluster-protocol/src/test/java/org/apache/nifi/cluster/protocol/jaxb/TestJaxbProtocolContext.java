@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.cluster.protocol.jaxb;
+
+import org.apache.nifi.cluster.coordination.node.DisconnectionCode;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
+import org.apache.nifi.cluster.protocol.ComponentRevisionSnapshot;
+import org.apache.nifi.cluster.protocol.ConnectionResponse;
+import org.apache.nifi.cluster.protocol.NodeIdentifier;
+import org.apache.nifi.cluster.protocol.ProtocolMessageUnmarshaller;
+import org.apache.nifi.cluster.protocol.StandardDataFlow;
+import org.apache.nifi.cluster.protocol.jaxb.message.JaxbProtocolUtils;
+import org.apache.nifi.cluster.protocol.message.ConnectionResponseMessage;
+import org.apache.nifi.cluster.protocol.message.NodeConnectionStatusRequestMessage;
+import org.apache.nifi.cluster.protocol.message.ProtocolMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestJaxbProtocolContext {
+
+    private static final byte STANDARD_SENTINEL = 0x5A;
+
+    private static final byte COMPRESSED_SENTINEL = 0x5B;
+
+    private final JaxbProtocolContext<ProtocolMessage> standardContext = new JaxbProtocolContext<>(JaxbProtocolUtils.JAXB_CONTEXT);
+
+    private final JaxbProtocolContext<ProtocolMessage> compressedContext = new JaxbProtocolContext<>(JaxbProtocolUtils.JAXB_CONTEXT, true);
+
+    @Test
+    public void testRoundTripCompressedConnectionResponse() throws IOException {
+        final byte[] flow = "<flow>".repeat(100_000).getBytes(StandardCharsets.UTF_8);
+        final ConnectionResponseMessage msg = createConnectionResponseMessage(flow);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        compressedContext.createMarshaller().marshal(msg, out);
+        out.write(STANDARD_SENTINEL);
+
+        final byte[] marshalled = out.toByteArray();
+        assertEquals(COMPRESSED_SENTINEL, marshalled[0]);
+        assertTrue(marshalled.length < flow.length);
+
+        final InputStream in = new ByteArrayInputStream(marshalled);
+        final ProtocolMessage unmarshalled = standardContext.createUnmarshaller().unmarshal(in);
+        final ConnectionResponseMessage responseMessage = assertInstanceOf(ConnectionResponseMessage.class, unmarshalled);
+        assertArrayEquals(flow, responseMessage.getConnectionResponse().getDataFlow().getFlow());
+
+        // stream must be positioned after the end of the message
+        assertEquals(STANDARD_SENTINEL, in.read());
+    }
+
+    @Test
+    public void testResponseUsesRequestEncoding() throws IOException {
+        final ByteArrayOutputStream standardRequest = new ByteArrayOutputStream();
+        standardContext.createMarshaller().marshal(new NodeConnectionStatusRequestMessage(), standardRequest);
+        assertEquals(STANDARD_SENTINEL, standardRequest.toByteArray()[0]);
+
+        final ProtocolMessageUnmarshaller<ProtocolMessage> unmarshaller = compressedContext.createUnmarshaller();
+        unmarshaller.unmarshal(new ByteArrayInputStream(standardRequest.toByteArray()));
+        assertEquals(STANDARD_SENTINEL, marshalResponse(unmarshaller)[0]);
+
+        final ByteArrayOutputStream compressedRequest = new ByteArrayOutputStream();
+        compressedContext.createMarshaller().marshal(new NodeConnectionStatusRequestMessage(), compressedRequest);
+
+        final ProtocolMessageUnmarshaller<ProtocolMessage> standardUnmarshaller = standardContext.createUnmarshaller();
+        standardUnmarshaller.unmarshal(new ByteArrayInputStream(compressedRequest.toByteArray()));
+        assertEquals(COMPRESSED_SENTINEL, marshalResponse(standardUnmarshaller)[0]);
+    }
+
+    @Test
+    public void testUnmarshalInvalidChunkSize() {
+        final byte[] corrupted = {COMPRESSED_SENTINEL, 1, 0x7F, 0, 0, 0};
+        assertThrows(IOException.class, () -> standardContext.createUnmarshaller().unmarshal(new ByteArrayInputStream(corrupted)));
+    }
+
+    private byte[] marshalResponse(final ProtocolMessageUnmarshaller<ProtocolMessage> requestUnmarshaller) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ConnectionResponseMessage response = createConnectionResponseMessage(new byte[0]);
+        compressedContext.createResponseMarshaller(requestUnmarshaller).marshal(response, out);
+        return out.toByteArray();
+    }
+
+    private ConnectionResponseMessage createConnectionResponseMessage(final byte[] flow) {
+        final NodeIdentifier nodeId = new NodeIdentifier("id", "localhost", 8000, "localhost", 8001, "localhost", 8002, 8003, true);
+        final StandardDataFlow dataFlow = new StandardDataFlow(flow, new byte[0], new byte[0], new HashSet<>());
+        final List<NodeConnectionStatus> nodeStatuses = Collections.singletonList(new NodeConnectionStatus(nodeId, DisconnectionCode.NOT_YET_CONNECTED));
+        final ComponentRevisionSnapshot revisionSnapshot = new ComponentRevisionSnapshot();
+        revisionSnapshot.setComponentRevisions(Collections.emptyList());
+        revisionSnapshot.setRevisionUpdateCount(1L);
+
+        final ConnectionResponseMessage msg = new ConnectionResponseMessage();
+        msg.setConnectionResponse(new ConnectionResponse(nodeId, dataFlow, "instance-1", nodeStatuses, revisionSnapshot));
+        return msg;
+    }
+}
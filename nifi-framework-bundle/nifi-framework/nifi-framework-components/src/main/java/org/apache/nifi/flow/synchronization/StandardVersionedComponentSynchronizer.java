@@ -107,6 +107,7 @@ import org.apache.nifi.registry.flow.diff.FlowDifference;
 import org.apache.nifi.registry.flow.diff.StandardComparableDataFlow;
 import org.apache.nifi.registry.flow.diff.StandardFlowComparator;
 import org.apache.nifi.registry.flow.diff.StaticDifferenceDescriptor;
+import org.apache.nifi.registry.flow.diff.VersionedProcessGroupHashTree;
 import org.apache.nifi.registry.flow.mapping.NiFiRegistryFlowMapper;
 import org.apache.nifi.remote.PublicPort;
 import org.apache.nifi.remote.RemoteGroupPort;
@@ -126,6 +127,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -152,6 +154,7 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
     private final VersionedFlowSynchronizationContext context;
     private final Set<String> updatedVersionedComponentIds = new HashSet<>();
     private final List<CreatedExtension> createdExtensions = new ArrayList<>();
+    private final Map<VersionedProcessGroup, String> unchangedProcessGroupIds = new IdentityHashMap<>();
 
     private FlowSynchronizationOptions syncOptions;
     private final ConnectableAdditionTracker connectableAdditionTracker = new ConnectableAdditionTracker();
@@ -172,15 +175,24 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
         final ComparableDataFlow localFlow = new StandardComparableDataFlow("Currently Loaded Flow", versionedGroup);
         final ComparableDataFlow proposedFlow = new StandardComparableDataFlow("Proposed Flow", versionedExternalFlow.getFlowContents());
 
+        // Content hashes allow the comparison and synchronization to skip any Process Group whose contents are unchanged
+        final VersionedProcessGroupHashTree localHashTree = VersionedProcessGroupHashTree.create(versionedGroup, options.getComponentComparisonIdLookup());
+        final VersionedProcessGroupHashTree proposedHashTree = VersionedProcessGroupHashTree.create(versionedExternalFlow.getFlowContents(), options.getComponentComparisonIdLookup());
+
         final PropertyDecryptor decryptor = options.getPropertyDecryptor();
         final FlowComparator flowComparator = new StandardFlowComparator(localFlow, proposedFlow, group.getAncestorServiceIds(),
-            new StaticDifferenceDescriptor(), decryptor::decrypt, options.getComponentComparisonIdLookup(), FlowComparatorVersionedStrategy.DEEP);
+            new StaticDifferenceDescriptor(), decryptor::decrypt, options.getComponentComparisonIdLookup(), FlowComparatorVersionedStrategy.DEEP,
+            (localGroup, proposedGroup) -> localHashTree.isSameContent(localGroup, proposedHashTree, proposedGroup));
         final FlowComparison flowComparison = flowComparator.compare();
 
         updatedVersionedComponentIds.clear();
         createdExtensions.clear();
+        unchangedProcessGroupIds.clear();
         setSynchronizationOptions(options);
 
+        // Unchanged groups are skipped even when updating Version Control snapshots, since the snapshot of an unchanged group has the same content
+        findUnchangedProcessGroups(versionedGroup, versionedExternalFlow.getFlowContents(), localHashTree, proposedHashTree, options.getComponentComparisonIdLookup());
+
         for (final FlowDifference diff : flowComparison.getDifferences()) {
             if (FlowDifferenceFilters.isPropertyMissingFromGhostComponent(diff, context.getFlowManager())) {
                 continue;
@@ -548,8 +560,56 @@ public class StandardVersionedComponentSynchronizer implements VersionedComponen
                 added.findAllRemoteProcessGroups().forEach(RemoteProcessGroup::initialize);
                 LOG.info("Added {} to {}", added, group);
             } else if (childCoordinates == null || syncOptions.isUpdateDescendantVersionedFlows()) {
-                synchronize(childGroup, proposedChildGroup, versionedParameterContexts, parameterProviderReferences, topLevelGroup, true);
-                LOG.info("Updated {}", childGroup);
+                if (childGroup.getIdentifier().equals(unchangedProcessGroupIds.get(proposedChildGroup))) {
+                    updateParameterContexts(childGroup, proposedChildGroup, versionedParameterContexts, parameterProviderReferences);
+                    LOG.debug("Contents of {} have not changed", childGroup);
+                } else {
+                    synchronize(childGroup, proposedChildGroup, versionedParameterContexts, parameterProviderReferences, topLevelGroup, true);
+                    LOG.info("Updated {}", childGroup);
+                }
+            }
+        }
+    }
+
+    private void findUnchangedProcessGroups(final VersionedProcessGroup localGroup, final VersionedProcessGroup proposedGroup, final VersionedProcessGroupHashTree localHashTree,
+                                            final VersionedProcessGroupHashTree proposedHashTree, final Function<VersionedComponent, String> idLookup) {
+        if (localGroup.getProcessGroups() == null || proposedGroup.getProcessGroups() == null) {
+            return;
+        }
+
+        final Map<String, VersionedProcessGroup> localChildGroups = new HashMap<>();
+        for (final VersionedProcessGroup localChildGroup : localGroup.getProcessGroups()) {
+            final String localChildGroupId = idLookup.apply(localChildGroup);
+            if (localChildGroupId != null) {
+                localChildGroups.put(localChildGroupId, localChildGroup);
+            }
+        }
+
+        for (final VersionedProcessGroup proposedChildGroup : proposedGroup.getProcessGroups()) {
+            final String proposedChildGroupId = idLookup.apply(proposedChildGroup);
+            final VersionedProcessGroup localChildGroup = proposedChildGroupId == null ? null : localChildGroups.get(proposedChildGroupId);
+            if (localChildGroup == null) {
+                continue;
+            }
+
+            if (localHashTree.isSameContent(localChildGroup, proposedHashTree, proposedChildGroup) && localChildGroup.getInstanceIdentifier() != null) {
+                unchangedProcessGroupIds.put(proposedChildGroup, localChildGroup.getInstanceIdentifier());
+            } else {
+                findUnchangedProcessGroups(localChildGroup, proposedChildGroup, localHashTree, proposedHashTree, idLookup);
+            }
+        }
+    }
+
+    private void updateParameterContexts(final ProcessGroup group, final VersionedProcessGroup proposed, final Map<String, VersionedParameterContext> versionedParameterContexts,
+                                         final Map<String, ParameterProviderReference> parameterProviderReferences) {
+        // Proposed Parameter Contexts are not part of the Process Group contents, so they are applied even if the contents have not changed
+        updateParameterContext(group, proposed, versionedParameterContexts, parameterProviderReferences, context.getComponentIdGenerator());
+
+        final Map<String, ProcessGroup> childGroupsByVersionedId = componentsById(group, ProcessGroup::getProcessGroups, ProcessGroup::getIdentifier, ProcessGroup::getVersionedComponentId);
+        for (final VersionedProcessGroup proposedChildGroup : proposed.getProcessGroups()) {
+            final ProcessGroup childGroup = childGroupsByVersionedId.get(proposedChildGroup.getIdentifier());
+            if (childGroup != null) {
+                updateParameterContexts(childGroup, proposedChildGroup, versionedParameterContexts, parameterProviderReferences);
             }
         }
     }
@@ -1251,6 +1251,100 @@ public class StandardVersionedComponentSynchronizerTest {
         verify(processGroup, times(1)).setParameterContext(any(ParameterContext.class));
     }
 
+    @Test
+    public void testSynchronizeUnchangedChildGroupSkipped() {
+        final ProcessGroup processGroup = createMockProcessGroup();
+
+        final ParameterContext unchangedParameterContext = new StandardParameterContext.Builder()
+            .id("unchanged-context")
+            .name("Unchanged Params")
+            .parameterReferenceManager(parameterReferenceManager)
+            .build();
+        parameterContextManager.addParameterContext(unchangedParameterContext);
+
+        final ProcessGroup unchangedGroup = createMockChildProcessGroup("unchanged", unchangedParameterContext);
+        final ProcessGroup changedGroup = createMockChildProcessGroup("changed", null);
+        when(processGroup.getProcessGroups()).thenReturn(Set.of(unchangedGroup, changedGroup));
+
+        final VersionedProcessGroup unchangedVersionedGroup = createVersionedChildGroup("unchanged");
+        unchangedVersionedGroup.setParameterContextName(unchangedParameterContext.getName());
+        final VersionedProcessGroup changedVersionedGroup = createVersionedChildGroup("changed");
+        changedVersionedGroup.setComments("Changed");
+
+        final VersionedProcessGroup rootGroup = new VersionedProcessGroup();
+        rootGroup.setIdentifier("rootGroup");
+        rootGroup.setProcessGroups(Set.of(unchangedVersionedGroup, changedVersionedGroup));
+
+        final VersionedParameterContext versionedParameterContext = createVersionedParameterContext(unchangedParameterContext.getName(), Map.of("added", "value"), Set.of());
+        final VersionedExternalFlow externalFlow = new VersionedExternalFlow();
+        externalFlow.setFlowContents(rootGroup);
+        externalFlow.setParameterContexts(Map.of(versionedParameterContext.getName(), versionedParameterContext));
+
+        synchronizer.synchronize(processGroup, externalFlow, synchronizationOptions);
+
+        verify(unchangedGroup, never()).setComments(any());
+        verify(unchangedGroup, never()).disconnectVersionControl(anyBoolean());
+        verify(changedGroup).setComments("Changed");
+        verify(changedGroup).disconnectVersionControl(false);
+
+        // Parameter Contexts are not part of the group contents and are updated even when the group is skipped
+        assertTrue(unchangedParameterContext.getParameter("added").isPresent());
+    }
+
+    @Test
+    public void testSynchronizeChangedChildGroupParameterContext() {
+        final ProcessGroup processGroup = createMockProcessGroup();
+
+        final ProcessGroup childGroup = createMockChildProcessGroup("child", null);
+        when(processGroup.getProcessGroups()).thenReturn(Set.of(childGroup));
+
+        final VersionedParameterContext versionedParameterContext = createVersionedParameterContext("Child Params", Map.of("added", "value"), Set.of());
+        final VersionedProcessGroup childVersionedGroup = createVersionedChildGroup("child");
+        childVersionedGroup.setParameterContextName(versionedParameterContext.getName());
+
+        final VersionedProcessGroup rootGroup = new VersionedProcessGroup();
+        rootGroup.setIdentifier("rootGroup");
+        rootGroup.setProcessGroups(Set.of(childVersionedGroup));
+
+        final VersionedExternalFlow externalFlow = new VersionedExternalFlow();
+        externalFlow.setFlowContents(rootGroup);
+        externalFlow.setParameterContexts(Map.of(versionedParameterContext.getName(), versionedParameterContext));
+
+        synchronizer.synchronize(processGroup, externalFlow, synchronizationOptions);
+
+        verify(childGroup).disconnectVersionControl(false);
+        verify(childGroup).setParameterContext(parameterContextManager.getParameterContextNameMapping().get(versionedParameterContext.getName()));
+    }
+
+    private ProcessGroup createMockChildProcessGroup(final String versionedId, final ParameterContext parameterContext) {
+        final ProcessGroup childGroup = mock(ProcessGroup.class);
+        when(childGroup.getIdentifier()).thenReturn(versionedId + "-instance");
+        when(childGroup.getVersionedComponentId()).thenReturn(Optional.of(versionedId));
+        when(childGroup.getName()).thenReturn(versionedId);
+        when(childGroup.getPosition()).thenReturn(new org.apache.nifi.connectable.Position(0, 0));
+        when(childGroup.getFlowFileConcurrency()).thenReturn(FlowFileConcurrency.UNBOUNDED);
+        when(childGroup.getFlowFileOutboundPolicy()).thenReturn(FlowFileOutboundPolicy.BATCH_OUTPUT);
+        when(childGroup.getExecutionEngine()).thenReturn(ExecutionEngine.STANDARD);
+        when(childGroup.getDefaultBackPressureObjectThreshold()).thenReturn(10000L);
+        when(childGroup.getMaxConcurrentTasks()).thenReturn(1);
+        when(childGroup.getParameterContext()).thenReturn(parameterContext);
+        return childGroup;
+    }
+
+    private VersionedProcessGroup createVersionedChildGroup(final String versionedId) {
+        final VersionedProcessGroup childGroup = new VersionedProcessGroup();
+        childGroup.setIdentifier(versionedId);
+        childGroup.setName(versionedId);
+        childGroup.setPosition(new Position(0, 0));
+        childGroup.setFlowFileConcurrency(FlowFileConcurrency.UNBOUNDED.name());
+        childGroup.setFlowFileOutboundPolicy(FlowFileOutboundPolicy.BATCH_OUTPUT.name());
+        childGroup.setExecutionEngine(ExecutionEngine.STANDARD);
+        childGroup.setDefaultBackPressureObjectThreshold(10000L);
+        childGroup.setMaxConcurrentTasks(1);
+        childGroup.setScheduledState(ScheduledState.ENABLED);
+        return childGroup;
+    }
+
     private VersionedParameterContext createVersionedParameterContext(final String name, final Map<String, String> parameters, final Set<String> sensitiveParamNames) {
         final Set<VersionedParameter> versionedParameters = new HashSet<>();
         for (final Map.Entry<String, String> entry : parameters.entrySet()) {
@@ -311,6 +311,7 @@ public class FlowController implements ReportingTaskProvider, FlowAnalysisRulePr
     // change while the instance is running. We do this because we want to generate heartbeats even if we
     // are unable to obtain a read lock on the entire FlowController.
     private final AtomicReference<HeartbeatBean> heartbeatBeanRef = new AtomicReference<>();
+    private final AtomicReference<RootGroupStatusCounts> rootGroupStatusCountsRef = new AtomicReference<>();
     private final AtomicBoolean heartbeatsSuspended = new AtomicBoolean(false);
 
     private final Integer remoteInputSocketPort;
@@ -396,6 +397,7 @@ public class FlowController implements ReportingTaskProvider, FlowAnalysisRulePr
     private final TimedLock writeLock = new TimedLock(rwLock.writeLock(), "FlowControllerWriteLock", 1);
 
     private static final Logger LOG = LoggerFactory.getLogger(FlowController.class);
+    private static final long ROOT_GROUP_STATUS_COUNTS_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
 
     public static FlowController createStandaloneInstance(
             final FlowFileEventRepository flowFileEventRepo,
@@ -2427,6 +2429,28 @@ public class FlowController implements ReportingTaskProvider, FlowAnalysisRulePr
         return new GroupStatusCounts(group);
     }
 
+    /**
+     * Returns the status counts of the root group. Calculating the counts walks every component in the flow, so counts calculated
+     * within the last second are reused, allowing heartbeats and concurrent controller status requests to share a single calculation.
+     *
+     * @return the status counts of the root group
+     */
+    public GroupStatusCounts getRootGroupStatusCounts() {
+        final ProcessGroup rootGroup = flowManager.getRootGroup();
+        final long now = System.nanoTime();
+        final RootGroupStatusCounts cached = rootGroupStatusCountsRef.get();
+        if (cached != null && cached.rootGroup() == rootGroup && now - cached.calculatedNanos() < ROOT_GROUP_STATUS_COUNTS_MAX_AGE_NANOS) {
+            return cached.statusCounts();
+        }
+
+        final GroupStatusCounts statusCounts = getGroupStatusCounts(rootGroup);
+        rootGroupStatusCountsRef.set(new RootGroupStatusCounts(rootGroup, statusCounts, now));
+        return statusCounts;
+    }
+
+    private record RootGroupStatusCounts(ProcessGroup rootGroup, GroupStatusCounts statusCounts, long calculatedNanos) {
+    }
+
     public int getActiveThreadCount() {
         return timerDrivenEngineRef.get().getActiveCount();
     }
@@ -3245,9 +3269,12 @@ public class FlowController implements ReportingTaskProvider, FlowAnalysisRulePr
             hbPayload.setActiveThreadCount(getActiveThreadCount());
             hbPayload.setRevisionUpdateCount(revisionManager.getRevisionUpdateCount());
 
-            final QueueSize queueSize = bean.getRootGroup().getQueueSize();
-            hbPayload.setTotalFlowFileCount(queueSize.getObjectCount());
-            hbPayload.setTotalFlowFileBytes(queueSize.getByteCount());
+            // Status counts are included so that the Cluster Coordinator can answer controller status requests without replicating them
+            final GroupStatusCounts statusCounts = getRootGroupStatusCounts();
+            hbPayload.setTotalFlowFileCount(statusCounts.getQueuedCount());
+            hbPayload.setTotalFlowFileBytes(statusCounts.getQueuedContentSize());
+            hbPayload.setComponentActiveThreadCount(statusCounts.getActiveThreadCount());
+            hbPayload.setTerminatedThreadCount(statusCounts.getTerminatedThreadCount());
             hbPayload.setClusterStatus(clusterCoordinator.getConnectionStatuses());
 
             // create heartbeat message
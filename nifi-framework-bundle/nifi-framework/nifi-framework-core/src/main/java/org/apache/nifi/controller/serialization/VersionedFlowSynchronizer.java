@@ -90,6 +90,7 @@ import org.apache.nifi.registry.flow.diff.FlowDifference;
 import org.apache.nifi.registry.flow.diff.StandardComparableDataFlow;
 import org.apache.nifi.registry.flow.diff.StandardFlowComparator;
 import org.apache.nifi.registry.flow.diff.StaticDifferenceDescriptor;
+import org.apache.nifi.registry.flow.diff.VersionedProcessGroupHashTree;
 import org.apache.nifi.registry.flow.mapping.ComponentIdLookup;
 import org.apache.nifi.registry.flow.mapping.FlowMappingOptions;
 import org.apache.nifi.registry.flow.mapping.VersionedComponentStateLookup;
@@ -508,8 +509,13 @@ public class VersionedFlowSynchronizer implements FlowSynchronizer {
             toSet(existingVersionedFlow.getRegistries())
         );
 
+        // Skip comparison of Process Groups whose contents, including Instance Identifiers, are the same in both flows
+        final VersionedProcessGroupHashTree localHashTree = VersionedProcessGroupHashTree.create(existingVersionedFlow.getRootGroup(), VersionedComponent::getInstanceIdentifier);
+        final VersionedProcessGroupHashTree clusterHashTree = VersionedProcessGroupHashTree.create(proposedRootGroup, VersionedComponent::getInstanceIdentifier);
+
         final FlowComparator flowComparator = new StandardFlowComparator(localDataFlow, clusterDataFlow, Collections.emptySet(),
-            differenceDescriptor, encryptor::decrypt, VersionedComponent::getInstanceIdentifier, FlowComparatorVersionedStrategy.DEEP);
+            differenceDescriptor, encryptor::decrypt, VersionedComponent::getInstanceIdentifier, FlowComparatorVersionedStrategy.DEEP,
+            (localGroup, clusterGroup) -> localHashTree.isSameContent(localGroup, clusterHashTree, clusterGroup));
         return flowComparator.compare();
     }
 
@@ -17,6 +17,7 @@
 package org.apache.nifi.cluster;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -55,6 +56,8 @@ public class HeartbeatPayloadTest {
         HeartbeatPayload newPayload = HeartbeatPayload.unmarshal(new ByteArrayInputStream(marshalledBytes.toByteArray()));
         assertEquals(0, newPayload.getActiveThreadCount());
         assertEquals(0, newPayload.getTotalFlowFileCount());
+        assertNull(newPayload.getComponentActiveThreadCount());
+        assertNull(newPayload.getTerminatedThreadCount());
     }
 
     @Test
@@ -68,4 +71,16 @@ public class HeartbeatPayloadTest {
         assertEquals(activeThreadCount, newPayload.getActiveThreadCount());
         assertEquals(totalFlowFileCount, newPayload.getTotalFlowFileCount());
     }
+
+    @Test
+    public void testMarshallingWithStatusCounts() {
+        payload.setComponentActiveThreadCount(activeThreadCount);
+        payload.setTerminatedThreadCount(2);
+
+        HeartbeatPayload.marshal(payload, marshalledBytes);
+        HeartbeatPayload newPayload = HeartbeatPayload.unmarshal(new ByteArrayInputStream(marshalledBytes.toByteArray()));
+
+        assertEquals(activeThreadCount, newPayload.getComponentActiveThreadCount());
+        assertEquals(2, newPayload.getTerminatedThreadCount());
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.nar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Persisted index of the extension implementation class names declared in the service files of an unpacked NAR. The index is stored
+ * in the working directory of the NAR along with the digest of the NAR it was built from, so that a bundle whose NAR has not changed
+ * since the previous start can be registered without scanning its service files again.
+ */
+class ExtensionIndex {
+
+    static final String INDEX_FILENAME = "nar-extension-index";
+
+    private static final String DIGEST_KEY = "nar.digest";
+
+    private static final String CLASS_NAME_SEPARATOR = ",";
+
+    private static final Logger logger = LoggerFactory.getLogger(ExtensionIndex.class);
+
+    private ExtensionIndex() {
+    }
+
+    /**
+     * Reads the implementation class names indexed for the given working directory.
+     *
+     * @param workingDirectory the working directory of the unpacked NAR
+     * @param extensionTypes the names of the extension types that must be present in the index
+     * @return the implementation class names keyed by extension type name, or <code>null</code> if the NAR has no digest, there is no index,
+     * the index was built from a different NAR digest or the index does not cover all of the given extension types
+     */
+    static Map<String, Set<String>> read(final File workingDirectory, final Collection<String> extensionTypes) {
+        final String digest = getDigest(workingDirectory);
+        final Path indexPath = new File(workingDirectory, INDEX_FILENAME).toPath();
+        if (digest == null || !Files.isRegularFile(indexPath)) {
+            return null;
+        }
+
+        final Properties properties = new Properties();
+        try (final InputStream in = Files.newInputStream(indexPath)) {
+            properties.load(in);
+        } catch (final IOException | IllegalArgumentException e) {
+            logger.warn("Unable to read extension index [{}]", indexPath, e);
+            return null;
+        }
+
+        if (!digest.equals(properties.getProperty(DIGEST_KEY))) {
+            logger.debug("Extension index [{}] does not match the current NAR digest", indexPath);
+            return null;
+        }
+
+        final Map<String, Set<String>> implementationClassNames = new HashMap<>();
+        for (final String extensionType : extensionTypes) {
+            final String classNames = properties.getProperty(extensionType);
+            if (classNames == null) {
+                logger.debug("Extension index [{}] does not contain extension type {}", indexPath, extensionType);
+                return null;
+            }
+
+            final Set<String> typeClassNames = new LinkedHashSet<>();
+            for (final String className : classNames.split(CLASS_NAME_SEPARATOR)) {
+                if (!className.isBlank()) {
+                    typeClassNames.add(className.trim());
+                }
+            }
+            implementationClassNames.put(extensionType, typeClassNames);
+        }
+
+        return implementationClassNames;
+    }
+
+    /**
+     * Writes the implementation class names for the given working directory, if the working directory holds a NAR digest.
+     * Failures are logged and otherwise ignored, since the index only serves to speed up subsequent starts.
+     *
+     * @param workingDirectory the working directory of the unpacked NAR
+     * @param implementationClassNames the implementation class names keyed by extension type name
+     */
+    static void write(final File workingDirectory, final Map<String, Set<String>> implementationClassNames) {
+        final String digest = getDigest(workingDirectory);
+        if (digest == null) {
+            return;
+        }
+
+        final Properties properties = new Properties();
+        properties.setProperty(DIGEST_KEY, digest);
+        implementationClassNames.forEach((extensionType, classNames) -> properties.setProperty(extensionType, String.join(CLASS_NAME_SEPARATOR, classNames)));
+
+        final Path indexPath = new File(workingDirectory, INDEX_FILENAME).toPath();
+        final Path tempIndexPath = new File(workingDirectory, INDEX_FILENAME + ".tmp").toPath();
+        try {
+            try (final OutputStream out = Files.newOutputStream(tempIndexPath)) {
+                properties.store(out, null);
+            }
+            Files.move(tempIndexPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            logger.warn("Unable to write extension index [{}]", indexPath, e);
+        }
+    }
+
+    private static String getDigest(final File workingDirectory) {
+        if (workingDirectory == null) {
+            return null;
+        }
+
+        final Path digestPath = new File(workingDirectory, NarUnpacker.HASH_FILENAME).toPath();
+        if (!Files.isRegularFile(digestPath)) {
+            return null;
+        }
+
+        try {
+            final byte[] digest = Files.readAllBytes(digestPath);
+            return digest.length == 0 ? null : HexFormat.of().formatHex(digest);
+        } catch (final IOException e) {
+            logger.debug("Unable to read NAR digest [{}]", digestPath, e);
+            return null;
+        }
+    }
+}
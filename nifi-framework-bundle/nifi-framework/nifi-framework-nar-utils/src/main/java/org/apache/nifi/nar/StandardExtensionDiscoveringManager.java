@@ -153,6 +153,9 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
         // get the current context class loader
         ClassLoader currentContextClassLoader = Thread.currentThread().getContextClassLoader();
 
+        final long discoveryStart = System.currentTimeMillis();
+        int indexedBundles = 0;
+
         // consider each nar class loader
         for (final Bundle bundle : narBundles) {
             // Must set the context class loader to the nar classloader itself
@@ -161,7 +164,9 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
             Thread.currentThread().setContextClassLoader(ncl);
 
             final long loadStart = System.currentTimeMillis();
-            loadExtensions(bundle);
+            if (loadExtensions(bundle)) {
+                indexedBundles++;
+            }
             final long loadMillis = System.currentTimeMillis() - loadStart;
             if (logDetails) {
                 logger.info("Loaded extensions for {} in {} millis", bundle.getBundleDetails(), loadMillis);
@@ -175,6 +180,8 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
         if (currentContextClassLoader != null) {
             Thread.currentThread().setContextClassLoader(currentContextClassLoader);
         }
+
+        logger.info("Discovered extensions for {} bundles in {} millis ({} bundles loaded from extension index)", narBundles.size(), System.currentTimeMillis() - discoveryStart, indexedBundles);
     }
 
     @Override
@@ -282,34 +289,61 @@ public class StandardExtensionDiscoveringManager implements ExtensionDiscovering
      * Loads extensions from the specified bundle.
      *
      * @param bundle from which to load extensions
+     * @return <code>true</code> if the extensions were registered from the persisted extension index instead of scanning service files
      */
-    private void loadExtensions(final Bundle bundle) {
+    private boolean loadExtensions(final Bundle bundle) {
+        final File workingDirectory = bundle.getBundleDetails().getWorkingDirectory();
+        final List<String> serviceTypes = definitionMap.keySet().stream().map(Class::getName).toList();
+        final Map<String, Set<String>> indexedClassNames = ExtensionIndex.read(workingDirectory, serviceTypes);
+        final Map<String, Set<String>> discoveredClassNames = new HashMap<>();
+
         for (final Class extensionType : definitionMap.keySet()) {
             final String serviceType = extensionType.getName();
 
-            try {
-                final Set<URL> serviceResourceUrls = getServiceFileURLs(bundle, extensionType);
-                logger.debug("Bundle {} has the following Services File URLs for {}: {}", bundle, serviceType, serviceResourceUrls);
-
-                for (final URL serviceResourceUrl : serviceResourceUrls) {
-                    final Set<String> implementationClassNames = getServiceFileImplementationClassNames(serviceResourceUrl);
-                    logger.debug("Bundle {} defines {} implementations of interface {}", bundle, implementationClassNames.size(), serviceType);
-
-                    for (final String implementationClassName : implementationClassNames) {
-                        try {
-                            loadExtension(implementationClassName, extensionType, bundle);
-                            logger.debug("Successfully loaded {} {} from {}", extensionType.getSimpleName(), implementationClassName, bundle);
-                        } catch (final Exception e) {
-                            logger.error("Failed to register {} of type {} in bundle {}", extensionType.getSimpleName(), implementationClassName, bundle, e);
-                        }
-                    }
+            final Set<String> implementationClassNames;
+            if (indexedClassNames == null) {
+                implementationClassNames = getImplementationClassNames(bundle, extensionType);
+                discoveredClassNames.put(serviceType, implementationClassNames);
+            } else {
+                implementationClassNames = indexedClassNames.get(serviceType);
+                logger.debug("Bundle {} has the following indexed implementations of interface {}: {}", bundle, serviceType, implementationClassNames);
+            }
+
+            for (final String implementationClassName : implementationClassNames) {
+                try {
+                    loadExtension(implementationClassName, extensionType, bundle);
+                    logger.debug("Successfully loaded {} {} from {}", extensionType.getSimpleName(), implementationClassName, bundle);
+                } catch (final Exception e) {
+                    logger.error("Failed to register {} of type {} in bundle {}", extensionType.getSimpleName(), implementationClassName, bundle, e);
                 }
-            } catch (final IOException e) {
-                throw new RuntimeException("Failed to get resources of type " + serviceType + " from bundle " + bundle);
             }
         }
 
+        if (indexedClassNames == null) {
+            ExtensionIndex.write(workingDirectory, discoveredClassNames);
+        }
+
         classLoaderBundleLookup.put(bundle.getClassLoader(), bundle);
+        return indexedClassNames != null;
+    }
+
+    private Set<String> getImplementationClassNames(final Bundle bundle, final Class<?> extensionType) {
+        final String serviceType = extensionType.getName();
+
+        try {
+            final Set<URL> serviceResourceUrls = getServiceFileURLs(bundle, extensionType);
+            logger.debug("Bundle {} has the following Services File URLs for {}: {}", bundle, serviceType, serviceResourceUrls);
+
+            final Set<String> implementationClassNames = new LinkedHashSet<>();
+            for (final URL serviceResourceUrl : serviceResourceUrls) {
+                final Set<String> serviceFileClassNames = getServiceFileImplementationClassNames(serviceResourceUrl);
+                logger.debug("Bundle {} defines {} implementations of interface {}", bundle, serviceFileClassNames.size(), serviceType);
+                implementationClassNames.addAll(serviceFileClassNames);
+            }
+            return implementationClassNames;
+        } catch (final IOException e) {
+            throw new RuntimeException("Failed to get resources of type " + serviceType + " from bundle " + bundle);
+        }
     }
 
     private Set<String> getServiceFileImplementationClassNames(final URL serviceFileUrl) throws IOException {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.nar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ExtensionIndexTest {
+
+    private static final String PROCESSOR_TYPE = "org.apache.nifi.processor.Processor";
+
+    private static final String CONTROLLER_SERVICE_TYPE = "org.apache.nifi.controller.ControllerService";
+
+    private static final Map<String, Set<String>> CLASS_NAMES = Map.of(
+            PROCESSOR_TYPE, Set.of("org.apache.nifi.processors.One", "org.apache.nifi.processors.Two"),
+            CONTROLLER_SERVICE_TYPE, Set.of()
+    );
+
+    @TempDir
+    private Path workingDirectory;
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        writeDigest(new byte[] {1, 2, 3});
+        ExtensionIndex.write(workingDirectory.toFile(), CLASS_NAMES);
+
+        assertEquals(CLASS_NAMES, ExtensionIndex.read(workingDirectory.toFile(), List.of(PROCESSOR_TYPE, CONTROLLER_SERVICE_TYPE)));
+    }
+
+    @Test
+    public void testReadDigestChanged() throws IOException {
+        writeDigest(new byte[] {1, 2, 3});
+        ExtensionIndex.write(workingDirectory.toFile(), CLASS_NAMES);
+
+        writeDigest(new byte[] {4, 5, 6});
+        assertNull(ExtensionIndex.read(workingDirectory.toFile(), List.of(PROCESSOR_TYPE)));
+    }
+
+    @Test
+    public void testReadExtensionTypeMissing() throws IOException {
+        writeDigest(new byte[] {1, 2, 3});
+        ExtensionIndex.write(workingDirectory.toFile(), CLASS_NAMES);
+
+        assertNull(ExtensionIndex.read(workingDirectory.toFile(), List.of(PROCESSOR_TYPE, "org.apache.nifi.reporting.ReportingTask")));
+    }
+
+    @Test
+    public void testWriteWithoutDigest() {
+        ExtensionIndex.write(workingDirectory.toFile(), CLASS_NAMES);
+
+        assertFalse(new File(workingDirectory.toFile(), ExtensionIndex.INDEX_FILENAME).exists());
+        assertNull(ExtensionIndex.read(workingDirectory.toFile(), List.of(PROCESSOR_TYPE)));
+    }
+
+    private void writeDigest(final byte[] digest) throws IOException {
+        Files.write(workingDirectory.resolve(NarUnpacker.HASH_FILENAME), digest);
+    }
+}
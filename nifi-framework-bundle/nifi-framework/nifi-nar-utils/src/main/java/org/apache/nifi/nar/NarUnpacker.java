@@ -44,10 +44,16 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
@@ -64,7 +70,7 @@ public final class NarUnpacker {
     private static final String JAR_DOCUMENTATION_ROOT_PATH = "docs";
 
     private static final Logger logger = LoggerFactory.getLogger(NarUnpacker.class);
-    private static final String HASH_FILENAME = "nar-digest";
+    public static final String HASH_FILENAME = "nar-digest";
     private static final FileFilter NAR_FILTER = pathname -> {
         final String nameToTest = pathname.getName().toLowerCase();
         return nameToTest.endsWith(".nar") && pathname.isFile();
@@ -128,13 +134,16 @@ public final class NarUnpacker {
             if (!narFiles.isEmpty()) {
                 final long startTime = System.nanoTime();
                 logger.info("Expanding {} NAR files started", narFiles.size());
+
+                // determine the working directory of each NAR before expanding any of them so that duplicate framework or Jetty NARs are rejected up front
+                File frameworkNarFile = null;
+                File jettyNarFile = null;
+                final Map<File, File> narWorkingDirectories = new LinkedHashMap<>();
                 for (File narFile : narFiles) {
                     if (!narFile.canRead()) {
                         throw new IllegalStateException("Unable to read NAR file: " + narFile.getAbsolutePath());
                     }
 
-                    logger.debug("Expanding NAR file: {}", narFile.getAbsolutePath());
-
                     // get the manifest for this nar
                     try (final JarFile nar = new JarFile(narFile)) {
                         BundleCoordinate bundleCoordinate = createBundleCoordinate(nar.getManifest());
@@ -146,28 +155,39 @@ public final class NarUnpacker {
 
                         // determine if this is the framework
                         if (frameworkNarId != null && frameworkNarId.equals(bundleCoordinate.getId())) {
-                            if (unpackedFramework != null) {
+                            if (frameworkNarFile != null) {
                                 throw new IllegalStateException("Multiple framework NARs discovered. Only one framework is permitted.");
                             }
 
-                            // unpack the framework nar
-                            unpackedFramework = unpackNar(narFile, frameworkWorkingDir, verifyHash, unpackMode);
+                            frameworkNarFile = narFile;
+                            narWorkingDirectories.put(narFile, frameworkWorkingDir);
                         } else if (NarClassLoaders.JETTY_NAR_ID.equals(bundleCoordinate.getId())) {
-                            if (unpackedJetty != null) {
+                            if (jettyNarFile != null) {
                                 throw new IllegalStateException("Multiple Jetty NARs discovered. Only one Jetty NAR is permitted.");
                             }
 
-                            // unpack and record the Jetty nar
-                            unpackedJetty = unpackNar(narFile, extensionsWorkingDir, verifyHash, unpackMode);
-                            unpackedExtensions.add(unpackedJetty);
+                            jettyNarFile = narFile;
+                            narWorkingDirectories.put(narFile, extensionsWorkingDir);
                         } else {
-                            // unpack and record the extension nar
-                            final File unpackedExtension = unpackNar(narFile, extensionsWorkingDir, verifyHash, unpackMode);
-                            unpackedExtensions.add(unpackedExtension);
+                            narWorkingDirectories.put(narFile, extensionsWorkingDir);
                         }
                     }
                 }
 
+                // verify and expand the NARs concurrently since each NAR is unpacked to its own working directory
+                final Map<File, File> unpackedNarFiles = unpackNars(narWorkingDirectories, verifyHash, unpackMode);
+                for (final Map.Entry<File, File> unpackedNarFile : unpackedNarFiles.entrySet()) {
+                    final File narFile = unpackedNarFile.getKey();
+                    if (narFile.equals(frameworkNarFile)) {
+                        unpackedFramework = unpackedNarFile.getValue();
+                    } else {
+                        if (narFile.equals(jettyNarFile)) {
+                            unpackedJetty = unpackedNarFile.getValue();
+                        }
+                        unpackedExtensions.add(unpackedNarFile.getValue());
+                    }
+                }
+
                 if (requireFrameworkNar) {
                     // ensure we've found the framework nar
                     if (unpackedFramework == null) {
@@ -229,6 +249,57 @@ public final class NarUnpacker {
         return null;
     }
 
+    /**
+     * Unpacks each of the given NARs into its working directory using a pool of threads sized to the number of available processors.
+     *
+     * @param narWorkingDirectories the NAR files mapped to the base working directory to which each should be unpacked
+     * @param verifyHash whether the hash of previously unpacked NARs should be verified
+     * @param unpackMode specifies how the contents of the NARs should be unpacked
+     * @return the NAR files mapped to the directories to which they were unpacked
+     * @throws IOException if unable to unpack any of the NARs
+     */
+    private static Map<File, File> unpackNars(final Map<File, File> narWorkingDirectories, final boolean verifyHash, final NarUnpackMode unpackMode) throws IOException {
+        final int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), narWorkingDirectories.size()));
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "Unpack NARs-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            final Map<File, Future<File>> futures = new LinkedHashMap<>();
+            for (final Map.Entry<File, File> entry : narWorkingDirectories.entrySet()) {
+                final File narFile = entry.getKey();
+                futures.put(narFile, executorService.submit(() -> {
+                    logger.debug("Expanding NAR file: {}", narFile.getAbsolutePath());
+                    return unpackNar(narFile, entry.getValue(), verifyHash, unpackMode);
+                }));
+            }
+
+            final Map<File, File> unpackedNarFiles = new LinkedHashMap<>();
+            for (final Map.Entry<File, Future<File>> entry : futures.entrySet()) {
+                try {
+                    unpackedNarFiles.put(entry.getKey(), entry.getValue().get());
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof IOException ioException) {
+                        throw ioException;
+                    } else if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new IOException("Failed to unpack NAR file: " + entry.getKey().getAbsolutePath(), cause);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while unpacking NAR file: " + entry.getKey().getAbsolutePath(), e);
+                }
+            }
+            return unpackedNarFiles;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     /**
      * Creates a map containing the nar directory mapped to it's bundle-coordinate.
      * @param extensionsWorkingDir where to find extensions
@@ -138,13 +138,17 @@ public class NiFi implements NiFiEntryPoint {
         final Bundle systemBundle = SystemBundle.create(properties, rootClassLoader);
 
         // expand the nars
+        final long unpackStartTime = System.nanoTime();
         final NarUnpackMode unpackMode = properties.isUnpackNarsToUberJar() ? NarUnpackMode.UNPACK_TO_UBER_JAR : NarUnpackMode.UNPACK_INDIVIDUAL_JARS;
         final ExtensionMapping extensionMapping = NarUnpacker.unpackNars(properties, systemBundle, unpackMode);
+        final long unpackDuration = System.nanoTime() - unpackStartTime;
 
         // load the extensions classloaders
+        final long classLoadersStartTime = System.nanoTime();
         NarClassLoaders narClassLoaders = NarClassLoadersHolder.getInstance();
 
         narClassLoaders.init(rootClassLoader, properties.getFrameworkWorkingDirectory(), properties.getExtensionsWorkingDirectory(), true);
+        final long classLoadersDuration = System.nanoTime() - classLoadersStartTime;
 
         // load the framework classloader
         final ClassLoader frameworkClassLoader = narClassLoaders.getFrameworkBundle().getClassLoader();
@@ -165,6 +169,7 @@ public class NiFi implements NiFiEntryPoint {
                 systemBundle,
                 narBundles,
                 extensionMapping);
+        final long initializeDuration = System.nanoTime() - startTime;
 
         if (shutdown) {
             LOGGER.info("NiFi has been shutdown via NiFi Bootstrap. Will not start Controller");
@@ -179,6 +184,9 @@ public class NiFi implements NiFiEntryPoint {
             final long duration = System.nanoTime() - startTime;
             final double durationSeconds = TimeUnit.NANOSECONDS.toMillis(duration) / 1000.0;
             LOGGER.info("Started Application Controller in {} seconds ({} ns)", durationSeconds, duration);
+            LOGGER.info("Startup phase durations: Expand NARs [{} ms] Create NAR ClassLoaders [{} ms] Initialize Server [{} ms] Start Server [{} ms]",
+                    TimeUnit.NANOSECONDS.toMillis(unpackDuration), TimeUnit.NANOSECONDS.toMillis(classLoadersDuration),
+                    TimeUnit.NANOSECONDS.toMillis(initializeDuration), TimeUnit.NANOSECONDS.toMillis(duration - initializeDuration));
         }
     }
 
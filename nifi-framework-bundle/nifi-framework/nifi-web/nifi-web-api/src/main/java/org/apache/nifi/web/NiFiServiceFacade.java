@@ -414,6 +414,15 @@ public interface NiFiServiceFacade {
      */
     ControllerStatusDTO getControllerStatus();
 
+    /**
+     * Returns the controller status of the cluster, merged from the status that each connected node reports with its heartbeats
+     * rather than from requests replicated to each node. This is only available on the active Cluster Coordinator.
+     *
+     * @return the cluster-wide controller status, or <code>null</code> if this node is not the active Cluster Coordinator or if the latest
+     * heartbeat of any connected node does not include status or is older than twice the heartbeat interval
+     */
+    ControllerStatusDTO getClusterControllerStatusFromHeartbeats();
+
     /**
      * Updates the specified counter by setting its value to 0.
      *
@@ -55,6 +55,7 @@ import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
 import org.apache.nifi.cluster.coordination.node.NodeConnectionStatus;
 import org.apache.nifi.cluster.coordination.node.OffloadCode;
 import org.apache.nifi.cluster.event.NodeEvent;
+import org.apache.nifi.cluster.manager.StatusMerger;
 import org.apache.nifi.cluster.manager.exception.IllegalNodeDeletionException;
 import org.apache.nifi.cluster.manager.exception.UnknownNodeException;
 import org.apache.nifi.cluster.protocol.NodeIdentifier;
@@ -170,6 +171,7 @@ import org.apache.nifi.registry.flow.diff.FlowDifference;
 import org.apache.nifi.registry.flow.diff.StandardComparableDataFlow;
 import org.apache.nifi.registry.flow.diff.StandardFlowComparator;
 import org.apache.nifi.registry.flow.diff.StaticDifferenceDescriptor;
+import org.apache.nifi.registry.flow.diff.VersionedProcessGroupHashTree;
 import org.apache.nifi.registry.flow.mapping.InstantiatedVersionedComponent;
 import org.apache.nifi.registry.flow.mapping.InstantiatedVersionedPort;
 import org.apache.nifi.registry.flow.mapping.InstantiatedVersionedProcessGroup;
@@ -183,6 +185,7 @@ import org.apache.nifi.reporting.ComponentType;
 import org.apache.nifi.reporting.VerifiableReportingTask;
 import org.apache.nifi.util.BundleUtils;
 import org.apache.nifi.util.FlowDifferenceFilters;
+import org.apache.nifi.util.FormatUtils;
 import org.apache.nifi.util.NiFiProperties;
 import org.apache.nifi.util.StringUtils;
 import org.apache.nifi.validation.RuleViolation;
@@ -3679,6 +3682,47 @@ public class StandardNiFiServiceFacade implements NiFiServiceFacade {
         return controllerFacade.getControllerStatus();
     }
 
+    @Override
+    public ControllerStatusDTO getClusterControllerStatusFromHeartbeats() {
+        if (clusterCoordinator == null || heartbeatMonitor == null || !clusterCoordinator.isActiveClusterCoordinator()) {
+            return null;
+        }
+
+        final long heartbeatIntervalMillis = FormatUtils.getTimeDuration(properties.getClusterProtocolHeartbeatInterval(), TimeUnit.MILLISECONDS);
+        final long minimumTimestamp = System.currentTimeMillis() - (heartbeatIntervalMillis * 2);
+
+        int activeThreadCount = 0;
+        int terminatedThreadCount = 0;
+        int flowFilesQueued = 0;
+        long bytesQueued = 0L;
+        final Set<NodeIdentifier> connectedNodeIds = clusterCoordinator.getNodeIdentifiers(NodeConnectionState.CONNECTED);
+        if (connectedNodeIds.isEmpty()) {
+            return null;
+        }
+
+        for (final NodeIdentifier nodeId : connectedNodeIds) {
+            final NodeHeartbeat heartbeat = heartbeatMonitor.getLatestHeartbeat(nodeId);
+            if (heartbeat == null || heartbeat.getTimestamp() < minimumTimestamp
+                    || heartbeat.getComponentActiveThreadCount() == null || heartbeat.getTerminatedThreadCount() == null) {
+                return null;
+            }
+
+            activeThreadCount += heartbeat.getComponentActiveThreadCount();
+            terminatedThreadCount += heartbeat.getTerminatedThreadCount();
+            flowFilesQueued += heartbeat.getFlowFileCount();
+            bytesQueued += heartbeat.getFlowFileBytes();
+        }
+
+        // Component counts are the same on every node, so only the thread and queue counts are taken from the heartbeats
+        final ControllerStatusDTO controllerStatus = controllerFacade.getControllerStatus();
+        controllerStatus.setActiveThreadCount(activeThreadCount);
+        controllerStatus.setTerminatedThreadCount(terminatedThreadCount);
+        controllerStatus.setFlowFilesQueued(flowFilesQueued);
+        controllerStatus.setBytesQueued(bytesQueued);
+        StatusMerger.updatePrettyPrintedFields(controllerStatus);
+        return controllerStatus;
+    }
+
     @Override
     public ComponentStateDTO getProcessorState(final String processorId) {
         final StateMap clusterState = isClustered() ? processorDAO.getState(processorId, Scope.CLUSTER) : null;
@@ -5339,9 +5383,14 @@ public class StandardNiFiServiceFacade implements NiFiServiceFacade {
         final ComparableDataFlow localFlow = new StandardComparableDataFlow("Local Flow", localGroup);
         final ComparableDataFlow registryFlow = new StandardComparableDataFlow("Versioned Flow", registryGroup);
 
+        // Skip comparison of Process Groups whose contents are the same in both flows
+        final VersionedProcessGroupHashTree registryHashTree = VersionedProcessGroupHashTree.create(registryGroup);
+        final VersionedProcessGroupHashTree localHashTree = VersionedProcessGroupHashTree.create(localGroup);
+
         final Set<String> ancestorServiceIds = processGroup.getAncestorServiceIds();
         final FlowComparator flowComparator = new StandardFlowComparator(registryFlow, localFlow, ancestorServiceIds, new ConciseEvolvingDifferenceDescriptor(),
-            Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.SHALLOW);
+            Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.SHALLOW,
+            (registryProcessGroup, localProcessGroup) -> registryHashTree.isSameContent(registryProcessGroup, localHashTree, localProcessGroup));
         final FlowComparison flowComparison = flowComparator.compare();
 
         final Set<ComponentDifferenceDTO> differenceDtos = dtoFactory.createComponentDifferenceDtosForLocalModifications(flowComparison, localGroup, controllerFacade.getFlowManager());
@@ -5503,9 +5552,14 @@ public class StandardNiFiServiceFacade implements NiFiServiceFacade {
         final ComparableDataFlow localFlow = new StandardComparableDataFlow("Current Flow", localContents);
         final ComparableDataFlow proposedFlow = new StandardComparableDataFlow("New Flow", updatedSnapshot.getFlowContents());
 
+        // Skip comparison of Process Groups whose contents are the same in both flows
+        final VersionedProcessGroupHashTree localHashTree = VersionedProcessGroupHashTree.create(localContents);
+        final VersionedProcessGroupHashTree proposedHashTree = VersionedProcessGroupHashTree.create(updatedSnapshot.getFlowContents());
+
         final Set<String> ancestorServiceIds = group.getAncestorServiceIds();
         final FlowComparator flowComparator = new StandardFlowComparator(localFlow, proposedFlow, ancestorServiceIds, new StaticDifferenceDescriptor(),
-            Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.DEEP);
+            Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.DEEP,
+            (localGroup, proposedGroup) -> localHashTree.isSameContent(localGroup, proposedHashTree, proposedGroup));
         final FlowComparison comparison = flowComparator.compare();
 
         final FlowManager flowManager = controllerFacade.getFlowManager();
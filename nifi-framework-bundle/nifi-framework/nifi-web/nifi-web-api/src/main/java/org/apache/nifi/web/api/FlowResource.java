@@ -16,6 +16,12 @@
  */
 package org.apache.nifi.web.api;
 
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
 import io.swagger.v3.oas.annotations.Operation;
@@ -130,6 +136,7 @@ import org.apache.nifi.web.api.request.FlowMetricsProducer;
 import org.apache.nifi.web.api.request.FlowMetricsRegistry;
 import org.apache.nifi.web.api.request.IntegerParameter;
 import org.apache.nifi.web.api.request.LongParameter;
+import org.apache.nifi.web.util.ObjectMapperResolver;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DefaultValue;
@@ -141,11 +148,17 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.Collator;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
@@ -156,6 +169,7 @@ import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -181,6 +195,10 @@ public class FlowResource extends ApplicationResource {
     private static final String VERSIONED_REPORTING_TASK_SNAPSHOT_FILENAME_PATTERN = "VersionedReportingTaskSnapshot-%s.json";
     private static final String VERSIONED_REPORTING_TASK_SNAPSHOT_DATE_FORMAT = "yyyyMMddHHmmss";
 
+    private static final String ENTITY_TAG_DIGEST_ALGORITHM = "SHA-256";
+    private static final Set<String> ENTITY_TAG_EXCLUDED_PROPERTIES = Set.of("lastRefreshed", "statsLastRefreshed");
+    private static final ObjectMapper ENTITY_TAG_OBJECT_MAPPER = createEntityTagObjectMapper();
+
     private NiFiServiceFacade serviceFacade;
     private Authorizer authorizer;
 
@@ -368,10 +386,13 @@ public class FlowResource extends ApplicationResource {
             },
             description = "If the uiOnly query parameter is provided with a value of true, the returned entity may only contain fields that are necessary for rendering the NiFi User Interface. As " +
                     "such, " +
-                    "the selected fields may change at any time, even during incremental releases, without warning. As a result, this parameter should not be provided by any client other than the UI."
+                    "the selected fields may change at any time, even during incremental releases, without warning. As a result, this parameter should not be provided by any client " +
+                    "other than the UI. The response includes an ETag header and a request with a matching If-None-Match header returns 304 when the " +
+                    "returned entity is unchanged. When clustered, the ETag is computed from the entity merged from all nodes."
     )
     @ApiResponses(
             value = {
+                    @ApiResponse(responseCode = "304", description = "The entity is unchanged since the entity identified by the If-None-Match header was returned."),
                     @ApiResponse(responseCode = "400", description = "NiFi was unable to complete the request because it was invalid. The request should not be retried without modification."),
                     @ApiResponse(responseCode = "401", description = "Client could not be authenticated."),
                     @ApiResponse(responseCode = "403", description = "Client is not authorized to make this request."),
@@ -384,18 +405,86 @@ public class FlowResource extends ApplicationResource {
                     description = "The process group id."
             )
             @PathParam("id") final String groupId,
-            @QueryParam("uiOnly") @DefaultValue("false") final boolean uiOnly) {
+            @QueryParam("uiOnly") @DefaultValue("false") final boolean uiOnly) throws InterruptedException {
 
         authorizeFlow();
 
         if (isReplicateRequest()) {
-            return replicate(HttpMethod.GET);
+            // conditional requests are evaluated against the entity merged from every node
+            final NodeResponse nodeResponse = replicateNodeResponse(HttpMethod.GET);
+            final ProcessGroupFlowEntity mergedEntity = (ProcessGroupFlowEntity) nodeResponse.getUpdatedEntity();
+            if (mergedEntity == null || !nodeResponse.is2xx()) {
+                return nodeResponse.getResponse();
+            }
+
+            final EntityTag entityTag = new EntityTag(createEntityTag(mergedEntity));
+            if (isEntityTagMatched(entityTag)) {
+                return noCache(Response.notModified(entityTag)).build();
+            }
+            return Response.fromResponse(nodeResponse.getResponse()).tag(entityTag).build();
         }
 
         // get this process group flow
         final ProcessGroupFlowEntity entity = serviceFacade.getProcessGroupFlow(groupId, uiOnly);
         populateRemainingFlowContent(entity.getProcessGroupFlow());
-        return generateOkResponse(entity).build();
+
+        // a node of a cluster only contributes to the merged response, for which the entity tag is created by the node that replicated the request
+        if (isConnectedToCluster()) {
+            return generateOkResponse(entity).build();
+        }
+
+        final EntityTag entityTag = new EntityTag(createEntityTag(entity));
+        if (isEntityTagMatched(entityTag)) {
+            return noCache(Response.notModified(entityTag)).build();
+        }
+        return generateOkResponse(entity).tag(entityTag).build();
+    }
+
+    /**
+     * Creates an entity tag from the serialized entity, excluding the times at which the entity and its status were generated. The entity is
+     * serialized directly into the digest, so that the serialized entity is not buffered.
+     *
+     * @param entity the entity
+     * @return entity tag value
+     */
+    private String createEntityTag(final ProcessGroupFlowEntity entity) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(ENTITY_TAG_DIGEST_ALGORITHM);
+            try (final OutputStream digestOutputStream = new DigestOutputStream(OutputStream.nullOutputStream(), messageDigest)) {
+                ENTITY_TAG_OBJECT_MAPPER.writeValue(digestOutputStream, entity);
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (final NoSuchAlgorithmException | IOException e) {
+            throw new IllegalStateException("Failed to create entity tag for Process Group Flow [%s]".formatted(entity.getProcessGroupFlow().getId()), e);
+        }
+    }
+
+    private static ObjectMapper createEntityTagObjectMapper() {
+        final SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(final SerializationConfig config, final BeanDescription beanDescription, final List<BeanPropertyWriter> properties) {
+                properties.removeIf(property -> ENTITY_TAG_EXCLUDED_PROPERTIES.contains(property.getName()));
+                return properties;
+            }
+        });
+        return new ObjectMapperResolver().getContext(ProcessGroupFlowEntity.class).registerModule(module);
+    }
+
+    private boolean isEntityTagMatched(final EntityTag entityTag) {
+        final String ifNoneMatch = httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        final String quotedTag = "\"" + entityTag.getValue() + "\"";
+        for (final String requestedTag : ifNoneMatch.split(",")) {
+            final String trimmedTag = requestedTag.trim();
+            if (trimmedTag.equals(quotedTag) || trimmedTag.equals("W/" + quotedTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @GET
@@ -1227,11 +1316,18 @@ public class FlowResource extends ApplicationResource {
 
         authorizeFlow();
 
+        final ControllerStatusDTO controllerStatus;
         if (isReplicateRequest()) {
-            return replicate(HttpMethod.GET);
-        }
+            // The Cluster Coordinator answers from the status reported in recent heartbeats rather than replicating the request to every node
+            final ControllerStatusDTO clusterStatus = serviceFacade.getClusterControllerStatusFromHeartbeats();
+            if (clusterStatus == null) {
+                return replicate(HttpMethod.GET);
+            }
 
-        final ControllerStatusDTO controllerStatus = serviceFacade.getControllerStatus();
+            controllerStatus = clusterStatus;
+        } else {
+            controllerStatus = serviceFacade.getControllerStatus();
+        }
 
         // create the response entity
         final ControllerStatusEntity entity = new ControllerStatusEntity();
@@ -636,7 +636,7 @@ public class ControllerFacade implements Authorizable {
      */
     public ControllerStatusDTO getControllerStatus() {
         final ProcessGroup rootGroup = getRootGroup();
-        final GroupStatusCounts groupStatusCounts = flowController.getGroupStatusCounts(rootGroup);
+        final GroupStatusCounts groupStatusCounts = flowController.getRootGroupStatusCounts();
 
         final ControllerStatusDTO controllerStatus = new ControllerStatusDTO();
         controllerStatus.setActiveThreadCount(groupStatusCounts.getActiveThreadCount());
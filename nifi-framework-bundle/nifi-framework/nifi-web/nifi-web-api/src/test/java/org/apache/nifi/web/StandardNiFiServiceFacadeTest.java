@@ -35,6 +35,12 @@ import org.apache.nifi.authorization.resource.ResourceFactory;
 import org.apache.nifi.authorization.resource.ResourceType;
 import org.apache.nifi.authorization.user.NiFiUserDetails;
 import org.apache.nifi.authorization.user.StandardNiFiUser.Builder;
+import org.apache.nifi.cluster.coordination.ClusterCoordinator;
+import org.apache.nifi.cluster.coordination.heartbeat.HeartbeatMonitor;
+import org.apache.nifi.cluster.coordination.heartbeat.NodeHeartbeat;
+import org.apache.nifi.cluster.coordination.node.NodeConnectionState;
+import org.apache.nifi.cluster.manager.StatusMerger;
+import org.apache.nifi.cluster.protocol.NodeIdentifier;
 import org.apache.nifi.controller.FlowController;
 import org.apache.nifi.controller.flow.FlowManager;
 import org.apache.nifi.controller.service.ControllerServiceNode;
@@ -62,6 +68,7 @@ import org.apache.nifi.reporting.Bulletin;
 import org.apache.nifi.reporting.BulletinFactory;
 import org.apache.nifi.reporting.ComponentType;
 import org.apache.nifi.util.MockBulletinRepository;
+import org.apache.nifi.util.NiFiProperties;
 import org.apache.nifi.validation.RuleViolation;
 import org.apache.nifi.validation.RuleViolationsManager;
 import org.apache.nifi.web.api.dto.DtoFactory;
@@ -70,6 +77,7 @@ import org.apache.nifi.web.api.dto.ProcessGroupDTO;
 import org.apache.nifi.web.api.dto.RemoteProcessGroupDTO;
 import org.apache.nifi.web.api.dto.action.HistoryDTO;
 import org.apache.nifi.web.api.dto.action.HistoryQueryDTO;
+import org.apache.nifi.web.api.dto.status.ControllerStatusDTO;
 import org.apache.nifi.web.api.dto.status.StatusHistoryDTO;
 import org.apache.nifi.web.api.entity.ActionEntity;
 import org.apache.nifi.web.api.entity.ProcessGroupEntity;
@@ -106,6 +114,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -123,6 +132,7 @@ import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.same;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -157,6 +167,7 @@ public class StandardNiFiServiceFacadeTest {
     private static final String PATH_TO_GROUP_1 = "Path1";
     private static final String PATH_TO_GROUP_2 = "Path2";
     private static final String RANDOM_GROUP_ID = "randomGroupId";
+    private static final int RUNNING_COUNT = 4;
 
     private StandardNiFiServiceFacade serviceFacade;
     private Authorizer authorizer;
@@ -986,4 +997,108 @@ public class StandardNiFiServiceFacadeTest {
 
         assertEquals(service.getInstanceIdentifier(), reportingTask.getProperties().get(serviceDescriptor.getName()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetClusterControllerStatusFromHeartbeats() {
+        final NodeIdentifier firstNodeId = mock(NodeIdentifier.class);
+        final NodeIdentifier secondNodeId = mock(NodeIdentifier.class);
+        final HeartbeatMonitor heartbeatMonitor = setClusterControllerStatusFacade(Set.of(firstNodeId, secondNodeId));
+
+        final NodeHeartbeat firstHeartbeat = createHeartbeat(System.currentTimeMillis(), 2, 1, 10, 1024L);
+        final NodeHeartbeat secondHeartbeat = createHeartbeat(System.currentTimeMillis(), 3, 0, 5, 2048L);
+        when(heartbeatMonitor.getLatestHeartbeat(firstNodeId)).thenReturn(firstHeartbeat);
+        when(heartbeatMonitor.getLatestHeartbeat(secondNodeId)).thenReturn(secondHeartbeat);
+
+        final ControllerStatusDTO controllerStatus = serviceFacade.getClusterControllerStatusFromHeartbeats();
+
+        assertNotNull(controllerStatus);
+        assertEquals(5, controllerStatus.getActiveThreadCount());
+        assertEquals(1, controllerStatus.getTerminatedThreadCount());
+        assertEquals(15, controllerStatus.getFlowFilesQueued());
+        assertEquals(3072L, controllerStatus.getBytesQueued());
+        assertEquals(StatusMerger.prettyPrint(15, 3072L), controllerStatus.getQueued());
+        assertEquals(RUNNING_COUNT, controllerStatus.getRunningCount());
+    }
+
+    @Test
+    public void testGetClusterControllerStatusFromHeartbeatsStale() {
+        final NodeIdentifier firstNodeId = mock(NodeIdentifier.class);
+        final NodeIdentifier secondNodeId = mock(NodeIdentifier.class);
+        final HeartbeatMonitor heartbeatMonitor = setClusterControllerStatusFacade(Set.of(firstNodeId, secondNodeId));
+
+        final long staleTimestamp = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1);
+        when(heartbeatMonitor.getLatestHeartbeat(firstNodeId)).thenReturn(createHeartbeat(System.currentTimeMillis(), 2, 1, 10, 1024L));
+        when(heartbeatMonitor.getLatestHeartbeat(secondNodeId)).thenReturn(createHeartbeat(staleTimestamp, 3, 0, 5, 2048L));
+
+        assertNull(serviceFacade.getClusterControllerStatusFromHeartbeats());
+    }
+
+    @Test
+    public void testGetClusterControllerStatusFromHeartbeatsMissing() {
+        final NodeIdentifier firstNodeId = mock(NodeIdentifier.class);
+        final NodeIdentifier secondNodeId = mock(NodeIdentifier.class);
+        final HeartbeatMonitor heartbeatMonitor = setClusterControllerStatusFacade(Set.of(firstNodeId, secondNodeId));
+
+        when(heartbeatMonitor.getLatestHeartbeat(firstNodeId)).thenReturn(createHeartbeat(System.currentTimeMillis(), 2, 1, 10, 1024L));
+        when(heartbeatMonitor.getLatestHeartbeat(secondNodeId)).thenReturn(null);
+
+        assertNull(serviceFacade.getClusterControllerStatusFromHeartbeats());
+    }
+
+    @Test
+    public void testGetClusterControllerStatusFromHeartbeatsWithoutStatusCounts() {
+        final NodeIdentifier nodeId = mock(NodeIdentifier.class);
+        final HeartbeatMonitor heartbeatMonitor = setClusterControllerStatusFacade(Set.of(nodeId));
+
+        // Nodes running an older version do not report status counts in their heartbeats
+        final NodeHeartbeat heartbeat = mock(NodeHeartbeat.class);
+        when(heartbeat.getTimestamp()).thenReturn(System.currentTimeMillis());
+        when(heartbeat.getComponentActiveThreadCount()).thenReturn(null);
+        when(heartbeatMonitor.getLatestHeartbeat(nodeId)).thenReturn(heartbeat);
+
+        assertNull(serviceFacade.getClusterControllerStatusFromHeartbeats());
+    }
+
+    @Test
+    public void testGetClusterControllerStatusFromHeartbeatsNotCoordinator() {
+        final HeartbeatMonitor heartbeatMonitor = setClusterControllerStatusFacade(Set.of(mock(NodeIdentifier.class)));
+        final ClusterCoordinator clusterCoordinator = mock(ClusterCoordinator.class);
+        when(clusterCoordinator.isActiveClusterCoordinator()).thenReturn(false);
+        serviceFacade.setClusterCoordinator(clusterCoordinator);
+
+        assertNull(serviceFacade.getClusterControllerStatusFromHeartbeats());
+        verify(heartbeatMonitor, never()).getLatestHeartbeat(any(NodeIdentifier.class));
+    }
+
+    private HeartbeatMonitor setClusterControllerStatusFacade(final Set<NodeIdentifier> connectedNodeIds) {
+        final ClusterCoordinator clusterCoordinator = mock(ClusterCoordinator.class);
+        when(clusterCoordinator.isActiveClusterCoordinator()).thenReturn(true);
+        when(clusterCoordinator.getNodeIdentifiers(NodeConnectionState.CONNECTED)).thenReturn(connectedNodeIds);
+
+        final HeartbeatMonitor heartbeatMonitor = mock(HeartbeatMonitor.class);
+
+        final ControllerStatusDTO localStatus = new ControllerStatusDTO();
+        localStatus.setRunningCount(RUNNING_COUNT);
+        final ControllerFacade controllerFacade = mock(ControllerFacade.class);
+        when(controllerFacade.getControllerStatus()).thenReturn(localStatus);
+
+        final NiFiProperties properties = NiFiProperties.createBasicNiFiProperties(null,
+                Map.of(NiFiProperties.CLUSTER_PROTOCOL_HEARTBEAT_INTERVAL, NiFiProperties.DEFAULT_CLUSTER_PROTOCOL_HEARTBEAT_INTERVAL));
+
+        serviceFacade.setClusterCoordinator(clusterCoordinator);
+        serviceFacade.setHeartbeatMonitor(heartbeatMonitor);
+        serviceFacade.setControllerFacade(controllerFacade);
+        serviceFacade.setProperties(properties);
+        return heartbeatMonitor;
+    }
+
+    private NodeHeartbeat createHeartbeat(final long timestamp, final int activeThreadCount, final int terminatedThreadCount, final int flowFileCount, final long flowFileBytes) {
+        final NodeHeartbeat heartbeat = mock(NodeHeartbeat.class);
+        when(heartbeat.getTimestamp()).thenReturn(timestamp);
+        when(heartbeat.getComponentActiveThreadCount()).thenReturn(activeThreadCount);
+        when(heartbeat.getTerminatedThreadCount()).thenReturn(terminatedThreadCount);
+        when(heartbeat.getFlowFileCount()).thenReturn(flowFileCount);
+        when(heartbeat.getFlowFileBytes()).thenReturn(flowFileBytes);
+        return heartbeat;
+    }
+}
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.prometheus.client.Collector.MetricFamilySamples.Sample;
 import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
+import org.apache.nifi.cluster.manager.NodeResponse;
 import org.apache.nifi.metrics.jvm.JmxJvmMetrics;
 import org.apache.nifi.prometheus.util.BulletinMetricsRegistry;
 import org.apache.nifi.prometheus.util.ClusterMetricsRegistry;
@@ -33,8 +34,14 @@ import org.apache.nifi.prometheus.util.ConnectionAnalyticsMetricsRegistry;
 import org.apache.nifi.prometheus.util.JvmMetricsRegistry;
 import org.apache.nifi.prometheus.util.NiFiMetricsRegistry;
 import org.apache.nifi.prometheus.util.PrometheusMetricsUtil;
+import org.apache.nifi.util.NiFiProperties;
 import org.apache.nifi.web.NiFiServiceFacade;
 import org.apache.nifi.web.ResourceNotFoundException;
+import org.apache.nifi.web.api.dto.PermissionsDTO;
+import org.apache.nifi.web.api.dto.flow.ProcessGroupFlowDTO;
+import org.apache.nifi.web.api.dto.status.ControllerStatusDTO;
+import org.apache.nifi.web.api.entity.ControllerStatusEntity;
+import org.apache.nifi.web.api.entity.ProcessGroupFlowEntity;
 import org.apache.nifi.web.api.request.FlowMetricsProducer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,6 +49,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
@@ -51,6 +62,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -58,10 +70,19 @@ import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -82,6 +103,9 @@ public class TestFlowResource {
     private static final int COMPONENT_TYPE_VALUE_INDEX = 1;
     private static final String CLUSTER_TYPE_LABEL = "cluster";
     private static final String CLUSTER_LABEL_KEY = "instance";
+    private static final String PROCESS_GROUP_ID = "root";
+    private static final String PROCESS_GROUP_URI = "https://localhost:8443/nifi-api/flow/process-groups/root";
+    private static final long REFRESH_INTERVAL = 3600000;
 
     @InjectMocks
     private FlowResource resource = new FlowResource();
@@ -89,6 +113,141 @@ public class TestFlowResource {
     @Mock
     private NiFiServiceFacade serviceFacade;
 
+    @Mock
+    private NiFiProperties properties;
+
+    @Mock
+    private HttpServletRequest httpServletRequest;
+
+    @Test
+    public void testGetFlowNotModified() throws InterruptedException {
+        final FlowResource flowResource = getStandaloneFlowResource();
+        when(serviceFacade.getProcessGroupFlow(PROCESS_GROUP_ID, true)).thenReturn(
+                createProcessGroupFlowEntity(true, new Date(0)), createProcessGroupFlowEntity(true, new Date(REFRESH_INTERVAL)));
+
+        final Response response = flowResource.getFlow(PROCESS_GROUP_ID, true);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertNotNull(response.getEntity());
+        final EntityTag entityTag = response.getEntityTag();
+        assertNotNull(entityTag);
+
+        when(httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"other\", \"" + entityTag.getValue() + "\"");
+        final Response notModifiedResponse = flowResource.getFlow(PROCESS_GROUP_ID, true);
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), notModifiedResponse.getStatus());
+        assertEquals(entityTag, notModifiedResponse.getEntityTag());
+        assertNull(notModifiedResponse.getEntity());
+    }
+
+    @Test
+    public void testGetFlowModified() throws InterruptedException {
+        final FlowResource flowResource = getStandaloneFlowResource();
+        when(serviceFacade.getProcessGroupFlow(PROCESS_GROUP_ID, true)).thenReturn(
+                createProcessGroupFlowEntity(true, new Date(0)), createProcessGroupFlowEntity(false, new Date(0)));
+
+        final EntityTag entityTag = flowResource.getFlow(PROCESS_GROUP_ID, true).getEntityTag();
+
+        when(httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"" + entityTag.getValue() + "\"");
+        final Response response = flowResource.getFlow(PROCESS_GROUP_ID, true);
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertNotNull(response.getEntity());
+        assertNotEquals(entityTag, response.getEntityTag());
+    }
+
+    @Test
+    public void testGetFlowClusteredNotModified() throws InterruptedException {
+        final FlowResource replicatingResource = spy(resource);
+        doReturn(true).when(replicatingResource).isReplicateRequest();
+
+        final ProcessGroupFlowEntity mergedEntity = createProcessGroupFlowEntity(true, new Date(0));
+        final NodeResponse nodeResponse = mock(NodeResponse.class);
+        when(nodeResponse.getUpdatedEntity()).thenReturn(mergedEntity);
+        when(nodeResponse.is2xx()).thenReturn(true);
+        when(nodeResponse.getResponse()).thenReturn(Response.ok(mergedEntity).build());
+        doReturn(nodeResponse).when(replicatingResource).replicateNodeResponse(HttpMethod.GET);
+
+        final Response response = replicatingResource.getFlow(PROCESS_GROUP_ID, true);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertSame(mergedEntity, response.getEntity());
+        final EntityTag entityTag = response.getEntityTag();
+        assertNotNull(entityTag);
+
+        when(httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"" + entityTag.getValue() + "\"");
+        final Response notModifiedResponse = replicatingResource.getFlow(PROCESS_GROUP_ID, true);
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), notModifiedResponse.getStatus());
+        assertEquals(entityTag, notModifiedResponse.getEntityTag());
+        verify(serviceFacade, never()).getProcessGroupFlow(PROCESS_GROUP_ID, true);
+    }
+
+    private FlowResource getStandaloneFlowResource() {
+        when(properties.isNode()).thenReturn(false);
+        final FlowResource flowResource = spy(resource);
+        doReturn(PROCESS_GROUP_URI).when(flowResource).generateResourceUri("flow", "process-groups", PROCESS_GROUP_ID);
+        return flowResource;
+    }
+
+    private ProcessGroupFlowEntity createProcessGroupFlowEntity(final boolean canWrite, final Date lastRefreshed) {
+        final ProcessGroupFlowDTO processGroupFlow = new ProcessGroupFlowDTO();
+        processGroupFlow.setId(PROCESS_GROUP_ID);
+        processGroupFlow.setLastRefreshed(lastRefreshed);
+
+        final PermissionsDTO permissions = new PermissionsDTO();
+        permissions.setCanRead(true);
+        permissions.setCanWrite(canWrite);
+
+        final ProcessGroupFlowEntity entity = new ProcessGroupFlowEntity();
+        entity.setProcessGroupFlow(processGroupFlow);
+        entity.setPermissions(permissions);
+        return entity;
+    }
+
+    @Test
+    public void testGetControllerStatusFromHeartbeats() throws InterruptedException {
+        final FlowResource replicatingResource = spy(resource);
+        doReturn(true).when(replicatingResource).isReplicateRequest();
+
+        final ControllerStatusDTO controllerStatus = new ControllerStatusDTO();
+        when(serviceFacade.getClusterControllerStatusFromHeartbeats()).thenReturn(controllerStatus);
+
+        final Response response = replicatingResource.getControllerStatus();
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        final ControllerStatusEntity entity = assertInstanceOf(ControllerStatusEntity.class, response.getEntity());
+        assertSame(controllerStatus, entity.getControllerStatus());
+        verify(replicatingResource, never()).replicate(HttpMethod.GET);
+        verify(serviceFacade, never()).getControllerStatus();
+    }
+
+    @Test
+    public void testGetControllerStatusReplicatedWithoutHeartbeats() throws InterruptedException {
+        final FlowResource replicatingResource = spy(resource);
+        doReturn(true).when(replicatingResource).isReplicateRequest();
+
+        final Response replicatedResponse = Response.ok().build();
+        doReturn(replicatedResponse).when(replicatingResource).replicate(HttpMethod.GET);
+        when(serviceFacade.getClusterControllerStatusFromHeartbeats()).thenReturn(null);
+
+        final Response response = replicatingResource.getControllerStatus();
+
+        assertSame(replicatedResponse, response);
+        verify(serviceFacade, never()).getControllerStatus();
+    }
+
+    @Test
+    public void testGetControllerStatusNotReplicated() throws InterruptedException {
+        when(properties.isNode()).thenReturn(false);
+        final ControllerStatusDTO controllerStatus = new ControllerStatusDTO();
+        when(serviceFacade.getControllerStatus()).thenReturn(controllerStatus);
+
+        final Response response = resource.getControllerStatus();
+
+        final ControllerStatusEntity entity = assertInstanceOf(ControllerStatusEntity.class, response.getEntity());
+        assertSame(controllerStatus, entity.getControllerStatus());
+        verify(serviceFacade, never()).getClusterControllerStatusFromHeartbeats();
+    }
+
     @Test
     public void testGetFlowMetricsProducerInvalid() {
         assertThrows(ResourceNotFoundException.class, () -> resource.getFlowMetrics(String.class.toString(), Collections.emptySet(), null, null, null));
@@ -40,16 +40,26 @@ import org.apache.nifi.flow.VersionedReportingTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+/**
+ * Flow Comparator that indexes the components of each Process Group by identifier and compares child Process Groups
+ * concurrently using fork/join tasks. The supplied Difference Descriptor, property decryptor, and identifier lookup
+ * may be invoked from multiple threads and must be thread-safe.
+ */
 public class StandardFlowComparator implements FlowComparator {
     private static final Logger logger = LoggerFactory.getLogger(StandardFlowComparator.class);
 
@@ -72,10 +82,24 @@ public class StandardFlowComparator implements FlowComparator {
     private final Function<String, String> propertyDecryptor;
     private final Function<VersionedComponent, String> idLookup;
     private final FlowComparatorVersionedStrategy flowComparatorVersionedStrategy;
+    private final BiPredicate<VersionedProcessGroup, VersionedProcessGroup> sameContentPredicate;
 
     public StandardFlowComparator(final ComparableDataFlow flowA, final ComparableDataFlow flowB, final Set<String> externallyAccessibleServiceIds,
                                   final DifferenceDescriptor differenceDescriptor, final Function<String, String> propertyDecryptor,
                                   final Function<VersionedComponent, String> idLookup, final FlowComparatorVersionedStrategy flowComparatorVersionedStrategy) {
+        this(flowA, flowB, externallyAccessibleServiceIds, differenceDescriptor, propertyDecryptor, idLookup, flowComparatorVersionedStrategy, (groupA, groupB) -> false);
+    }
+
+    /**
+     * Creates a Flow Comparator that skips the comparison of Process Groups that are already known to have the same content
+     *
+     * @param sameContentPredicate predicate returning true if the Process Group from Flow A is known to have the same content, including all
+     * descendant components, as the Process Group from Flow B, such as by comparing content hashes of the groups
+     */
+    public StandardFlowComparator(final ComparableDataFlow flowA, final ComparableDataFlow flowB, final Set<String> externallyAccessibleServiceIds,
+                                  final DifferenceDescriptor differenceDescriptor, final Function<String, String> propertyDecryptor,
+                                  final Function<VersionedComponent, String> idLookup, final FlowComparatorVersionedStrategy flowComparatorVersionedStrategy,
+                                  final BiPredicate<VersionedProcessGroup, VersionedProcessGroup> sameContentPredicate) {
         this.flowA = flowA;
         this.flowB = flowB;
         this.externallyAccessibleServiceIds = externallyAccessibleServiceIds;
@@ -83,6 +107,7 @@ public class StandardFlowComparator implements FlowComparator {
         this.propertyDecryptor = propertyDecryptor;
         this.idLookup = idLookup;
         this.flowComparatorVersionedStrategy = flowComparatorVersionedStrategy;
+        this.sameContentPredicate = sameContentPredicate;
     }
 
     @Override
@@ -520,6 +545,10 @@ public class StandardFlowComparator implements FlowComparator {
             return;
         }
 
+        if (sameContentPredicate.test(groupA, groupB)) {
+            return;
+        }
+
         // Compare Flow Coordinates for any differences. Because the way in which we store flow coordinates has changed between versions,
         // we have to use a specific method for this instead of just using addIfDifferent. We also store the differences into a different set
         // so that we can later check if there were any differences or not.
@@ -565,12 +594,41 @@ public class StandardFlowComparator implements FlowComparator {
             differences.addAll(compareComponents(groupA.getInputPorts(), groupB.getInputPorts(), this::compare));
             differences.addAll(compareComponents(groupA.getLabels(), groupB.getLabels(), this::compare));
             differences.addAll(compareComponents(groupA.getOutputPorts(), groupB.getOutputPorts(), this::compare));
-            differences.addAll(compareComponents(groupA.getProcessGroups(), groupB.getProcessGroups(), (a, b, diffs) -> compare(a, b, diffs, true)));
+            differences.addAll(compareChildGroups(groupA.getProcessGroups(), groupB.getProcessGroups()));
             differences.addAll(compareComponents(groupA.getRemoteProcessGroups(), groupB.getRemoteProcessGroups(), this::compare));
         }
     }
 
 
+    private Set<FlowDifference> compareChildGroups(final Set<VersionedProcessGroup> groupsA, final Set<VersionedProcessGroup> groupsB) {
+        final Map<String, VersionedProcessGroup> groupMapA = byId(groupsA == null ? Collections.emptySet() : groupsA);
+        final Map<String, VersionedProcessGroup> groupMapB = byId(groupsB == null ? Collections.emptySet() : groupsB);
+
+        final List<ChildGroupComparison> comparisons = new ArrayList<>(groupMapA.size() + groupMapB.size());
+        groupMapA.forEach((key, groupA) -> comparisons.add(new ChildGroupComparison(groupA, groupMapB.get(key))));
+        groupMapB.forEach((key, groupB) -> {
+            if (!groupMapA.containsKey(key)) {
+                comparisons.add(new ChildGroupComparison(null, groupB));
+            }
+        });
+
+        if (comparisons.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (comparisons.size() == 1) {
+            return comparisons.getFirst().compute();
+        }
+
+        // Child groups are independent of each other so they can be compared concurrently, with nested groups forking further tasks
+        ForkJoinTask.invokeAll(comparisons);
+
+        final Set<FlowDifference> differences = new HashSet<>();
+        for (final ChildGroupComparison comparison : comparisons) {
+            differences.addAll(comparison.join());
+        }
+        return differences;
+    }
+
     private void compareFlowCoordinates(final VersionedProcessGroup groupA, final VersionedProcessGroup groupB, final Set<FlowDifference> differences) {
         final VersionedFlowCoordinates coordinatesA = groupA.getVersionedFlowCoordinates();
         final VersionedFlowCoordinates coordinatesB = groupB.getVersionedFlowCoordinates();
@@ -713,4 +771,21 @@ public class StandardFlowComparator implements FlowComparator {
     private static interface ComponentComparator<T extends VersionedComponent> {
         void compare(T componentA, T componentB, Set<FlowDifference> differences);
     }
+
+    private class ChildGroupComparison extends RecursiveTask<Set<FlowDifference>> {
+        private final VersionedProcessGroup groupA;
+        private final VersionedProcessGroup groupB;
+
+        private ChildGroupComparison(final VersionedProcessGroup groupA, final VersionedProcessGroup groupB) {
+            this.groupA = groupA;
+            this.groupB = groupB;
+        }
+
+        @Override
+        protected Set<FlowDifference> compute() {
+            final Set<FlowDifference> differences = new HashSet<>();
+            compare(groupA, groupB, differences, true);
+            return differences;
+        }
+    }
 }
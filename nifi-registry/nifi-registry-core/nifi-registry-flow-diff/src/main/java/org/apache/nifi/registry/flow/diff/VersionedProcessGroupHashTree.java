@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.registry.flow.diff;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.nifi.flow.ConnectableComponent;
+import org.apache.nifi.flow.VersionedComponent;
+import org.apache.nifi.flow.VersionedProcessGroup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Content hash tree over a Versioned Process Group. The hash of each Process Group covers the configuration of the group itself,
+ * the configuration of each of its components, and the hashes of its child groups, so that two groups having the same hash have
+ * the same content throughout their entire subtree. Comparing hashes allows unchanged subtrees to be skipped when comparing or
+ * synchronizing flows. Hashes of child groups are computed in parallel.
+ * <p>
+ * Components are hashed independently and combined in sorted order, so that the hash does not depend on the iteration order of
+ * component sets. Instance identifiers are excluded from the serialized configuration, since they are only known to the local
+ * instance of a flow and are not part of a flow retrieved from a registry. Instead, each component and group is hashed along with
+ * the identifier by which components are matched when comparing flows, so that when flows are compared by instance identifier,
+ * as when a node joins a cluster, a group containing components with different instance identifiers does not have the same hash.
+ * Any other difference, including differences that are not significant for synchronization such as positions or differently
+ * encrypted sensitive values, results in different hashes.
+ * </p>
+ */
+public class VersionedProcessGroupHashTree {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+        .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .addMixIn(VersionedComponent.class, InstanceIdentifiersMixIn.class)
+        .addMixIn(ConnectableComponent.class, InstanceIdentifiersMixIn.class)
+        .addMixIn(VersionedProcessGroup.class, ProcessGroupSettingsMixIn.class)
+        .build();
+
+    private final Map<VersionedProcessGroup, String> hashes;
+
+    private VersionedProcessGroupHashTree(final Map<VersionedProcessGroup, String> hashes) {
+        this.hashes = hashes;
+    }
+
+    /**
+     * Compute the hash tree for the given Process Group and all of its descendants, for comparison with a flow whose components
+     * are matched by Versioned Component Identifier
+     *
+     * @param group Versioned Process Group
+     * @return Hash tree
+     */
+    public static VersionedProcessGroupHashTree create(final VersionedProcessGroup group) {
+        return create(group, VersionedComponent::getIdentifier);
+    }
+
+    /**
+     * Compute the hash tree for the given Process Group and all of its descendants, for comparison with a flow whose components
+     * are matched using the given identifier lookup. Both trees being compared must be created using the same lookup.
+     *
+     * @param group Versioned Process Group
+     * @param componentIdLookup Lookup for the identifier by which components are matched, such as the Instance Identifier
+     * @return Hash tree
+     */
+    public static VersionedProcessGroupHashTree create(final VersionedProcessGroup group, final Function<VersionedComponent, String> componentIdLookup) {
+        final Map<VersionedProcessGroup, String> hashes = Collections.synchronizedMap(new IdentityHashMap<>());
+        if (group != null) {
+            computeHash(group, componentIdLookup, hashes);
+        }
+        return new VersionedProcessGroupHashTree(hashes);
+    }
+
+    /**
+     * Get the hash of the given Process Group, which must be part of the tree
+     *
+     * @param group Versioned Process Group
+     * @return Hash of the group contents or null if the group is not part of the tree
+     */
+    public String getHash(final VersionedProcessGroup group) {
+        return hashes.get(group);
+    }
+
+    /**
+     * Determine whether the given Process Group of this tree has the same content as a Process Group of another tree
+     *
+     * @param group Versioned Process Group from this tree
+     * @param otherTree Hash tree containing the other group
+     * @param otherGroup Versioned Process Group from the other tree
+     * @return true if both groups are known to the trees and have the same hash
+     */
+    public boolean isSameContent(final VersionedProcessGroup group, final VersionedProcessGroupHashTree otherTree, final VersionedProcessGroup otherGroup) {
+        final String hash = getHash(group);
+        return hash != null && hash.equals(otherTree.getHash(otherGroup));
+    }
+
+    private static String computeHash(final VersionedProcessGroup group, final Function<VersionedComponent, String> componentIdLookup,
+                                      final Map<VersionedProcessGroup, String> hashes) {
+        final Set<VersionedProcessGroup> childGroups = group.getProcessGroups() == null ? Collections.emptySet() : group.getProcessGroups();
+        final Stream<VersionedProcessGroup> childGroupStream = childGroups.size() > 1 ? childGroups.parallelStream() : childGroups.stream();
+        final List<String> childHashes = childGroupStream
+            .map(childGroup -> computeHash(childGroup, componentIdLookup, hashes))
+            .sorted()
+            .toList();
+
+        final MessageDigest digest = getMessageDigest();
+        update(digest, "group", serialize(group));
+        update(digest, "groupId", getComponentId(group, componentIdLookup));
+        update(digest, "processors", group.getProcessors(), componentIdLookup);
+        update(digest, "inputPorts", group.getInputPorts(), componentIdLookup);
+        update(digest, "outputPorts", group.getOutputPorts(), componentIdLookup);
+        update(digest, "connections", group.getConnections(), componentIdLookup);
+        update(digest, "labels", group.getLabels(), componentIdLookup);
+        update(digest, "funnels", group.getFunnels(), componentIdLookup);
+        update(digest, "controllerServices", group.getControllerServices(), componentIdLookup);
+        update(digest, "remoteProcessGroups", group.getRemoteProcessGroups(), componentIdLookup);
+        for (final String childHash : childHashes) {
+            update(digest, "processGroup", childHash.getBytes(StandardCharsets.UTF_8));
+        }
+
+        final String hash = HEX_FORMAT.formatHex(digest.digest());
+        hashes.put(group, hash);
+        return hash;
+    }
+
+    private static void update(final MessageDigest digest, final String label, final Collection<? extends VersionedComponent> components,
+                               final Function<VersionedComponent, String> componentIdLookup) {
+        if (components == null || components.isEmpty()) {
+            return;
+        }
+
+        final MessageDigest componentDigest = getMessageDigest();
+        final List<String> componentHashes = new ArrayList<>(components.size());
+        for (final VersionedComponent component : components) {
+            componentDigest.update(serialize(component));
+            componentDigest.update((byte) '\n');
+            componentDigest.update(getComponentId(component, componentIdLookup));
+            componentHashes.add(HEX_FORMAT.formatHex(componentDigest.digest()));
+        }
+        Collections.sort(componentHashes);
+
+        for (final String componentHash : componentHashes) {
+            update(digest, label, componentHash.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String label, final byte[] value) {
+        digest.update(label.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(value);
+        digest.update((byte) '\n');
+    }
+
+    private static byte[] getComponentId(final VersionedComponent component, final Function<VersionedComponent, String> componentIdLookup) {
+        final String componentId = componentIdLookup.apply(component);
+        return componentId == null ? new byte[0] : componentId.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] serialize(final Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(value);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + value + " for content hash", e);
+        }
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " not supported", e);
+        }
+    }
+
+    /**
+     * Excludes identifiers and references of the local instance, which are populated for components mapped from a loaded flow,
+     * and are hashed separately through the component identifier lookup when components are compared by instance identifier
+     */
+    @JsonIgnoreProperties({"instanceIdentifier", "instanceGroupId", "externalControllerServiceReferences"})
+    private abstract static class InstanceIdentifiersMixIn {
+    }
+
+    /**
+     * Excludes child components from the serialized settings of a Process Group, since these are hashed separately, along with
+     * the identifiers of the local instance, since class annotations of the Process Group mix-in take precedence over inherited ones
+     */
+    @JsonIgnoreProperties({"processGroups", "processors", "inputPorts", "outputPorts", "connections", "labels", "funnels", "controllerServices", "remoteProcessGroups",
+        "instanceIdentifier", "instanceGroupId", "externalControllerServiceReferences"})
+    private abstract static class ProcessGroupSettingsMixIn {
+    }
+}
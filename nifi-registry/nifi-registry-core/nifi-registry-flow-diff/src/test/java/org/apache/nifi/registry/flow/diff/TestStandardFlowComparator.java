@@ -21,6 +21,7 @@ import org.apache.nifi.flow.VersionedComponent;
 import org.apache.nifi.flow.VersionedParameter;
 import org.apache.nifi.flow.VersionedParameterContext;
 import org.apache.nifi.flow.VersionedProcessGroup;
+import org.apache.nifi.flow.VersionedProcessor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +35,7 @@ import java.util.function.Function;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestStandardFlowComparator {
     private Map<String, String> decryptedToEncrypted;
@@ -110,6 +112,74 @@ public class TestStandardFlowComparator {
         assertEquals(1, numContainingValue);
     }
 
+    @Test
+    public void testSameContentGroupsSkipped() {
+        final VersionedProcessGroup rootA = createGroupWithProcessor("root", "child", "processor-1");
+        final VersionedProcessGroup rootB = createGroupWithProcessor("root", "child", "processor-2");
+        final ComparableDataFlow flowA = new StandardComparableDataFlow("Flow A", rootA);
+        final ComparableDataFlow flowB = new StandardComparableDataFlow("Flow B", rootB);
+
+        final StandardFlowComparator fullComparator = new StandardFlowComparator(flowA, flowB, Collections.emptySet(),
+            new StaticDifferenceDescriptor(), Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.DEEP);
+        assertEquals(2, fullComparator.compare().getDifferences().size());
+
+        final StandardFlowComparator skippingComparator = new StandardFlowComparator(flowA, flowB, Collections.emptySet(),
+            new StaticDifferenceDescriptor(), Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.DEEP,
+            (groupA, groupB) -> groupA.getIdentifier().equals("child"));
+        assertTrue(skippingComparator.compare().getDifferences().isEmpty());
+    }
+
+    @Test
+    public void testNestedChildGroupsCompared() {
+        final VersionedProcessGroup rootA = new VersionedProcessGroup();
+        rootA.setIdentifier("root");
+        final VersionedProcessGroup rootB = new VersionedProcessGroup();
+        rootB.setIdentifier("root");
+
+        final int childGroups = 20;
+        for (int i = 0; i < childGroups; i++) {
+            final VersionedProcessGroup childA = createGroupWithProcessor("child-" + i, "grandchild-" + i, "processor-" + i);
+            final VersionedProcessGroup childB = createGroupWithProcessor("child-" + i, "grandchild-" + i, "processor-" + i);
+            if (i % 2 == 0) {
+                childB.getProcessGroups().iterator().next().getProcessors().iterator().next().setName("Renamed " + i);
+            }
+            rootA.getProcessGroups().add(childA);
+            rootB.getProcessGroups().add(childB);
+        }
+
+        final VersionedProcessGroup addedGroup = new VersionedProcessGroup();
+        addedGroup.setIdentifier("added");
+        rootB.getProcessGroups().add(addedGroup);
+
+        final ComparableDataFlow flowA = new StandardComparableDataFlow("Flow A", rootA);
+        final ComparableDataFlow flowB = new StandardComparableDataFlow("Flow B", rootB);
+        final StandardFlowComparator comparator = new StandardFlowComparator(flowA, flowB, Collections.emptySet(),
+            new StaticDifferenceDescriptor(), Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.DEEP);
+        final Set<FlowDifference> differences = comparator.compare().getDifferences();
+
+        final long nameChanges = differences.stream().filter(difference -> difference.getDifferenceType() == DifferenceType.NAME_CHANGED).count();
+        final long addedComponents = differences.stream().filter(difference -> difference.getDifferenceType() == DifferenceType.COMPONENT_ADDED).count();
+        assertEquals(childGroups / 2, nameChanges);
+        assertEquals(1, addedComponents);
+        assertEquals(childGroups / 2 + 1, differences.size());
+    }
+
+    private VersionedProcessGroup createGroupWithProcessor(final String rootGroupId, final String childGroupId, final String processorId) {
+        final VersionedProcessor processor = new VersionedProcessor();
+        processor.setIdentifier(processorId);
+        processor.setProperties(new HashMap<>());
+        processor.setPropertyDescriptors(new HashMap<>());
+
+        final VersionedProcessGroup childGroup = new VersionedProcessGroup();
+        childGroup.setIdentifier(childGroupId);
+        childGroup.getProcessors().add(processor);
+
+        final VersionedProcessGroup rootGroup = new VersionedProcessGroup();
+        rootGroup.setIdentifier(rootGroupId);
+        rootGroup.getProcessGroups().add(childGroup);
+        return rootGroup;
+    }
+
     private VersionedParameter createParameter(final String name, final String value, final boolean sensitive) {
         final VersionedParameter parameter = new VersionedParameter();
         parameter.setName(name);
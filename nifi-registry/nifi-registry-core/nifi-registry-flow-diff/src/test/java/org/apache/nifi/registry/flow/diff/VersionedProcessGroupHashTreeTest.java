@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.registry.flow.diff;
+
+import org.apache.nifi.flow.ConnectableComponent;
+import org.apache.nifi.flow.ConnectableComponentType;
+import org.apache.nifi.flow.Position;
+import org.apache.nifi.flow.VersionedComponent;
+import org.apache.nifi.flow.VersionedConnection;
+import org.apache.nifi.flow.VersionedProcessGroup;
+import org.apache.nifi.flow.VersionedProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VersionedProcessGroupHashTreeTest {
+
+    @Test
+    public void testSameContent() {
+        final VersionedProcessGroup groupA = createFlow("value");
+        final VersionedProcessGroup groupB = createFlow("value");
+        final VersionedProcessGroupHashTree treeA = VersionedProcessGroupHashTree.create(groupA);
+        final VersionedProcessGroupHashTree treeB = VersionedProcessGroupHashTree.create(groupB);
+
+        assertNotNull(treeA.getHash(groupA));
+        assertTrue(treeA.isSameContent(groupA, treeB, groupB));
+        assertTrue(treeA.isSameContent(getChild(groupA, "child-2"), treeB, getChild(groupB, "child-2")));
+        assertFalse(treeA.isSameContent(getChild(groupA, "child-1"), treeB, getChild(groupB, "child-2")));
+    }
+
+    @Test
+    public void testChangedDescendant() {
+        final VersionedProcessGroup groupA = createFlow("value");
+        final VersionedProcessGroup groupB = createFlow("changed");
+        final VersionedProcessGroupHashTree treeA = VersionedProcessGroupHashTree.create(groupA);
+        final VersionedProcessGroupHashTree treeB = VersionedProcessGroupHashTree.create(groupB);
+
+        assertFalse(treeA.isSameContent(groupA, treeB, groupB));
+        assertFalse(treeA.isSameContent(getChild(groupA, "child-1"), treeB, getChild(groupB, "child-1")));
+        assertTrue(treeA.isSameContent(getChild(groupA, "child-2"), treeB, getChild(groupB, "child-2")));
+    }
+
+    @Test
+    public void testChangedGroupSettings() {
+        final VersionedProcessGroup groupA = createFlow("value");
+        final VersionedProcessGroup groupB = createFlow("value");
+        groupB.setPosition(new Position(10, 10));
+
+        final VersionedProcessGroupHashTree treeA = VersionedProcessGroupHashTree.create(groupA);
+        final VersionedProcessGroupHashTree treeB = VersionedProcessGroupHashTree.create(groupB);
+        assertNotEquals(treeA.getHash(groupA), treeB.getHash(groupB));
+        assertEquals(treeA.getHash(getChild(groupA, "child-1")), treeB.getHash(getChild(groupB, "child-1")));
+    }
+
+    @Test
+    public void testInstanceIdentifiersIgnored() {
+        final VersionedProcessGroup proposedGroup = createGroup("child-1", createProcessor("processor-1", "value"));
+        proposedGroup.setConnections(Set.of(createConnection("processor-1", null)));
+
+        final VersionedProcessGroup localGroup = createGroup("child-1", createProcessor("processor-1", "value"));
+        localGroup.setInstanceIdentifier("child-1-instance");
+        localGroup.getProcessors().forEach(processor -> processor.setInstanceIdentifier("processor-1-instance"));
+        localGroup.setConnections(Set.of(createConnection("processor-1", "processor-1-instance")));
+
+        final VersionedProcessGroupHashTree proposedTree = VersionedProcessGroupHashTree.create(proposedGroup);
+        final VersionedProcessGroupHashTree localTree = VersionedProcessGroupHashTree.create(localGroup);
+        assertTrue(localTree.isSameContent(localGroup, proposedTree, proposedGroup));
+    }
+
+    @Test
+    public void testInstanceIdentifiersComparedByInstanceIdentifier() {
+        final VersionedProcessGroup groupA = createInstantiatedGroup("processor-1-instance");
+        final VersionedProcessGroup groupB = createInstantiatedGroup("processor-1-instance");
+        final VersionedProcessGroup groupC = createInstantiatedGroup("processor-1-replaced");
+
+        final VersionedProcessGroupHashTree treeA = VersionedProcessGroupHashTree.create(groupA, VersionedComponent::getInstanceIdentifier);
+        final VersionedProcessGroupHashTree treeB = VersionedProcessGroupHashTree.create(groupB, VersionedComponent::getInstanceIdentifier);
+        final VersionedProcessGroupHashTree treeC = VersionedProcessGroupHashTree.create(groupC, VersionedComponent::getInstanceIdentifier);
+        assertTrue(treeA.isSameContent(groupA, treeB, groupB));
+        assertFalse(treeA.isSameContent(groupA, treeC, groupC));
+
+        final VersionedProcessGroupHashTree versionedTreeA = VersionedProcessGroupHashTree.create(groupA);
+        final VersionedProcessGroupHashTree versionedTreeC = VersionedProcessGroupHashTree.create(groupC);
+        assertTrue(versionedTreeA.isSameContent(groupA, versionedTreeC, groupC));
+    }
+
+    @Test
+    public void testGroupNotInTree() {
+        final VersionedProcessGroup groupA = createFlow("value");
+        final VersionedProcessGroupHashTree treeA = VersionedProcessGroupHashTree.create(groupA);
+        final VersionedProcessGroup otherGroup = createFlow("value");
+
+        assertNull(treeA.getHash(otherGroup));
+        assertFalse(treeA.isSameContent(otherGroup, treeA, groupA));
+    }
+
+    private VersionedProcessGroup createInstantiatedGroup(final String processorInstanceIdentifier) {
+        final VersionedProcessor processor = createProcessor("processor-1", "value");
+        processor.setInstanceIdentifier(processorInstanceIdentifier);
+
+        final VersionedProcessGroup group = createGroup("child-1", processor);
+        group.setInstanceIdentifier("child-1-instance");
+        return group;
+    }
+
+    private VersionedProcessGroup createFlow(final String propertyValue) {
+        final VersionedProcessGroup rootGroup = createGroup("root");
+        rootGroup.getProcessGroups().add(createGroup("child-1", createProcessor("processor-1", propertyValue), createProcessor("processor-2", "value")));
+        rootGroup.getProcessGroups().add(createGroup("child-2", createProcessor("processor-3", "value")));
+        return rootGroup;
+    }
+
+    private VersionedProcessGroup createGroup(final String identifier, final VersionedProcessor... processors) {
+        final VersionedProcessGroup group = new VersionedProcessGroup();
+        group.setIdentifier(identifier);
+        group.setName(identifier);
+        for (final VersionedProcessor processor : processors) {
+            group.getProcessors().add(processor);
+        }
+        return group;
+    }
+
+    private VersionedProcessor createProcessor(final String identifier, final String propertyValue) {
+        final VersionedProcessor processor = new VersionedProcessor();
+        processor.setIdentifier(identifier);
+        processor.setType("org.apache.nifi.processors.Test");
+        processor.setProperties(Map.of("Property", propertyValue));
+        return processor;
+    }
+
+    private VersionedConnection createConnection(final String processorIdentifier, final String processorInstanceIdentifier) {
+        final ConnectableComponent connectable = new ConnectableComponent();
+        connectable.setId(processorIdentifier);
+        connectable.setType(ConnectableComponentType.PROCESSOR);
+        connectable.setGroupId("child-1");
+        connectable.setInstanceIdentifier(processorInstanceIdentifier);
+
+        final VersionedConnection connection = new VersionedConnection();
+        connection.setIdentifier("connection-1");
+        connection.setSource(connectable);
+        connection.setDestination(connectable);
+        connection.setSelectedRelationships(Set.of("success"));
+        return connection;
+    }
+
+    private VersionedProcessGroup getChild(final VersionedProcessGroup group, final String identifier) {
+        return group.getProcessGroups().stream()
+            .filter(child -> child.getIdentifier().equals(identifier))
+            .findFirst()
+            .orElseThrow();
+    }
+}
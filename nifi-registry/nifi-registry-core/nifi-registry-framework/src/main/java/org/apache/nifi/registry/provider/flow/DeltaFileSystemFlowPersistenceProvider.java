@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.registry.provider.flow;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.nifi.registry.flow.FlowPersistenceException;
+import org.apache.nifi.registry.flow.FlowSnapshotContext;
+import org.apache.nifi.registry.provider.ProviderConfigurationContext;
+import org.apache.nifi.registry.provider.ProviderCreationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A FlowPersistenceProvider that uses the local filesystem for storage and stores each version as a compressed delta
+ * against the most recent keyframe of the flow. A keyframe holds the complete compressed content and is written for the
+ * first version, whenever the configured interval of versions has passed since the last keyframe, and whenever a delta
+ * would not be smaller than the complete content. Retrieving any version requires reading at most one keyframe and one delta.
+ * Snapshots written by {@link FileSystemFlowPersistenceProvider} are read without conversion and serve as keyframes.
+ */
+public class DeltaFileSystemFlowPersistenceProvider extends FileSystemFlowPersistenceProvider {
+
+    static final String KEYFRAME_INTERVAL_PROP = "Keyframe Interval";
+
+    static final int DEFAULT_KEYFRAME_INTERVAL = 10;
+
+    private static final byte[] MAGIC_HEADER = "NiFiDSN".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int KEYFRAME = 0;
+
+    private static final int DELTA = 1;
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final int END_OPERATION = 0;
+
+    private static final int COPY_OPERATION = 1;
+
+    private static final int INSERT_OPERATION = 2;
+
+    private int keyframeInterval = DEFAULT_KEYFRAME_INTERVAL;
+
+    @Override
+    public void onConfigured(final ProviderConfigurationContext configurationContext) throws ProviderCreationException {
+        super.onConfigured(configurationContext);
+
+        final String keyframeIntervalValue = configurationContext.getProperties().get(KEYFRAME_INTERVAL_PROP);
+        if (StringUtils.isBlank(keyframeIntervalValue)) {
+            keyframeInterval = DEFAULT_KEYFRAME_INTERVAL;
+        } else {
+            try {
+                keyframeInterval = Integer.parseInt(keyframeIntervalValue.trim());
+            } catch (final NumberFormatException e) {
+                throw new ProviderCreationException("The property " + KEYFRAME_INTERVAL_PROP + " must be an integer", e);
+            }
+
+            if (keyframeInterval < 1) {
+                throw new ProviderCreationException("The property " + KEYFRAME_INTERVAL_PROP + " must be at least 1");
+            }
+        }
+
+        LOGGER.info("Configured DeltaFileSystemFlowPersistenceProvider with Keyframe Interval {}", keyframeInterval);
+    }
+
+    @Override
+    public synchronized void saveFlowContent(final FlowSnapshotContext context, final byte[] content) throws FlowPersistenceException {
+        final String bucketId = context.getBucketId();
+        final String flowId = context.getFlowId();
+        final int version = context.getVersion();
+
+        final byte[] keyframe = encodeKeyframe(content);
+        byte[] encoded = keyframe;
+
+        final Integer baseVersion = getBaseVersion(bucketId, flowId, version);
+        if (baseVersion != null) {
+            final byte[] baseContent = getFlowContent(bucketId, flowId, baseVersion);
+            if (baseContent != null) {
+                final byte[] delta = encodeDelta(baseVersion, baseContent, content);
+                if (delta.length < keyframe.length) {
+                    encoded = delta;
+                }
+            }
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Saving version {} of flow {} as {} of {} bytes", version, flowId, encoded == keyframe ? "keyframe" : "delta", encoded.length);
+        }
+
+        super.saveFlowContent(context, encoded);
+    }
+
+    @Override
+    public synchronized byte[] getFlowContent(final String bucketId, final String flowId, final int version) throws FlowPersistenceException {
+        final byte[] stored = super.getFlowContent(bucketId, flowId, version);
+        if (stored == null || !isEncoded(stored)) {
+            return stored;
+        }
+
+        try {
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(stored, MAGIC_HEADER.length, stored.length - MAGIC_HEADER.length));
+            final int formatVersion = in.readUnsignedByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new FlowPersistenceException("Unsupported snapshot format version " + formatVersion + " for version " + version + " of flow " + flowId);
+            }
+
+            final int type = in.readUnsignedByte();
+            if (type == KEYFRAME) {
+                return inflate(in);
+            }
+
+            final int baseVersion = in.readInt();
+            final byte[] baseContent = getKeyframeContent(bucketId, flowId, baseVersion);
+            if (baseContent == null) {
+                throw new FlowPersistenceException("Keyframe version " + baseVersion + " not found for version " + version + " of flow " + flowId);
+            }
+            return applyDelta(baseContent, inflate(in));
+        } catch (final IOException e) {
+            throw new FlowPersistenceException("Error decoding snapshot for version " + version + " of flow " + flowId, e);
+        }
+    }
+
+    @Override
+    public synchronized void deleteFlowContent(final String bucketId, final String flowId, final int version) throws FlowPersistenceException {
+        final byte[] stored = super.getFlowContent(bucketId, flowId, version);
+        if (stored != null && getDeltaBaseVersion(stored) == null) {
+            // versions encoded against this keyframe must be rewritten as keyframes before it is removed
+            final byte[] content = getFlowContent(bucketId, flowId, version);
+            for (final int dependentVersion : getVersions(bucketId, flowId)) {
+                if (dependentVersion <= version) {
+                    continue;
+                }
+
+                final byte[] dependentStored = super.getFlowContent(bucketId, flowId, dependentVersion);
+                final Integer dependentBase = dependentStored == null ? null : getDeltaBaseVersion(dependentStored);
+                if (dependentBase != null && dependentBase == version) {
+                    final byte[] dependentContent = applyDelta(content, readDeltaOperations(dependentStored, flowId, dependentVersion));
+                    rewriteSnapshot(bucketId, flowId, dependentVersion, encodeKeyframe(dependentContent));
+                }
+            }
+        }
+
+        super.deleteFlowContent(bucketId, flowId, version);
+    }
+
+    private byte[] getKeyframeContent(final String bucketId, final String flowId, final int version) {
+        final byte[] stored = super.getFlowContent(bucketId, flowId, version);
+        if (stored == null) {
+            return null;
+        }
+
+        if (getDeltaBaseVersion(stored) != null) {
+            throw new FlowPersistenceException("Version " + version + " of flow " + flowId + " is not a keyframe");
+        }
+        return getFlowContent(bucketId, flowId, version);
+    }
+
+    /**
+     * Determines the keyframe version that a new version should be encoded against, or null when the new version must be a keyframe.
+     */
+    private Integer getBaseVersion(final String bucketId, final String flowId, final int version) {
+        final int previousVersion = version - 1;
+        if (previousVersion < 1) {
+            return null;
+        }
+
+        final byte[] previousStored = super.getFlowContent(bucketId, flowId, previousVersion);
+        if (previousStored == null) {
+            return null;
+        }
+
+        final Integer previousBase = getDeltaBaseVersion(previousStored);
+        final int baseVersion = previousBase == null ? previousVersion : previousBase;
+        return version - baseVersion >= keyframeInterval ? null : baseVersion;
+    }
+
+    private TreeSet<Integer> getVersions(final String bucketId, final String flowId) {
+        final TreeSet<Integer> versions = new TreeSet<>();
+        final File flowDir = getSnapshotFile(bucketId, flowId, 1).getParentFile().getParentFile();
+        final File[] versionDirs = flowDir.listFiles(File::isDirectory);
+        if (versionDirs == null) {
+            return versions;
+        }
+
+        for (final File versionDir : versionDirs) {
+            try {
+                versions.add(Integer.parseInt(versionDir.getName()));
+            } catch (final NumberFormatException e) {
+                LOGGER.debug("Ignoring unexpected directory {}", versionDir.getAbsolutePath());
+            }
+        }
+        return versions;
+    }
+
+    private void rewriteSnapshot(final String bucketId, final String flowId, final int version, final byte[] encoded) {
+        final File snapshotFile = getSnapshotFile(bucketId, flowId, version);
+        final Path snapshotPath = snapshotFile.toPath();
+        final Path tempPath = snapshotPath.resolveSibling(snapshotFile.getName() + ".tmp");
+        try {
+            Files.write(tempPath, encoded);
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new FlowPersistenceException("Unable to rewrite snapshot as keyframe at " + snapshotFile.getAbsolutePath(), e);
+        }
+
+        LOGGER.debug("Rewrote version {} of flow {} as keyframe", version, flowId);
+    }
+
+    private static boolean isEncoded(final byte[] stored) {
+        return stored.length > MAGIC_HEADER.length + 1 && Arrays.equals(stored, 0, MAGIC_HEADER.length, MAGIC_HEADER, 0, MAGIC_HEADER.length);
+    }
+
+    private static Integer getDeltaBaseVersion(final byte[] stored) {
+        if (!isEncoded(stored) || stored.length < MAGIC_HEADER.length + 6 || stored[MAGIC_HEADER.length + 1] != DELTA) {
+            return null;
+        }
+
+        final int offset = MAGIC_HEADER.length + 2;
+        return ((stored[offset] & 0xFF) << 24) | ((stored[offset + 1] & 0xFF) << 16) | ((stored[offset + 2] & 0xFF) << 8) | (stored[offset + 3] & 0xFF);
+    }
+
+    private static byte[] readDeltaOperations(final byte[] stored, final String flowId, final int version) {
+        final int headerLength = MAGIC_HEADER.length + 6;
+        try {
+            return inflate(new ByteArrayInputStream(stored, headerLength, stored.length - headerLength));
+        } catch (final IOException e) {
+            throw new FlowPersistenceException("Error decoding snapshot for version " + version + " of flow " + flowId, e);
+        }
+    }
+
+    static byte[] encodeKeyframe(final byte[] content) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 16);
+        out.writeBytes(MAGIC_HEADER);
+        out.write(FORMAT_VERSION);
+        out.write(KEYFRAME);
+        deflate(content, out);
+        return out.toByteArray();
+    }
+
+    static byte[] encodeDelta(final int baseVersion, final byte[] baseContent, final byte[] content) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.writeBytes(MAGIC_HEADER);
+        out.write(FORMAT_VERSION);
+        out.write(DELTA);
+        out.write(baseVersion >>> 24);
+        out.write(baseVersion >>> 16);
+        out.write(baseVersion >>> 8);
+        out.write(baseVersion);
+        deflate(computeDelta(baseContent, content), out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Computes copy and insert operations that reproduce the content from the base content, using an index of fixed-size blocks of the base content.
+     */
+    static byte[] computeDelta(final byte[] baseContent, final byte[] content) {
+        final Map<Integer, Integer> blockOffsets = new HashMap<>(baseContent.length / BLOCK_SIZE * 2);
+        for (int offset = 0; offset + BLOCK_SIZE <= baseContent.length; offset += BLOCK_SIZE) {
+            blockOffsets.putIfAbsent(hashBlock(baseContent, offset), offset);
+        }
+
+        final ByteArrayOutputStream operations = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(operations);
+        try {
+            out.writeInt(content.length);
+
+            int insertStart = 0;
+            int position = 0;
+            while (position + BLOCK_SIZE <= content.length) {
+                final Integer baseOffset = blockOffsets.get(hashBlock(content, position));
+                if (baseOffset == null || !Arrays.equals(baseContent, baseOffset, baseOffset + BLOCK_SIZE, content, position, position + BLOCK_SIZE)) {
+                    position++;
+                    continue;
+                }
+
+                // extend the match backwards into pending inserted bytes and forwards past the block
+                int matchStart = position;
+                int matchBaseStart = baseOffset;
+                while (matchStart > insertStart && matchBaseStart > 0 && content[matchStart - 1] == baseContent[matchBaseStart - 1]) {
+                    matchStart--;
+                    matchBaseStart--;
+                }
+
+                int matchEnd = position + BLOCK_SIZE;
+                int matchBaseEnd = baseOffset + BLOCK_SIZE;
+                while (matchEnd < content.length && matchBaseEnd < baseContent.length && content[matchEnd] == baseContent[matchBaseEnd]) {
+                    matchEnd++;
+                    matchBaseEnd++;
+                }
+
+                writeInsert(out, content, insertStart, matchStart);
+                out.writeByte(COPY_OPERATION);
+                out.writeInt(matchBaseStart);
+                out.writeInt(matchEnd - matchStart);
+
+                position = matchEnd;
+                insertStart = matchEnd;
+            }
+
+            writeInsert(out, content, insertStart, content.length);
+            out.writeByte(END_OPERATION);
+            out.flush();
+        } catch (final IOException e) {
+            throw new FlowPersistenceException("Unable to compute snapshot delta", e);
+        }
+        return operations.toByteArray();
+    }
+
+    static byte[] applyDelta(final byte[] baseContent, final byte[] delta) {
+        try {
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta));
+            final byte[] content = new byte[in.readInt()];
+            int position = 0;
+            int operation;
+            while ((operation = in.readUnsignedByte()) != END_OPERATION) {
+                if (operation == COPY_OPERATION) {
+                    final int baseOffset = in.readInt();
+                    final int length = in.readInt();
+                    System.arraycopy(baseContent, baseOffset, content, position, length);
+                    position += length;
+                } else if (operation == INSERT_OPERATION) {
+                    final int length = in.readInt();
+                    in.readFully(content, position, length);
+                    position += length;
+                } else {
+                    throw new FlowPersistenceException("Unexpected snapshot delta operation " + operation);
+                }
+            }
+
+            if (position != content.length) {
+                throw new FlowPersistenceException("Snapshot delta produced " + position + " bytes but expected " + content.length);
+            }
+            return content;
+        } catch (final IOException | IndexOutOfBoundsException e) {
+            throw new FlowPersistenceException("Unable to apply snapshot delta", e);
+        }
+    }
+
+    private static void writeInsert(final DataOutputStream out, final byte[] content, final int start, final int end) throws IOException {
+        if (end > start) {
+            out.writeByte(INSERT_OPERATION);
+            out.writeInt(end - start);
+            out.write(content, start, end - start);
+        }
+    }
+
+    private static int hashBlock(final byte[] bytes, final int offset) {
+        int hash = 1;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash;
+    }
+
+    private static void deflate(final byte[] content, final ByteArrayOutputStream out) {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (final DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(out, deflater)) {
+            deflaterOutputStream.write(content);
+        } catch (final IOException e) {
+            throw new FlowPersistenceException("Unable to compress snapshot", e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final InputStream in) throws IOException {
+        try (final InflaterInputStream inflaterInputStream = new InflaterInputStream(in)) {
+            return inflaterInputStream.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.registry.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache of serialized flow snapshot content as returned from the flow persistence provider,
+ * bounded by the total number of cached bytes. Cached arrays are shared and must not be modified by callers.
+ */
+class FlowContentCache {
+
+    private final long maxBytes;
+
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long cachedBytes;
+
+    FlowContentCache(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized byte[] get(final String bucketId, final String flowId, final int version) {
+        return entries.get(new Key(bucketId, flowId, version));
+    }
+
+    synchronized void put(final String bucketId, final String flowId, final int version, final byte[] content) {
+        if (content == null || content.length > maxBytes) {
+            return;
+        }
+
+        final byte[] previous = entries.put(new Key(bucketId, flowId, version), content);
+        if (previous != null) {
+            cachedBytes -= previous.length;
+        }
+        cachedBytes += content.length;
+
+        final Iterator<byte[]> eldest = entries.values().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+
+    synchronized void removeFlow(final String flowId) {
+        final Iterator<Map.Entry<Key, byte[]>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Key, byte[]> entry = iterator.next();
+            if (entry.getKey().flowId().equals(flowId)) {
+                cachedBytes -= entry.getValue().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private record Key(String bucketId, String flowId, int version) {
+    }
+}
@@ -45,6 +45,8 @@ import org.apache.nifi.registry.flow.diff.FlowComparison;
 import org.apache.nifi.registry.flow.diff.FlowDifference;
 import org.apache.nifi.registry.flow.diff.StandardComparableDataFlow;
 import org.apache.nifi.registry.flow.diff.StandardFlowComparator;
+import org.apache.nifi.registry.flow.diff.VersionedProcessGroupHashTree;
+import org.apache.nifi.registry.properties.NiFiRegistryProperties;
 import org.apache.nifi.registry.provider.extension.StandardBundleCoordinate;
 import org.apache.nifi.registry.provider.flow.StandardFlowSnapshotContext;
 import org.apache.nifi.registry.serialization.FlowContent;
@@ -88,18 +90,21 @@ public class RegistryService {
     private final BundlePersistenceProvider bundlePersistenceProvider;
     private final FlowContentSerializer flowContentSerializer;
     private final Validator validator;
+    private final FlowContentCache flowContentCache;
 
     @Autowired
     public RegistryService(final MetadataService metadataService,
                            final FlowPersistenceProvider flowPersistenceProvider,
                            final BundlePersistenceProvider bundlePersistenceProvider,
                            final FlowContentSerializer flowContentSerializer,
-                           final Validator validator) {
+                           final Validator validator,
+                           final NiFiRegistryProperties properties) {
         this.metadataService = Objects.requireNonNull(metadataService);
         this.flowPersistenceProvider = Objects.requireNonNull(flowPersistenceProvider);
         this.bundlePersistenceProvider = Objects.requireNonNull(bundlePersistenceProvider);
         this.flowContentSerializer = Objects.requireNonNull(flowContentSerializer);
         this.validator = Objects.requireNonNull(validator);
+        this.flowContentCache = new FlowContentCache(properties.getFlowContentCacheMaxBytes());
     }
 
     private <T> void validate(T t, String invalidMessage) {
@@ -258,6 +263,7 @@ public class RegistryService {
         // for each flow in the bucket, delete all snapshots from the flow persistence provider
         for (final FlowEntity flowEntity : metadataService.getFlowsByBucket(existingBucket.getId())) {
             flowPersistenceProvider.deleteAllFlowContent(bucketIdentifier, flowEntity.getId());
+            flowContentCache.removeFlow(flowEntity.getId());
         }
 
         // for each bundle in the bucket, delete all versions from the bundle persistence provider
@@ -525,6 +531,7 @@ public class RegistryService {
 
         // delete all snapshots from the flow persistence provider
         flowPersistenceProvider.deleteAllFlowContent(existingFlow.getBucketId(), existingFlow.getId());
+        flowContentCache.removeFlow(existingFlow.getId());
 
         // now delete the flow from the metadata provider
         metadataService.deleteFlow(existingFlow);
@@ -617,7 +624,9 @@ public class RegistryService {
         final Bucket bucket = BucketMappings.map(existingBucket);
         final VersionedFlow versionedFlow = FlowMappings.map(existingBucket, existingFlow);
         final FlowSnapshotContext context = new StandardFlowSnapshotContext.Builder(bucket, versionedFlow, snapshotMetadata).build();
-        flowPersistenceProvider.saveFlowContent(context, out.toByteArray());
+        final byte[] serializedSnapshot = out.toByteArray();
+        flowPersistenceProvider.saveFlowContent(context, serializedSnapshot);
+        flowContentCache.put(context.getBucketId(), context.getFlowId(), context.getVersion(), serializedSnapshot);
 
         // create snapshot in the metadata provider
         metadataService.createFlowSnapshot(FlowMappings.map(snapshotMetadata));
@@ -679,7 +688,7 @@ public class RegistryService {
         }
 
         // get the serialized bytes of the snapshot
-        final byte[] serializedSnapshot = flowPersistenceProvider.getFlowContent(bucketEntity.getId(), flowEntity.getId(), version);
+        final byte[] serializedSnapshot = getFlowContent(bucketEntity.getId(), flowEntity.getId(), version);
 
         if (serializedSnapshot == null || serializedSnapshot.length == 0) {
             throw new IllegalStateException("No serialized content found for snapshot with flow identifier "
@@ -702,6 +711,19 @@ public class RegistryService {
         return snapshot;
     }
 
+    private byte[] getFlowContent(final String bucketIdentifier, final String flowIdentifier, final int version) {
+        final byte[] cachedContent = flowContentCache.get(bucketIdentifier, flowIdentifier, version);
+        if (cachedContent != null) {
+            return cachedContent;
+        }
+
+        final byte[] serializedSnapshot = flowPersistenceProvider.getFlowContent(bucketIdentifier, flowIdentifier, version);
+        if (serializedSnapshot != null && serializedSnapshot.length > 0) {
+            flowContentCache.put(bucketIdentifier, flowIdentifier, version, serializedSnapshot);
+        }
+        return serializedSnapshot;
+    }
+
     private VersionedFlowSnapshot deserializeFlowContent(final InputStream input) {
         // attempt to read the version header from the serialized content
         final int dataModelVersion = flowContentSerializer.readDataModelVersion(input);
@@ -866,6 +888,7 @@ public class RegistryService {
 
         // delete the content of the snapshot
         flowPersistenceProvider.deleteFlowContent(bucketIdentifier, flowIdentifier, version);
+        flowContentCache.removeFlow(flowIdentifier);
 
         // delete the snapshot itself
         metadataService.deleteFlowSnapshot(snapshotEntity);
@@ -899,13 +922,13 @@ public class RegistryService {
         final Integer newer = Math.max(versionA, versionB);
 
         // Get the content for both versions of the flow
-        final byte[] serializedSnapshotA = flowPersistenceProvider.getFlowContent(bucketIdentifier, flowIdentifier, older);
+        final byte[] serializedSnapshotA = getFlowContent(bucketIdentifier, flowIdentifier, older);
         if (serializedSnapshotA == null || serializedSnapshotA.length == 0) {
             throw new IllegalStateException("No serialized content found for snapshot with flow identifier "
                     + flowIdentifier + " and version " + older);
         }
 
-        final byte[] serializedSnapshotB = flowPersistenceProvider.getFlowContent(bucketIdentifier, flowIdentifier, newer);
+        final byte[] serializedSnapshotB = getFlowContent(bucketIdentifier, flowIdentifier, newer);
         if (serializedSnapshotB == null || serializedSnapshotB.length == 0) {
             throw new IllegalStateException("No serialized content found for snapshot with flow identifier "
                     + flowIdentifier + " and version " + newer);
@@ -923,9 +946,12 @@ public class RegistryService {
         final ComparableDataFlow comparableFlowA = new StandardComparableDataFlow(String.format("Version %d", older), flowContentsA);
         final ComparableDataFlow comparableFlowB = new StandardComparableDataFlow(String.format("Version %d", newer), flowContentsB);
 
-        // Compare the two versions of the flow
+        // Compare the two versions of the flow, skipping Process Groups whose contents are the same in both versions
+        final VersionedProcessGroupHashTree hashTreeA = VersionedProcessGroupHashTree.create(flowContentsA);
+        final VersionedProcessGroupHashTree hashTreeB = VersionedProcessGroupHashTree.create(flowContentsB);
         final FlowComparator flowComparator = new StandardFlowComparator(comparableFlowA, comparableFlowB,
-                null, new ConciseEvolvingDifferenceDescriptor(), Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.DEEP);
+                null, new ConciseEvolvingDifferenceDescriptor(), Function.identity(), VersionedComponent::getIdentifier, FlowComparatorVersionedStrategy.DEEP,
+                (groupA, groupB) -> hashTreeA.isSameContent(groupA, hashTreeB, groupB));
         final FlowComparison flowComparison = flowComparator.compare();
 
         final VersionedFlowDifference result = new VersionedFlowDifference();
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.registry.provider.flow;
+
+import org.apache.nifi.registry.flow.FlowPersistenceProvider;
+import org.apache.nifi.registry.flow.FlowSnapshotContext;
+import org.apache.nifi.registry.provider.ProviderConfigurationContext;
+import org.apache.nifi.registry.provider.ProviderCreationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class TestDeltaFileSystemFlowPersistenceProvider {
+
+    private static final String BUCKET_ID = "b0000000-0000-0000-0000-000000000000";
+
+    private static final String FLOW_ID = "f0000000-0000-0000-0000-000000000000";
+
+    private static final int KEYFRAME_INTERVAL = 3;
+
+    @TempDir
+    private Path flowStorageDir;
+
+    private DeltaFileSystemFlowPersistenceProvider provider;
+
+    @BeforeEach
+    public void setup() {
+        provider = createProvider(Integer.toString(KEYFRAME_INTERVAL));
+    }
+
+    @Test
+    public void testSaveAndGetVersions() {
+        final int versions = 7;
+        for (int version = 1; version <= versions; version++) {
+            saveSnapshot(provider, version, createContent(version));
+        }
+
+        for (int version = 1; version <= versions; version++) {
+            assertArrayEquals(createContent(version), provider.getFlowContent(BUCKET_ID, FLOW_ID, version));
+        }
+    }
+
+    @Test
+    public void testDeltaSmallerThanKeyframe() throws IOException {
+        saveSnapshot(provider, 1, createContent(1));
+        saveSnapshot(provider, 2, createContent(2));
+
+        final long keyframeSize = Files.size(provider.getSnapshotFile(BUCKET_ID, FLOW_ID, 1).toPath());
+        final long deltaSize = Files.size(provider.getSnapshotFile(BUCKET_ID, FLOW_ID, 2).toPath());
+        assertTrue(deltaSize < keyframeSize, "Delta size [%d] not smaller than keyframe size [%d]".formatted(deltaSize, keyframeSize));
+    }
+
+    @Test
+    public void testGetLegacySnapshot() {
+        final FileSystemFlowPersistenceProvider legacyProvider = new FileSystemFlowPersistenceProvider();
+        legacyProvider.onConfigured(createConfigurationContext(null));
+        saveSnapshot(legacyProvider, 1, createContent(1));
+
+        saveSnapshot(provider, 2, createContent(2));
+
+        assertArrayEquals(createContent(1), provider.getFlowContent(BUCKET_ID, FLOW_ID, 1));
+        assertArrayEquals(createContent(2), provider.getFlowContent(BUCKET_ID, FLOW_ID, 2));
+    }
+
+    @Test
+    public void testDeleteKeyframe() {
+        saveSnapshot(provider, 1, createContent(1));
+        saveSnapshot(provider, 2, createContent(2));
+        saveSnapshot(provider, 3, createContent(3));
+
+        provider.deleteFlowContent(BUCKET_ID, FLOW_ID, 1);
+
+        assertNull(provider.getFlowContent(BUCKET_ID, FLOW_ID, 1));
+        assertArrayEquals(createContent(2), provider.getFlowContent(BUCKET_ID, FLOW_ID, 2));
+        assertArrayEquals(createContent(3), provider.getFlowContent(BUCKET_ID, FLOW_ID, 3));
+
+        saveSnapshot(provider, 4, createContent(4));
+        assertArrayEquals(createContent(4), provider.getFlowContent(BUCKET_ID, FLOW_ID, 4));
+    }
+
+    @Test
+    public void testDeleteAllFlowContent() {
+        saveSnapshot(provider, 1, createContent(1));
+        saveSnapshot(provider, 2, createContent(2));
+
+        assertNotNull(provider.getFlowContent(BUCKET_ID, FLOW_ID, 2));
+        provider.deleteAllFlowContent(BUCKET_ID, FLOW_ID);
+
+        assertNull(provider.getFlowContent(BUCKET_ID, FLOW_ID, 1));
+        assertNull(provider.getFlowContent(BUCKET_ID, FLOW_ID, 2));
+    }
+
+    @Test
+    public void testComputeAndApplyDelta() {
+        final byte[] base = createContent(1);
+        final byte[] content = "prefix".concat(new String(createContent(5), StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+
+        final byte[] delta = DeltaFileSystemFlowPersistenceProvider.computeDelta(base, content);
+        assertArrayEquals(content, DeltaFileSystemFlowPersistenceProvider.applyDelta(base, delta));
+
+        final byte[] empty = new byte[0];
+        assertArrayEquals(empty, DeltaFileSystemFlowPersistenceProvider.applyDelta(base, DeltaFileSystemFlowPersistenceProvider.computeDelta(base, empty)));
+        assertArrayEquals(content, DeltaFileSystemFlowPersistenceProvider.applyDelta(empty, DeltaFileSystemFlowPersistenceProvider.computeDelta(empty, content)));
+    }
+
+    @Test
+    public void testInvalidKeyframeInterval() {
+        assertThrows(ProviderCreationException.class, () -> createProvider("0"));
+        assertThrows(ProviderCreationException.class, () -> createProvider("ten"));
+    }
+
+    private DeltaFileSystemFlowPersistenceProvider createProvider(final String keyframeInterval) {
+        final DeltaFileSystemFlowPersistenceProvider deltaProvider = new DeltaFileSystemFlowPersistenceProvider();
+        deltaProvider.onConfigured(createConfigurationContext(keyframeInterval));
+        return deltaProvider;
+    }
+
+    private ProviderConfigurationContext createConfigurationContext(final String keyframeInterval) {
+        final File storageDir = flowStorageDir.toFile();
+        if (keyframeInterval == null) {
+            return () -> Map.of(FileSystemFlowPersistenceProvider.FLOW_STORAGE_DIR_PROP, storageDir.getAbsolutePath());
+        }
+        return () -> Map.of(
+                FileSystemFlowPersistenceProvider.FLOW_STORAGE_DIR_PROP, storageDir.getAbsolutePath(),
+                DeltaFileSystemFlowPersistenceProvider.KEYFRAME_INTERVAL_PROP, keyframeInterval
+        );
+    }
+
+    private void saveSnapshot(final FlowPersistenceProvider flowPersistenceProvider, final int version, final byte[] content) {
+        final FlowSnapshotContext context = Mockito.mock(FlowSnapshotContext.class);
+        when(context.getBucketId()).thenReturn(BUCKET_ID);
+        when(context.getFlowId()).thenReturn(FLOW_ID);
+        when(context.getVersion()).thenReturn(version);
+        flowPersistenceProvider.saveFlowContent(context, content);
+    }
+
+    private byte[] createContent(final int version) {
+        final StringBuilder builder = new StringBuilder("{\"flowContents\":{\"processors\":[");
+        for (int i = 0; i < 200; i++) {
+            final int schedule = i == version * 10 ? version : i;
+            builder.append("{\"identifier\":\"processor-").append(i).append("\",\"schedulingPeriod\":\"").append(schedule).append(" sec\"},");
+        }
+        builder.append("{\"identifier\":\"version-").append(version).append("\"}]}}");
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.nifi.registry.flow.FlowPersistenceProvider;
 import org.apache.nifi.registry.flow.VersionedFlow;
 import org.apache.nifi.registry.flow.VersionedFlowSnapshot;
 import org.apache.nifi.registry.flow.VersionedFlowSnapshotMetadata;
+import org.apache.nifi.registry.properties.NiFiRegistryProperties;
 import org.apache.nifi.registry.serialization.FlowContent;
 import org.apache.nifi.registry.serialization.FlowContentSerializer;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +52,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
@@ -58,6 +60,7 @@ import java.util.SortedSet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -91,7 +94,7 @@ public class TestRegistryService {
         validator = validatorFactory.getValidator();
 
         registryService = new RegistryService(metadataService, flowPersistenceProvider, bundlePersistenceProvider,
-            flowContentSerializer, validator);
+            flowContentSerializer, validator, new NiFiRegistryProperties());
     }
 
     // ---------------------- Test Bucket methods ---------------------------------------------
@@ -1272,6 +1275,56 @@ public class TestRegistryService {
         assertNotNull(bucket);
     }
 
+    @Test
+    public void testGetSnapshotContentCached() {
+        final BucketEntity existingBucket = createBucketEntity("b1");
+        final FlowEntity existingFlow = createFlowEntity(existingBucket.getId());
+        final FlowSnapshotEntity existingSnapshot = createFlowSnapshotEntity(existingFlow.getId());
+        mockSnapshotContent(existingBucket, existingFlow, existingSnapshot);
+
+        final VersionedFlowSnapshot firstSnapshot = registryService.getFlowSnapshot(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+        final VersionedFlowSnapshot secondSnapshot = registryService.getFlowSnapshot(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+        assertNotSame(firstSnapshot, secondSnapshot);
+        verify(flowPersistenceProvider, times(1)).getFlowContent(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+
+        // deleting the snapshot removes the cached content
+        registryService.deleteFlowSnapshot(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+        registryService.getFlowSnapshot(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+        verify(flowPersistenceProvider, times(2)).getFlowContent(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+    }
+
+    @Test
+    public void testGetSnapshotContentCacheDisabled() {
+        final NiFiRegistryProperties properties = new NiFiRegistryProperties(Map.of(NiFiRegistryProperties.FLOW_CONTENT_CACHE_MAX_BYTES, "0"));
+        registryService = new RegistryService(metadataService, flowPersistenceProvider, bundlePersistenceProvider,
+            flowContentSerializer, validator, properties);
+
+        final BucketEntity existingBucket = createBucketEntity("b1");
+        final FlowEntity existingFlow = createFlowEntity(existingBucket.getId());
+        final FlowSnapshotEntity existingSnapshot = createFlowSnapshotEntity(existingFlow.getId());
+        mockSnapshotContent(existingBucket, existingFlow, existingSnapshot);
+
+        registryService.getFlowSnapshot(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+        registryService.getFlowSnapshot(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+        verify(flowPersistenceProvider, times(2)).getFlowContent(existingBucket.getId(), existingFlow.getId(), existingSnapshot.getVersion());
+    }
+
+    private void mockSnapshotContent(final BucketEntity existingBucket, final FlowEntity existingFlow, final FlowSnapshotEntity existingSnapshot) {
+
+        when(metadataService.getBucketById(existingBucket.getId())).thenReturn(existingBucket);
+        when(metadataService.getFlowById(existingFlow.getId())).thenReturn(existingFlow);
+        when(metadataService.getFlowByIdWithSnapshotCounts(existingFlow.getId())).thenReturn(existingFlow);
+        when(metadataService.getFlowSnapshot(existingFlow.getId(), existingSnapshot.getVersion())).thenReturn(existingSnapshot);
+        when(flowPersistenceProvider.getFlowContent(existingBucket.getId(), existingSnapshot.getFlowId(), existingSnapshot.getVersion())).thenReturn(new byte[10]);
+
+        when(flowContentSerializer.readDataModelVersion(any(InputStream.class))).thenReturn(3);
+        when(flowContentSerializer.deserializeFlowContent(eq(3), any(InputStream.class))).thenAnswer(invocation -> {
+            final FlowContent flowContent = new FlowContent();
+            flowContent.setFlowSnapshot(createSnapshot());
+            return flowContent;
+        });
+    }
+
     @Test
     public void testDeleteSnapshotDoesNotExist() {
         final String bucketId = "b1";
@@ -121,6 +121,9 @@ public class NiFiRegistryProperties extends ApplicationProperties {
     // Revision Management Properties
     public static final String REVISIONS_ENABLED = "nifi.registry.revisions.enabled";
 
+    // Flow Content Cache Properties
+    public static final String FLOW_CONTENT_CACHE_MAX_BYTES = "nifi.registry.flow.content.cache.max.bytes";
+
     // Defaults
     public static final String DEFAULT_WEB_WORKING_DIR = "./work/jetty";
     public static final String DEFAULT_WEB_HTTPS_APPLICATION_PROTOCOLS = "h2 http/1.1";
@@ -134,6 +137,7 @@ public class NiFiRegistryProperties extends ApplicationProperties {
     public static final String DEFAULT_WEB_SHOULD_SEND_SERVER_VERSION = "true";
     public static final String DEFAULT_SECURITY_USER_OIDC_CONNECT_TIMEOUT = "5 secs";
     public static final String DEFAULT_SECURITY_USER_OIDC_READ_TIMEOUT = "5 secs";
+    public static final long DEFAULT_FLOW_CONTENT_CACHE_MAX_BYTES = 64 * 1024 * 1024;
 
     public NiFiRegistryProperties() {
         this(Collections.EMPTY_MAP);
@@ -344,6 +348,19 @@ public class NiFiRegistryProperties extends ApplicationProperties {
         return Boolean.parseBoolean(getPropertyAsTrimmedString(REVISIONS_ENABLED));
     }
 
+    public long getFlowContentCacheMaxBytes() {
+        final String value = getPropertyAsTrimmedString(FLOW_CONTENT_CACHE_MAX_BYTES);
+        if (value == null) {
+            return DEFAULT_FLOW_CONTENT_CACHE_MAX_BYTES;
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalStateException(String.format("%s must be an integer value.", FLOW_CONTENT_CACHE_MAX_BYTES));
+        }
+    }
+
     // Helper functions for common ways of interpreting property values
 
     private String getPropertyAsTrimmedString(String key) {
@@ -51,6 +51,8 @@ public class PropertiesFileEngineConfigurationParser {
     private static final String READONLY_EXTENSIONS_DIRECTORY = PREFIX + "readonly.extensions.directory.";
     private static final String WORKING_DIRECTORY = PREFIX + "working.directory";
     private static final String CONTENT_REPO_DIRECTORY = PREFIX + "content.repository.directory";
+    private static final String CONTENT_REPO_MEMORY_BUDGET = PREFIX + "content.repository.memory.budget";
+    private static final String CONTENT_REPO_OFF_HEAP = PREFIX + "content.repository.memory.off.heap";
     private static final String STATUS_TASK_INTERVAL = PREFIX + "status.task.interval";
 
     private static final String COMPONENT_ENABLE_TIMEOUT = PREFIX + "component.enableTimeout";
@@ -103,6 +105,8 @@ public class PropertiesFileEngineConfigurationParser {
 
         final String contentRepoDirectoryFilename = properties.getProperty(CONTENT_REPO_DIRECTORY, "");
         final File contentRepoDirectory = contentRepoDirectoryFilename.isEmpty() ? null : new File(contentRepoDirectoryFilename);
+        final String contentRepoMemoryBudget = properties.getProperty(CONTENT_REPO_MEMORY_BUDGET, "").trim();
+        final boolean contentRepoOffHeap = Boolean.parseBoolean(properties.getProperty(CONTENT_REPO_OFF_HEAP, "false"));
 
         final String krb5Filename = properties.getProperty(KRB5_FILE, DEFAULT_KRB5_FILENAME);
         final File krb5File = new File(krb5Filename);
@@ -148,6 +152,16 @@ public class PropertiesFileEngineConfigurationParser {
                 return Optional.ofNullable(contentRepoDirectory);
             }
 
+            @Override
+            public String getContentRepositoryMemoryBudget() {
+                return contentRepoMemoryBudget.isEmpty() ? null : contentRepoMemoryBudget;
+            }
+
+            @Override
+            public boolean isContentRepositoryOffHeap() {
+                return contentRepoOffHeap;
+            }
+
             @Override
             public SslContextDefinition getSslContext() {
                 return sslContextDefinition;
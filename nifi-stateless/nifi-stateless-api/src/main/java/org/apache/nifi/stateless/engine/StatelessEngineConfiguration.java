@@ -58,6 +58,23 @@ public interface StatelessEngineConfiguration {
      */
     Optional<File> getContentRepositoryDirectory();
 
+    /**
+     * @return a String representing the maximum amount of FlowFile Content to hold in memory before spilling content to disk (e.g., 256 MB),
+     * or <code>null</code> if content is to be held entirely in memory or entirely on disk, as determined by {@link #getContentRepositoryDirectory()}.
+     * When specified, content that does not fit within the budget is written to the Content Repository Directory, if configured, or otherwise to the Working Directory.
+     */
+    default String getContentRepositoryMemoryBudget() {
+        return null;
+    }
+
+    /**
+     * @return <code>true</code> if content held in memory according to {@link #getContentRepositoryMemoryBudget()} should be allocated outside of the heap,
+     * <code>false</code> if it should be allocated on the heap
+     */
+    default boolean isContentRepositoryOffHeap() {
+        return false;
+    }
+
     /**
      * @return the definition needed to create an SSL Context that can be used for interacting with a Nexus Repository or retrieving a flow from the Flow Registry, etc.
      * This SSL Context will NOT be made available to extensions running in the dataflow.
@@ -43,4 +43,14 @@ public interface DataflowDefinition {
     List<ParameterValueProviderDefinition> getParameterValueProviderDefinitions();
 
     TransactionThresholds getTransactionThresholds();
+
+    /**
+     * Indicates whether each component with incoming connections should be triggered by its own thread, allowing the components
+     * of the dataflow to process data concurrently within a single invocation, rather than triggering all components from a single thread
+     *
+     * @return <code>true</code> if the dataflow should be executed in a pipelined manner, <code>false</code> otherwise
+     */
+    default boolean isPipelinedExecution() {
+        return false;
+    }
 }
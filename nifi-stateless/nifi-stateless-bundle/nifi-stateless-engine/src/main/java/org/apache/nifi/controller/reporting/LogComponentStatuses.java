@@ -20,10 +20,12 @@ package org.apache.nifi.controller.reporting;
 import org.apache.nifi.controller.Counter;
 import org.apache.nifi.controller.ProcessorNode;
 import org.apache.nifi.controller.flow.FlowManager;
+import org.apache.nifi.controller.repository.ContentRepository;
 import org.apache.nifi.controller.repository.CounterRepository;
 import org.apache.nifi.controller.repository.FlowFileEvent;
 import org.apache.nifi.controller.repository.FlowFileEventRepository;
 import org.apache.nifi.groups.ProcessGroup;
+import org.apache.nifi.stateless.repository.SpillableContentRepository;
 import org.apache.nifi.util.FormatUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +45,7 @@ public class LogComponentStatuses implements Runnable {
 
     private final FlowFileEventRepository flowFileEventRepository;
     private final CounterRepository counterRepository;
+    private final ContentRepository contentRepository;
     private final FlowManager flowManager;
 
     private final String processorHeader;
@@ -53,9 +56,11 @@ public class LogComponentStatuses implements Runnable {
     private final Map<String, Long> previousCounterValues = new ConcurrentHashMap<>();
     private volatile long lastTriggerTime = System.currentTimeMillis();
 
-    public LogComponentStatuses(final FlowFileEventRepository flowFileEventRepository, final CounterRepository counterRepository, final FlowManager flowManager) {
+    public LogComponentStatuses(final FlowFileEventRepository flowFileEventRepository, final CounterRepository counterRepository, final ContentRepository contentRepository,
+                                final FlowManager flowManager) {
         this.flowFileEventRepository = flowFileEventRepository;
         this.counterRepository = counterRepository;
+        this.contentRepository = contentRepository;
         this.flowManager = flowManager;
 
         processorHeader = String.format(PROCESSOR_LINE_FORMAT, "Processor Name", "Processor ID", "Processor Type", "Bytes Read/sec", "Bytes Written/sec", "Tasks/sec", "Nanos/Task",
@@ -83,6 +88,7 @@ public class LogComponentStatuses implements Runnable {
 
             logFlowFileEvents();
             logCounters();
+            logContentRepository();
         } catch (final Exception e) {
             logger.error("Failed to log component statuses", e);
         }
@@ -185,6 +191,17 @@ public class LogComponentStatuses implements Runnable {
         logger.info(builder.toString());
     }
 
+    private void logContentRepository() {
+        if (!(contentRepository instanceof SpillableContentRepository spillableContentRepository)) {
+            return;
+        }
+
+        final String spillRate = String.format("%.2f %%", spillableContentRepository.getSpillRate() * 100D);
+        logger.info("Content Repository: Memory Used [{}] Claims Written [{}] Claims Spilled [{}] Bytes Spilled [{}] Spill Rate [{}]",
+            FormatUtils.formatDataSize(spillableContentRepository.getMemoryUsed()), spillableContentRepository.getClaimsWritten(),
+            spillableContentRepository.getClaimsSpilled(), FormatUtils.formatDataSize(spillableContentRepository.getBytesSpilled()), spillRate);
+    }
+
     private static class ProcessorAndEvent {
         private final ProcessorNode processorNode;
         private final FlowFileEvent event;
@@ -98,6 +98,7 @@ public class PropertiesFileFlowDefinitionParser implements DataflowDefinitionPar
     private static final String TRANSACTION_THRESHOLD_FLOWFILES = "nifi.stateless.transaction.thresholds.flowfiles";
     private static final String TRANSACTION_THRESHOLD_DATA_SIZE = "nifi.stateless.transaction.thresholds.bytes";
     private static final String TRANSACTION_THRESHOLD_TIME = "nifi.stateless.transaction.thresholds.time";
+    private static final String PIPELINED_EXECUTION = "nifi.stateless.execution.pipelined";
 
 
     public DataflowDefinition parseFlowDefinition(final File propertiesFile, final StatelessEngineConfiguration engineConfig, final List<ParameterOverride> parameterOverrides)
@@ -122,6 +123,7 @@ public class PropertiesFileFlowDefinitionParser implements DataflowDefinitionPar
         final List<ReportingTaskDefinition> reportingTaskDefinitions = getReportingTasks(properties);
         final List<ParameterValueProviderDefinition> parameterValueProviderDefinitions = getParameterValueProviders(properties, parameterOverrides);
         final TransactionThresholds transactionThresholds = getTransactionThresholds(properties);
+        final boolean pipelinedExecution = Boolean.parseBoolean(properties.get(PIPELINED_EXECUTION));
 
         final String flowName = properties.getOrDefault(FLOW_NAME, externalFlow.getMetadata().getFlowName());
 
@@ -132,6 +134,7 @@ public class PropertiesFileFlowDefinitionParser implements DataflowDefinitionPar
             .reportingTasks(reportingTaskDefinitions)
             .parameterValueProviders(parameterValueProviderDefinitions)
             .transactionThresholds(transactionThresholds)
+            .pipelinedExecution(pipelinedExecution)
             .build();
     }
 
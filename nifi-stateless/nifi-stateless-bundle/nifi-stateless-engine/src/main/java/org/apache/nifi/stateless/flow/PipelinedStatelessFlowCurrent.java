@@ -0,0 +1,611 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.stateless.flow;
+
+import org.apache.nifi.connectable.Connectable;
+import org.apache.nifi.connectable.Connection;
+import org.apache.nifi.connectable.ConnectionUtils;
+import org.apache.nifi.connectable.ConnectionUtils.FlowFileCloneResult;
+import org.apache.nifi.connectable.Port;
+import org.apache.nifi.controller.repository.FlowFileRecord;
+import org.apache.nifi.controller.repository.metrics.StandardFlowFileEvent;
+import org.apache.nifi.controller.scheduling.LifecycleState;
+import org.apache.nifi.controller.scheduling.LifecycleStateManager;
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.groups.ProcessGroup;
+import org.apache.nifi.processor.ProcessContext;
+import org.apache.nifi.processor.ProcessSessionFactory;
+import org.apache.nifi.processor.exception.TerminatedTaskException;
+import org.apache.nifi.stateless.engine.ExecutionProgress;
+import org.apache.nifi.stateless.engine.ProcessContextFactory;
+import org.apache.nifi.stateless.repository.RepositoryContextFactory;
+import org.apache.nifi.stateless.session.AsynchronousCommitTracker;
+import org.apache.nifi.stateless.session.PipelinedCommitTracker;
+import org.apache.nifi.stateless.session.StatelessProcessSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * StatelessFlowCurrent that triggers each component having incoming Connections from a dedicated stage running in its own thread,
+ * while the calling thread triggers the source components. Stages exchange FlowFiles through the internal FlowFile Queues, allowing
+ * each component to process data concurrently with the components before and after it. Sessions are committed asynchronously as
+ * with the standard current, so the success callbacks for the entire invocation are triggered only once all data has been processed.
+ * Source components commit while stages are still running, so the callbacks registered by stages are held separately and placed ahead
+ * of the source callbacks once the stages complete, ensuring that every downstream callback is triggered before any source callback.
+ * Synchronous commits wait for downstream stages to process the committed FlowFiles instead of triggering the downstream components directly.
+ */
+public class PipelinedStatelessFlowCurrent implements StatelessFlowCurrent {
+    private static final Logger logger = LoggerFactory.getLogger(PipelinedStatelessFlowCurrent.class);
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final TransactionThresholdMeter transactionThresholdMeter;
+    private final AsynchronousCommitTracker tracker;
+    private final ExecutionProgress executionProgress;
+    private final Set<Connectable> rootConnectables;
+    private final FlowFileSupplier flowFileSupplier;
+    private final Collection<Port> inputPorts;
+    private final RepositoryContextFactory repositoryContextFactory;
+    private final ProcessContextFactory processContextFactory;
+    private final LifecycleStateManager lifecycleStateManager;
+    private final ProcessGroup rootGroup;
+    private final ExecutorService stageExecutor;
+
+    private final Map<Connectable, Stage> stages = new LinkedHashMap<>();
+    private final Map<Connectable, List<Stage>> downstreamStages = new ConcurrentHashMap<>();
+    private final PipelinedCommitTracker sourceTracker;
+    private final AsynchronousCommitTracker downstreamCallbackTracker;
+    private final AtomicInteger activeStages = new AtomicInteger(0);
+    private final AtomicLong completedTriggers = new AtomicLong(0L);
+    private final AtomicReference<Throwable> stageFailure = new AtomicReference<>();
+    private volatile boolean running = false;
+
+    private PipelinedStatelessFlowCurrent(final Builder builder) {
+        this.transactionThresholdMeter = builder.transactionThresholdMeter;
+        this.tracker = builder.tracker;
+        this.executionProgress = builder.executionProgress;
+        this.rootConnectables = builder.rootConnectables;
+        this.flowFileSupplier = builder.flowFileSupplier;
+        this.inputPorts = builder.inputPorts;
+        this.repositoryContextFactory = builder.repositoryContextFactory;
+        this.processContextFactory = builder.processContextFactory;
+        this.lifecycleStateManager = builder.lifecycleStateManager;
+        this.rootGroup = builder.rootGroup;
+        this.stageExecutor = builder.stageExecutor;
+
+        this.downstreamCallbackTracker = new AsynchronousCommitTracker(rootGroup);
+        this.sourceTracker = createCommitTracker(tracker);
+        for (final Connection connection : rootGroup.findAllConnections()) {
+            final Connectable destination = connection.getDestination();
+            if (!isTerminal(destination)) {
+                stages.computeIfAbsent(destination, Stage::new);
+            }
+        }
+    }
+
+    @Override
+    public void triggerFlow() {
+        running = true;
+        final List<Future<?>> stageFutures = new ArrayList<>(stages.size());
+        try {
+            try {
+                for (final Stage stage : stages.values()) {
+                    stageFutures.add(stageExecutor.submit(stage));
+                }
+
+                triggerSources();
+            } finally {
+                running = false;
+                awaitStages(stageFutures);
+                // Callbacks of downstream components are triggered first, so that a failure prevents success callbacks of any source component
+                tracker.addCallbacks(downstreamCallbackTracker);
+            }
+        } catch (final Throwable t) {
+            executionProgress.notifyExecutionFailed(t);
+            tracker.triggerFailureCallbacks(t);
+            throw t;
+        }
+    }
+
+    private void triggerSources() {
+        while (true) {
+            if (isCanceledOrFailed()) {
+                return;
+            }
+
+            final boolean thresholdMet = transactionThresholdMeter.isThresholdMet();
+            final boolean sourceProgress = triggerRootConnectables(thresholdMet);
+
+            // Continue bringing data into the flow while the stages process data already brought in
+            if (sourceProgress && !thresholdMet) {
+                continue;
+            }
+
+            final boolean flowEmpty = awaitStagesSettled();
+            if (flowEmpty || isCanceledOrFailed()) {
+                return;
+            }
+
+            // Stages are unable to make progress with the data queued, so trigger source components again, as the standard current does
+            if (!sourceProgress) {
+                LockSupport.parkNanos(MAX_PARK_NANOS);
+            }
+        }
+    }
+
+    private boolean isCanceledOrFailed() {
+        final Throwable failure = stageFailure.get();
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (failure instanceof Error error) {
+            throw error;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+
+        if (executionProgress.isCanceled()) {
+            logger.info("Dataflow was canceled so will not trigger any more components");
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Waits until every stage is either idle or unable to make progress with the data that it has queued
+     *
+     * @return <code>true</code> if all FlowFiles have completed processing, <code>false</code> if data remains queued
+     */
+    private boolean awaitStagesSettled() {
+        long parkNanos = MIN_PARK_NANOS;
+        while (!isCanceledOrFailed()) {
+            final long triggers = completedTriggers.get();
+            if (activeStages.get() == 0 && isFlowQueueEmpty() && completedTriggers.get() == triggers) {
+                return true;
+            }
+
+            if (isEveryStageStalled()) {
+                return isFlowQueueEmpty();
+            }
+
+            LockSupport.parkNanos(parkNanos);
+            parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+        }
+
+        return false;
+    }
+
+    private boolean isEveryStageStalled() {
+        for (final Stage stage : stages.values()) {
+            if (!stage.stalled) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isFlowQueueEmpty() {
+        if (executionProgress.isDataQueued()) {
+            return false;
+        }
+
+        for (final Connectable rootConnectable : rootConnectables) {
+            for (final Connection connection : rootConnectable.getIncomingConnections()) {
+                if (connection.getFlowFileQueue().isUnacknowledgedFlowFile()) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean triggerRootConnectables(final boolean transactionThresholdsMet) {
+        if (!transactionThresholdsMet && triggerFlowFileSupplier()) {
+            return true;
+        }
+
+        // If we weren't able to pull in any FlowFiles from outside the Stateless Flow, go ahead and trigger the root connectables.
+        boolean progress = false;
+        for (final Connectable connectable : rootConnectables) {
+            if (!transactionThresholdsMet || connectable.hasIncomingConnection()) {
+                progress |= triggerRootConnectable(connectable);
+            }
+        }
+
+        return progress;
+    }
+
+    private boolean triggerFlowFileSupplier() {
+        if (flowFileSupplier == null) {
+            return false;
+        }
+
+        boolean flowFileSupplied = false;
+        for (final Port inputPort : inputPorts) {
+            final Set<Connection> outputConnections = inputPort.getConnections();
+            if (outputConnections.isEmpty()) {
+                continue;
+            }
+
+            final Optional<FlowFile> flowFileOptional = flowFileSupplier.getFlowFile(inputPort.getName());
+            if (flowFileOptional.isEmpty()) {
+                continue;
+            }
+
+            flowFileSupplied = true;
+
+            final FlowFileRecord flowFile = (FlowFileRecord) flowFileOptional.get();
+            final FlowFileCloneResult cloneResult = ConnectionUtils.clone(flowFile, outputConnections,
+                repositoryContextFactory.getFlowFileRepository(), repositoryContextFactory.getContentRepository());
+
+            cloneResult.distributeFlowFiles();
+        }
+
+        return flowFileSupplied;
+    }
+
+    private boolean triggerRootConnectable(final Connectable connectable) {
+        final LifecycleState lifecycleState = lifecycleStateManager.getOrRegisterLifecycleState(connectable.getIdentifier(), true, false);
+
+        sourceTracker.resetProgress();
+
+        final StatelessProcessSessionFactory statelessSessionFactory = new StatelessProcessSessionFactory(connectable, repositoryContextFactory, processContextFactory,
+            executionProgress, false, sourceTracker);
+
+        // A root component with incoming Connections also has a stage, so ensure that the component is not triggered by both concurrently
+        final Stage stage = stages.get(connectable);
+        if (stage != null) {
+            stage.lock.lock();
+        }
+
+        lifecycleState.incrementActiveThreadCount(null);
+        try {
+            trigger(connectable, statelessSessionFactory);
+        } finally {
+            lifecycleState.decrementActiveThreadCount();
+            if (stage != null) {
+                stage.lock.unlock();
+            }
+        }
+
+        // Keep track of the output of the source component so that we can determine whether or not we've reached our transaction threshold.
+        transactionThresholdMeter.incrementFlowFiles(sourceTracker.getFlowFilesProduced());
+        transactionThresholdMeter.incrementBytes(sourceTracker.getBytesProduced());
+        return sourceTracker.isProgress();
+    }
+
+    private void trigger(final Connectable connectable, final ProcessSessionFactory sessionFactory) {
+        final ProcessContext processContext = processContextFactory.createProcessContext(connectable);
+
+        final long start = System.nanoTime();
+
+        // Trigger component
+        logger.debug("Triggering {}", connectable);
+        connectable.onTrigger(processContext, sessionFactory);
+
+        final long processingNanos = System.nanoTime() - start;
+        registerProcessEvent(connectable, processingNanos);
+    }
+
+    private void registerProcessEvent(final Connectable connectable, final long processingNanos) {
+        try {
+            final StandardFlowFileEvent procEvent = new StandardFlowFileEvent();
+            procEvent.setProcessingNanos(processingNanos);
+            procEvent.setInvocations(1);
+            repositoryContextFactory.getFlowFileEventRepository().updateRepository(procEvent, connectable.getIdentifier());
+        } catch (final IOException e) {
+            logger.error("Unable to update FlowFileEvent Repository for {}; statistics may be inaccurate. Reason for failure: {}", connectable.getRunnableComponent(), e, e);
+        }
+    }
+
+    private PipelinedCommitTracker createCommitTracker(final AsynchronousCommitTracker callbackTracker) {
+        return new PipelinedCommitTracker(rootGroup, callbackTracker, this::awaitDownstreamCompletion);
+    }
+
+    /**
+     * Waits until the stages downstream of the given Connectable have processed all FlowFiles queued for them. Stages that are themselves
+     * waiting on downstream completion are not considered, which avoids deadlock when components form a loop.
+     *
+     * @param connectable the Connectable whose session was committed synchronously
+     */
+    private void awaitDownstreamCompletion(final Connectable connectable) {
+        final List<Stage> downstream = downstreamStages.computeIfAbsent(connectable, this::findDownstreamStages);
+        final Stage committingStage = stages.get(connectable);
+        if (committingStage != null) {
+            committingStage.awaitingDownstream = true;
+        }
+
+        try {
+            long parkNanos = MIN_PARK_NANOS;
+            while (!isDownstreamComplete(downstream)) {
+                if (isCanceledOrFailed()) {
+                    throw new TerminatedTaskException();
+                }
+
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+            }
+        } finally {
+            if (committingStage != null) {
+                committingStage.awaitingDownstream = false;
+            }
+        }
+    }
+
+    private boolean isDownstreamComplete(final List<Stage> downstream) {
+        for (final Stage stage : downstream) {
+            if (stage.awaitingDownstream) {
+                continue;
+            }
+
+            if (stage.active || stage.isDataQueued()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private List<Stage> findDownstreamStages(final Connectable connectable) {
+        final Set<Connectable> visited = new HashSet<>();
+        final Queue<Connectable> toVisit = new ArrayDeque<>();
+        toVisit.add(connectable);
+
+        final List<Stage> downstream = new ArrayList<>();
+        Connectable current;
+        while ((current = toVisit.poll()) != null) {
+            for (final Connection connection : current.getConnections()) {
+                final Connectable destination = connection.getDestination();
+                if (destination == connectable || !visited.add(destination)) {
+                    continue;
+                }
+
+                final Stage stage = stages.get(destination);
+                if (stage != null) {
+                    downstream.add(stage);
+                    toVisit.add(destination);
+                }
+            }
+        }
+
+        return downstream;
+    }
+
+    private boolean isTerminal(final Connectable connectable) {
+        return executionProgress.isTerminalPort(connectable) || StandardStatelessFlow.isTerminalPort(connectable);
+    }
+
+    private void awaitStages(final List<Future<?>> stageFutures) {
+        for (final Future<?> future : stageFutures) {
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while waiting for pipeline stages to complete");
+                return;
+            } catch (final ExecutionException e) {
+                logger.error("Pipeline stage failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * A stage continually triggers a single component as long as the component has data queued
+     */
+    private class Stage implements Runnable {
+        private final Connectable connectable;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean active = false;
+        private volatile boolean stalled = true;
+        private volatile boolean awaitingDownstream = false;
+
+        private Stage(final Connectable connectable) {
+            this.connectable = connectable;
+        }
+
+        @Override
+        public void run() {
+            final LifecycleState lifecycleState = lifecycleStateManager.getOrRegisterLifecycleState(connectable.getIdentifier(), true, false);
+            final PipelinedCommitTracker stageTracker = createCommitTracker(downstreamCallbackTracker);
+            final StatelessProcessSessionFactory sessionFactory = new StatelessProcessSessionFactory(connectable, repositoryContextFactory, processContextFactory,
+                executionProgress, false, stageTracker);
+
+            long parkNanos = MIN_PARK_NANOS;
+            try {
+                while (running && !executionProgress.isCanceled()) {
+                    if (!isTriggerable()) {
+                        stalled = true;
+                        LockSupport.parkNanos(parkNanos);
+                        parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+                        continue;
+                    }
+
+                    final boolean progressed = triggerStage(lifecycleState, stageTracker, sessionFactory);
+                    if (progressed) {
+                        stalled = false;
+                        parkNanos = MIN_PARK_NANOS;
+                    } else {
+                        // The component has data queued but is unable to make progress, such as a Batch Output Port waiting for its Process Group
+                        stalled = true;
+                        LockSupport.parkNanos(parkNanos);
+                        parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+                    }
+                }
+            } catch (final Throwable t) {
+                logger.error("Failed to trigger {} in pipelined dataflow", connectable, t);
+                stageFailure.compareAndSet(null, t);
+            } finally {
+                stalled = true;
+            }
+        }
+
+        private boolean triggerStage(final LifecycleState lifecycleState, final PipelinedCommitTracker stageTracker, final StatelessProcessSessionFactory sessionFactory) {
+            lock.lock();
+            active = true;
+            activeStages.incrementAndGet();
+            lifecycleState.incrementActiveThreadCount(null);
+            try {
+                stageTracker.resetProgress();
+                trigger(connectable, sessionFactory);
+                return stageTracker.isProgress();
+            } finally {
+                lifecycleState.decrementActiveThreadCount();
+                completedTriggers.incrementAndGet();
+                activeStages.decrementAndGet();
+                active = false;
+                lock.unlock();
+            }
+        }
+
+        private boolean isTriggerable() {
+            for (final Connection incoming : connectable.getIncomingConnections()) {
+                if (!incoming.getFlowFileQueue().isActiveQueueEmpty()) {
+                    return true;
+                }
+            }
+
+            return connectable.isTriggerWhenEmpty() && isDataHeld();
+        }
+
+        private boolean isDataHeld() {
+            for (final Connection incoming : connectable.getIncomingConnections()) {
+                if (incoming.getFlowFileQueue().isUnacknowledgedFlowFile()) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private boolean isDataQueued() {
+            for (final Connection incoming : connectable.getIncomingConnections()) {
+                if (!incoming.getFlowFileQueue().isEmpty()) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    public static class Builder {
+        private TransactionThresholdMeter transactionThresholdMeter;
+        private AsynchronousCommitTracker tracker;
+        private ExecutionProgress executionProgress;
+        private Set<Connectable> rootConnectables;
+        private Collection<Port> inputPorts;
+        private FlowFileSupplier flowFileSupplier = null;
+        private RepositoryContextFactory repositoryContextFactory;
+        private ProcessContextFactory processContextFactory;
+        private LifecycleStateManager lifecycleStateManager;
+        private ProcessGroup rootGroup;
+        private ExecutorService stageExecutor;
+
+        public PipelinedStatelessFlowCurrent build() {
+            Objects.requireNonNull(transactionThresholdMeter, "Transaction Threshold Meter must be set");
+            Objects.requireNonNull(tracker, "Commit Tracker must be set");
+            Objects.requireNonNull(executionProgress, "Execution Progress must be set");
+            Objects.requireNonNull(rootConnectables, "Root Conectables must be set");
+            Objects.requireNonNull(repositoryContextFactory, "Repository Context Factory must be set");
+            Objects.requireNonNull(processContextFactory, "Process Context Factory must be set");
+            Objects.requireNonNull(rootGroup, "Root Group must be set");
+            Objects.requireNonNull(stageExecutor, "Stage Executor must be set");
+
+            return new PipelinedStatelessFlowCurrent(this);
+        }
+
+        public Builder transactionThresholdMeter(final TransactionThresholdMeter transactionThresholdMeter) {
+            this.transactionThresholdMeter = transactionThresholdMeter;
+            return this;
+        }
+
+        public Builder lifecycleStateManager(final LifecycleStateManager lifecycleStateManager) {
+            this.lifecycleStateManager = lifecycleStateManager;
+            return this;
+        }
+
+        public Builder commitTracker(final AsynchronousCommitTracker commitTracker) {
+            this.tracker = commitTracker;
+            return this;
+        }
+
+        public Builder executionProgress(final ExecutionProgress executionProgress) {
+            this.executionProgress = executionProgress;
+            return this;
+        }
+
+        public Builder rootConnectables(final Set<Connectable> rootConnectables) {
+            this.rootConnectables = rootConnectables;
+            return this;
+        }
+
+        public Builder flowFileSupplier(final FlowFileSupplier flowFileSupplier) {
+            this.flowFileSupplier = flowFileSupplier;
+            return this;
+        }
+
+        public Builder inputPorts(final Collection<Port> inputPorts) {
+            this.inputPorts = inputPorts;
+            return this;
+        }
+
+        public Builder repositoryContextFactory(final RepositoryContextFactory repositoryContextFactory) {
+            this.repositoryContextFactory = repositoryContextFactory;
+            return this;
+        }
+
+        public Builder processContextFactory(final ProcessContextFactory processContextFactory) {
+            this.processContextFactory = processContextFactory;
+            return this;
+        }
+
+        public Builder rootGroup(final ProcessGroup rootGroup) {
+            this.rootGroup = rootGroup;
+            return this;
+        }
+
+        public Builder stageExecutor(final ExecutorService stageExecutor) {
+            this.stageExecutor = stageExecutor;
+            return this;
+        }
+    }
+}
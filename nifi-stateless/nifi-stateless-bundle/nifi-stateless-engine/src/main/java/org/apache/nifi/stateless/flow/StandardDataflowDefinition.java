@@ -42,6 +42,7 @@ public class StandardDataflowDefinition implements DataflowDefinition {
     private final List<ReportingTaskDefinition> reportingTaskDefinitions;
     private final List<ParameterValueProviderDefinition> parameterValueProviderDefinitions;
     private final TransactionThresholds transactionThresholds;
+    private final boolean pipelinedExecution;
 
     private StandardDataflowDefinition(final Builder builder) {
         versionedExternalFlow = requireNonNull(builder.versionedExternalFlow, "Flow Snapshot must be provided");
@@ -50,6 +51,7 @@ public class StandardDataflowDefinition implements DataflowDefinition {
         reportingTaskDefinitions = builder.reportingTaskDefinitions == null ? Collections.emptyList() : builder.reportingTaskDefinitions;
         transactionThresholds = builder.transactionThresholds == null ? TransactionThresholds.SINGLE_FLOWFILE : builder.transactionThresholds;
         parameterValueProviderDefinitions = builder.parameterValueProviderDefinitions == null ? Collections.emptyList() : builder.parameterValueProviderDefinitions;
+        pipelinedExecution = builder.pipelinedExecution;
     }
 
     @Override
@@ -101,6 +103,11 @@ public class StandardDataflowDefinition implements DataflowDefinition {
         return transactionThresholds;
     }
 
+    @Override
+    public boolean isPipelinedExecution() {
+        return pipelinedExecution;
+    }
+
     public Set<Bundle> getReferencedBundles() {
         final Set<Bundle> referenced = new HashSet<>();
         final VersionedProcessGroup rootGroup = versionedExternalFlow.getFlowContents();
@@ -129,6 +136,7 @@ public class StandardDataflowDefinition implements DataflowDefinition {
         private List<ReportingTaskDefinition> reportingTaskDefinitions;
         private List<ParameterValueProviderDefinition> parameterValueProviderDefinitions;
         private TransactionThresholds transactionThresholds;
+        private boolean pipelinedExecution;
 
         public Builder versionedExternalFlow(final VersionedExternalFlow versionedExternalFlow) {
             this.versionedExternalFlow = versionedExternalFlow;
@@ -160,6 +168,11 @@ public class StandardDataflowDefinition implements DataflowDefinition {
             return this;
         }
 
+        public Builder pipelinedExecution(final boolean pipelinedExecution) {
+            this.pipelinedExecution = pipelinedExecution;
+            return this;
+        }
+
         public StandardDataflowDefinition build() {
             return new StandardDataflowDefinition(this);
         }
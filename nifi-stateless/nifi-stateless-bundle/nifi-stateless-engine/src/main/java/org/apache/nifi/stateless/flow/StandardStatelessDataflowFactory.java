@@ -48,6 +48,7 @@ import org.apache.nifi.nar.ExtensionDiscoveringManager;
 import org.apache.nifi.nar.NarClassLoaders;
 import org.apache.nifi.parameter.ParameterContextManager;
 import org.apache.nifi.parameter.StandardParameterContextManager;
+import org.apache.nifi.processor.DataUnit;
 import org.apache.nifi.provenance.IdentifierLookup;
 import org.apache.nifi.provenance.ProvenanceRepository;
 import org.apache.nifi.python.DisabledPythonBridge;
@@ -72,6 +73,7 @@ import org.apache.nifi.stateless.engine.StatelessProcessContextFactory;
 import org.apache.nifi.stateless.engine.StatelessProvenanceAuthorizableFactory;
 import org.apache.nifi.stateless.repository.ByteArrayContentRepository;
 import org.apache.nifi.stateless.repository.RepositoryContextFactory;
+import org.apache.nifi.stateless.repository.SpillableContentRepository;
 import org.apache.nifi.stateless.repository.StatelessFileSystemContentRepository;
 import org.apache.nifi.stateless.repository.StatelessFlowFileRepository;
 import org.apache.nifi.stateless.repository.StatelessProvenanceRepository;
@@ -304,7 +306,12 @@ public class StandardStatelessDataflowFactory implements StatelessDataflowFactor
 
     private ContentRepository createContentRepository(final StatelessEngineConfiguration engineConfiguration) {
         final Optional<File> contentRepoStorageDirectory = engineConfiguration.getContentRepositoryDirectory();
-        if (contentRepoStorageDirectory.isPresent()) {
+        final String memoryBudget = engineConfiguration.getContentRepositoryMemoryBudget();
+        if (memoryBudget != null) {
+            final long memoryBudgetBytes = DataUnit.parseDataSize(memoryBudget, DataUnit.B).longValue();
+            final File spillDirectory = contentRepoStorageDirectory.orElseGet(() -> new File(engineConfiguration.getWorkingDirectory(), "content-spill"));
+            return new SpillableContentRepository(spillDirectory, memoryBudgetBytes, engineConfiguration.isContentRepositoryOffHeap());
+        } else if (contentRepoStorageDirectory.isPresent()) {
             return new StatelessFileSystemContentRepository(contentRepoStorageDirectory.get());
         } else {
             return new ByteArrayContentRepository();
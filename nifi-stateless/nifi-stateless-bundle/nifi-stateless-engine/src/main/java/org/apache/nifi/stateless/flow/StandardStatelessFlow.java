@@ -125,6 +125,7 @@ public class StandardStatelessFlow implements StatelessDataflow {
     private final List<Port> inputPorts;
 
     private volatile ExecutorService runDataflowExecutor;
+    private volatile ExecutorService pipelineStageExecutor;
     private volatile ScheduledExecutorService backgroundTaskExecutor;
     private volatile boolean initialized = false;
     private volatile Boolean stateful = null;
@@ -277,6 +278,9 @@ public class StandardStatelessFlow implements StatelessDataflow {
             final String flowName = dataflowDefinition.getFlowName();
             final String threadName = (flowName == null || flowName.trim().isEmpty()) ? "Run Dataflow" : "Run Dataflow " + flowName;
             runDataflowExecutor = Executors.newFixedThreadPool(1, createNamedThreadFactory(threadName, false));
+            if (dataflowDefinition.isPipelinedExecution()) {
+                pipelineStageExecutor = Executors.newCachedThreadPool(createNamedThreadFactory(threadName + " Pipeline Stage", false));
+            }
 
             // Periodically log component statuses
             backgroundTaskExecutor = Executors.newScheduledThreadPool(1, createNamedThreadFactory("Background Tasks", true));
@@ -288,6 +292,10 @@ public class StandardStatelessFlow implements StatelessDataflow {
                 runDataflowExecutor.shutdownNow();
             }
 
+            if (pipelineStageExecutor != null) {
+                pipelineStageExecutor.shutdownNow();
+            }
+
             if (backgroundTaskExecutor != null) {
                 backgroundTaskExecutor.shutdownNow();
             }
@@ -365,6 +373,13 @@ public class StandardStatelessFlow implements StatelessDataflow {
                 runDataflowExecutor.shutdown();
             }
         }
+        if (pipelineStageExecutor != null) {
+            if (interruptProcessors) {
+                pipelineStageExecutor.shutdownNow();
+            } else {
+                pipelineStageExecutor.shutdown();
+            }
+        }
         if (backgroundTaskExecutor != null) {
             backgroundTaskExecutor.shutdown();
         }
@@ -541,17 +556,7 @@ public class StandardStatelessFlow implements StatelessDataflow {
         final long startNanos = System.nanoTime();
         transactionThresholdMeter.reset();
 
-        final StatelessFlowCurrent current = new StandardStatelessFlowCurrent.Builder()
-            .commitTracker(tracker)
-            .executionProgress(executionProgress)
-            .processContextFactory(processContextFactory)
-            .repositoryContextFactory(repositoryContextFactory)
-            .rootConnectables(rootConnectables)
-            .flowFileSupplier(flowFileSupplier)
-            .inputPorts(inputPorts)
-            .transactionThresholdMeter(transactionThresholdMeter)
-            .lifecycleStateManager(lifecycleStateManager)
-            .build();
+        final StatelessFlowCurrent current = createFlowCurrent(executionProgress, tracker, flowFileSupplier);
 
         final Runnable logCompletion = () -> {
             if (logger.isDebugEnabled()) {
@@ -581,6 +586,36 @@ public class StandardStatelessFlow implements StatelessDataflow {
         }
     }
 
+    private StatelessFlowCurrent createFlowCurrent(final ExecutionProgress executionProgress, final AsynchronousCommitTracker tracker, final FlowFileSupplier flowFileSupplier) {
+        if (pipelineStageExecutor != null) {
+            return new PipelinedStatelessFlowCurrent.Builder()
+                .commitTracker(tracker)
+                .executionProgress(executionProgress)
+                .processContextFactory(processContextFactory)
+                .repositoryContextFactory(repositoryContextFactory)
+                .rootConnectables(rootConnectables)
+                .flowFileSupplier(flowFileSupplier)
+                .inputPorts(inputPorts)
+                .transactionThresholdMeter(transactionThresholdMeter)
+                .lifecycleStateManager(lifecycleStateManager)
+                .rootGroup(rootGroup)
+                .stageExecutor(pipelineStageExecutor)
+                .build();
+        }
+
+        return new StandardStatelessFlowCurrent.Builder()
+            .commitTracker(tracker)
+            .executionProgress(executionProgress)
+            .processContextFactory(processContextFactory)
+            .repositoryContextFactory(repositoryContextFactory)
+            .rootConnectables(rootConnectables)
+            .flowFileSupplier(flowFileSupplier)
+            .inputPorts(inputPorts)
+            .transactionThresholdMeter(transactionThresholdMeter)
+            .lifecycleStateManager(lifecycleStateManager)
+            .build();
+    }
+
     @Override
     public boolean isStateful() {
         if (stateful == null) {
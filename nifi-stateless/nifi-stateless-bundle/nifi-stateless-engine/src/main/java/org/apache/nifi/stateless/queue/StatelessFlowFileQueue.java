@@ -36,9 +36,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -46,7 +46,9 @@ import java.util.concurrent.atomic.AtomicLong;
 public class StatelessFlowFileQueue implements DrainableFlowFileQueue {
     private final String identifier;
     private volatile long expirationMillis;
-    private final BlockingQueue<FlowFileRecord> flowFiles = new LinkedBlockingQueue<>();
+    // FlowFiles are added without locking so that producers in other pipeline stages do not contend with the consuming component
+    private final Queue<FlowFileRecord> flowFiles = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeCount = new AtomicInteger(0);
     private final AtomicInteger unacknowledgedCount = new AtomicInteger(0);
     private final AtomicLong totalBytes = new AtomicLong(0L);
 
@@ -97,7 +99,7 @@ public class StatelessFlowFileQueue implements DrainableFlowFileQueue {
 
     @Override
     public QueueSize size() {
-        return new QueueSize(flowFiles.size() + unacknowledgedCount.get(), totalBytes.get());
+        return new QueueSize(activeCount.get() + unacknowledgedCount.get(), totalBytes.get());
     }
 
     @Override
@@ -159,14 +161,16 @@ public class StatelessFlowFileQueue implements DrainableFlowFileQueue {
 
     @Override
     public void put(final FlowFileRecord flowFile) {
-        flowFiles.add(flowFile);
         totalBytes.addAndGet(flowFile.getSize());
+        activeCount.incrementAndGet();
+        flowFiles.add(flowFile);
     }
 
     @Override
     public void putAll(final Collection<FlowFileRecord> flowFiles) {
-        this.flowFiles.addAll(flowFiles);
         flowFiles.forEach(ff -> totalBytes.addAndGet(ff.getSize()));
+        activeCount.addAndGet(flowFiles.size());
+        this.flowFiles.addAll(flowFiles);
     }
 
     @Override
@@ -191,6 +195,7 @@ public class StatelessFlowFileQueue implements DrainableFlowFileQueue {
             }
 
             unacknowledgedCount.incrementAndGet();
+            activeCount.decrementAndGet();
             return flowFiles.poll();
         }
 
@@ -213,7 +218,7 @@ public class StatelessFlowFileQueue implements DrainableFlowFileQueue {
 
     @Override
     public synchronized List<FlowFileRecord> poll(final int maxResults, final Set<FlowFileRecord> expiredRecords, final PollStrategy pollStrategy) {
-        final List<FlowFileRecord> selected = new ArrayList<>(Math.min(maxResults, flowFiles.size()));
+        final List<FlowFileRecord> selected = new ArrayList<>(Math.min(maxResults, activeCount.get()));
         for (int i = 0; i < maxResults; i++) {
             final FlowFileRecord flowFile = poll(expiredRecords, pollStrategy);
             if (flowFile != null) {
@@ -261,6 +266,7 @@ public class StatelessFlowFileQueue implements DrainableFlowFileQueue {
             if (filterResult.isAccept()) {
                 selected.add(flowFile);
                 itr.remove();
+                activeCount.decrementAndGet();
             }
 
             if (!filterResult.isContinue()) {
@@ -391,8 +397,12 @@ public class StatelessFlowFileQueue implements DrainableFlowFileQueue {
     }
 
     @Override
-    public void drainTo(final List<FlowFileRecord> destination) {
-        this.flowFiles.drainTo(destination);
+    public synchronized void drainTo(final List<FlowFileRecord> destination) {
+        FlowFileRecord flowFile;
+        while ((flowFile = flowFiles.poll()) != null) {
+            activeCount.decrementAndGet();
+            destination.add(flowFile);
+        }
     }
 
     @Override
@@ -0,0 +1,825 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.stateless.repository;
+
+import org.apache.nifi.controller.repository.ContentRepository;
+import org.apache.nifi.controller.repository.ContentRepositoryContext;
+import org.apache.nifi.controller.repository.claim.ContentClaim;
+import org.apache.nifi.controller.repository.claim.ResourceClaim;
+import org.apache.nifi.controller.repository.claim.ResourceClaimManager;
+import org.apache.nifi.stream.io.StreamUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content Repository that holds FlowFile content in memory until a configured memory budget is exhausted and then spills
+ * the content of any additional claims to temporary files. Memory may be allocated from the heap or from direct buffers
+ * outside the heap, and is allocated in bounded chunks as content is written. As with the other Stateless Content Repositories,
+ * all content is discarded when the repository is purged at the end of each invocation of the dataflow.
+ */
+public class SpillableContentRepository implements ContentRepository {
+    private static final Logger logger = LoggerFactory.getLogger(SpillableContentRepository.class);
+
+    private static final String CONTAINER = "stateless";
+    private static final String SECTION = "spillable";
+    private static final String SPILL_FILE_REGEX = "\\d+\\.nifi\\.spill";
+    private static final int INITIAL_CHUNK_SIZE = 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    private final File spillDirectory;
+    private final long memoryBudget;
+    private final boolean offHeap;
+
+    private final AtomicLong resourceClaimIndex = new AtomicLong(0L);
+    private final AtomicLong memoryUsed = new AtomicLong(0L);
+    private final AtomicLong claimsWritten = new AtomicLong(0L);
+    private final AtomicLong claimsSpilled = new AtomicLong(0L);
+    private final AtomicLong bytesSpilled = new AtomicLong(0L);
+    private final Set<SpillableResourceClaim> activeClaims = ConcurrentHashMap.newKeySet();
+    private ResourceClaimManager resourceClaimManager;
+
+    /**
+     * @param spillDirectory the directory in which to create files for content that does not fit within the memory budget
+     * @param memoryBudget the maximum number of bytes of content to hold in memory
+     * @param offHeap <code>true</code> to hold content in direct buffers outside the heap, <code>false</code> to hold content on the heap
+     */
+    public SpillableContentRepository(final File spillDirectory, final long memoryBudget, final boolean offHeap) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Memory budget cannot be negative");
+        }
+
+        this.spillDirectory = Objects.requireNonNull(spillDirectory, "Spill Directory required");
+        this.memoryBudget = memoryBudget;
+        this.offHeap = offHeap;
+    }
+
+    @Override
+    public void initialize(final ContentRepositoryContext context) throws IOException {
+        this.resourceClaimManager = context.getResourceClaimManager();
+        if (!spillDirectory.exists() && !spillDirectory.mkdirs()) {
+            throw new IOException("Cannot initialize Content Repository because " + spillDirectory.getAbsolutePath() + " does not exist and cannot be created");
+        }
+
+        final File[] existingFiles = spillDirectory.listFiles(file -> file.getName().matches(SPILL_FILE_REGEX));
+        if (existingFiles == null) {
+            throw new IOException("Cannot initialize Content Repository because failed to list contents of directory " + spillDirectory.getAbsolutePath());
+        }
+
+        for (final File existingFile : existingFiles) {
+            logger.info("Found existing spill file from previous run {}. Removing file.", existingFile.getName());
+            if (!existingFile.delete()) {
+                logger.warn("Failed to remove existing spill file from previous run {}", existingFile);
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        purge();
+    }
+
+    @Override
+    public Set<String> getContainerNames() {
+        return Collections.singleton(CONTAINER);
+    }
+
+    @Override
+    public long getContainerCapacity(final String containerName) {
+        return 0;
+    }
+
+    @Override
+    public long getContainerUsableSpace(final String containerName) {
+        return 0;
+    }
+
+    @Override
+    public String getContainerFileStoreName(final String containerName) {
+        return "container";
+    }
+
+    @Override
+    public ContentClaim create(final boolean lossTolerant) {
+        final SpillableResourceClaim resourceClaim = new SpillableResourceClaim(String.valueOf(resourceClaimIndex.getAndIncrement()));
+        activeClaims.add(resourceClaim);
+
+        final ContentClaim contentClaim = new SpillableContentClaim(resourceClaim);
+        resourceClaimManager.incrementClaimantCount(resourceClaim);
+        return contentClaim;
+    }
+
+    @Override
+    public int incrementClaimaintCount(final ContentClaim claim) {
+        if (claim == null) {
+            return 0;
+        }
+
+        return resourceClaimManager.incrementClaimantCount(claim.getResourceClaim());
+    }
+
+    @Override
+    public int getClaimantCount(final ContentClaim claim) {
+        if (claim == null) {
+            return 0;
+        }
+
+        return resourceClaimManager.getClaimantCount(claim.getResourceClaim());
+    }
+
+    @Override
+    public int decrementClaimantCount(final ContentClaim claim) {
+        if (claim == null) {
+            return 0;
+        }
+
+        return resourceClaimManager.decrementClaimantCount(claim.getResourceClaim());
+    }
+
+    @Override
+    public boolean remove(final ContentClaim claim) {
+        if (claim == null) {
+            return false;
+        }
+
+        final SpillableResourceClaim resourceClaim = verifyClaim(claim).resourceClaim;
+        if (activeClaims.remove(resourceClaim)) {
+            resourceClaim.destroy();
+        }
+
+        return true;
+    }
+
+    @Override
+    public ContentClaim clone(final ContentClaim original, final boolean lossTolerant) throws IOException {
+        final ContentClaim clone = create(lossTolerant);
+        try (final InputStream in = read(original);
+             final OutputStream out = write(clone)) {
+            StreamUtils.copy(in, out);
+        }
+
+        return clone;
+    }
+
+    @Override
+    public long importFrom(final Path content, final ContentClaim claim) throws IOException {
+        try (final InputStream in = Files.newInputStream(content, StandardOpenOption.READ)) {
+            return importFrom(in, claim);
+        }
+    }
+
+    @Override
+    public long importFrom(final InputStream content, final ContentClaim claim) throws IOException {
+        try (final OutputStream out = write(claim)) {
+            return StreamUtils.copy(content, out);
+        }
+    }
+
+    @Override
+    public long exportTo(final ContentClaim claim, final Path destination, final boolean append) throws IOException {
+        final OpenOption[] openOptions = append ? new StandardOpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.APPEND} :
+            new StandardOpenOption[] {StandardOpenOption.CREATE};
+
+        try (final OutputStream out = Files.newOutputStream(destination, openOptions)) {
+            return exportTo(claim, out);
+        }
+    }
+
+    @Override
+    public long exportTo(final ContentClaim claim, final Path destination, final boolean append, final long offset, final long length) throws IOException {
+        final OpenOption[] openOptions = append ? new StandardOpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.APPEND} :
+            new StandardOpenOption[] {StandardOpenOption.CREATE};
+
+        try (final OutputStream out = Files.newOutputStream(destination, openOptions)) {
+            return exportTo(claim, out, offset, length);
+        }
+    }
+
+    @Override
+    public long exportTo(final ContentClaim claim, final OutputStream destination) throws IOException {
+        try (final InputStream in = read(claim)) {
+            return StreamUtils.copy(in, destination);
+        }
+    }
+
+    @Override
+    public long exportTo(final ContentClaim claim, final OutputStream destination, final long offset, final long length) throws IOException {
+        try (final InputStream in = read(claim)) {
+            StreamUtils.skip(in, offset);
+            StreamUtils.copy(in, destination, length);
+        }
+
+        return length;
+    }
+
+    @Override
+    public long size(final ContentClaim claim) {
+        return claim.getLength();
+    }
+
+    @Override
+    public long size(final ResourceClaim claim) {
+        return 0;
+    }
+
+    @Override
+    public InputStream read(final ContentClaim claim) throws IOException {
+        if (claim == null) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        return verifyClaim(claim).resourceClaim.read();
+    }
+
+    @Override
+    public InputStream read(final ResourceClaim claim) throws IOException {
+        if (claim == null) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        if (!(claim instanceof SpillableResourceClaim resourceClaim)) {
+            throw new IllegalArgumentException("Cannot access Resource Claim " + claim + " because the Resource Claim does not belong to this Content Repository");
+        }
+
+        return resourceClaim.read();
+    }
+
+    @Override
+    public OutputStream write(final ContentClaim claim) throws IOException {
+        return verifyClaim(claim).resourceClaim.writeTo();
+    }
+
+    private SpillableContentClaim verifyClaim(final ContentClaim claim) {
+        Objects.requireNonNull(claim);
+        if (!(claim instanceof SpillableContentClaim spillableContentClaim)) {
+            throw new IllegalArgumentException("Cannot access Content Claim " + claim + " because the Content Claim does not belong to this Content Repository");
+        }
+
+        return spillableContentClaim;
+    }
+
+    @Override
+    public void purge() {
+        for (final SpillableResourceClaim resourceClaim : activeClaims) {
+            resourceClaim.destroy();
+        }
+        activeClaims.clear();
+
+        if (resourceClaimManager != null) {
+            resourceClaimManager.purge();
+        }
+
+        logger.debug("Purged Content Repository: {} claims written, {} claims spilled to disk ({} bytes), spill rate {}",
+            claimsWritten.get(), claimsSpilled.get(), bytesSpilled.get(), getSpillRate());
+    }
+
+    @Override
+    public void cleanup() {
+        purge();
+    }
+
+    @Override
+    public boolean isAccessible(final ContentClaim contentClaim) {
+        return false;
+    }
+
+    /**
+     * @return the number of bytes of content currently held in memory
+     */
+    public long getMemoryUsed() {
+        return memoryUsed.get();
+    }
+
+    /**
+     * @return the number of claims that have been written since the repository was created
+     */
+    public long getClaimsWritten() {
+        return claimsWritten.get();
+    }
+
+    /**
+     * @return the number of claims whose content was spilled to disk since the repository was created
+     */
+    public long getClaimsSpilled() {
+        return claimsSpilled.get();
+    }
+
+    /**
+     * @return the number of bytes of content that were written to disk since the repository was created
+     */
+    public long getBytesSpilled() {
+        return bytesSpilled.get();
+    }
+
+    /**
+     * @return the fraction of written claims whose content was spilled to disk, between 0 and 1
+     */
+    public double getSpillRate() {
+        final long written = claimsWritten.get();
+        return written == 0 ? 0D : (double) claimsSpilled.get() / written;
+    }
+
+    /**
+     * Reserves up to the requested number of bytes from the memory budget
+     *
+     * @param bytes the preferred number of bytes to reserve
+     * @return the number of bytes reserved, which is less than requested if the remaining memory budget is smaller, or 0 if the budget is exhausted
+     */
+    private long reserveMemory(final long bytes) {
+        while (true) {
+            final long used = memoryUsed.get();
+            final long reserved = Math.min(bytes, memoryBudget - used);
+            if (reserved <= 0) {
+                return 0;
+            }
+
+            if (memoryUsed.compareAndSet(used, used + reserved)) {
+                return reserved;
+            }
+        }
+    }
+
+    private void releaseMemory(final long bytes) {
+        memoryUsed.addAndGet(-bytes);
+    }
+
+    private static class SpillableContentClaim implements ContentClaim {
+        private final SpillableResourceClaim resourceClaim;
+
+        private SpillableContentClaim(final SpillableResourceClaim resourceClaim) {
+            this.resourceClaim = resourceClaim;
+        }
+
+        @Override
+        public ResourceClaim getResourceClaim() {
+            return resourceClaim;
+        }
+
+        @Override
+        public long getOffset() {
+            return 0;
+        }
+
+        @Override
+        public long getLength() {
+            return resourceClaim.length;
+        }
+
+        @Override
+        public int compareTo(final ContentClaim o) {
+            return resourceClaim.compareTo(o.getResourceClaim());
+        }
+
+        @Override
+        public int hashCode() {
+            return resourceClaim.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj;
+        }
+
+        @Override
+        public String toString() {
+            return "SpillableContentClaim[id=" + resourceClaim.getId() + ", length=" + resourceClaim.length + "]";
+        }
+    }
+
+    private class SpillableResourceClaim implements ResourceClaim {
+        private final String id;
+        private volatile boolean written = false;
+        private volatile long length = -1L;
+        private volatile ByteBuffer[] contents;
+        private volatile long reservedBytes;
+        private volatile File spillFile;
+
+        private SpillableResourceClaim(final String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getContainer() {
+            return CONTAINER;
+        }
+
+        @Override
+        public String getSection() {
+            return SECTION;
+        }
+
+        @Override
+        public boolean isLossTolerant() {
+            return true;
+        }
+
+        @Override
+        public boolean isWritable() {
+            return !written;
+        }
+
+        @Override
+        public boolean isInUse() {
+            return true;
+        }
+
+        private synchronized OutputStream writeTo() throws IOException {
+            if (written) {
+                throw new IOException("Cannot write to " + this + " because it has already been written to.");
+            }
+
+            written = true;
+            length = 0L;
+            return new SpillableOutputStream(this);
+        }
+
+        private InputStream read() throws IOException {
+            final ByteBuffer[] memoryContents = contents;
+            if (memoryContents != null) {
+                return new ByteBufferInputStream(memoryContents, length);
+            }
+
+            final File file = spillFile;
+            if (file == null) {
+                return new ByteArrayInputStream(new byte[0]);
+            }
+
+            // Spilled content is read through a stream rather than memory-mapped so that the space held by the file is released
+            // as soon as the claim is destroyed, instead of when a mapped buffer is garbage collected
+            return new BufferedInputStream(Files.newInputStream(file.toPath()));
+        }
+
+        private synchronized void destroy() {
+            contents = null;
+            if (reservedBytes > 0) {
+                releaseMemory(reservedBytes);
+                reservedBytes = 0;
+            }
+
+            final File file = spillFile;
+            spillFile = null;
+            if (file != null && !file.delete() && file.exists()) {
+                logger.warn("Failed to remove spill file from Content Repository: {}", file.getAbsolutePath());
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final SpillableResourceClaim that = (SpillableResourceClaim) o;
+            return Objects.equals(id, that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "SpillableResourceClaim[id=" + id + "]";
+        }
+    }
+
+    /**
+     * Output Stream that buffers content in memory chunks while the memory budget allows and otherwise writes the buffered
+     * content and all subsequent content to a spill file. Chunks are allocated from the heap or from direct memory as configured
+     * and are retained as the content of the claim, so content is never copied into a single contiguous buffer.
+     */
+    private class SpillableOutputStream extends OutputStream {
+        private final SpillableResourceClaim resourceClaim;
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private ByteBuffer currentChunk;
+        private long count = 0;
+        private long reserved = 0;
+        private OutputStream spillOut;
+        private long spilledBytes = 0;
+        private boolean closed = false;
+
+        private SpillableOutputStream(final SpillableResourceClaim resourceClaim) {
+            this.resourceClaim = resourceClaim;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            verifyOpen();
+            if (spillOut == null && ensureChunkAvailable(1)) {
+                currentChunk.put((byte) b);
+                count++;
+                return;
+            }
+
+            spillOut.write(b);
+            spilledBytes++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            verifyOpen();
+
+            int written = 0;
+            while (spillOut == null && written < len) {
+                if (!ensureChunkAvailable(len - written)) {
+                    break;
+                }
+
+                final int chunkBytes = Math.min(currentChunk.remaining(), len - written);
+                currentChunk.put(b, off + written, chunkBytes);
+                count += chunkBytes;
+                written += chunkBytes;
+            }
+
+            if (written < len) {
+                spillOut.write(b, off + written, len - written);
+                spilledBytes += len - written;
+            }
+        }
+
+        private void verifyOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream is closed");
+            }
+        }
+
+        /**
+         * Ensures that the current chunk has space remaining, allocating a new chunk from the memory budget if necessary
+         *
+         * @param bytesToWrite the number of bytes that remain to be written, used to size a new chunk
+         * @return <code>true</code> if the current chunk has space remaining, <code>false</code> if the content was spilled to disk
+         */
+        private boolean ensureChunkAvailable(final int bytesToWrite) throws IOException {
+            if (currentChunk != null && currentChunk.hasRemaining()) {
+                return true;
+            }
+
+            final int nextChunkSize = currentChunk == null ? INITIAL_CHUNK_SIZE : Math.min(currentChunk.capacity() * 2, MAX_CHUNK_SIZE);
+            final int preferredSize = Math.min(MAX_CHUNK_SIZE, Math.max(nextChunkSize, bytesToWrite));
+            final int chunkSize = (int) reserveMemory(preferredSize);
+            if (chunkSize == 0) {
+                spill();
+                return false;
+            }
+
+            reserved += chunkSize;
+            currentChunk = allocate(chunkSize);
+            chunks.add(currentChunk);
+            return true;
+        }
+
+        private ByteBuffer allocate(final int size) {
+            return offHeap ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        }
+
+        private void spill() throws IOException {
+            final File file = new File(spillDirectory, resourceClaim.getId() + ".nifi.spill");
+            final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            resourceClaim.spillFile = file;
+
+            try {
+                for (final ByteBuffer chunk : chunks) {
+                    final ByteBuffer buffered = chunk.flip();
+                    while (buffered.hasRemaining()) {
+                        channel.write(buffered);
+                    }
+                }
+            } catch (final IOException e) {
+                channel.close();
+                throw e;
+            }
+
+            spillOut = new BufferedOutputStream(Channels.newOutputStream(channel));
+            spilledBytes = count;
+            releaseChunks();
+        }
+
+        private void releaseChunks() {
+            chunks.clear();
+            currentChunk = null;
+            count = 0;
+            releaseMemory(reserved);
+            reserved = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (spillOut != null) {
+                spillOut.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            claimsWritten.incrementAndGet();
+
+            if (!activeClaims.contains(resourceClaim)) {
+                // The claim was removed or purged while being written so the content is no longer needed
+                releaseChunks();
+                if (spillOut != null) {
+                    spillOut.close();
+                    resourceClaim.destroy();
+                }
+                return;
+            }
+
+            if (spillOut != null) {
+                spillOut.close();
+                claimsSpilled.incrementAndGet();
+                bytesSpilled.addAndGet(spilledBytes);
+                resourceClaim.length = spilledBytes;
+                return;
+            }
+
+            trimLastChunk();
+
+            final ByteBuffer[] contents = new ByteBuffer[chunks.size()];
+            for (int i = 0; i < contents.length; i++) {
+                contents[i] = chunks.get(i).flip().asReadOnlyBuffer();
+            }
+
+            synchronized (resourceClaim) {
+                resourceClaim.reservedBytes = reserved;
+                resourceClaim.contents = contents;
+                resourceClaim.length = count;
+            }
+
+            chunks.clear();
+            currentChunk = null;
+        }
+
+        /**
+         * Replaces the last chunk with a copy holding only the bytes written to it, so that only the bytes retained are counted
+         * against the memory budget once the content is written. The copy is bounded by the maximum chunk size.
+         */
+        private void trimLastChunk() {
+            if (currentChunk == null || !currentChunk.hasRemaining()) {
+                return;
+            }
+
+            final int unused = currentChunk.remaining();
+            chunks.removeLast();
+            if (currentChunk.position() > 0) {
+                final ByteBuffer trimmed = allocate(currentChunk.position());
+                trimmed.put(currentChunk.flip());
+                chunks.add(trimmed);
+            }
+
+            releaseMemory(unused);
+            reserved -= unused;
+        }
+    }
+
+    /**
+     * Input Stream that reads from a sequence of Byte Buffers backed by heap memory or direct memory. Buffers are read using
+     * absolute positions so that the same buffers may be shared by any number of concurrent readers.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer[] buffers;
+        private final long length;
+        private int bufferIndex = 0;
+        private int bufferPosition = 0;
+        private long position = 0;
+        private long mark = 0;
+
+        private ByteBufferInputStream(final ByteBuffer[] buffers, final long length) {
+            this.buffers = buffers;
+            this.length = length;
+        }
+
+        @Override
+        public int read() {
+            if (!advanceToReadableBuffer()) {
+                return -1;
+            }
+
+            final int value = buffers[bufferIndex].get(bufferPosition++) & 0xFF;
+            position++;
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+
+            int bytesRead = 0;
+            while (bytesRead < len && advanceToReadableBuffer()) {
+                final ByteBuffer buffer = buffers[bufferIndex];
+                final int bufferBytes = Math.min(len - bytesRead, buffer.limit() - bufferPosition);
+                buffer.get(bufferPosition, b, off + bytesRead, bufferBytes);
+                bufferPosition += bufferBytes;
+                bytesRead += bufferBytes;
+            }
+
+            position += bytesRead;
+            return bytesRead == 0 ? -1 : bytesRead;
+        }
+
+        private boolean advanceToReadableBuffer() {
+            while (bufferIndex < buffers.length && bufferPosition >= buffers[bufferIndex].limit()) {
+                bufferIndex++;
+                bufferPosition = 0;
+            }
+
+            return bufferIndex < buffers.length;
+        }
+
+        @Override
+        public long skip(final long n) {
+            if (n <= 0) {
+                return 0;
+            }
+
+            final long skipped = Math.min(n, length - position);
+            seek(position + skipped);
+            return skipped;
+        }
+
+        private void seek(final long newPosition) {
+            bufferIndex = 0;
+            long remaining = newPosition;
+            while (bufferIndex < buffers.length && remaining > buffers[bufferIndex].limit()) {
+                remaining -= buffers[bufferIndex].limit();
+                bufferIndex++;
+            }
+
+            bufferPosition = (int) remaining;
+            position = newPosition;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, length - position);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(final int readLimit) {
+            mark = position;
+        }
+
+        @Override
+        public synchronized void reset() {
+            seek(mark);
+        }
+    }
+}
@@ -183,6 +183,18 @@ public class AsynchronousCommitTracker {
         commitCallbacks.add(new CommitCallbacks(connectable, successCallback, failureCallback, session));
     }
 
+    /**
+     * Moves the callbacks of the given tracker to this tracker, retaining their order, so that they are triggered before any callbacks previously added to this tracker
+     *
+     * @param tracker the tracker whose callbacks are moved
+     */
+    public void addCallbacks(final AsynchronousCommitTracker tracker) {
+        synchronized (tracker.commitCallbacks) {
+            commitCallbacks.addAll(tracker.commitCallbacks);
+            tracker.commitCallbacks.clear();
+        }
+    }
+
     public void triggerCallbacks() {
         Throwable failure = null;
 
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.stateless.session;
+
+import org.apache.nifi.connectable.Connectable;
+import org.apache.nifi.groups.ProcessGroup;
+import org.apache.nifi.processor.ProcessSession;
+
+import java.util.function.Consumer;
+
+/**
+ * Commit Tracker for a single stage of a pipelined dataflow execution. Progress and ready components are tracked
+ * for the stage only, while commit callbacks are registered with a tracker shared by other stages so that they are
+ * triggered only once the entire dataflow has completed.
+ */
+public class PipelinedCommitTracker extends AsynchronousCommitTracker {
+    private final AsynchronousCommitTracker callbackTracker;
+    private final Consumer<Connectable> downstreamCompletionWaiter;
+
+    /**
+     * @param rootGroup the root Process Group of the dataflow
+     * @param callbackTracker the tracker shared with other stages, which holds the commit callbacks for the dataflow execution
+     * @param downstreamCompletionWaiter blocks until all FlowFiles transferred by the given Connectable have been processed by downstream stages
+     */
+    public PipelinedCommitTracker(final ProcessGroup rootGroup, final AsynchronousCommitTracker callbackTracker, final Consumer<Connectable> downstreamCompletionWaiter) {
+        super(rootGroup);
+        this.callbackTracker = callbackTracker;
+        this.downstreamCompletionWaiter = downstreamCompletionWaiter;
+    }
+
+    @Override
+    public void addCallback(final Connectable connectable, final Runnable successCallback, final Consumer<Throwable> failureCallback, final ProcessSession session) {
+        callbackTracker.addCallback(connectable, successCallback, failureCallback, session);
+    }
+
+    /**
+     * Waits for downstream stages to process all FlowFiles transferred by the given Connectable. Synchronous commits use this method
+     * in place of triggering downstream components within the committing thread, as those components are triggered by their own stages.
+     *
+     * @param connectable the Connectable whose session was committed
+     */
+    public void awaitDownstreamCompletion(final Connectable connectable) {
+        downstreamCompletionWaiter.accept(connectable);
+    }
+}
@@ -137,6 +137,15 @@ public class StatelessProcessSession extends StandardProcessSession {
             return;
         }
 
+        // When running in a pipelined manner, follow-on components are triggered by their own stages, so we wait for those stages
+        // to finish processing the data instead of triggering the follow-on components from this thread.
+        if (tracker instanceof PipelinedCommitTracker pipelinedCommitTracker) {
+            queueFollowOnComponents();
+            pipelinedCommitTracker.awaitDownstreamCompletion(connectable);
+            awaitAcknowledgment();
+            return;
+        }
+
         // Trigger each of the follow-on components.
         final long followOnStart = System.nanoTime();
         triggerFollowOnComponents();
@@ -22,9 +22,13 @@ import org.apache.nifi.stateless.engine.StatelessEngineConfiguration;
 import org.apache.nifi.stateless.flow.DataflowDefinition;
 import org.apache.nifi.stateless.flow.TransactionThresholds;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -35,7 +39,9 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestPropertiesFileFlowDefinitionParser {
 
@@ -75,6 +81,20 @@ public class TestPropertiesFileFlowDefinitionParser {
         assertEquals(1000, transactionThresholds.getMaxFlowFiles().getAsLong());
         assertEquals(4L, transactionThresholds.getMaxContentSize(DataUnit.KB).getAsLong());
         assertEquals(1000L, transactionThresholds.getMaxTime(TimeUnit.MILLISECONDS).getAsLong());
+
+        assertFalse(dataflowDefinition.isPipelinedExecution());
+    }
+
+    @Test
+    public void testParsePipelinedExecution(@TempDir final Path tempDir) throws IOException, StatelessConfigurationException {
+        final Path flowConfiguration = tempDir.resolve("flow-configuration.properties");
+        final String properties = Files.readString(Paths.get("src/test/resources/flow-configuration.properties"));
+        Files.writeString(flowConfiguration, properties + System.lineSeparator() + "nifi.stateless.execution.pipelined=true");
+
+        final PropertiesFileFlowDefinitionParser parser = new PropertiesFileFlowDefinitionParser();
+        final DataflowDefinition dataflowDefinition = parser.parseFlowDefinition(flowConfiguration.toFile(), createStatelessEngineConfiguration(), new ArrayList<>());
+
+        assertTrue(dataflowDefinition.isPipelinedExecution());
     }
 
     private StatelessEngineConfiguration createStatelessEngineConfiguration() {
@@ -24,8 +24,12 @@ import org.apache.nifi.processor.FlowFileFilter;
 import org.apache.nifi.util.MockFlowFile;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -114,6 +118,45 @@ public class TestStatelessFlowFileQueue {
         }
     }
 
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final StatelessFlowFileQueue queue = new StatelessFlowFileQueue("id");
+        final int producers = 4;
+        final int flowFilesPerProducer = 1000;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < producers; i++) {
+                final int producer = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < flowFilesPerProducer; j++) {
+                        queue.put(new MockFlowFileRecord((long) producer * flowFilesPerProducer + j));
+                    }
+                }));
+            }
+
+            int polled = 0;
+            while (polled < producers * flowFilesPerProducer) {
+                final FlowFileRecord flowFile = queue.poll(Collections.emptySet());
+                if (flowFile != null) {
+                    queue.acknowledge(flowFile);
+                    polled++;
+                }
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(queue.isEmpty());
+        assertQueueSize(0, 0, queue.size());
+        assertNull(queue.poll(Collections.emptySet()));
+    }
+
     private void assertQueueSize(final int flowFileCount, final long byteCount, final QueueSize queueSize) {
         assertEquals(flowFileCount, queueSize.getObjectCount());
         assertEquals(byteCount, queueSize.getByteCount());
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.stateless.repository;
+
+import org.apache.nifi.controller.repository.ContentRepositoryContext;
+import org.apache.nifi.controller.repository.claim.ContentClaim;
+import org.apache.nifi.controller.repository.claim.ResourceClaimManager;
+import org.apache.nifi.controller.repository.claim.StandardResourceClaimManager;
+import org.apache.nifi.events.EventReporter;
+import org.apache.nifi.stream.io.StreamUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestSpillableContentRepository {
+    private static final int MEMORY_BUDGET = 64;
+
+    @TempDir
+    private File spillDirectory;
+
+    private final ContentRepositoryContext contentRepositoryContext = new ContentRepositoryContext() {
+        @Override
+        public ResourceClaimManager getResourceClaimManager() {
+            return new StandardResourceClaimManager();
+        }
+
+        @Override
+        public EventReporter getEventReporter() {
+            return EventReporter.NO_OP;
+        }
+    };
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testSpillWhenMemoryBudgetExceeded(final boolean offHeap) throws IOException {
+        final SpillableContentRepository repository = createRepository(offHeap);
+
+        final String small = "Hello, World!";
+        final ContentClaim smallClaim = write(repository, small);
+        assertEquals(small.length(), repository.getMemoryUsed());
+        assertEquals(0, listSpillFiles().length);
+
+        final String large = "x".repeat(MEMORY_BUDGET * 4);
+        final ContentClaim largeClaim = write(repository, large);
+        assertEquals(large.length(), largeClaim.getLength());
+        assertEquals(small.length(), repository.getMemoryUsed());
+        assertEquals(1, listSpillFiles().length);
+
+        // Ensure we can read multiple times from both memory and spilled content
+        for (int i = 0; i < 3; i++) {
+            assertEquals(small, read(repository, smallClaim));
+            assertEquals(large, read(repository, largeClaim));
+        }
+
+        assertEquals(2, repository.getClaimsWritten());
+        assertEquals(1, repository.getClaimsSpilled());
+        assertEquals(large.length(), repository.getBytesSpilled());
+        assertEquals(0.5D, repository.getSpillRate());
+
+        repository.purge();
+        assertEquals(0, repository.getMemoryUsed());
+        assertEquals(0, listSpillFiles().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testContentSpanningChunks(final boolean offHeap) throws IOException {
+        final SpillableContentRepository repository = new SpillableContentRepository(spillDirectory, 1024 * 1024, offHeap);
+        repository.initialize(contentRepositoryContext);
+
+        final String contents = "0123456789".repeat(20_000);
+        final ContentClaim claim = write(repository, contents);
+        assertEquals(contents.length(), claim.getLength());
+        assertEquals(contents.length(), repository.getMemoryUsed());
+        assertEquals(0, repository.getClaimsSpilled());
+        assertEquals(contents, read(repository, claim));
+
+        final ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        repository.exportTo(claim, exported, 100_000, 50);
+        assertEquals(contents.substring(100_000, 100_050), exported.toString(StandardCharsets.UTF_8));
+
+        try (final InputStream in = repository.read(claim)) {
+            assertEquals(70_000, in.skip(70_000));
+            in.mark(Integer.MAX_VALUE);
+            assertEquals('0', in.read());
+            assertEquals(129_999, in.skip(Long.MAX_VALUE));
+            assertEquals(-1, in.read());
+            in.reset();
+            assertEquals(contents.substring(70_000), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        repository.purge();
+        assertEquals(0, repository.getMemoryUsed());
+    }
+
+    @Test
+    public void testRemoveReleasesMemory() throws IOException {
+        final SpillableContentRepository repository = createRepository(false);
+
+        final ContentClaim claim = write(repository, "x".repeat(MEMORY_BUDGET));
+        assertEquals(MEMORY_BUDGET, repository.getMemoryUsed());
+
+        final ContentClaim spilledClaim = write(repository, "y");
+        assertEquals(1, repository.getClaimsSpilled());
+
+        repository.remove(claim);
+        repository.remove(spilledClaim);
+        assertEquals(0, repository.getMemoryUsed());
+        assertEquals(0, listSpillFiles().length);
+
+        write(repository, "z");
+        assertEquals(1, repository.getMemoryUsed());
+        assertEquals(1, repository.getClaimsSpilled());
+        repository.cleanup();
+    }
+
+    @Test
+    public void testOverwriteFails() throws IOException {
+        final SpillableContentRepository repository = createRepository(false);
+        final ContentClaim claim = write(repository, "Hello, World!");
+
+        assertThrows(IOException.class, () -> repository.write(claim));
+        repository.cleanup();
+    }
+
+    private SpillableContentRepository createRepository(final boolean offHeap) throws IOException {
+        final SpillableContentRepository repository = new SpillableContentRepository(spillDirectory, MEMORY_BUDGET, offHeap);
+        repository.initialize(contentRepositoryContext);
+        return repository;
+    }
+
+    private ContentClaim write(final SpillableContentRepository repository, final String contents) throws IOException {
+        final ContentClaim claim = repository.create(true);
+        try (final OutputStream out = repository.write(claim)) {
+            out.write(contents.getBytes(StandardCharsets.UTF_8));
+        }
+        return claim;
+    }
+
+    private String read(final SpillableContentRepository repository, final ContentClaim claim) throws IOException {
+        try (final InputStream in = repository.read(claim);
+             final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            StreamUtils.copy(in, baos);
+            return baos.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private File[] listSpillFiles() {
+        final File[] files = spillDirectory.listFiles();
+        assertNotNull(files);
+        return files;
+    }
+}
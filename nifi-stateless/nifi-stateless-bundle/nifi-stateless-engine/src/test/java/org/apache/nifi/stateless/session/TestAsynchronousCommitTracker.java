@@ -25,8 +25,10 @@ import org.apache.nifi.groups.ProcessGroup;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -141,4 +143,25 @@ public class TestAsynchronousCommitTracker {
         assertEquals(Collections.emptyList(), tracker.getReady());
         assertFalse(tracker.isAnyReady());
     }
+
+    @Test
+    public void testAddCallbacksTriggeredBeforeExistingCallbacks() {
+        final AsynchronousCommitTracker tracker = new AsynchronousCommitTracker(null);
+        final AsynchronousCommitTracker downstreamTracker = new AsynchronousCommitTracker(null);
+
+        final Connectable source = Mockito.mock(Connectable.class);
+        final Connectable downstream = Mockito.mock(Connectable.class);
+        final List<String> triggered = new ArrayList<>();
+
+        tracker.addCallback(source, () -> triggered.add("source-1"), failure -> triggered.add("source-1-failure"), null);
+        downstreamTracker.addCallback(downstream, () -> {
+            throw new IllegalStateException("Downstream failure");
+        }, failure -> triggered.add("downstream-failure"), null);
+        tracker.addCallback(source, () -> triggered.add("source-2"), failure -> triggered.add("source-2-failure"), null);
+
+        tracker.addCallbacks(downstreamTracker);
+        tracker.triggerCallbacks();
+
+        assertEquals(List.of("source-2-failure", "source-1-failure"), triggered);
+    }
 }
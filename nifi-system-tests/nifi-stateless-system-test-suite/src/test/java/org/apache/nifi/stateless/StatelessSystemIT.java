@@ -136,6 +136,10 @@ public class StatelessSystemIT {
         return Optional.empty();
     }
 
+    protected boolean isPipelinedExecution() {
+        return false;
+    }
+
     protected StatelessDataflow loadDataflow(final File versionedFlowSnapshot, final List<ParameterContextDefinition> parameterContexts) throws IOException, StatelessConfigurationException {
         final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -228,6 +232,11 @@ public class StatelessSystemIT {
             public TransactionThresholds getTransactionThresholds() {
                 return transactionThresholds;
             }
+
+            @Override
+            public boolean isPipelinedExecution() {
+                return StatelessSystemIT.this.isPipelinedExecution();
+            }
         };
 
         final StatelessBootstrap bootstrap = StatelessBootstrap.bootstrap(getEngineConfiguration());
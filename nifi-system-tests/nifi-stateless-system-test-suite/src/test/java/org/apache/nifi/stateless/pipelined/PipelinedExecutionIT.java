@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.stateless.pipelined;
+
+import org.apache.nifi.flow.VersionedPort;
+import org.apache.nifi.flow.VersionedProcessor;
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.registry.flow.VersionedFlowSnapshot;
+import org.apache.nifi.stateless.StatelessSystemIT;
+import org.apache.nifi.stateless.VersionedFlowBuilder;
+import org.apache.nifi.stateless.config.StatelessConfigurationException;
+import org.apache.nifi.stateless.flow.DataflowTrigger;
+import org.apache.nifi.stateless.flow.StatelessDataflow;
+import org.apache.nifi.stateless.flow.TriggerResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelinedExecutionIT extends StatelessSystemIT {
+    private static final int LINES = 50;
+
+    private boolean pipelined;
+
+    @Override
+    protected boolean isPipelinedExecution() {
+        return pipelined;
+    }
+
+    @Test
+    public void testOutputMatchesSequentialExecution() throws IOException, StatelessConfigurationException, InterruptedException {
+        pipelined = false;
+        final List<String> sequentialOutput = triggerMultiStageFlow();
+
+        pipelined = true;
+        final List<String> pipelinedOutput = triggerMultiStageFlow();
+
+        assertEquals(LINES, sequentialOutput.size());
+        assertEquals(sequentialOutput, pipelinedOutput);
+    }
+
+    @Test
+    public void testRepeatedTriggers() throws IOException, StatelessConfigurationException, InterruptedException {
+        pipelined = true;
+        final StatelessDataflow dataflow = loadDataflow(createMultiStageFlow());
+
+        for (int i = 0; i < 10; i++) {
+            final List<String> output = trigger(dataflow);
+            assertEquals(LINES, output.size());
+        }
+    }
+
+    private List<String> triggerMultiStageFlow() throws IOException, StatelessConfigurationException, InterruptedException {
+        final StatelessDataflow dataflow = loadDataflow(createMultiStageFlow());
+        return trigger(dataflow);
+    }
+
+    private List<String> trigger(final StatelessDataflow dataflow) throws IOException, InterruptedException {
+        final DataflowTrigger trigger = dataflow.trigger();
+        final TriggerResult result = trigger.getResult();
+        assertTrue(result.isSuccessful());
+
+        final List<String> output = new ArrayList<>();
+        for (final FlowFile flowFile : result.getOutputFlowFiles("Out")) {
+            assertEquals("bar", flowFile.getAttribute("foo"));
+            output.add(new String(result.readContentAsByteArray(flowFile), StandardCharsets.UTF_8));
+        }
+
+        result.acknowledge();
+        return output;
+    }
+
+    private VersionedFlowSnapshot createMultiStageFlow() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            text.append("line-").append(i).append('\n');
+        }
+
+        final VersionedFlowBuilder flowBuilder = new VersionedFlowBuilder();
+        final VersionedPort outPort = flowBuilder.createOutputPort("Out");
+
+        final VersionedProcessor generate = flowBuilder.createSimpleProcessor("GenerateFlowFile");
+        final Map<String, String> generateProperties = new HashMap<>();
+        generateProperties.put("Text", text.toString().trim());
+        generateProperties.put("Batch Size", "1");
+        generate.setProperties(generateProperties);
+
+        final VersionedProcessor split = flowBuilder.createSimpleProcessor("SplitByLine");
+        final VersionedProcessor reverse = flowBuilder.createSimpleProcessor("ReverseContents");
+        final VersionedProcessor setAttribute = flowBuilder.createSimpleProcessor("SetAttribute");
+        setAttribute.setProperties(Collections.singletonMap("foo", "bar"));
+
+        flowBuilder.createConnection(generate, split, "success");
+        flowBuilder.createConnection(split, reverse, "success");
+        flowBuilder.createConnection(reverse, setAttribute, "success");
+        flowBuilder.createConnection(setAttribute, outPort, "success");
+
+        return flowBuilder.getFlowSnapshot();
+    }
+}